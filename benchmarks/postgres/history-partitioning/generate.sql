@@ -0,0 +1,25 @@
+-- 합성 이력 적재 (:rows 건, 최근 24개월 균등 분포, 회선 100만 개)
+INSERT INTO history_plain
+SELECT g,
+       'REQ_' || to_char(t, 'YYYYMMDD') || '_' || upper(substr(md5(g::text), 1, 8)),
+       '010' || lpad((g % 1000000)::text, 8, '0'),
+       to_char(t, 'YYYY-MM'),
+       t,
+       CASE WHEN g % 20 = 0 THEN 'FAILED' ELSE 'COMPLETED' END,
+       '5G 프리미엄 플랜, 89,000원',
+       CASE WHEN g % 3 = 0 THEN NULL ELSE 50 + g % 2000 END,
+       g % 3 = 0
+  FROM generate_series(1, :rows) AS g,
+       LATERAL (SELECT date_trunc('month', CURRENT_DATE - INTERVAL '23 months')
+                       + (g::double precision / :rows) * (CURRENT_TIMESTAMP - date_trunc('month', CURRENT_DATE - INTERVAL '23 months'))
+                       AS t) ts;
+
+INSERT INTO history_partitioned SELECT * FROM history_plain;
+
+CREATE INDEX ON history_plain (request_id);
+CREATE INDEX ON history_plain (line_number, request_time DESC, id DESC);
+CREATE INDEX ON history_partitioned (request_id);
+CREATE INDEX ON history_partitioned (line_number, request_time DESC, id DESC);
+
+VACUUM ANALYZE history_plain;
+VACUUM ANALYZE history_partitioned;
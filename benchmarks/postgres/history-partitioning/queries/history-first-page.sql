@@ -0,0 +1,5 @@
+\set line random(0, 999999)
+SELECT * FROM :table
+ WHERE line_number = '010' || lpad(:line::text, 8, '0')
+ ORDER BY request_time DESC, id DESC
+ LIMIT 21;
@@ -0,0 +1,8 @@
+\set line random(0, 999999)
+\set months_ago random(0, 23)
+SELECT * FROM :table
+ WHERE line_number = '010' || lpad(:line::text, 8, '0')
+   AND request_time >= date_trunc('month', CURRENT_DATE) - make_interval(months => :months_ago)
+   AND request_time < date_trunc('month', CURRENT_DATE) - make_interval(months => :months_ago - 1)
+ ORDER BY request_time DESC, id DESC
+ LIMIT 21;
@@ -0,0 +1,5 @@
+\set id random(1, :rows)
+SELECT h.* FROM :table h
+  JOIN (SELECT request_id, request_time::date AS d FROM :table WHERE id = :id LIMIT 1) k
+    ON h.request_id = k.request_id
+ WHERE h.request_time >= k.d AND h.request_time < k.d + 2;
@@ -0,0 +1,5 @@
+\set months_ago random(1, 23)
+SELECT status, COUNT(*) FROM :table
+ WHERE request_time >= date_trunc('month', CURRENT_DATE) - make_interval(months => :months_ago)
+   AND request_time < date_trunc('month', CURRENT_DATE) - make_interval(months => :months_ago - 1)
+ GROUP BY status;
@@ -0,0 +1,14 @@
+-- 보관 기간 정리 비교: 가장 오래된 1개월 제거
+\timing on
+\echo plain: DELETE
+DELETE FROM history_plain
+ WHERE request_time < date_trunc('month', CURRENT_DATE - INTERVAL '22 months');
+
+\echo partitioned: DETACH + DROP
+SELECT format('ALTER TABLE history_partitioned DETACH PARTITION %I', c.relname) AS detach_sql,
+       format('DROP TABLE %I', c.relname) AS drop_sql
+  FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent
+ WHERE p.relname = 'history_partitioned'
+ ORDER BY c.relname LIMIT 1 \gset
+:detach_sql;
+:drop_sql;
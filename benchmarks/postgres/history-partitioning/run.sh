@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# bill_inquiry_history 파티셔닝 벤치마크 실행 스크립트
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+ROWS=${ROWS:-100000000}
+DURATION=${DURATION:-60}
+CLIENTS=${CLIENTS:-16}
+CONTAINER=${CONTAINER:-bill-history-bench}
+IMAGE=${IMAGE:-postgres:14}
+
+mkdir -p results
+
+if ! docker ps --format '{{.Names}}' | grep -q "^${CONTAINER}$"; then
+  docker run -d --name "$CONTAINER" -e POSTGRES_PASSWORD=bench -p 55432:5432 \
+    --shm-size=1g "$IMAGE" -c shared_buffers=2GB -c max_wal_size=16GB -c work_mem=64MB
+  until docker exec "$CONTAINER" pg_isready -U postgres >/dev/null 2>&1; do sleep 1; done
+fi
+
+psql_exec() { docker exec -i "$CONTAINER" psql -U postgres -v ON_ERROR_STOP=1 "$@"; }
+
+echo "스키마 생성 및 ${ROWS}건 적재"
+psql_exec < schema.sql
+psql_exec -v rows="$ROWS" < generate.sql
+
+echo "layout,query,tps,latency_ms" > results/results.csv
+for layout in plain partitioned; do
+  for query in queries/*.sql; do
+    name=$(basename "$query" .sql)
+    docker cp "$query" "$CONTAINER:/tmp/$name.sql"
+    log="results/${layout}-${name}.log"
+    docker exec "$CONTAINER" pgbench -U postgres -n -c "$CLIENTS" -j 4 -T "$DURATION" \
+      -D table="history_${layout}" -D rows="$ROWS" -f "/tmp/$name.sql" postgres > "$log"
+    tps=$(awk '/^tps/ {print $3; exit}' "$log")
+    latency=$(awk '/^latency average/ {print $4; exit}' "$log")
+    echo "${layout},${name},${tps},${latency}" | tee -a results/results.csv
+  done
+done
+
+echo "보관 기간 정리 비교"
+psql_exec < retention.sql | tee results/retention.log
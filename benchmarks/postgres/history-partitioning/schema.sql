@@ -0,0 +1,30 @@
+-- 벤치마크용 테이블: 단일 테이블(plain)과 월별 파티션 테이블(partitioned)
+DROP TABLE IF EXISTS history_plain;
+DROP TABLE IF EXISTS history_partitioned;
+
+CREATE TABLE history_plain (
+    id BIGINT NOT NULL PRIMARY KEY,
+    request_id VARCHAR(50) NOT NULL,
+    line_number VARCHAR(15) NOT NULL,
+    inquiry_month VARCHAR(7) NOT NULL,
+    request_time TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    result_summary VARCHAR(500),
+    kos_response_time_ms BIGINT,
+    cache_hit BOOLEAN
+);
+
+CREATE TABLE history_partitioned (LIKE history_plain INCLUDING DEFAULTS)
+    PARTITION BY RANGE (request_time);
+ALTER TABLE history_partitioned ADD PRIMARY KEY (id, request_time);
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE - INTERVAL '23 months');
+BEGIN
+    WHILE month_start <= date_trunc('month', CURRENT_DATE) LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF history_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'history_partitioned_' || to_char(month_start, 'YYYYMM'), month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
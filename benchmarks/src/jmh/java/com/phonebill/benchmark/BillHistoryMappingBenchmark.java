@@ -0,0 +1,79 @@
+package com.phonebill.benchmark;
+
+import com.phonebill.bill.dto.BillHistoryResponse;
+import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import com.phonebill.bill.service.BillHistoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.objenesis.ObjenesisStd;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요금조회 이력 결과 매핑 벤치마크
+ *
+ * bill-service BillHistoryService.getBillHistory의 조회 결과 매핑 구간
+ * (이력 엔티티 페이지 → BillHistoryItem 목록) 측정
+ * DB 조회 구간은 benchmarks/postgres/history-partitioning에서 측정합니다.
+ *
+ * 페이지 크기(pageSize)별 페이지당 시간/할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillHistoryMappingBenchmark {
+
+    private static final String[] STATUSES = {"COMPLETED", "COMPLETED", "COMPLETED", "PROCESSING", "FAILED"};
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private MethodHandle toHistoryItems;
+    private List<BillInquiryHistoryEntity> rows;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        // 매핑은 협력 객체를 쓰지 않으므로 생성자 시그니처와 무관하게 생성자 없이 인스턴스화
+        BillHistoryService billHistoryService = new ObjenesisStd().newInstance(BillHistoryService.class);
+        toHistoryItems = MethodHandles.privateLookupIn(BillHistoryService.class, MethodHandles.lookup())
+                .findVirtual(BillHistoryService.class, "toHistoryItems",
+                        MethodType.methodType(List.class, List.class))
+                .bindTo(billHistoryService);
+
+        LocalDateTime now = LocalDateTime.now();
+        rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            LocalDateTime requestTime = now.minusMinutes(i);
+            rows.add(BillInquiryHistoryEntity.builder()
+                    .id((long) i)
+                    .requestId(String.format("REQ_20250908_%08X", i))
+                    .lineNumber("01012345678")
+                    .inquiryMonth("2025" + String.format("%02d", i % 12 + 1))
+                    .requestTime(requestTime)
+                    .processTime(requestTime.plusNanos(350_000_000L))
+                    .status(STATUSES[i % STATUSES.length])
+                    .resultSummary("5G 프리미엄 플랜, 96,500원")
+                    .kosResponseTimeMs(350L)
+                    .cacheHit(i % 2 == 0)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<BillHistoryResponse.BillHistoryItem> toHistoryItems() throws Throwable {
+        return (List<BillHistoryResponse.BillHistoryItem>) toHistoryItems.invokeExact(rows);
+    }
+}
@@ -0,0 +1,143 @@
+package com.phonebill.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bill-service 요금조회 실행 모드 부하 벤치마크
+ *
+ * 느린 kos-mock 앞의 bill-service POST /api/v1/bills/inquiry에 동시 요청 묶음을 보내고
+ * 모두 처리하는 데 걸리는 시간과 처리 중 bill-service 스레드 수를 모드별로 비교합니다.
+ * - reactive: kos.reactive.enabled=true (WebClient + 리액티브 Redis, 대기 중 스레드 미점유)
+ * - platform-threads: kos.reactive.enabled=false, spring.threads.virtual.enabled=false
+ *   (요청 스레드에서 RestTemplate으로 KOS 대기, Tomcat 플랫폼 스레드 풀 기본 최대 200, 기존 방식)
+ * - virtual-threads: kos.reactive.enabled=false, spring.threads.virtual.enabled=true (요청당 가상 스레드)
+ * platform-threads가 논블로킹 경로와 가상 스레드 모드 양쪽의 비교 기준입니다.
+ *
+ * 사전 조건 (JWT_SECRET은 jwtSecret 파라미터와 같은 값):
+ *   ./gradlew :kos-mock:bootRun --args='--kos.mock.response-delay=2000'
+ *   ./gradlew :bill-service:bootRun --args='--server.port=8082 --kos.reactive.enabled=true'
+ *   ./gradlew :bill-service:bootRun --args='--server.port=8092 --kos.reactive.enabled=false --spring.threads.virtual.enabled=false'
+ *   ./gradlew :bill-service:bootRun --args='--server.port=8093 --kos.reactive.enabled=false --spring.threads.virtual.enabled=true'
+ * 한 모드만 측정하려면 -p mode=virtual-threads처럼 지정합니다.
+ * 세 bill-service는 같은 kos-mock/Redis를 사용해도 되며, 반복마다 새 회선을 kos-mock에 생성해 조회하므로
+ * 모든 요청이 캐시 미스로 KOS까지 갑니다.
+ * KOS 호출 동시성 제한(Bulkhead/적응형 제한)과 HTTP 연결 풀 크기도 처리량 상한이 되므로 인스턴스 설정을 같게 유지합니다.
+ *
+ * 측정 시간은 요청 묶음 완료 시간이며, 처리량(요청/초)/성공 건수/bill-service 최대 플랫폼 스레드 수는
+ * 보조 지표(LoadResult)로 JMH 결과에 함께 기록됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BillInquiryLoadBenchmark {
+
+    @Param({"reactive", "platform-threads", "virtual-threads"})
+    private String mode;
+
+    @Param({"http://localhost:8082"})
+    private String reactiveBillUrl;
+
+    @Param({"http://localhost:8092"})
+    private String platformThreadsBillUrl;
+
+    @Param({"http://localhost:8093"})
+    private String virtualThreadsBillUrl;
+
+    @Param({"http://localhost:8084"})
+    private String kosBaseUrl;
+
+    @Param({"phonebill-benchmark-secret-key-for-jmh-only-0123456789"})
+    private String jwtSecret;
+
+    @Param({"2000"})
+    private int requests;
+
+    private BillInquiryLoadDriver driver;
+    private String billingMonth;
+    private long nextLine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = new BillInquiryLoadDriver(billUrl(), kosBaseUrl, jwtSecret, requests);
+        billingMonth = YearMonth.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+        // 이전 실행이나 다른 모드가 캐시한 회선과 겹치지 않도록 실행마다 회선 범위를 달리함
+        nextLine = ThreadLocalRandom.current().nextLong(90) * 1_000_000L;
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareIteration() {
+        driver.prepareLines(nextLine, requests, billingMonth);
+    }
+
+    @TearDown(Level.Iteration)
+    public void advanceLines() {
+        nextLine += requests;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.close();
+    }
+
+    @Benchmark
+    public long inquire(LoadResult result) {
+        BillInquiryLoadDriver.Result run = driver.run(nextLine, requests, billingMonth);
+        result.record(run);
+        return run.succeeded();
+    }
+
+    /**
+     * 요청 묶음 처리 결과 (보조 지표)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LoadResult {
+
+        public double requestsPerSecond;
+        public long succeededRequests;
+        public long peakLiveThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requestsPerSecond = 0;
+            succeededRequests = 0;
+            peakLiveThreads = 0;
+        }
+
+        void record(BillInquiryLoadDriver.Result run) {
+            requestsPerSecond = run.throughput();
+            succeededRequests = run.succeeded();
+            peakLiveThreads = run.peakLiveThreads();
+        }
+    }
+
+    private String billUrl() {
+        return switch (mode) {
+            case "reactive" -> reactiveBillUrl;
+            case "platform-threads" -> platformThreadsBillUrl;
+            case "virtual-threads" -> virtualThreadsBillUrl;
+            default -> throw new IllegalArgumentException("지원하지 않는 모드: " + mode);
+        };
+    }
+}
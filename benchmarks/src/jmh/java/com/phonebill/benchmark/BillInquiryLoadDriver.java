@@ -0,0 +1,202 @@
+package com.phonebill.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * bill-service 요금조회 부하 발생기 (부하 벤치마크 공용)
+ *
+ * 실행 중인 bill-service의 POST /api/v1/bills/inquiry에 요청 묶음을 한꺼번에 보내고,
+ * 처리하는 동안 bill-service의 살아 있는 JVM 스레드 수(actuator jvm.threads.live)를 주기적으로 조회해 최대값을 기록합니다.
+ * jvm.threads.live는 플랫폼 스레드만 집계하므로 가상 스레드 모드에서는 캐리어 등 플랫폼 스레드 수가 나옵니다.
+ *
+ * 클라이언트는 이벤트 루프 스레드 몇 개로 모든 요청을 동시에 보내므로 클라이언트가 병목이 되지 않습니다.
+ * 요청마다 다른 회선을 조회하므로 캐시/요청 병합 없이 모든 요청이 KOS(kos-mock)까지 갑니다.
+ */
+final class BillInquiryLoadDriver implements AutoCloseable {
+
+    private static final String INQUIRY_PATH = "/api/v1/bills/inquiry";
+    private static final String LIVE_THREADS_PATH = "/actuator/metrics/jvm.threads.live";
+    private static final String BULK_GENERATE_PATH = "/api/v1/kos/mock-datas/bulk";
+    private static final int EVENT_LOOP_THREADS = 4;
+    private static final long SAMPLE_INTERVAL_MS = 100;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String token;
+    private final LoopResources loopResources;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient billClient;
+    private final WebClient kosClient;
+    private final ScheduledExecutorService sampler;
+
+    /**
+     * @param billBaseUrl 부하 대상 bill-service URL
+     * @param kosBaseUrl bill-service가 호출하는 kos-mock URL (조회 회선 데이터 생성용)
+     * @param jwtSecret bill-service JWT 서명 키 (JWT_SECRET)
+     * @param maxConnections 동시 연결 수 (요청 묶음 크기 이상)
+     */
+    BillInquiryLoadDriver(String billBaseUrl, String kosBaseUrl, String jwtSecret, int maxConnections) {
+        this.token = Jwts.builder()
+                .subject("bench01")
+                .claim("username", "벤치마크")
+                .claim("authority", "USER")
+                .claim("customerId", "BENCH001")
+                .claim("lineNumber", "01000000000")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(12)))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        this.loopResources = LoopResources.create("bill-bench", EVENT_LOOP_THREADS, true);
+        this.connectionProvider = ConnectionProvider.builder("bill-bench")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient nettyClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .responseTimeout(Duration.ofSeconds(120));
+        this.billClient = WebClient.builder()
+                .baseUrl(billBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(nettyClient))
+                .build();
+        this.kosClient = WebClient.builder()
+                .baseUrl(kosBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(nettyClient))
+                .build();
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bill-bench-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * kos-mock에 조회할 회선과 요금 데이터 생성 (측정 전 준비)
+     *
+     * @param firstLine 시작 회선 인덱스 (회선번호 = 010 + 8자리 인덱스)
+     * @param lines 회선 수
+     * @param billingMonth 청구월 (yyyyMM)
+     */
+    void prepareLines(long firstLine, int lines, String billingMonth) {
+        kosClient.post()
+                .uri(BULK_GENERATE_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "lines", lines,
+                        "lineStart", firstLine,
+                        "months", 1,
+                        "baseMonth", billingMonth))
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofMinutes(5));
+    }
+
+    /**
+     * 요청 묶음을 동시에 보내고 모두 끝날 때까지 대기
+     *
+     * @param firstLine 시작 회선 인덱스
+     * @param requests 요청 수 (회선당 1건)
+     * @param billingMonth 조회월 (yyyyMM)
+     * @return 처리 결과
+     */
+    Result run(long firstLine, int requests, String billingMonth) {
+        AtomicLong peakLiveThreads = new AtomicLong(liveThreads());
+        var sampling = sampler.scheduleAtFixedRate(
+                () -> peakLiveThreads.accumulateAndGet(liveThreads(), Math::max),
+                SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        long start = System.nanoTime();
+        Long succeeded = Flux.range(0, requests)
+                .flatMap(i -> inquire(firstLine + i, billingMonth), requests)
+                .reduce(0L, Long::sum)
+                .block();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        sampling.cancel(false);
+        return new Result(requests, succeeded != null ? succeeded : 0L, elapsedMs, peakLiveThreads.get());
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+        connectionProvider.disposeLater().block();
+        loopResources.disposeLater().block();
+    }
+
+    /**
+     * 요금조회 1건 (KOS 정상 응답이면 1, 그 밖의 응답/오류는 0)
+     */
+    private Mono<Long> inquire(long lineIndex, String billingMonth) {
+        return billClient.post()
+                .uri(INQUIRY_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of(
+                        "lineNumber", String.format("010%08d", lineIndex),
+                        "inquiryMonth", billingMonth))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(body -> isSuccess(body) ? 1L : 0L)
+                .onErrorResume(e -> Mono.just(0L));
+    }
+
+    private boolean isSuccess(byte[] body) {
+        try {
+            JsonNode data = objectMapper.readTree(body).path("data");
+            return "SUCCESS".equals(data.path("procStatus").asText());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * bill-service 살아 있는 플랫폼 스레드 수 (조회 실패 시 0)
+     */
+    private long liveThreads() {
+        try {
+            byte[] body = billClient.get()
+                    .uri(LIVE_THREADS_PATH)
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .block(Duration.ofSeconds(5));
+            return objectMapper.readTree(body).path("measurements").path(0).path("value").asLong();
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 요청 묶음 처리 결과
+     *
+     * @param requests 보낸 요청 수
+     * @param succeeded KOS 정상 응답 건수
+     * @param elapsedMs 모두 끝날 때까지 걸린 시간
+     * @param peakLiveThreads 처리 중 bill-service 최대 플랫폼 스레드 수
+     */
+    record Result(int requests, long succeeded, long elapsedMs, long peakLiveThreads) {
+
+        double throughput() {
+            return elapsedMs > 0 ? requests * 1000.0 / elapsedMs : 0.0;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.phonebill.benchmark;
+
+import com.unicorn.phonebill.gateway.dto.TokenValidationResult;
+import com.unicorn.phonebill.gateway.service.JwtTokenService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API Gateway JWT 검증 벤치마크
+ *
+ * api-gateway JwtTokenService.validateToken 측정 (게이트웨이를 지나는 모든 인증 요청 경로)
+ * - valid: 정상 토큰
+ * - invalidSignature: 다른 키로 서명한 토큰 (서명 검증 실패 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GatewayJwtValidationBenchmark {
+
+    private static final String SECRET = "phonebill-benchmark-secret-key-for-jmh-only-0123456789";
+    private static final String OTHER_SECRET = "phonebill-benchmark-other-secret-key-for-jmh-only-98765";
+
+    private JwtTokenService jwtTokenService;
+    private String validToken;
+    private String invalidSignatureToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenService = new JwtTokenService(SECRET, 1800, 86400);
+        validToken = createToken(SECRET);
+        invalidSignatureToken = createToken(OTHER_SECRET);
+    }
+
+    @Benchmark
+    public TokenValidationResult valid() {
+        return jwtTokenService.validateToken(validToken).block();
+    }
+
+    @Benchmark
+    public TokenValidationResult invalidSignature() {
+        return jwtTokenService.validateToken(invalidSignatureToken).block();
+    }
+
+    private static String createToken(String secret) {
+        return Jwts.builder()
+                .subject("user01")
+                .id(UUID.randomUUID().toString())
+                .claim("role", "USER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(30)))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,81 @@
+package com.phonebill.benchmark;
+
+import com.phonebill.bill.dto.BillInquiryResponse;
+import com.phonebill.bill.service.KosClientService;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import com.phonebill.kosmock.dto.KosCommonResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.objenesis.ObjenesisStd;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KOS 요금조회 응답 변환 벤치마크
+ *
+ * bill-service KosClientService.convertKosMockResponseToBillResponse
+ * (디코딩된 KOS 응답 → 내부 BillInquiryResponse 변환) 측정
+ * JSON 디코딩 구간은 KosResponseDecodingBenchmark에서 측정합니다.
+ *
+ * 변환 메소드는 외부 연동 없이 응답 객체만 사용하므로, 생성자 시그니처와 무관하도록 생성자를 거치지 않고
+ * 인스턴스화한 서비스에서 직접 호출합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KosBillResponseConversionBenchmark {
+
+    private MethodHandle convert;
+    private KosCommonResponse<KosBillInquiryResponse> response;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        KosClientService kosClientService = new ObjenesisStd().newInstance(KosClientService.class);
+        convert = MethodHandles.privateLookupIn(KosClientService.class, MethodHandles.lookup())
+                .findVirtual(KosClientService.class, "convertKosMockResponseToBillResponse",
+                        MethodType.methodType(BillInquiryResponse.class, KosCommonResponse.class))
+                .bindTo(kosClientService);
+
+        response = KosCommonResponse.success(KosBillInquiryResponse.builder()
+                .requestId("REQ_20250908_1A2B3C4D")
+                .procStatus("SUCCESS")
+                .resultCode("0000")
+                .resultMessage("요금 조회 성공")
+                .billInfo(KosBillInquiryResponse.BillInfo.builder()
+                        .lineNumber("01012345678")
+                        .billingMonth("202509")
+                        .productCode("5G-PREMIUM-001")
+                        .productName("5G 프리미엄 플랜")
+                        .monthlyFee(new BigDecimal("89000"))
+                        .usageFee(new BigDecimal("12500.50"))
+                        .discountAmount(new BigDecimal("5000"))
+                        .totalFee(new BigDecimal("96500.50"))
+                        .dataUsage("45.2GB")
+                        .voiceUsage("320분")
+                        .smsUsage("15건")
+                        .billStatus("CONFIRMED")
+                        .dueDate("20251025")
+                        .build())
+                .customerInfo(KosBillInquiryResponse.CustomerInfo.builder()
+                        .customerName("홍길동")
+                        .customerId("CUST001")
+                        .operatorCode("KT")
+                        .lineStatus("ACTIVE")
+                        .build())
+                .build());
+    }
+
+    @Benchmark
+    public BillInquiryResponse convert() throws Throwable {
+        return (BillInquiryResponse) convert.invokeExact(response);
+    }
+}
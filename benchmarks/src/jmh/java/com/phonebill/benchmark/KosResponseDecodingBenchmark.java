@@ -0,0 +1,154 @@
+package com.phonebill.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import com.phonebill.kosmock.dto.KosCommonResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KOS 요금조회 응답 디코딩 벤치마크
+ *
+ * bill-service KosClientService의 응답 처리 경로 비교
+ * - mapPath: Map으로 역직렬화 후 필드별 변환 (기존 방식)
+ * - typedReader: 사전 구성한 ObjectReader로 타입 객체에 직접 디코딩
+ *
+ * 응답당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 값으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KosResponseDecodingBenchmark {
+
+    private static final String PAYLOAD = """
+            {
+              "success": true,
+              "resultCode": "0000",
+              "resultMessage": "정상 처리되었습니다",
+              "data": {
+                "requestId": "REQ_20250908_1A2B3C4D",
+                "procStatus": "SUCCESS",
+                "resultCode": "0000",
+                "resultMessage": "요금 조회 성공",
+                "billInfo": {
+                  "lineNumber": "01012345678",
+                  "billingMonth": "202509",
+                  "productCode": "5G-PREMIUM-001",
+                  "productName": "5G 프리미엄 플랜",
+                  "monthlyFee": 89000,
+                  "usageFee": 12500.50,
+                  "discountAmount": 5000,
+                  "totalFee": 96500.50,
+                  "dataUsage": "45.2GB",
+                  "voiceUsage": "320분",
+                  "smsUsage": "15건",
+                  "billStatus": "CONFIRMED",
+                  "dueDate": "20251025"
+                },
+                "customerInfo": {
+                  "customerName": "홍길동",
+                  "customerId": "CUST001",
+                  "operatorCode": "KT",
+                  "lineStatus": "ACTIVE"
+                }
+              },
+              "timestamp": "2025-09-08T14:30:00",
+              "traceId": "TRACE_20250908_001"
+            }
+            """;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private ObjectReader typedReader;
+
+    @Setup
+    public void setUp() {
+        payload = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        typedReader = objectMapper.readerFor(new TypeReference<KosCommonResponse<KosBillInquiryResponse>>() {});
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public KosBillInquiryResponse mapPath() throws IOException {
+        Map<String, Object> response = objectMapper.readValue(new ByteArrayInputStream(payload), Map.class);
+        return convertMapToKosBillInquiryResponse((Map<String, Object>) response.get("data"));
+    }
+
+    @Benchmark
+    public KosBillInquiryResponse typedReader() throws IOException {
+        KosCommonResponse<KosBillInquiryResponse> response = typedReader.readValue(new ByteArrayInputStream(payload));
+        return response.getData();
+    }
+
+    /**
+     * 기존 KosClientService의 Map 변환 로직
+     */
+    @SuppressWarnings("unchecked")
+    private static KosBillInquiryResponse convertMapToKosBillInquiryResponse(Map<String, Object> data) {
+        KosBillInquiryResponse.BillInfo billInfo = null;
+        Map<String, Object> billInfoMap = (Map<String, Object>) data.get("billInfo");
+        if (billInfoMap != null) {
+            billInfo = KosBillInquiryResponse.BillInfo.builder()
+                    .lineNumber((String) billInfoMap.get("lineNumber"))
+                    .billingMonth((String) billInfoMap.get("billingMonth"))
+                    .productCode((String) billInfoMap.get("productCode"))
+                    .productName((String) billInfoMap.get("productName"))
+                    .monthlyFee(convertToBigDecimal(billInfoMap.get("monthlyFee")))
+                    .usageFee(convertToBigDecimal(billInfoMap.get("usageFee")))
+                    .discountAmount(convertToBigDecimal(billInfoMap.get("discountAmount")))
+                    .totalFee(convertToBigDecimal(billInfoMap.get("totalFee")))
+                    .dataUsage((String) billInfoMap.get("dataUsage"))
+                    .voiceUsage((String) billInfoMap.get("voiceUsage"))
+                    .smsUsage((String) billInfoMap.get("smsUsage"))
+                    .billStatus((String) billInfoMap.get("billStatus"))
+                    .dueDate((String) billInfoMap.get("dueDate"))
+                    .build();
+        }
+
+        KosBillInquiryResponse.CustomerInfo customerInfo = null;
+        Map<String, Object> customerInfoMap = (Map<String, Object>) data.get("customerInfo");
+        if (customerInfoMap != null) {
+            customerInfo = KosBillInquiryResponse.CustomerInfo.builder()
+                    .customerName((String) customerInfoMap.get("customerName"))
+                    .customerId((String) customerInfoMap.get("customerId"))
+                    .operatorCode((String) customerInfoMap.get("operatorCode"))
+                    .lineStatus((String) customerInfoMap.get("lineStatus"))
+                    .build();
+        }
+
+        return KosBillInquiryResponse.builder()
+                .requestId((String) data.get("requestId"))
+                .procStatus((String) data.get("procStatus"))
+                .resultCode((String) data.get("resultCode"))
+                .resultMessage((String) data.get("resultMessage"))
+                .billInfo(billInfo)
+                .customerInfo(customerInfo)
+                .build();
+    }
+
+    private static BigDecimal convertToBigDecimal(Object value) {
+        if (value == null) return null;
+        if (value instanceof BigDecimal) return (BigDecimal) value;
+        if (value instanceof Number) return BigDecimal.valueOf(((Number) value).doubleValue());
+        return new BigDecimal(value.toString());
+    }
+}
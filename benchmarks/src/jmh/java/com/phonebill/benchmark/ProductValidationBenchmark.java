@@ -0,0 +1,65 @@
+package com.phonebill.benchmark;
+
+import com.unicorn.phonebill.product.dto.ProductChangeValidationRequest;
+import com.unicorn.phonebill.product.dto.ProductChangeValidationResponse;
+import com.unicorn.phonebill.product.service.ProductCacheService;
+import com.unicorn.phonebill.product.service.ProductValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품변경 사전체크 벤치마크
+ *
+ * product-service ProductValidationService.validateProductChange 측정
+ * 상품 상태/회선 상태는 캐시 히트로 고정하여 (Redis/DB 왕복 제외) 검증 로직과 응답 생성 비용만 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductValidationBenchmark {
+
+    private ProductValidationService productValidationService;
+    private ProductChangeValidationRequest request;
+
+    @Setup
+    public void setUp() {
+        productValidationService = new ProductValidationService(null, new CachedStatusProductCacheService());
+        request = ProductChangeValidationRequest.builder()
+                .lineNumber("01012345678")
+                .currentProductCode("5G-BASIC-001")
+                .targetProductCode("5G-PREMIUM-001")
+                .build();
+    }
+
+    @Benchmark
+    public ProductChangeValidationResponse validateProductChange() {
+        return productValidationService.validateProductChange(request);
+    }
+
+    /**
+     * 상품/회선 상태를 항상 캐시 히트로 응답하는 캐시 서비스
+     */
+    private static class CachedStatusProductCacheService extends ProductCacheService {
+
+        CachedStatusProductCacheService() {
+            super(null, null);
+        }
+
+        @Override
+        public String getProductStatus(String productCode) {
+            return "AVAILABLE";
+        }
+
+        @Override
+        public String getLineStatus(String lineNumber) {
+            return "ACTIVE";
+        }
+    }
+}
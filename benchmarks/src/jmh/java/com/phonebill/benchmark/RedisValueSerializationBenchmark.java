@@ -0,0 +1,167 @@
+package com.phonebill.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.phonebill.common.cache.CompactRedisSerializer;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import com.phonebill.kosmock.dto.KosProductInfo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 값 직렬화 벤치마크
+ *
+ * 서비스 RedisConfig의 값 직렬화기 비교
+ * - json: GenericJackson2JsonRedisSerializer + 타입 정보 (기존 방식)
+ * - compact: 버전 헤더 + Smile 바이너리
+ * - compact-lz4 / compact-zstd: 위 형식 + 압축 (압축 기준 0바이트로 항상 압축)
+ *
+ * 페이로드
+ * - bill: 캐시되는 KOS 요금조회 응답 1건
+ * - productList: 상품 목록 20건
+ *
+ * 항목당 바이트 수는 encode 결과의 보조 지표(bytesPerEntry),
+ * 항목당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 값으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisValueSerializationBenchmark {
+
+    @Param({"json", "compact", "compact-lz4", "compact-zstd"})
+    public String serializer;
+
+    @Param({"bill", "productList"})
+    public String payload;
+
+    private RedisSerializer<Object> redisSerializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        redisSerializer = switch (serializer) {
+            case "json" -> {
+                ObjectMapper mapper = new ObjectMapper();
+                configureRedisObjectMapper(mapper);
+                yield new GenericJackson2JsonRedisSerializer(mapper);
+            }
+            case "compact" -> compact(CompactRedisSerializer.Compression.NONE);
+            case "compact-lz4" -> compact(CompactRedisSerializer.Compression.LZ4);
+            case "compact-zstd" -> compact(CompactRedisSerializer.Compression.ZSTD);
+            default -> throw new IllegalArgumentException("unknown serializer: " + serializer);
+        };
+        value = "bill".equals(payload) ? billResponse() : productList();
+        encoded = redisSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) {
+        byte[] bytes = redisSerializer.serialize(value);
+        size.bytesPerEntry = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return redisSerializer.deserialize(encoded);
+    }
+
+    /**
+     * 인코딩 결과 크기 (보조 지표)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long bytesPerEntry;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerEntry = 0;
+        }
+    }
+
+    private static CompactRedisSerializer compact(CompactRedisSerializer.Compression compression) {
+        return new CompactRedisSerializer(RedisValueSerializationBenchmark::configureRedisObjectMapper,
+                CompactRedisSerializer.Format.COMPACT, compression, 0);
+    }
+
+    /**
+     * bill-service RedisConfig의 Redis 전용 ObjectMapper 설정
+     */
+    private static void configureRedisObjectMapper(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+    }
+
+    private static KosBillInquiryResponse billResponse() {
+        return KosBillInquiryResponse.builder()
+                .requestId("REQ_20250908_1A2B3C4D")
+                .procStatus("SUCCESS")
+                .resultCode("0000")
+                .resultMessage("요금 조회 성공")
+                .billInfo(KosBillInquiryResponse.BillInfo.builder()
+                        .lineNumber("01012345678")
+                        .billingMonth("202509")
+                        .productCode("5G-PREMIUM-001")
+                        .productName("5G 프리미엄 플랜")
+                        .monthlyFee(new BigDecimal("89000"))
+                        .usageFee(new BigDecimal("12500.50"))
+                        .discountAmount(new BigDecimal("5000"))
+                        .totalFee(new BigDecimal("96500.50"))
+                        .dataUsage("45.2GB")
+                        .voiceUsage("320분")
+                        .smsUsage("15건")
+                        .billStatus("CONFIRMED")
+                        .dueDate("20251025")
+                        .build())
+                .customerInfo(KosBillInquiryResponse.CustomerInfo.builder()
+                        .customerName("홍길동")
+                        .customerId("CUST001")
+                        .operatorCode("KT")
+                        .lineStatus("ACTIVE")
+                        .build())
+                .build();
+    }
+
+    private static List<KosProductInfo> productList() {
+        List<KosProductInfo> products = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            products.add(KosProductInfo.builder()
+                    .productCode(String.format("5G_PLAN_%03d", i))
+                    .productName("5G 요금제 " + i)
+                    .productType("DATA")
+                    .monthlyFee(30000 + i * 5000)
+                    .dataAllowance(i * 10)
+                    .voiceAllowance(300)
+                    .smsAllowance(200)
+                    .networkType("5G")
+                    .status("ACTIVE")
+                    .description("5G 네트워크를 이용한 데이터 요금제 " + i)
+                    .build());
+        }
+        return products;
+    }
+}
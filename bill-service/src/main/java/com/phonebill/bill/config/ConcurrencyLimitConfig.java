@@ -0,0 +1,40 @@
+package com.phonebill.bill.config;
+
+import com.phonebill.common.resilience.AdaptiveConcurrencyLimiter;
+import com.phonebill.common.resilience.KosConcurrencyLimitConfigSupport;
+import com.phonebill.common.resilience.RetryBudget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * KOS 호출 부하 제어 설정
+ *
+ * KOS 작업별 적응형 동시 호출 제한과 공유 재시도 예산 구성 (구성은 공통 설정, 설정값만 제공)
+ * - KOS 응답이 느려지면 작업별 한도를 줄이고, 한도 초과 호출은 대기 없이 fallback으로 처리
+ * - 재시도는 호출량 대비 비율 예산 내에서만 허용 (CircuitBreakerConfig의 Retry 조건에 적용)
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ConcurrencyLimitConfig extends KosConcurrencyLimitConfigSupport {
+
+    private final KosProperties kosProperties;
+
+    @Override
+    protected RetryBudget.Config retryBudgetConfig() {
+        KosProperties.RetryBudget settings = kosProperties.getRetryBudget();
+        return new RetryBudget.Config(
+                settings.getRatio(), settings.getMinRetriesPerSecond(), settings.getMaxRetries());
+    }
+
+    @Override
+    protected AdaptiveConcurrencyLimiter.Config concurrencyLimiterConfig() {
+        KosProperties.ConcurrencyLimit settings = kosProperties.getConcurrencyLimit();
+        return new AdaptiveConcurrencyLimiter.Config(
+                settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit(),
+                settings.getRttTolerance(), settings.getSmoothing());
+    }
+}
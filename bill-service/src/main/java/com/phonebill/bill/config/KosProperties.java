@@ -16,7 +16,12 @@ import jakarta.validation.constraints.Positive;
  * application.yml 파일의 kos 설정을 바인딩하는 설정 클래스
  * - 연결 정보 (URL, 타임아웃 등)
  * - 재시도 정책
+ * - HTTP 클라이언트 엔진 및 커넥션 풀 설정
+ * - 동일 회선/월 요금조회 요청 병합(single-flight) 설정
+ * - 다건 요금조회 설정
  * - Circuit Breaker 설정
+ * - 작업별 적응형 동시 호출 제한 및 공유 재시도 예산 설정
+ * - 트래픽 기록 설정 (kos-mock 재생용)
  * - 인증 관련 설정
  * 
  * @author 이개발(백엔더)
@@ -64,11 +69,51 @@ public class KosProperties {
     @Positive
     private Long retryDelay = 1000L;
 
+    /**
+     * HTTP 클라이언트 설정
+     */
+    private HttpClient httpClient = new HttpClient();
+
+    /**
+     * 비동기(논블로킹) 요금조회 경로 설정
+     */
+    private Reactive reactive = new Reactive();
+
+    /**
+     * 요청 병합 설정
+     */
+    private Coalescing coalescing = new Coalescing();
+
+    /**
+     * 다건 요금조회 설정
+     */
+    private Bulk bulk = new Bulk();
+
     /**
      * Circuit Breaker 설정
      */
     private CircuitBreaker circuitBreaker = new CircuitBreaker();
 
+    /**
+     * 적응형 동시 호출 제한 설정
+     */
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    /**
+     * 재시도 예산 설정
+     */
+    private RetryBudget retryBudget = new RetryBudget();
+
+    /**
+     * 헤지 요청 설정
+     */
+    private Hedging hedging = new Hedging();
+
+    /**
+     * 트래픽 기록 설정
+     */
+    private Traffic traffic = new Traffic();
+
     /**
      * 인증 설정
      */
@@ -79,6 +124,145 @@ public class KosProperties {
      */
     private Monitoring monitoring = new Monitoring();
 
+    /**
+     * HTTP 클라이언트 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class HttpClient {
+
+        /**
+         * 클라이언트 엔진 (APACHE: 커넥션 풀/라우트별 제한, JDK: HTTP/2 지원)
+         */
+        private Engine engine = Engine.APACHE;
+
+        /**
+         * HTTP/2 사용 여부 (JDK 엔진에서만 적용)
+         */
+        private Boolean http2Enabled = false;
+
+        /**
+         * 전체 최대 커넥션 수
+         */
+        private Integer maxConnTotal = 200;
+
+        /**
+         * 라우트(호스트)별 최대 커넥션 수
+         */
+        private Integer maxConnPerRoute = 50;
+
+        /**
+         * 풀에서 커넥션 획득 대기 최대 시간 (밀리초)
+         */
+        private Long connectionRequestTimeout = 2000L;
+
+        /**
+         * 커넥션 최대 수명 (밀리초)
+         */
+        private Long connectionTimeToLive = 300000L;
+
+        /**
+         * 유휴 커넥션 정리 기준 시간 (밀리초)
+         */
+        private Long idleEvictionTime = 30000L;
+
+        /**
+         * 유휴 후 재사용 전 커넥션 검증 간격 (밀리초)
+         */
+        private Long validateAfterInactivity = 2000L;
+
+        public enum Engine {
+            APACHE,
+            JDK
+        }
+    }
+
+    /**
+     * 비동기(논블로킹) 요금조회 경로 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        /**
+         * 사용 여부 (미사용 시 기존 동기 처리를 별도 스케줄러에서 실행)
+         */
+        private Boolean enabled = true;
+
+        /**
+         * WebClient 최대 연결 수 (HTTP/1.1은 호출 중 요청당 연결 1개)
+         */
+        private Integer maxConnections = 1000;
+
+        /**
+         * 연결 획득 대기 최대 건수
+         */
+        private Integer pendingAcquireMaxCount = 10000;
+
+        /**
+         * 연결 획득 대기 시간 (밀리초)
+         */
+        private Long pendingAcquireTimeoutMs = 10000L;
+    }
+
+    /**
+     * 요청 병합(single-flight) 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class Coalescing {
+
+        /**
+         * 요청 병합 사용 여부
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 후속 요청의 선행 요청 결과 대기 최대 시간 (밀리초)
+         */
+        private Long maxWaitMs = 5000L;
+
+        /**
+         * 노드 간 Redis 락 사용 여부
+         */
+        private Boolean distributedLockEnabled = false;
+
+        /**
+         * Redis 락 TTL (밀리초, 0이면 선행 요청의 최대 KOS 호출 시간으로 계산)
+         * 직접 지정할 때는 KOS가 느릴 때도 선행 요청이 끝나기 전에 만료되지 않도록
+         * 재시도를 포함한 최대 호출 시간 이상으로 설정
+         */
+        private Long lockTtlMs = 0L;
+
+        /**
+         * 다른 노드 결과 대기 시 캐시 확인 간격 (밀리초)
+         */
+        private Long lockPollIntervalMs = 50L;
+    }
+
+    /**
+     * 다건 요금조회 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        /**
+         * 요청당 최대 조회 건수
+         */
+        private Integer maxItems = 100;
+
+        /**
+         * 요청당 KOS 동시 호출 수
+         */
+        private Integer maxConcurrency = 8;
+
+        /**
+         * 응답 스트림 최대 유지 시간 (밀리초)
+         */
+        private Long timeoutMs = 60000L;
+    }
+
     /**
      * Circuit Breaker 설정 내부 클래스
      */
@@ -122,6 +306,148 @@ public class KosProperties {
         private Long waitDurationInOpenState = 60000L;
     }
 
+    /**
+     * 적응형 동시 호출 제한 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+
+        /**
+         * 사용 여부
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 작업별 초기 한도
+         */
+        private Integer initialLimit = 20;
+
+        /**
+         * 작업별 최소 한도
+         */
+        private Integer minLimit = 2;
+
+        /**
+         * 작업별 최대 한도
+         */
+        private Integer maxLimit = 200;
+
+        /**
+         * 평소 응답 시간 대비 허용 배수 (이 배수를 넘으면 한도 감소)
+         */
+        private Double rttTolerance = 1.5;
+
+        /**
+         * 한도 변경 반영 비율 (0~1)
+         */
+        private Double smoothing = 0.2;
+    }
+
+    /**
+     * 재시도 예산 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class RetryBudget {
+
+        /**
+         * 호출 대비 허용 재시도 비율
+         */
+        private Double ratio = 0.1;
+
+        /**
+         * 초당 최소 허용 재시도 수
+         */
+        private Integer minRetriesPerSecond = 5;
+
+        /**
+         * 적립 가능한 최대 재시도 수
+         */
+        private Integer maxRetries = 100;
+    }
+
+    /**
+     * 헤지 요청 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        /**
+         * 사용 여부 (기본 미사용)
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 헤지 지연으로 사용할 응답 시간 백분위
+         */
+        private Double percentile = 0.95;
+
+        /**
+         * 최소 헤지 지연 (밀리초)
+         */
+        private Long minDelayMs = 50L;
+
+        /**
+         * 최대 헤지 지연 (밀리초)
+         */
+        private Long maxDelayMs = 3000L;
+
+        /**
+         * 응답 시간 표본이 부족할 때의 헤지 지연 (밀리초)
+         */
+        private Long initialDelayMs = 1000L;
+
+        /**
+         * 응답 시간 표본 수 (최근 N건)
+         */
+        private Integer windowSize = 512;
+
+        /**
+         * 백분위 계산에 필요한 최소 표본 수
+         */
+        private Integer minSamples = 64;
+
+        /**
+         * 호출 대비 허용 헤지 비율
+         */
+        private Double budgetRatio = 0.05;
+
+        /**
+         * 적립 가능한 최대 헤지 수
+         */
+        private Integer maxBurst = 10;
+
+        /**
+         * 헤지 실행기 최대 스레드 수 (초과 시 호출 스레드에서 헤지 없이 실행)
+         */
+        private Integer maxThreads = 64;
+    }
+
+    /**
+     * 트래픽 기록 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class Traffic {
+
+        /**
+         * 기록 사용 여부 (기본 미사용)
+         */
+        private Boolean recordEnabled = false;
+
+        /**
+         * 기록 파일 경로 (kos-mock 재생 모드의 입력 파일)
+         */
+        private String recordPath = "./data/kos-traffic.bin";
+
+        /**
+         * 최대 기록 파일 크기 (바이트, 재생 시 메모리 매핑 한도 2GB 이하)
+         */
+        private Long recordMaxBytes = 1024L * 1024 * 1024;
+    }
+
     /**
      * 인증 설정 내부 클래스
      */
@@ -230,6 +556,29 @@ public class KosProperties {
         return retryDelay * maxRetries;
     }
 
+    /**
+     * 재시도를 포함한 KOS 호출 1건의 최대 소요 시간 계산
+     * (시도마다 연결 + 읽기 타임아웃, 시도 사이마다 재시도 간격)
+     *
+     * @return 최대 호출 시간 (밀리초)
+     */
+    public long getMaxCallDuration() {
+        return (long) maxRetries * getTotalTimeout() + (long) (maxRetries - 1) * retryDelay;
+    }
+
+    /**
+     * 요청 병합 Redis 락 TTL 결정
+     *
+     * 설정값이 없거나 0이면 최대 호출 시간을 사용하므로, 선행 요청이 KOS를 호출하는 동안
+     * 락이 만료되어 다른 노드가 또 선행 요청이 되는 일이 없습니다.
+     *
+     * @return 락 TTL (밀리초)
+     */
+    public long getCoalescingLockTtlMs() {
+        Long configured = coalescing.getLockTtlMs();
+        return configured != null && configured > 0 ? configured : getMaxCallDuration();
+    }
+
     // === Validation Methods ===
 
     /**
@@ -4,19 +4,24 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.phonebill.common.cache.CompactRedisSerializer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -27,8 +32,8 @@ import java.util.Map;
  * Redis 캐시 설정
  * 
  * Redis를 활용한 캐싱 시스템 설정
- * - Redis 연결 설정
- * - 직렬화/역직렬화 설정
+ * - Redis 연결 설정 (동기: Jedis, 비동기 요금조회 경로: Lettuce 리액티브)
+ * - 직렬화/역직렬화 설정 (버전 헤더 + 바이너리 인코딩, 선택적 압축)
  * - 캐시별 TTL 설정
  * - Cache Manager 구성
  * 
@@ -56,12 +61,24 @@ public class RedisConfig {
     @Value("${spring.data.redis.timeout:5000}")
     private int redisTimeout;
 
+    @Value("${cache.serializer.format:JSON}")
+    private CompactRedisSerializer.Format serializerFormat;
+
+    @Value("${cache.serializer.compression:LZ4}")
+    private CompactRedisSerializer.Compression serializerCompression;
+
+    @Value("${cache.serializer.compression-threshold:512}")
+    private int compressionThreshold;
+
     /**
      * Redis 연결 팩토리 구성
      * 
+     * 비동기 요금조회 경로용 리액티브 연결 팩토리와 구분하기 위해 기본 후보로 지정
+     * 
      * @return Redis 연결 팩토리
      */
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
         log.info("Redis 연결 설정 - 호스트: {}, 포트: {}, DB: {}", redisHost, redisPort, redisDatabase);
 
@@ -81,14 +98,79 @@ public class RedisConfig {
         return factory;
     }
 
+    /**
+     * 리액티브 Redis 연결 팩토리 구성 (Lettuce)
+     *
+     * Jedis는 논블로킹 API를 제공하지 않으므로 비동기 요금조회 경로의 캐시 조회는
+     * 단일 공유 연결을 다중화하는 Lettuce 연결을 별도로 사용합니다.
+     *
+     * @return 리액티브 Redis 연결 팩토리
+     */
+    @Bean
+    public LettuceConnectionFactory reactiveRedisConnectionFactory() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+        config.setHostName(redisHost);
+        config.setPort(redisPort);
+        config.setDatabase(redisDatabase);
+
+        if (redisPassword != null && !redisPassword.trim().isEmpty()) {
+            config.setPassword(redisPassword);
+        }
+
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(redisTimeout))
+                .build();
+
+        log.info("리액티브 Redis 연결 팩토리 구성 완료 - 호스트: {}, 포트: {}, DB: {}", redisHost, redisPort, redisDatabase);
+        return new LettuceConnectionFactory(config, clientConfig);
+    }
+
+    /**
+     * 리액티브 Redis Template 구성
+     *
+     * 동기 RedisTemplate과 같은 키/값 직렬화기를 사용하므로 같은 캐시 항목을 공유합니다.
+     *
+     * @param reactiveRedisConnectionFactory 리액티브 Redis 연결 팩토리
+     * @param redisValueSerializer Redis 값 직렬화기
+     * @return 리액티브 Redis Template
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
+            LettuceConnectionFactory reactiveRedisConnectionFactory, CompactRedisSerializer redisValueSerializer) {
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(new StringRedisSerializer())
+                .value(redisValueSerializer)
+                .hashKey(new StringRedisSerializer())
+                .hashValue(redisValueSerializer)
+                .build();
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
+    }
+
+    /**
+     * Redis 값 직렬화기 구성
+     *
+     * 기존 JSON 값도 읽을 수 있으므로 형식 전환 시 캐시를 비울 필요가 없습니다.
+     *
+     * @return Redis 값 직렬화기
+     */
+    @Bean
+    public CompactRedisSerializer redisValueSerializer() {
+        log.info("Redis 값 직렬화 설정 - 형식: {}, 압축: {}, 압축 기준: {}바이트",
+                serializerFormat, serializerCompression, compressionThreshold);
+        return new CompactRedisSerializer(
+                RedisConfig::configureRedisObjectMapper, serializerFormat, serializerCompression, compressionThreshold);
+    }
+
     /**
      * Redis Template 구성
      * 
      * @param connectionFactory Redis 연결 팩토리
+     * @param redisValueSerializer Redis 값 직렬화기
      * @return Redis Template
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       CompactRedisSerializer redisValueSerializer) {
         log.debug("Redis Template 구성 시작");
 
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -98,13 +180,12 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // Value 직렬화: Redis 전용 ObjectMapper 사용
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper());
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        // Value 직렬화: 버전 헤더 + 바이너리 인코딩 (Redis 전용 ObjectMapper 설정)
+        template.setValueSerializer(redisValueSerializer);
+        template.setHashValueSerializer(redisValueSerializer);
 
         // 기본 직렬화 설정
-        template.setDefaultSerializer(jsonSerializer);
+        template.setDefaultSerializer(redisValueSerializer);
 
         template.afterPropertiesSet();
 
@@ -116,10 +197,12 @@ public class RedisConfig {
      * Cache Manager 구성
      * 
      * @param connectionFactory Redis 연결 팩토리
+     * @param redisValueSerializer Redis 값 직렬화기
      * @return Cache Manager
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CompactRedisSerializer redisValueSerializer) {
         log.debug("Cache Manager 구성 시작");
 
         // 기본 캐시 설정
@@ -128,7 +211,7 @@ public class RedisConfig {
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer(redisObjectMapper())));
+                        .fromSerializer(redisValueSerializer));
                 // null 값 캐싱은 @Cacheable unless 조건으로 처리
 
         // 캐시별 개별 설정
@@ -163,13 +246,11 @@ public class RedisConfig {
     }
 
     /**
-     * Redis 전용 ObjectMapper 구성
+     * Redis 전용 ObjectMapper 설정 (JSON/바이너리 공통)
      * 
-     * @return Redis 직렬화용 ObjectMapper (다형성 타입 정보 포함)
+     * @param mapper Redis 직렬화용 ObjectMapper (다형성 타입 정보 포함)
      */
-    private ObjectMapper redisObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        
+    private static void configureRedisObjectMapper(ObjectMapper mapper) {
         // Java Time 모듈 등록 (LocalDateTime 등 지원)
         mapper.registerModule(new JavaTimeModule());
         
@@ -181,7 +262,6 @@ public class RedisConfig {
         );
         
         log.debug("Redis 전용 ObjectMapper 구성 완료");
-        return mapper;
     }
 
     /**
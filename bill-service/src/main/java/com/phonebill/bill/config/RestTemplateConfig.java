@@ -1,15 +1,39 @@
 package com.phonebill.bill.config;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phonebill.common.traffic.KosTrafficLog;
+import com.phonebill.common.traffic.KosTrafficRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Duration;
 
 /**
@@ -18,7 +42,10 @@ import java.time.Duration;
  * KOS 시스템 및 외부 API 연동을 위한 HTTP 클라이언트 설정
  * - 연결 타임아웃 설정
  * - 읽기 타임아웃 설정
- * - 요청/응답 로깅 인터셉터
+ * - 클라이언트 엔진 선택 (APACHE: 커넥션 풀/라우트별 제한, JDK: HTTP/2)
+ * - 커넥션 풀 메트릭 (점유/대기/가용 커넥션, 요청 소요시간)
+ * - 요청/응답 로깅 인터셉터 (DEBUG 로그 활성 시에만 응답 본문 버퍼링)
+ * - 트래픽 기록 인터셉터 (kos.traffic.record-enabled, kos-mock 재생용 요청/응답/소요시간 기록)
  * - 에러 핸들러 설정
  * 
  * @author 이개발(백엔더)
@@ -31,6 +58,9 @@ import java.time.Duration;
 public class RestTemplateConfig {
 
     private final KosProperties kosProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final ObjectProvider<KosTrafficRecorder> trafficRecorderProvider;
+    private final ObjectMapper objectMapper;
 
     /**
      * KOS 시스템 연동용 RestTemplate 구성
@@ -42,28 +72,44 @@ public class RestTemplateConfig {
     public RestTemplate kosRestTemplate(RestTemplateBuilder restTemplateBuilder) {
         log.info("KOS RestTemplate 구성 시작");
 
+        KosTrafficRecorder trafficRecorder = trafficRecorderProvider.getIfAvailable();
+        if (trafficRecorder != null) {
+            restTemplateBuilder = restTemplateBuilder
+                    .additionalInterceptors(new TrafficRecordingInterceptor(trafficRecorder));
+        }
+
         RestTemplate restTemplate = restTemplateBuilder
-                // 타임아웃 설정
-                .setConnectTimeout(Duration.ofMillis(kosProperties.getConnectTimeout()))
-                .setReadTimeout(Duration.ofMillis(kosProperties.getReadTimeout()))
-                
-                // 요청 팩토리 설정
-                .requestFactory(() -> createRequestFactory())
+                // 요청 팩토리 설정 (타임아웃은 클라이언트 엔진에 직접 설정)
+                .requestFactory(() -> createRequestFactory("kos",
+                        kosProperties.getConnectTimeout(), kosProperties.getReadTimeout()))
                 
                 // 기본 에러 핸들러 설정
                 .errorHandler(new RestTemplateErrorHandler())
                 
                 // 요청/응답 로깅 인터셉터 추가
-                .additionalInterceptors(new RestTemplateLoggingInterceptor())
+                .additionalInterceptors(new RestTemplateLoggingInterceptor("kos"))
                 
                 .build();
 
-        log.info("KOS RestTemplate 구성 완료 - 연결타임아웃: {}ms, 읽기타임아웃: {}ms", 
+        log.info("KOS RestTemplate 구성 완료 - 엔진: {}, 연결타임아웃: {}ms, 읽기타임아웃: {}ms", 
+            kosProperties.getHttpClient().getEngine(),
             kosProperties.getConnectTimeout(), kosProperties.getReadTimeout());
 
         return restTemplate;
     }
 
+    /**
+     * KOS 트래픽 기록기 (기록 사용 시에만 생성)
+     * 
+     * @return 추가 전용 파일 기록기
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "kos.traffic.record-enabled", havingValue = "true")
+    public KosTrafficRecorder kosTrafficRecorder() throws IOException {
+        KosProperties.Traffic traffic = kosProperties.getTraffic();
+        return new KosTrafficRecorder(Path.of(traffic.getRecordPath()), traffic.getRecordMaxBytes());
+    }
+
     /**
      * 일반용 RestTemplate 구성
      * 
@@ -75,12 +121,8 @@ public class RestTemplateConfig {
         log.info("일반 RestTemplate 구성 시작");
 
         RestTemplate restTemplate = restTemplateBuilder
-                // 기본 타임아웃 설정 (더 관대한 설정)
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(30))
-                
-                // 요청 팩토리 설정
-                .requestFactory(() -> createRequestFactory())
+                // 요청 팩토리 설정 (더 관대한 타임아웃)
+                .requestFactory(() -> createRequestFactory("default", 10000, 30000))
                 
                 // 기본 에러 핸들러 설정
                 .errorHandler(new RestTemplateErrorHandler())
@@ -94,28 +136,98 @@ public class RestTemplateConfig {
     /**
      * HTTP 요청 팩토리 생성
      * 
+     * 본문은 스트리밍으로 처리하며, 버퍼링은 로깅 인터셉터가 DEBUG 활성 시에만 수행
+     * 
+     * @param poolName 커넥션 풀 이름 (메트릭 태그)
+     * @param connectTimeoutMs 연결 타임아웃 (밀리초)
+     * @param readTimeoutMs 읽기 타임아웃 (밀리초)
      * @return 클라이언트 HTTP 요청 팩토리
      */
-    private ClientHttpRequestFactory createRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        
-        // 연결 타임아웃 설정
-        factory.setConnectTimeout(kosProperties.getConnectTimeout());
-        
-        // 읽기 타임아웃 설정
-        factory.setReadTimeout(kosProperties.getReadTimeout());
-        
-        // 요청/응답 본문을 여러 번 읽을 수 있도록 버퍼링 활성화
-        return new BufferingClientHttpRequestFactory(factory);
+    private ClientHttpRequestFactory createRequestFactory(String poolName, int connectTimeoutMs, int readTimeoutMs) {
+        KosProperties.HttpClient httpClient = kosProperties.getHttpClient();
+
+        if (httpClient.getEngine() == KosProperties.HttpClient.Engine.JDK) {
+            return createJdkRequestFactory(httpClient, connectTimeoutMs, readTimeoutMs);
+        }
+        return createPooledRequestFactory(poolName, httpClient, connectTimeoutMs, readTimeoutMs);
+    }
+
+    /**
+     * Apache HttpClient 5 기반 커넥션 풀 요청 팩토리 생성
+     */
+    private ClientHttpRequestFactory createPooledRequestFactory(String poolName, KosProperties.HttpClient httpClient,
+                                                               int connectTimeoutMs, int readTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpClient.getMaxConnTotal())
+                .setMaxConnPerRoute(httpClient.getMaxConnPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMilliseconds(httpClient.getConnectionTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(httpClient.getValidateAfterInactivity()))
+                        .build())
+                .build();
+
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(httpClient.getConnectionRequestTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(httpClient.getIdleEvictionTime()))
+                .build();
+
+        // 커넥션 풀 포화도 메트릭 (httpcomponents.httpclient.pool.*)
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry != null) {
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, poolName).bindTo(meterRegistry);
+        }
+
+        log.info("HTTP 커넥션 풀 구성 - 풀: {}, 전체 최대: {}, 라우트별 최대: {}, 획득 대기: {}ms",
+                poolName, httpClient.getMaxConnTotal(), httpClient.getMaxConnPerRoute(),
+                httpClient.getConnectionRequestTimeout());
+
+        return new HttpComponentsClientHttpRequestFactory(client);
+    }
+
+    /**
+     * JDK HttpClient 기반 요청 팩토리 생성 (HTTP/2 지원, 커넥션은 JDK 내부 풀에서 관리)
+     */
+    private ClientHttpRequestFactory createJdkRequestFactory(KosProperties.HttpClient httpClient,
+                                                             int connectTimeoutMs, int readTimeoutMs) {
+        java.net.http.HttpClient client = java.net.http.HttpClient.newBuilder()
+                .version(Boolean.TRUE.equals(httpClient.getHttp2Enabled())
+                        ? java.net.http.HttpClient.Version.HTTP_2
+                        : java.net.http.HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        log.info("JDK HTTP 클라이언트 구성 - HTTP/2: {}", httpClient.getHttp2Enabled());
+        return factory;
     }
 
     /**
      * RestTemplate 로깅 인터셉터
      * 
      * 요청 및 응답 로그를 기록하는 인터셉터
+     * 응답 본문은 DEBUG 로그가 활성화된 경우에만 메모리에 버퍼링하여 재사용
      */
     private class RestTemplateLoggingInterceptor implements 
             org.springframework.http.client.ClientHttpRequestInterceptor {
+
+        private final Timer requestTimer;
+
+        RestTemplateLoggingInterceptor(String clientName) {
+            MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+            this.requestTimer = meterRegistry == null ? null : Timer.builder("kos.http.client.requests")
+                    .description("HTTP 요청 소요시간 (응답 헤더 수신까지)")
+                    .tag("client", clientName)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
         
         @Override
         public org.springframework.http.client.ClientHttpResponse intercept(
@@ -140,18 +252,19 @@ public class RestTemplateConfig {
             
             long endTime = System.currentTimeMillis();
             long duration = endTime - startTime;
+            if (requestTimer != null) {
+                requestTimer.record(Duration.ofMillis(duration));
+            }
             
-            // 응답 로깅
+            // 응답 로깅 (DEBUG 활성 시에만 본문을 버퍼링)
             if (log.isDebugEnabled()) {
                 log.debug("HTTP 응답 - 상태: {}, 소요시간: {}ms, 헤더: {}", 
                     response.getStatusCode(), duration, response.getHeaders());
                 
                 try {
-                    String responseBody = new String(
-                        response.getBody().readAllBytes(), 
-                        java.nio.charset.StandardCharsets.UTF_8
-                    );
-                    log.debug("HTTP 응답 본문: {}", responseBody);
+                    byte[] responseBody = response.getBody().readAllBytes();
+                    log.debug("HTTP 응답 본문: {}", new String(responseBody, java.nio.charset.StandardCharsets.UTF_8));
+                    response = new BufferedClientHttpResponse(response, responseBody);
                 } catch (Exception e) {
                     log.debug("HTTP 응답 본문 읽기 실패: {}", e.getMessage());
                 }
@@ -167,6 +280,101 @@ public class RestTemplateConfig {
         }
     }
 
+    /**
+     * KOS 트래픽 기록 인터셉터
+     * 
+     * KOS API 요청의 엔드포인트/조회 키, 응답 상태/본문, 소요시간을 기록
+     * 응답 본문은 기록을 위해 버퍼링하며, 응답 없이 실패한 호출은 상태 0으로 기록
+     */
+    private class TrafficRecordingInterceptor implements 
+            org.springframework.http.client.ClientHttpRequestInterceptor {
+
+        private final KosTrafficRecorder recorder;
+
+        TrafficRecordingInterceptor(KosTrafficRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(
+                org.springframework.http.HttpRequest request,
+                byte[] body,
+                org.springframework.http.client.ClientHttpRequestExecution execution) throws IOException {
+
+            String path = request.getURI().getPath();
+            String endpoint = KosTrafficLog.endpointOf(path);
+            if (endpoint == null) {
+                return execution.execute(request, body);
+            }
+
+            long startTime = System.nanoTime();
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                record(endpoint, path, body, startTime, KosTrafficLog.NO_RESPONSE, null);
+                throw e;
+            }
+
+            byte[] responseBody = response.getBody().readAllBytes();
+            record(endpoint, path, body, startTime, response.getStatusCode().value(), responseBody);
+            return new BufferedClientHttpResponse(response, responseBody);
+        }
+
+        private void record(String endpoint, String path, byte[] requestBody, long startTime,
+                            int status, byte[] responseBody) {
+            int latencyMs = (int) ((System.nanoTime() - startTime) / 1_000_000);
+            try {
+                JsonNode requestJson = requestBody.length > 0 ? objectMapper.readTree(requestBody) : null;
+                recorder.record(new KosTrafficLog.Entry(System.currentTimeMillis(), latencyMs, status,
+                        endpoint, KosTrafficLog.keyOf(endpoint, path, requestJson), responseBody));
+            } catch (Exception e) {
+                log.debug("KOS 트래픽 기록 생략 - Endpoint: {}, Error: {}", endpoint, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 버퍼링된 응답 래퍼
+     * 
+     * 로깅을 위해 읽은 본문을 이후 메시지 변환기가 다시 읽을 수 있도록 보관
+     */
+    private static class BufferedClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final byte[] body;
+
+        BufferedClientHttpResponse(ClientHttpResponse delegate, byte[] body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
     /**
      * RestTemplate 에러 핸들러
      * 
@@ -2,6 +2,7 @@ package com.phonebill.bill.config;
 
 import com.phonebill.common.security.JwtAuthenticationFilter;
 import com.phonebill.common.security.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -88,6 +89,9 @@ public class SecurityConfig {
                 // OPTIONS 요청은 모두 허용 (CORS Preflight)
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                // 스트리밍/논블로킹 응답 완료 시 비동기 디스패치 (최초 요청에서 이미 인증됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 나머지 모든 요청 인증 필요
                 .anyRequest().authenticated()
             )
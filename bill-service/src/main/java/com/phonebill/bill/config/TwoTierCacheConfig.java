@@ -0,0 +1,79 @@
+package com.phonebill.bill.config;
+
+import com.phonebill.common.cache.CacheInvalidationBus;
+import com.phonebill.common.cache.TwoTierCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시 설정
+ *
+ * 요금 캐시 조회 앞단에 인프로세스 L1 캐시를 두어 Redis 왕복을 줄임
+ * - L1: 최대 건수/TTL 제한 Caffeine 캐시
+ * - L2: 기존 Redis Template
+ * - 노드 간 L1 무효화: Redis Pub/Sub
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Configuration
+public class TwoTierCacheConfig {
+
+    public static final String BILL_CACHE_NAME = "bill";
+
+    @Value("${cache.two-tier.l1-max-size:10000}")
+    private long l1MaxSize;
+
+    @Value("${cache.two-tier.l1-ttl:30s}")
+    private Duration l1Ttl;
+
+    @Value("${cache.two-tier.invalidation-channel:" + CacheInvalidationBus.DEFAULT_CHANNEL + "}")
+    private String invalidationChannel;
+
+    /**
+     * L1 무효화 버스 구성
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(RedisTemplate<String, Object> redisTemplate) {
+        return new CacheInvalidationBus(redisTemplate, invalidationChannel);
+    }
+
+    /**
+     * L1 무효화 메시지 수신 컨테이너 구성
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, cacheInvalidationBus.getTopic());
+        return container;
+    }
+
+    /**
+     * 요금 데이터 2단계 캐시 구성
+     */
+    @Bean
+    public TwoTierCache billTwoTierCache(RedisTemplate<String, Object> redisTemplate,
+                                         CacheInvalidationBus cacheInvalidationBus,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        TwoTierCache cache = new TwoTierCache(
+                BILL_CACHE_NAME, redisTemplate, l1MaxSize, l1Ttl, meterRegistry.getIfAvailable());
+        cacheInvalidationBus.register(cache);
+
+        log.info("2단계 캐시 구성 완료 - 캐시: {}, L1 최대: {}건, L1 TTL: {}초, 채널: {}",
+                BILL_CACHE_NAME, l1MaxSize, l1Ttl.toSeconds(), invalidationChannel);
+        return cache;
+    }
+}
@@ -0,0 +1,74 @@
+package com.phonebill.bill.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * WebClient 설정
+ *
+ * 비동기 요금조회 경로의 KOS 논블로킹 HTTP 클라이언트 구성
+ * - Reactor Netty 이벤트 루프에서 입출력을 처리하므로 응답 대기 중 스레드를 점유하지 않음
+ * - 연결/읽기 타임아웃은 RestTemplate과 같은 KOS 설정 사용
+ * - 연결 풀은 호출 중 요청 수만큼 연결이 필요하므로 별도 한도 적용 (kos.reactive.*)
+ * - 연결 풀 메트릭은 Micrometer 전역 레지스트리로 노출
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class WebClientConfig {
+
+    private final KosProperties kosProperties;
+
+    /**
+     * KOS 시스템 연동용 WebClient 구성
+     *
+     * @param webClientBuilder WebClient 빌더 (Spring Boot 코덱 설정 포함)
+     * @return KOS용 WebClient
+     */
+    @Bean
+    public WebClient kosWebClient(WebClient.Builder webClientBuilder) {
+        KosProperties.Reactive reactive = kosProperties.getReactive();
+        KosProperties.HttpClient httpClient = kosProperties.getHttpClient();
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kos")
+                .maxConnections(reactive.getMaxConnections())
+                .pendingAcquireMaxCount(reactive.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(reactive.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(httpClient.getIdleEvictionTime()))
+                .maxLifeTime(Duration.ofMillis(httpClient.getConnectionTimeToLive()))
+                .evictInBackground(Duration.ofMillis(httpClient.getIdleEvictionTime()))
+                .metrics(true)
+                .build();
+
+        HttpClient nettyClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, kosProperties.getConnectTimeout())
+                .responseTimeout(Duration.ofMillis(kosProperties.getReadTimeout()));
+
+        log.info("KOS WebClient 구성 완료 - 최대 연결: {}, 대기 한도: {}, 연결타임아웃: {}ms, 읽기타임아웃: {}ms",
+                reactive.getMaxConnections(), reactive.getPendingAcquireMaxCount(),
+                kosProperties.getConnectTimeout(), kosProperties.getReadTimeout());
+
+        return webClientBuilder
+                .baseUrl(kosProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(nettyClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader("X-Service-Name", "MVNO-BILL-INQUIRY")
+                .build();
+    }
+}
@@ -1,9 +1,13 @@
 package com.phonebill.bill.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phonebill.bill.config.KosProperties;
 import com.phonebill.bill.dto.*;
 import com.phonebill.kosmock.dto.KosCommonResponse;
 import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import com.phonebill.bill.service.BillBulkInquiryService;
 import com.phonebill.bill.service.BillInquiryService;
+import com.phonebill.bill.service.ReactiveBillInquiryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,16 +19,22 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * 요금조회 관련 REST API 컨트롤러
  * 
  * 통신요금 조회 서비스의 주요 기능을 제공:
  * - UFR-BILL-010: 요금조회 메뉴 접근
- * - UFR-BILL-020: 요금조회 신청 (동기/비동기 처리)
+ * - UFR-BILL-020: 요금조회 신청 (동기/비동기 처리, 다건 스트리밍)
  * - UFR-BILL-030: 요금조회 결과 확인
  * - UFR-BILL-040: 요금조회 이력 관리
  * 
@@ -41,6 +51,10 @@ import org.springframework.web.bind.annotation.*;
 public class BillController {
 
     private final BillInquiryService billInquiryService;
+    private final BillBulkInquiryService billBulkInquiryService;
+    private final ReactiveBillInquiryService reactiveBillInquiryService;
+    private final KosProperties kosProperties;
+    private final ObjectMapper objectMapper;
 
     /**
      * 요금조회 메뉴 조회
@@ -90,6 +104,7 @@ public class BillController {
      * - 시나리오 2: 조회월 선택 (특정월 청구요금 조회)
      * 
      * Cache-Aside 패턴과 Circuit Breaker 패턴 적용
+     * 캐시 미스 시 KOS 응답을 기다리는 동안 요청 스레드를 반환 (논블로킹 처리)
      */
     @PostMapping("/inquiry")
     @Operation(
@@ -117,21 +132,82 @@ public class BillController {
             description = "KOS 시스템 장애 (Circuit Breaker Open)"
         )
     })
-    public ResponseEntity<KosCommonResponse<KosBillInquiryResponse>> inquireBill(
+    public Mono<ResponseEntity<KosCommonResponse<KosBillInquiryResponse>>> inquireBill(
             @Valid @RequestBody BillInquiryRequest request) {
         log.info("요금조회 요청 - 회선번호: {}, 조회월: {}", 
                 request.getLineNumber(), request.getInquiryMonth());
         
-        KosBillInquiryResponse response = billInquiryService.inquireBill(request);
-        
-        log.info("요금조회 완료 - 요청ID: {}, 회선: {}", 
-                response.getRequestId(), request.getLineNumber());
-        
-        return ResponseEntity.ok(
-            KosCommonResponse.success(response, "요금 조회가 완료되었습니다")
+        return reactiveBillInquiryService.inquireBill(request)
+                .map(response -> {
+                    log.info("요금조회 완료 - 요청ID: {}, 회선: {}", 
+                            response.getRequestId(), request.getLineNumber());
+                    
+                    String message = Boolean.TRUE.equals(response.getStale())
+                            ? "최근 조회된 요금 정보를 제공합니다"
+                            : "요금 조회가 완료되었습니다";
+                    return ResponseEntity.ok(KosCommonResponse.success(response, message));
+                });
+    }
+
+    /**
+     * 다건 요금조회 요청
+     *
+     * UFR-BILL-020: 요금조회 신청 (여러 회선/조회월 일괄)
+     * - 캐시 히트 항목을 먼저 전송
+     * - 캐시 미스 항목은 동시 호출 수를 제한하여 KOS 병렬 조회 후 완료 순서대로 전송
+     * - 응답은 NDJSON (한 줄에 항목 결과 하나, index로 요청 위치 대응)
+     */
+    @PostMapping(value = "/inquiry/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "다건 요금조회 요청",
+        description = "여러 회선번호/조회월의 요금 정보를 한 번에 조회합니다. " +
+                     "결과는 완료되는 대로 NDJSON 형식으로 스트리밍됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "다건 요금조회 결과 스트림",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = BillBulkInquiryItemResult.class)
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 요청 데이터 또는 최대 건수 초과"
+        )
+    })
+    public ResponseEntity<ResponseBodyEmitter> inquireBillBulk(
+            @Valid @RequestBody BillBulkInquiryRequest request) {
+        log.info("다건 요금조회 요청 - {}건", request.getItems().size());
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(kosProperties.getBulk().getTimeoutMs());
+        billBulkInquiryService.inquire(
+            request.getItems(),
+            result -> sendLine(emitter, result),
+            emitter::complete
         );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(emitter);
     }
 
+    /**
+     * NDJSON 한 줄 전송 (여러 작업 스레드에서 호출)
+     */
+    private void sendLine(ResponseBodyEmitter emitter, BillBulkInquiryItemResult result) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(result);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            emitter.send(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
     /**
      * 요금조회 이력 조회
@@ -143,7 +219,7 @@ public class BillController {
     @GetMapping("/history")
     @Operation(
         summary = "요금조회 이력 조회",
-        description = "사용자의 요금조회 요청 및 처리 이력을 페이징으로 제공합니다.",
+        description = "사용자의 요금조회 요청 및 처리 이력을 커서 기반 페이징으로 제공합니다.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -174,7 +250,13 @@ public class BillController {
             @RequestParam(defaultValue = "20") Integer size,
             
             @Parameter(description = "처리 상태 필터")
-            @RequestParam(required = false) BillInquiryResponse.ProcessStatus status) {
+            @RequestParam(required = false) BillInquiryResponse.ProcessStatus status,
+            
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 pagination.nextCursor, 지정 시 page 무시)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "전체 건수 포함 여부 (별도 COUNT 수행)")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
         // 회선번호 정규화 (입력된 경우에만)
         String normalizedLineNumber = null;
@@ -191,13 +273,12 @@ public class BillController {
                 normalizedLineNumber, lineNumber, startDate, endDate, page, size);
         
         BillHistoryResponse historyData = billInquiryService.getBillHistory(
-            normalizedLineNumber, startDate, endDate, page, size, status
+            normalizedLineNumber, startDate, endDate, page, size, status, cursor, includeTotal
         );
         
-        log.info("요금조회 이력 조회 완료 - 총 {}건, 페이지: {}/{}",
-                historyData.getPagination().getTotalItems(), 
-                historyData.getPagination().getCurrentPage(),
-                historyData.getPagination().getTotalPages());
+        log.info("요금조회 이력 조회 완료 - 조회 {}건, 다음 페이지: {}",
+                historyData.getItems().size(), 
+                historyData.getPagination().getHasNext());
         
         return ResponseEntity.ok(
             ApiResponse.success(historyData, "요금조회 이력을 조회했습니다")
@@ -0,0 +1,71 @@
+package com.phonebill.bill.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다건 요금조회 항목 결과 DTO
+ *
+ * 다건 요금조회 응답 스트림(NDJSON)의 한 줄에 해당
+ * - 완료 순서대로 전송되므로 요청 목록의 위치(index)로 대응
+ * - 캐시 응답(CACHE), 갱신 중 stale 응답(STALE) 또는 KOS 조회 응답(KOS) 구분
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BillBulkInquiryItemResult {
+
+    /**
+     * 요청 목록 내 위치 (0부터 시작)
+     */
+    private int index;
+
+    /**
+     * 요청 ID (이력 조회용)
+     */
+    private String requestId;
+
+    /**
+     * 회선번호
+     */
+    private String lineNumber;
+
+    /**
+     * 조회월 (YYYYMM)
+     */
+    private String inquiryMonth;
+
+    /**
+     * 응답 출처
+     */
+    private Source source;
+
+    /**
+     * KOS 응답 시간 (ms, 캐시 응답 시 미포함)
+     */
+    private Long responseTimeMs;
+
+    /**
+     * 요금조회 결과
+     */
+    private KosBillInquiryResponse data;
+
+    /**
+     * 응답 출처
+     */
+    public enum Source {
+        CACHE,
+        STALE,
+        KOS
+    }
+}
@@ -0,0 +1,38 @@
+package com.phonebill.bill.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 다건 요금조회 요청 DTO
+ *
+ * 여러 (회선번호, 조회월) 조합을 한 번에 조회할 때 사용
+ * - 각 항목은 단건 요금조회 요청과 동일한 형식/검증 규칙 적용
+ * - 최대 건수는 kos.bulk.max-items 설정으로 제한
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillBulkInquiryRequest {
+
+    /**
+     * 조회 항목 목록 (필수)
+     */
+    @JsonProperty("items")
+    @NotEmpty(message = "조회 항목은 1건 이상이어야 합니다")
+    private List<@Valid BillInquiryRequest> items;
+}
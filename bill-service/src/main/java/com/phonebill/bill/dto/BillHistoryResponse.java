@@ -14,7 +14,7 @@ import java.util.List;
  * 
  * 요금조회 이력 목록을 담는 응답 객체
  * - 이력 항목 리스트
- * - 페이징 정보
+ * - 페이징 정보 (키셋 페이징 커서 포함)
  * 
  * @author 이개발(백엔더)
  * @version 1.0.0
@@ -89,20 +89,21 @@ public class BillHistoryResponse {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PaginationInfo {
         
         /**
-         * 현재 페이지
+         * 현재 페이지 (커서 기반 조회 시 생략)
          */
         private Integer currentPage;
 
         /**
-         * 전체 페이지 수
+         * 전체 페이지 수 (전체 건수 요청 시에만 포함)
          */
         private Integer totalPages;
 
         /**
-         * 전체 항목 수
+         * 전체 항목 수 (전체 건수 요청 시에만 포함)
          */
         private Long totalItems;
 
@@ -120,5 +121,10 @@ public class BillHistoryResponse {
          * 이전 페이지 존재 여부
          */
         private Boolean hasPrevious;
+
+        /**
+         * 다음 페이지 조회용 커서 (불투명 문자열, 마지막 페이지면 생략)
+         */
+        private String nextCursor;
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -45,6 +46,16 @@ public class BillInquiryResponse {
      */
     private BillInfo billInfo;
 
+    /**
+     * 마지막 정상 조회 결과 제공 여부 (KOS 장애 시에만 true로 포함)
+     */
+    private Boolean stale;
+
+    /**
+     * stale 응답의 원 조회 시각
+     */
+    private LocalDateTime dataAsOf;
+
     /**
      * 처리 상태 열거형
      */
@@ -1,10 +1,12 @@
 package com.phonebill.bill.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -14,6 +16,7 @@ import java.util.List;
  * - 고객 정보 (고객ID, 회선번호)
  * - 조회 가능한 월 목록
  * - 기본 선택된 현재 월
+ * - KOS 장애로 마지막 정상 월 목록을 제공한 경우 stale 표시
  * 
  * @author 이개발(백엔더)
  * @version 1.0.0
@@ -40,6 +43,18 @@ public class BillMenuResponse {
      */
     private String currentMonth;
 
+    /**
+     * 조회 가능한 월 목록이 마지막 정상 조회 결과인지 여부 (KOS 장애 시에만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stale;
+
+    /**
+     * stale 월 목록의 원 조회 시각
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime dataAsOf;
+
     /**
      * 고객 정보 내부 클래스
      */
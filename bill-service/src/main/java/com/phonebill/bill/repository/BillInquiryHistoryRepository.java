@@ -4,6 +4,7 @@ import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,24 +18,43 @@ import java.util.Optional;
  * 
  * 요금조회 이력 데이터에 대한 접근을 담당하는 Repository
  * - JPA를 통한 기본 CRUD 작업
- * - 복합 조건 검색을 위한 커스텀 쿼리
+ * - 복합 조건 검색은 {@link BillInquiryHistorySpecifications} 조합으로 처리
  * - 페이징 처리를 통한 대용량 데이터 조회
  * - 성능 최적화를 위한 인덱스 활용 쿼리
+ * - 보관 기간 정리는 행 단위 DELETE 대신 월 파티션 단위로 처리 (BillHistoryPartitionManager)
+ * - 상태별/캐시 히트율/회선별 건수 통계는 이력 스캔 대신 롤업에서 조회 (BillInquiryStatsRollupService)
  * 
  * @author 이개발(백엔더)
  * @version 1.0.0
  * @since 2025-09-08
  */
 @Repository
-public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryHistoryEntity, Long> {
+public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryHistoryEntity, Long>,
+        JpaSpecificationExecutor<BillInquiryHistoryEntity> {
 
     /**
-     * 요청 ID로 이력 조회
+     * 요청 ID로 최신 이력 조회
+     * 
+     * request_id는 UNIQUE 제약이 없으므로(파티션 테이블) 중복 행이 있어도 예외 없이 가장 최근 행을 반환
+     * 
+     * @param requestId 요청 ID
+     * @return 이력 엔티티 (Optional)
+     */
+    Optional<BillInquiryHistoryEntity> findFirstByRequestIdOrderByIdDesc(String requestId);
+
+    /**
+     * 요청 ID와 요청일시 범위로 이력 조회
+     * 
+     * 요청일시 조건으로 해당 월 파티션만 조회 (partition pruning)
      * 
      * @param requestId 요청 ID
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
      * @return 이력 엔티티 (Optional)
      */
-    Optional<BillInquiryHistoryEntity> findByRequestId(String requestId);
+    Optional<BillInquiryHistoryEntity> findFirstByRequestIdAndRequestTimeBetweenOrderByIdDesc(
+            String requestId, LocalDateTime startTime, LocalDateTime endTime
+    );
 
     /**
      * 회선번호로 이력 목록 조회 (최신순)
@@ -82,113 +102,6 @@ public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryH
             LocalDateTime startTime, LocalDateTime endTime, Pageable pageable
     );
 
-    /**
-     * 복합 조건을 통한 이력 조회 (동적 쿼리)
-     * 
-     * @param lineNumbers 사용자 권한이 있는 회선번호 목록
-     * @param lineNumber 특정 회선번호 필터 (선택)
-     * @param startTime 조회 시작 시간 (선택)
-     * @param endTime 조회 종료 시간 (선택)
-     * @param status 처리 상태 필터 (선택)
-     * @param pageable 페이징 정보
-     * @return 이력 페이지
-     */
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbers(
-            @Param("lineNumbers") List<String> lineNumbers,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.lineNumber = :lineNumber " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbersAndLineNumber(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("lineNumber") String lineNumber,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.requestTime >= :startTime " +
-           "AND h.requestTime <= :endTime " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbersAndDateRange(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.status = :status " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbersAndStatus(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("status") String status,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.lineNumber = :lineNumber " +
-           "AND h.requestTime >= :startTime " +
-           "AND h.requestTime <= :endTime " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbersAndLineNumberAndDateRange(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("lineNumber") String lineNumber,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.lineNumber = :lineNumber " +
-           "AND h.status = :status " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbersAndLineNumberAndStatus(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("lineNumber") String lineNumber,
-            @Param("status") String status,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.requestTime >= :startTime " +
-           "AND h.requestTime <= :endTime " +
-           "AND h.status = :status " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryByLineNumbersAndDateRangeAndStatus(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime,
-            @Param("status") String status,
-            Pageable pageable
-    );
-
-    @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.lineNumber = :lineNumber " +
-           "AND h.requestTime >= :startTime " +
-           "AND h.requestTime <= :endTime " +
-           "AND h.status = :status " +
-           "ORDER BY h.requestTime DESC")
-    Page<BillInquiryHistoryEntity> findBillHistoryWithAllFilters(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("lineNumber") String lineNumber,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime,
-            @Param("status") String status,
-            Pageable pageable
-    );
-
     /**
      * 특정 회선의 최근 이력 조회
      * 
@@ -202,24 +115,6 @@ public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryH
             @Param("lineNumber") String lineNumber, Pageable pageable
     );
 
-    /**
-     * 처리 상태별 통계 조회
-     * 
-     * @param lineNumbers 회선번호 목록
-     * @param startTime 조회 시작 시간
-     * @param endTime 조회 종료 시간
-     * @return 상태별 개수 목록
-     */
-    @Query("SELECT h.status, COUNT(h) FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers " +
-           "AND h.requestTime BETWEEN :startTime AND :endTime " +
-           "GROUP BY h.status")
-    List<Object[]> getStatusStatistics(
-            @Param("lineNumbers") List<String> lineNumbers,
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
-    );
-
     /**
      * 처리 시간이 긴 요청 조회 (성능 모니터링용)
      * 
@@ -228,6 +123,9 @@ public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryH
      * @param endTime 조회 종료 시간
      * @param pageable 페이징 정보
      * @return 느린 요청 목록
+     * 
+     * 느린 요청 건수/분포는 {@code BillInquiryStatsRollupService#getLatencyStatistics}를 사용하고,
+     * 개별 요청 확인(드릴다운)에만 좁은 기간으로 사용합니다.
      */
     @Query("SELECT h FROM BillInquiryHistoryEntity h WHERE " +
            "h.kosResponseTimeMs > :thresholdMs " +
@@ -240,21 +138,6 @@ public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryH
             Pageable pageable
     );
 
-    /**
-     * 캐시 히트율 통계 조회
-     * 
-     * @param startTime 조회 시작 시간
-     * @param endTime 조회 종료 시간
-     * @return [총 요청 수, 캐시 히트 수]
-     */
-    @Query("SELECT COUNT(h), SUM(CASE WHEN h.cacheHit = true THEN 1 ELSE 0 END) " +
-           "FROM BillInquiryHistoryEntity h WHERE " +
-           "h.requestTime BETWEEN :startTime AND :endTime")
-    Object[] getCacheHitRateStatistics(
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
-    );
-
     /**
      * 실패한 요청 조회 (디버깅용)
      * 
@@ -297,23 +180,4 @@ public interface BillInquiryHistoryRepository extends JpaRepository<BillInquiryH
      * @return 이력 개수
      */
     long countByLineNumberAndInquiryMonth(String lineNumber, String inquiryMonth);
-
-    /**
-     * 회선번호별 이력 개수 조회
-     * 
-     * @param lineNumbers 회선번호 목록
-     * @return 회선번호별 이력 개수
-     */
-    @Query("SELECT h.lineNumber, COUNT(h) FROM BillInquiryHistoryEntity h WHERE " +
-           "h.lineNumber IN :lineNumbers GROUP BY h.lineNumber")
-    List<Object[]> getHistoryCountByLineNumber(@Param("lineNumbers") List<String> lineNumbers);
-
-    /**
-     * 데이터 정리를 위한 오래된 이력 삭제
-     * 
-     * @param beforeTime 이 시간 이전의 데이터 삭제
-     * @return 삭제된 레코드 수
-     */
-    @Query("DELETE FROM BillInquiryHistoryEntity h WHERE h.requestTime < :beforeTime")
-    int deleteByRequestTimeBefore(@Param("beforeTime") LocalDateTime beforeTime);
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.phonebill.bill.repository;
+
+import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 요금조회 이력 검색 조건 모음
+ *
+ * 필터별 조건을 조합하여 단일 쿼리 경로로 이력을 조회
+ * - 값이 없는 필터는 null을 반환하여 조합 시 무시됨
+ * - 키셋 페이징: (requestTime DESC, id DESC) 기준 커서 이후 행만 조회
+ *
+ * 인덱스: idx_line_request_time_id (line_number, request_time DESC, id DESC)
+ * 회선 조건 + 키셋 조건 + 정렬이 모두 인덱스 범위 스캔으로 처리되어
+ * 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+public final class BillInquiryHistorySpecifications {
+
+    /**
+     * 키셋 페이징 정렬 기준 (최신순, 동일 시각은 ID 역순)
+     */
+    public static final Sort KEYSET_SORT = Sort.by(
+            Sort.Order.desc("requestTime"), Sort.Order.desc("id"));
+
+    private BillInquiryHistorySpecifications() {
+    }
+
+    /**
+     * 사용자 권한이 있는 회선번호 목록
+     */
+    public static Specification<BillInquiryHistoryEntity> lineNumberIn(List<String> lineNumbers) {
+        return (root, query, cb) -> root.get("lineNumber").in(lineNumbers);
+    }
+
+    /**
+     * 특정 회선번호
+     */
+    public static Specification<BillInquiryHistoryEntity> lineNumberEquals(String lineNumber) {
+        if (lineNumber == null || lineNumber.trim().isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("lineNumber"), lineNumber);
+    }
+
+    /**
+     * 요청일시 범위
+     */
+    public static Specification<BillInquiryHistoryEntity> requestTimeBetween(
+            LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null || endTime == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.between(root.get("requestTime"), startTime, endTime);
+    }
+
+    /**
+     * 처리 상태
+     */
+    public static Specification<BillInquiryHistoryEntity> statusEquals(String status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * 키셋 커서 이후 행 (requestTime, id) &lt; (cursorTime, cursorId)
+     *
+     * requestTime &lt;= cursorTime 조건을 함께 두어 인덱스 범위 시작점으로 사용합니다.
+     */
+    public static Specification<BillInquiryHistoryEntity> after(LocalDateTime cursorTime, Long cursorId) {
+        if (cursorTime == null || cursorId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("requestTime"), cursorTime),
+                cb.or(
+                        cb.lessThan(root.get("requestTime"), cursorTime),
+                        cb.lessThan(root.get("id"), cursorId)
+                )
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.phonebill.bill.repository;
+
+import com.phonebill.bill.repository.entity.BillInquiryStatsRollupEntity;
+import com.phonebill.bill.repository.entity.BillInquiryStatsRollupEntity.Granularity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 요금조회 통계 롤업 Repository 인터페이스
+ *
+ * 롤업 테이블 조회 전용 (증분 저장은 BillInquiryStatsRollupService의 UPSERT 사용)
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Repository
+public interface BillInquiryStatsRollupRepository extends JpaRepository<BillInquiryStatsRollupEntity, Long> {
+
+    /**
+     * 구간 범위 내 롤업 행 조회
+     *
+     * @param granularity 집계 구간 단위
+     * @param lineNumber 회선번호 (전체 회선은 "*")
+     * @param startTime 조회 시작 시간 (포함)
+     * @param endTime 조회 종료 시간 (미포함)
+     * @return 롤업 행 목록
+     */
+    List<BillInquiryStatsRollupEntity> findByGranularityAndLineNumberAndBucketStartGreaterThanEqualAndBucketStartLessThan(
+            Granularity granularity, String lineNumber, LocalDateTime startTime, LocalDateTime endTime
+    );
+
+    /**
+     * 회선 목록의 처리 상태별 건수 합계
+     *
+     * @return [완료 건수, 처리 중 건수, 실패 건수]
+     */
+    @Query("SELECT COALESCE(SUM(r.completedCount), 0), COALESCE(SUM(r.processingCount), 0), " +
+           "COALESCE(SUM(r.failedCount), 0) " +
+           "FROM BillInquiryStatsRollupEntity r WHERE " +
+           "r.granularity = :granularity " +
+           "AND r.lineNumber IN :lineNumbers " +
+           "AND r.bucketStart >= :startTime " +
+           "AND r.bucketStart < :endTime")
+    List<Object[]> sumStatusCounts(
+            @Param("granularity") Granularity granularity,
+            @Param("lineNumbers") List<String> lineNumbers,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+
+    /**
+     * 회선별 전체 건수 합계
+     *
+     * @return [회선번호, 건수] 목록
+     */
+    @Query("SELECT r.lineNumber, SUM(r.totalCount) FROM BillInquiryStatsRollupEntity r WHERE " +
+           "r.granularity = :granularity " +
+           "AND r.lineNumber IN :lineNumbers " +
+           "GROUP BY r.lineNumber")
+    List<Object[]> sumTotalCountByLineNumber(
+            @Param("granularity") Granularity granularity,
+            @Param("lineNumbers") List<String> lineNumbers
+    );
+
+    /**
+     * 기간 내 조회 건수 상위 회선 조회
+     *
+     * @param granularity 집계 구간 단위
+     * @param allLines 제외할 전체 회선 집계 행의 회선번호 값
+     * @param startTime 조회 시작 시간 (포함)
+     * @param pageable 조회 건수 제한
+     * @return 조회 건수 내림차순 회선번호 목록
+     */
+    @Query("SELECT r.lineNumber FROM BillInquiryStatsRollupEntity r WHERE " +
+           "r.granularity = :granularity " +
+           "AND r.lineNumber <> :allLines " +
+           "AND r.bucketStart >= :startTime " +
+           "GROUP BY r.lineNumber " +
+           "ORDER BY SUM(r.totalCount) DESC")
+    List<String> findTopLineNumbers(
+            @Param("granularity") Granularity granularity,
+            @Param("allLines") String allLines,
+            @Param("startTime") LocalDateTime startTime,
+            Pageable pageable
+    );
+
+    /**
+     * 보관 기간이 지난 롤업 행 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM BillInquiryStatsRollupEntity r WHERE " +
+           "r.granularity = :granularity AND r.bucketStart < :beforeTime")
+    int deleteExpired(
+            @Param("granularity") Granularity granularity,
+            @Param("beforeTime") LocalDateTime beforeTime
+    );
+}
@@ -17,6 +17,8 @@ import java.time.LocalDateTime;
  * - 처리 상태별 이력 관리
  * - 성능을 위한 인덱스 최적화
  * - 페이징 처리를 위한 정렬 기준 제공
+ * - 시퀀스(pooled) 기반 ID로 JDBC 배치 INSERT 지원
+ * - request_time 기준 월별 파티션 테이블 지원
  * 
  * @author 이개발(백엔더)
  * @version 1.0.0
@@ -27,10 +29,10 @@ import java.time.LocalDateTime;
     name = "bill_inquiry_history",
     indexes = {
         @Index(name = "idx_request_id", columnList = "request_id"),
-        @Index(name = "idx_line_number", columnList = "line_number"),
         @Index(name = "idx_request_time", columnList = "request_time"),
         @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_line_request_time", columnList = "line_number, request_time")
+        // 키셋 페이징 (회선 조건 + requestTime/id 역순 정렬), line_number 단독 조회도 커버
+        @Index(name = "idx_line_request_time_id", columnList = "line_number, request_time DESC, id DESC")
     }
 )
 @Getter
@@ -40,16 +42,31 @@ import java.time.LocalDateTime;
 public class BillInquiryHistoryEntity extends BaseTimeEntity {
 
     /**
-     * 기본 키 (자동 증가)
+     * 시퀀스 ID 할당 크기 (한 번의 시퀀스 조회로 확보하는 ID 수)
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * 기본 키 (시퀀스, pooled 할당)
+     *
+     * IDENTITY는 INSERT마다 생성 키를 받아야 하므로 Hibernate 배치 INSERT가 비활성화됨
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bill_inquiry_history_seq_gen")
+    @SequenceGenerator(
+        name = "bill_inquiry_history_seq_gen",
+        sequenceName = "bill_inquiry_history_seq",
+        allocationSize = ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     /**
      * 요금조회 요청 ID (고유 식별자)
+     *
+     * 월별 파티션 테이블은 파티션 키를 포함하지 않는 UNIQUE 제약을 둘 수 없으므로
+     * 고유성은 요청 ID 생성 규칙(일자 + UUID 16자리)으로 보장하고 일반 인덱스만 둡니다.
      */
-    @Column(name = "request_id", nullable = false, unique = true, length = 50)
+    @Column(name = "request_id", nullable = false, length = 50)
     private String requestId;
 
     /**
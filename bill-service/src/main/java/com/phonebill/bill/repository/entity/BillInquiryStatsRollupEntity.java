@@ -0,0 +1,130 @@
+package com.phonebill.bill.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요금조회 통계 롤업 엔티티
+ *
+ * 이력 저장 시점에 증분 집계한 시간 구간별 통계
+ * - 구간 단위: 분/시/일 (전체 회선), 일 (회선별)
+ * - 처리 상태별 건수, 캐시 히트 건수
+ * - KOS 응답 시간 합계 및 구간별 분포 (히스토그램)
+ *
+ * 통계 조회 시 원본 이력 테이블 대신 이 테이블을 사용합니다.
+ * 행 추가/증분은 BillInquiryStatsRollupService의 UPSERT로만 수행합니다.
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Entity
+@Table(
+    name = "bill_inquiry_stats_rollup",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stats_rollup_bucket",
+                columnNames = {"granularity", "bucket_start", "line_number"})
+    },
+    indexes = {
+        @Index(name = "idx_stats_rollup_line_bucket", columnList = "granularity, line_number, bucket_start")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BillInquiryStatsRollupEntity {
+
+    /**
+     * 전체 회선 집계 행의 회선번호 값
+     */
+    public static final String ALL_LINES = "*";
+
+    /**
+     * 응답 시간 분포 구간 상한 (ms)
+     */
+    public static final long[] LATENCY_BOUNDS_MS = {100, 300, 1000, 3000};
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 집계 구간 단위
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private Granularity granularity;
+
+    /**
+     * 구간 시작 시각
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * 회선번호 (전체 회선 집계는 "*")
+     */
+    @Column(name = "line_number", nullable = false, length = 15)
+    private String lineNumber;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "processing_count", nullable = false)
+    private long processingCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "cache_hit_count", nullable = false)
+    private long cacheHitCount;
+
+    /**
+     * KOS 응답 시간 기록 건수 / 합계 (평균 계산용)
+     */
+    @Column(name = "latency_count", nullable = false)
+    private long latencyCount;
+
+    @Column(name = "latency_sum_ms", nullable = false)
+    private long latencySumMs;
+
+    /**
+     * KOS 응답 시간 분포 (ms): ≤100, ≤300, ≤1000, ≤3000, &gt;3000
+     */
+    @Column(name = "latency_le_100", nullable = false)
+    private long latencyLe100;
+
+    @Column(name = "latency_le_300", nullable = false)
+    private long latencyLe300;
+
+    @Column(name = "latency_le_1000", nullable = false)
+    private long latencyLe1000;
+
+    @Column(name = "latency_le_3000", nullable = false)
+    private long latencyLe3000;
+
+    @Column(name = "latency_gt_3000", nullable = false)
+    private long latencyGt3000;
+
+    /**
+     * 구간별 분포 배열 (LATENCY_BOUNDS_MS 순서, 마지막은 초과 구간)
+     */
+    public long[] getLatencyBuckets() {
+        return new long[]{latencyLe100, latencyLe300, latencyLe1000, latencyLe3000, latencyGt3000};
+    }
+
+    /**
+     * 집계 구간 단위
+     */
+    public enum Granularity {
+        MINUTE,
+        HOUR,
+        DAY
+    }
+}
@@ -0,0 +1,388 @@
+package com.phonebill.bill.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회선별 데이터 보유 월 인덱스
+ *
+ * 요금조회 메뉴의 데이터 보유 월 목록을 KOS 호출 없이 응답하기 위한 회선별 월 비트맵
+ * - 2000-01부터의 경과 월을 비트 위치로 사용 (회선당 수십 바이트)
+ * - Redis 비트맵(bill:months:{회선})이 노드 간 공유 원본이며, 앞단의 인프로세스 캐시에서 디코딩된 목록 제공
+ * - 요금조회 정상 응답마다 해당 월 비트 설정 (SETBIT)
+ * - KOS 월 목록 조회 결과로 비트맵 전체를 교체하고 해당 청구 주기 기준 완전한 목록으로 표시
+ * - 청구 주기(월)가 바뀌면 새 주기 월이 빠져 있을 수 있으므로 완전하지 않은 것으로 보고 KOS 재조회,
+ *   단 새 주기 월의 요금조회 정상 응답(선적재 포함)이 먼저 들어오면 그대로 새 주기 기준 완전한 목록이 됨
+ * - 요금조회 응답만으로 주기를 넘겨 가면 KOS 보관 기간 경과로 삭제된 월이 남으므로,
+ *   마지막 KOS 조회 후 재확인 주기 수가 지나면 완전하지 않은 것으로 보고 KOS 재조회
+ * - Redis 주기 값 형식: "확인 주기,KOS 조회 주기" (이전 형식인 단일 값은 두 주기가 같은 것으로 해석)
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Component
+public class AvailableMonthsIndex {
+
+    private static final String METRIC_PREFIX = "bill.months.index";
+    private static final String BITMAP_KEY_PREFIX = "bill:months:";
+    private static final String CYCLE_KEY_PREFIX = "bill:months:cycle:";
+    private static final int EPOCH_YEAR = 2000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final int resyncCycles;
+    private final Cache<String, MonthIndex> localIndex;
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong marks = new AtomicLong();
+
+    public AvailableMonthsIndex(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${cache.months-index.enabled:true}") boolean enabled,
+            @Value("${cache.months-index.local-max-size:100000}") long localMaxSize,
+            @Value("${cache.months-index.local-ttl:10m}") Duration localTtl,
+            @Value("${cache.months-index.redis-ttl:90d}") Duration redisTtl,
+            @Value("${cache.months-index.resync-cycles:3}") int resyncCycles) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.redisTtl = redisTtl;
+        this.resyncCycles = Math.max(1, resyncCycles);
+        this.localIndex = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            registerMetrics(registry);
+        }
+        log.info("데이터 보유 월 인덱스 구성 - 사용: {}, 로컬 최대: {}건, 로컬 TTL: {}, Redis TTL: {}, KOS 재확인: {}개월",
+                enabled, localMaxSize, localTtl, redisTtl, this.resyncCycles);
+    }
+
+    /**
+     * 현재 청구 주기 기준 완전한 데이터 보유 월 목록 조회
+     *
+     * @param lineNumber 회선번호
+     * @return 데이터 보유 월 목록 (yyyy-MM, 최신 월부터),
+     *         인덱스가 없거나 현재 주기 기준 완전하지 않거나 KOS 재확인 시점이 지났으면 null
+     */
+    public List<String> getAvailableMonths(String lineNumber) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            MonthIndex index = load(normalize(lineNumber));
+            int cycle = currentCycle();
+            if (index == null || index.verifiedCycle() < cycle || cycle - index.syncedCycle() >= resyncCycles) {
+                misses.incrementAndGet();
+                return null;
+            }
+            return index.months();
+        } catch (Exception e) {
+            log.warn("데이터 보유 월 인덱스 조회 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * 요금조회 정상 응답 반영 (해당 월 데이터 보유 표시)
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     */
+    public void markMonth(String lineNumber, String inquiryMonth) {
+        if (!enabled) {
+            return;
+        }
+        int ordinal = toOrdinal(inquiryMonth);
+        if (ordinal < 0) {
+            return;
+        }
+        String line = normalize(lineNumber);
+        try {
+            MonthIndex index = load(line);
+            if (index != null && index.contains(ordinal)) {
+                return;
+            }
+
+            // 직전 주기까지 완전한 목록에 새 주기 월이 더해지면 새 주기 기준으로도 완전함
+            int cycle = currentCycle();
+            boolean advancesCycle = index != null && ordinal == cycle && index.verifiedCycle() == cycle - 1;
+            int verifiedCycle = advancesCycle ? cycle : (index != null ? index.verifiedCycle() : -1);
+            int syncedCycle = index != null ? index.syncedCycle() : -1;
+
+            byte[] bitmapKey = bytes(BITMAP_KEY_PREFIX + line);
+            byte[] cycleKey = bytes(CYCLE_KEY_PREFIX + line);
+            long ttlSeconds = redisTtl.toSeconds();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().setBit(bitmapKey, ordinal, true);
+                connection.keyCommands().expire(bitmapKey, ttlSeconds);
+                if (advancesCycle) {
+                    connection.stringCommands().set(cycleKey, bytes(cycleValue(cycle, syncedCycle)),
+                            Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+
+            localIndex.put(line, (index != null ? index : MonthIndex.EMPTY).with(ordinal, verifiedCycle, syncedCycle));
+            marks.incrementAndGet();
+        } catch (Exception e) {
+            // 인덱스 반영 실패 시 메뉴 조회가 KOS로 대체될 뿐이므로 요금조회는 계속 진행
+            log.warn("데이터 보유 월 인덱스 반영 오류 - 회선: {}, 조회월: {}, 오류: {}",
+                    lineNumber, inquiryMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * KOS 월 목록 조회 결과로 인덱스 교체 (현재 청구 주기 기준 완전한 목록, KOS 조회 주기 갱신)
+     *
+     * @param lineNumber 회선번호
+     * @param availableMonths 데이터 보유 월 목록 (yyyy-MM 또는 yyyyMM)
+     */
+    public void replace(String lineNumber, Collection<String> availableMonths) {
+        if (!enabled || availableMonths == null) {
+            return;
+        }
+        String line = normalize(lineNumber);
+        int cycle = currentCycle();
+        MonthIndex index = MonthIndex.of(availableMonths.stream()
+                .mapToInt(AvailableMonthsIndex::toOrdinal)
+                .filter(ordinal -> ordinal >= 0)
+                .toArray(), cycle, cycle);
+
+        try {
+            byte[] bitmapKey = bytes(BITMAP_KEY_PREFIX + line);
+            byte[] cycleKey = bytes(CYCLE_KEY_PREFIX + line);
+            Expiration expiration = Expiration.seconds(redisTtl.toSeconds());
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().set(bitmapKey, index.toRedisBitmap(),
+                        expiration, RedisStringCommands.SetOption.upsert());
+                connection.stringCommands().set(cycleKey, bytes(cycleValue(cycle, cycle)),
+                        expiration, RedisStringCommands.SetOption.upsert());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("데이터 보유 월 인덱스 저장 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
+        }
+        localIndex.put(line, index);
+    }
+
+    /**
+     * 인프로세스 인덱스 적재 건수 (근사값)
+     */
+    public long getLocalSize() {
+        return localIndex.estimatedSize();
+    }
+
+    /**
+     * 인프로세스 인덱스 → Redis 순 조회 (Redis 조회 결과는 인프로세스에 적재)
+     */
+    private MonthIndex load(String line) {
+        MonthIndex index = localIndex.getIfPresent(line);
+        if (index != null) {
+            localHits.incrementAndGet();
+            return index;
+        }
+
+        byte[] bitmapKey = bytes(BITMAP_KEY_PREFIX + line);
+        byte[] cycleKey = bytes(CYCLE_KEY_PREFIX + line);
+        List<byte[]> values = stringRedisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(bitmapKey, cycleKey));
+        if (values == null || values.isEmpty() || values.get(0) == null) {
+            return null;
+        }
+        redisHits.incrementAndGet();
+
+        byte[] cycleValue = values.size() > 1 ? values.get(1) : null;
+        int[] cycles = parseCycles(cycleValue != null ? new String(cycleValue, StandardCharsets.UTF_8) : null);
+        index = MonthIndex.fromRedisBitmap(values.get(0), cycles[0], cycles[1]);
+        localIndex.put(line, index);
+        return index;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".lookups", localHits, AtomicLong::get)
+                .tag("result", "local")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".lookups", redisHits, AtomicLong::get)
+                .tag("result", "redis")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", misses, AtomicLong::get)
+                .description("Menu lookups that fell back to KOS")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".marks", marks, AtomicLong::get)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".local.size", localIndex, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    private static int currentCycle() {
+        YearMonth now = YearMonth.now();
+        return (now.getYear() - EPOCH_YEAR) * 12 + now.getMonthValue() - 1;
+    }
+
+    static String cycleValue(int verifiedCycle, int syncedCycle) {
+        return verifiedCycle + "," + syncedCycle;
+    }
+
+    /**
+     * Redis 주기 값 해석 ([확인 주기, KOS 조회 주기], 없으면 미확인)
+     */
+    static int[] parseCycles(String value) {
+        if (value == null) {
+            return new int[]{-1, -1};
+        }
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            int cycle = Integer.parseInt(value);
+            return new int[]{cycle, cycle};
+        }
+        return new int[]{Integer.parseInt(value.substring(0, comma)), Integer.parseInt(value.substring(comma + 1))};
+    }
+
+    /**
+     * 월 문자열(yyyyMM 또는 yyyy-MM)을 2000-01부터의 경과 월로 변환 (형식 오류 시 -1)
+     */
+    static int toOrdinal(String month) {
+        if (month == null) {
+            return -1;
+        }
+        String digits = month.replace("-", "");
+        if (digits.length() != 6) {
+            return -1;
+        }
+        try {
+            int year = Integer.parseInt(digits.substring(0, 4));
+            int monthValue = Integer.parseInt(digits.substring(4, 6));
+            if (year < EPOCH_YEAR || monthValue < 1 || monthValue > 12) {
+                return -1;
+            }
+            return (year - EPOCH_YEAR) * 12 + monthValue - 1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String toMonth(int ordinal) {
+        return String.format("%04d-%02d", EPOCH_YEAR + ordinal / 12, ordinal % 12 + 1);
+    }
+
+    private static String normalize(String lineNumber) {
+        return lineNumber == null ? "" : lineNumber.replace("-", "");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 회선별 월 비트맵 (불변, 메뉴 응답용 월 목록을 미리 디코딩)
+     *
+     * @param words 경과 월 비트맵
+     * @param verifiedCycle 완전한 목록으로 확인된 청구 주기 (경과 월, 미확인 시 -1)
+     * @param syncedCycle 마지막으로 KOS 월 목록으로 교체한 청구 주기 (경과 월, 없으면 -1)
+     * @param months 데이터 보유 월 목록 (yyyy-MM, 최신 월부터)
+     */
+    private record MonthIndex(long[] words, int verifiedCycle, int syncedCycle, List<String> months) {
+
+        static final MonthIndex EMPTY = new MonthIndex(new long[0], -1, -1, List.of());
+
+        static MonthIndex of(int[] ordinals, int verifiedCycle, int syncedCycle) {
+            int max = -1;
+            for (int ordinal : ordinals) {
+                max = Math.max(max, ordinal);
+            }
+            long[] words = new long[max / 64 + 1];
+            for (int ordinal : ordinals) {
+                words[ordinal >>> 6] |= 1L << (ordinal & 63);
+            }
+            return new MonthIndex(words, verifiedCycle, syncedCycle, decode(words));
+        }
+
+        /**
+         * Redis 비트맵 변환 (Redis 비트 순서: 바이트 내 최상위 비트가 낮은 위치)
+         */
+        static MonthIndex fromRedisBitmap(byte[] bitmap, int verifiedCycle, int syncedCycle) {
+            long[] words = new long[(bitmap.length * 8 + 63) / 64];
+            for (int i = 0; i < bitmap.length; i++) {
+                int b = bitmap[i] & 0xFF;
+                for (int bit = 0; bit < 8 && b != 0; bit++) {
+                    if ((b & (0x80 >>> bit)) != 0) {
+                        int ordinal = i * 8 + bit;
+                        words[ordinal >>> 6] |= 1L << (ordinal & 63);
+                    }
+                }
+            }
+            return new MonthIndex(words, verifiedCycle, syncedCycle, decode(words));
+        }
+
+        byte[] toRedisBitmap() {
+            int maxOrdinal = -1;
+            for (int w = words.length - 1; w >= 0 && maxOrdinal < 0; w--) {
+                if (words[w] != 0) {
+                    maxOrdinal = w * 64 + 63 - Long.numberOfLeadingZeros(words[w]);
+                }
+            }
+            byte[] bitmap = new byte[maxOrdinal / 8 + 1];
+            for (int ordinal = 0; ordinal <= maxOrdinal; ordinal++) {
+                if (contains(ordinal)) {
+                    bitmap[ordinal >>> 3] |= (byte) (0x80 >>> (ordinal & 7));
+                }
+            }
+            return bitmap;
+        }
+
+        boolean contains(int ordinal) {
+            int word = ordinal >>> 6;
+            return word < words.length && (words[word] & (1L << (ordinal & 63))) != 0;
+        }
+
+        MonthIndex with(int ordinal, int verifiedCycle, int syncedCycle) {
+            long[] copy = Arrays.copyOf(words, Math.max(words.length, (ordinal >>> 6) + 1));
+            copy[ordinal >>> 6] |= 1L << (ordinal & 63);
+            return new MonthIndex(copy, verifiedCycle, syncedCycle, decode(copy));
+        }
+
+        private static List<String> decode(long[] words) {
+            List<String> months = new ArrayList<>();
+            for (int w = words.length - 1; w >= 0; w--) {
+                long word = words[w];
+                while (word != 0) {
+                    int bit = 63 - Long.numberOfLeadingZeros(word);
+                    months.add(toMonth(w * 64 + bit));
+                    word &= ~(1L << bit);
+                }
+            }
+            return Collections.unmodifiableList(months);
+        }
+    }
+}
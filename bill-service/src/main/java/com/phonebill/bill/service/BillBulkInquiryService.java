@@ -0,0 +1,201 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.config.KosProperties;
+import com.phonebill.bill.dto.BillBulkInquiryItemResult;
+import com.phonebill.bill.dto.BillInquiryRequest;
+import com.phonebill.bill.exception.BillInquiryException;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 다건 요금조회 서비스
+ *
+ * 여러 (회선번호, 조회월) 조합을 한 번에 조회
+ * - 캐시 히트 항목(만료 직후 stale 값 포함)은 즉시 결과 전달
+ * - 캐시 미스 항목은 요청당 동시 호출 수를 제한하여 KOS 병렬 조회
+ *   (요청 병합기 → KosClientService → Circuit Breaker 경로를 그대로 사용)
+ * - 결과는 완료 순서대로 전달하며, 작업 스레드는 서로를 기다리지 않음
+ * - 전체 완료 후 이력을 한 번에 적재
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BillBulkInquiryService {
+
+    private final BillCacheService billCacheService;
+    private final KosInquiryCoalescer kosInquiryCoalescer;
+    private final BillHistoryService billHistoryService;
+    private final BillCacheWarmer billCacheWarmer;
+    private final KosProperties kosProperties;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    /**
+     * 다건 요금조회
+     *
+     * 캐시 히트 항목은 호출 스레드에서 바로 전달하고, 캐시 미스 항목은
+     * 작업 스레드에서 조회하여 완료되는 대로 전달합니다.
+     * 전달 함수는 여러 스레드에서 호출될 수 있으므로 스레드 안전해야 합니다.
+     *
+     * @param items 조회 항목 목록
+     * @param sink 항목별 결과 전달 함수
+     * @param onComplete 모든 항목 전달 완료 시 호출
+     */
+    public void inquire(List<BillInquiryRequest> items, Consumer<BillBulkInquiryItemResult> sink,
+                        Runnable onComplete) {
+        KosProperties.Bulk bulk = kosProperties.getBulk();
+        if (items.size() > bulk.getMaxItems()) {
+            throw new BillInquiryException("BULK_LIMIT_EXCEEDED",
+                    "다건 요금조회 최대 건수를 초과했습니다",
+                    "요청: " + items.size() + "건, 최대: " + bulk.getMaxItems() + "건");
+        }
+
+        String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+        Queue<BillHistoryService.InquiryRecord> records = new ConcurrentLinkedQueue<>();
+        List<PendingItem> misses = new ArrayList<>();
+
+        // 캐시 우선 조회
+        for (int i = 0; i < items.size(); i++) {
+            BillInquiryRequest item = items.get(i);
+            String inquiryMonth = item.getInquiryMonth();
+            if (inquiryMonth == null || inquiryMonth.trim().isEmpty()) {
+                inquiryMonth = currentMonth;
+            }
+            PendingItem pending = new PendingItem(i, BillInquiryServiceImpl.generateRequestId(),
+                    item.getLineNumber(), inquiryMonth);
+
+            KosBillInquiryResponse cached = getCached(pending);
+            if (cached != null) {
+                billCacheWarmer.onCacheHit(pending.lineNumber(), pending.inquiryMonth(), cached);
+            } else {
+                cached = billCacheWarmer.serveStaleWhileRevalidate(pending.lineNumber(), pending.inquiryMonth());
+            }
+            if (cached == null) {
+                misses.add(pending);
+                continue;
+            }
+            records.add(new BillHistoryService.InquiryRecord(
+                    pending.requestId(), pending.lineNumber(), pending.inquiryMonth(), cached, true, null));
+            deliver(sink, pending, Boolean.TRUE.equals(cached.getStale())
+                    ? BillBulkInquiryItemResult.Source.STALE : BillBulkInquiryItemResult.Source.CACHE, cached, null);
+        }
+
+        log.info("다건 요금조회 - 전체: {}건, 캐시 히트: {}건, KOS 조회: {}건",
+                items.size(), items.size() - misses.size(), misses.size());
+
+        if (misses.isEmpty()) {
+            complete(records, onComplete);
+            return;
+        }
+
+        // 캐시 미스 병렬 조회: 동시 호출 수만큼의 작업자가 남은 항목을 순서대로 가져가 처리
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remainingWorkers = new AtomicInteger(Math.min(bulk.getMaxConcurrency(), misses.size()));
+        Runnable worker = () -> {
+            try {
+                int index;
+                while ((index = next.getAndIncrement()) < misses.size()) {
+                    inquireKos(misses.get(index), sink, records);
+                }
+            } finally {
+                if (remainingWorkers.decrementAndGet() == 0) {
+                    complete(records, onComplete);
+                }
+            }
+        };
+
+        int workers = remainingWorkers.get();
+        for (int i = 0; i < workers; i++) {
+            try {
+                applicationTaskExecutor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // 실행기 포화 시 호출 스레드에서 처리 (남은 항목은 실행 중인 작업자가 이어서 처리)
+                log.warn("다건 요금조회 작업 등록 거부, 호출 스레드에서 처리 - 작업자: {}/{}", i + 1, workers);
+                worker.run();
+            }
+        }
+    }
+
+    private KosBillInquiryResponse getCached(PendingItem pending) {
+        try {
+            return billCacheService.getCachedKosBillData(pending.lineNumber(), pending.inquiryMonth());
+        } catch (Exception e) {
+            log.warn("다건 요금조회 캐시 조회 실패, KOS 조회로 전환 - 회선: {}, 조회월: {}, 오류: {}",
+                    pending.lineNumber(), pending.inquiryMonth(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void inquireKos(PendingItem pending, Consumer<BillBulkInquiryItemResult> sink,
+                            Queue<BillHistoryService.InquiryRecord> records) {
+        long startTime = System.currentTimeMillis();
+        KosBillInquiryResponse response;
+        try {
+            // 요청 병합 및 캐시 저장 포함
+            response = kosInquiryCoalescer.inquire(pending.lineNumber(), pending.inquiryMonth());
+        } catch (Exception e) {
+            log.error("다건 요금조회 KOS 조회 실패 - 회선: {}, 조회월: {}, 오류: {}",
+                    pending.lineNumber(), pending.inquiryMonth(), e.getMessage());
+            response = KosBillInquiryResponse.builder()
+                    .requestId(pending.requestId())
+                    .procStatus("FAILED")
+                    .resultCode("9999")
+                    .resultMessage("요금 조회 중 오류가 발생했습니다")
+                    .build();
+        }
+        long kosResponseTimeMs = System.currentTimeMillis() - startTime;
+
+        records.add(new BillHistoryService.InquiryRecord(
+                pending.requestId(), pending.lineNumber(), pending.inquiryMonth(), response, false, kosResponseTimeMs));
+        deliver(sink, pending, BillBulkInquiryItemResult.Source.KOS, response, kosResponseTimeMs);
+    }
+
+    private void deliver(Consumer<BillBulkInquiryItemResult> sink, PendingItem pending,
+                         BillBulkInquiryItemResult.Source source, KosBillInquiryResponse response,
+                         Long responseTimeMs) {
+        try {
+            sink.accept(BillBulkInquiryItemResult.builder()
+                    .index(pending.index())
+                    .requestId(pending.requestId())
+                    .lineNumber(pending.lineNumber())
+                    .inquiryMonth(pending.inquiryMonth())
+                    .source(source)
+                    .responseTimeMs(responseTimeMs)
+                    .data(response)
+                    .build());
+        } catch (Exception e) {
+            // 클라이언트 연결 종료 등으로 전달 실패해도 나머지 조회와 이력 저장은 계속
+            log.debug("다건 요금조회 결과 전달 실패 - 위치: {}, 오류: {}", pending.index(), e.getMessage());
+        }
+    }
+
+    private void complete(Queue<BillHistoryService.InquiryRecord> records, Runnable onComplete) {
+        try {
+            billHistoryService.saveInquiryHistoryBatchAsync(new ArrayList<>(records));
+        } finally {
+            onComplete.run();
+        }
+    }
+
+    /**
+     * 조회 대상 항목
+     */
+    private record PendingItem(int index, String requestId, String lineNumber, String inquiryMonth) {
+    }
+}
@@ -1,27 +1,50 @@
 package com.phonebill.bill.service;
 
 import com.phonebill.bill.dto.BillInquiryResponse;
+import com.phonebill.common.cache.RedisKeyScanner;
+import com.phonebill.common.cache.TwoTierCache;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 요금조회 캐시 서비스
  * 
  * Redis를 활용한 요금 정보 캐싱으로 성능 최적화 구현
  * Cache-Aside 패턴을 적용하여 데이터 일관성과 성능을 균형있게 관리
+ * 인프로세스 L1 캐시(TwoTierCache)를 Redis 앞단에 두어 반복 조회 시 Redis 왕복 제거
+ * 회선별/월별 인덱스(만료 시각 Sorted Set)를 함께 관리하여 KEYS 없이 영향받는 키만 무효화
+ * KOS 장애 시 제공할 마지막 정상 값을 더 긴 TTL의 stale 계층(Redis 전용)에 함께 보관
+ * 비동기 요금조회 경로는 같은 키를 리액티브 Redis 연결로 조회 (L1 히트 시 Redis 왕복 없음)
  * 
  * 캐시 전략:
  * - 요금 정보: 1시간 TTL (외부 시스템 연동 부하 감소)
+ * - KOS 요금조회 응답: 당월 10분, 납부 확정된 지난 달 7일
  * - 고객 정보: 4시간 TTL (변경 빈도가 낮음)
  * - 조회 가능 월: 24시간 TTL (일별 업데이트)
+ * - stale 계층: 30일 TTL (KOS 장애 시 fallback 및 갱신 중 응답용)
  * 
  * @author 이개발(백엔더)
  * @version 1.0.0
@@ -34,16 +57,42 @@ public class BillCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final TwoTierCache billTwoTierCache;
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final AvailableMonthsIndex availableMonthsIndex;
 
     // 캐시 TTL 상수
     private static final Duration BILL_DATA_TTL = Duration.ofHours(1);
     private static final Duration CUSTOMER_INFO_TTL = Duration.ofHours(4);
     private static final Duration AVAILABLE_MONTHS_TTL = Duration.ofHours(24);
+    private static final Duration CURRENT_MONTH_BILL_TTL = Duration.ofMinutes(10);
+    private static final Duration SETTLED_BILL_TTL = Duration.ofDays(7);
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
 
     // 캐시 키 접두사
     private static final String BILL_DATA_PREFIX = "bill:data:";
+    private static final String KOS_BILL_DATA_PREFIX = "bill:kos:";
     private static final String CUSTOMER_INFO_PREFIX = "bill:customer:";
     private static final String AVAILABLE_MONTHS_PREFIX = "bill:months:";
+    private static final String STALE_PREFIX = "bill:stale:";
+    private static final String STALE_KOS_BILL_DATA_PREFIX = STALE_PREFIX + "kos:";
+    private static final String STALE_AVAILABLE_MONTHS_PREFIX = STALE_PREFIX + "months:";
+
+    // 무효화용 인덱스 Sorted Set 접두사 (멤버: 요금 데이터 캐시 키, score: 만료 시각)
+    private static final String LINE_INDEX_PREFIX = "bill:zidx:line:";
+    private static final String MONTH_INDEX_PREFIX = "bill:zidx:month:";
+    // 이전 형식(Set) 인덱스 접두사 (전체 무효화 시 함께 정리, 그 외에는 TTL로 소멸)
+    private static final String LEGACY_INDEX_PREFIX = "bill:idx:";
+
+    // 리액티브 L2 조회에서 미스를 히트/미스 집계에 전달하기 위한 표식
+    private static final Object MISSING = new Object();
+
+    @Value("${cache.stale.enabled:true}")
+    private boolean staleEnabled;
+
+    @Value("${cache.stale.ttl:30d}")
+    private Duration staleTtl;
 
     /**
      * 캐시에서 요금 데이터 조회
@@ -55,17 +104,16 @@ public class BillCacheService {
      * @param inquiryMonth 조회월
      * @return 캐시된 요금 데이터 (없으면 null)
      */
-    @Cacheable(value = "billData", key = "#lineNumber + ':' + #inquiryMonth", unless = "#result == null")
     public BillInquiryResponse getCachedBillData(String lineNumber, String inquiryMonth) {
         log.debug("요금 데이터 캐시 조회 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
 
         String cacheKey = BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
         
         try {
-            Object cachedData = redisTemplate.opsForValue().get(cacheKey);
+            BillInquiryResponse response = billTwoTierCache.get(cacheKey,
+                    cachedData -> objectMapper.convertValue(cachedData, BillInquiryResponse.class));
             
-            if (cachedData != null) {
-                BillInquiryResponse response = objectMapper.convertValue(cachedData, BillInquiryResponse.class);
+            if (response != null) {
                 log.info("요금 데이터 캐시 히트 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
                 return response;
             }
@@ -99,7 +147,8 @@ public class BillCacheService {
         String cacheKey = BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
         
         try {
-            redisTemplate.opsForValue().set(cacheKey, billData, BILL_DATA_TTL);
+            billTwoTierCache.put(cacheKey, billData, BILL_DATA_TTL);
+            indexBillDataKey(lineNumber, inquiryMonth, cacheKey, BILL_DATA_TTL);
             log.info("요금 데이터 캐시 저장 완료 - 회선: {}, 조회월: {}, TTL: {}시간", 
                     lineNumber, inquiryMonth, BILL_DATA_TTL.toHours());
         } catch (Exception e) {
@@ -108,9 +157,214 @@ public class BillCacheService {
         }
     }
 
+    /**
+     * 캐시에서 KOS 요금조회 응답 조회 (Read-Through)
+     *
+     * 캐시 키: bill:kos:{lineNumber}:{inquiryMonth}
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @return 캐시된 KOS 요금조회 응답 (없으면 null)
+     */
+    public KosBillInquiryResponse getCachedKosBillData(String lineNumber, String inquiryMonth) {
+        String cacheKey = KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+
+        try {
+            KosBillInquiryResponse response = billTwoTierCache.get(cacheKey,
+                    cachedData -> objectMapper.convertValue(cachedData, KosBillInquiryResponse.class));
+
+            if (response != null) {
+                log.info("KOS 요금 데이터 캐시 히트 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+                return response;
+            }
+
+            log.debug("KOS 요금 데이터 캐시 미스 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+            return null;
+
+        } catch (Exception e) {
+            log.error("KOS 요금 데이터 캐시 조회 오류 - 회선: {}, 조회월: {}, 오류: {}",
+                    lineNumber, inquiryMonth, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 캐시에서 KOS 요금조회 응답 논블로킹 조회 (비동기 요금조회 경로)
+     *
+     * L1 히트 시 즉시 반환하고, 미스이면 리액티브 Redis 연결로 L2를 조회합니다.
+     * 조회 오류는 캐시 미스로 처리합니다.
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @return 캐시된 KOS 요금조회 응답 (없으면 빈 Mono)
+     */
+    public Mono<KosBillInquiryResponse> getCachedKosBillDataReactive(String lineNumber, String inquiryMonth) {
+        String cacheKey = KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+
+        KosBillInquiryResponse l1Hit = billTwoTierCache.getL1(cacheKey,
+                cachedData -> objectMapper.convertValue(cachedData, KosBillInquiryResponse.class));
+        if (l1Hit != null) {
+            log.info("KOS 요금 데이터 캐시 히트 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+            return Mono.just(l1Hit);
+        }
+
+        // 값과 남은 TTL을 함께 조회 (L1 적재 TTL이 남은 L2 TTL을 넘지 않도록, PTTL 규약으로 전달)
+        Mono<Long> remainingTtlMs = reactiveRedisTemplate.getExpire(cacheKey)
+                .map(ttl -> ttl.isZero() ? -1L : ttl.toMillis())
+                .defaultIfEmpty(-2L);
+        return Mono.zip(reactiveRedisTemplate.opsForValue().get(cacheKey).defaultIfEmpty(MISSING), remainingTtlMs)
+                .mapNotNull(result -> billTwoTierCache.onL2Result(cacheKey,
+                        result.getT1() == MISSING ? null : result.getT1(), result.getT2(),
+                        cachedData -> objectMapper.convertValue(cachedData, KosBillInquiryResponse.class)))
+                .doOnNext(response -> log.info("KOS 요금 데이터 캐시 히트 - 회선: {}, 조회월: {}",
+                        lineNumber, inquiryMonth))
+                .onErrorResume(e -> {
+                    log.error("KOS 요금 데이터 캐시 조회 오류 - 회선: {}, 조회월: {}, 오류: {}",
+                            lineNumber, inquiryMonth, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * KOS 요금조회 응답을 캐시에 비동기 저장 (Write-Behind)
+     *
+     * 정상 처리된 응답만 캐싱하며, 조회월에 따라 TTL을 달리 적용
+     * - 당월(미확정): 10분
+     * - 지난 달 + 납부 확정: 7일
+     * - 지난 달 + 미납/미확정: 1시간
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param billData KOS 요금조회 응답
+     */
+    @Async
+    public void cacheKosBillDataAsync(String lineNumber, String inquiryMonth, KosBillInquiryResponse billData) {
+        cacheKosBillData(lineNumber, inquiryMonth, billData);
+    }
+
+    /**
+     * KOS 요금조회 응답을 캐시에 동기 저장
+     *
+     * 다른 노드가 저장 완료 직후 캐시를 읽어야 하는 경우(분산 락 보유 중) 사용
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param billData KOS 요금조회 응답
+     */
+    public void cacheKosBillData(String lineNumber, String inquiryMonth, KosBillInquiryResponse billData) {
+        if (!isCacheableKosResponse(billData)) {
+            log.debug("캐시 대상이 아닌 KOS 응답 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+            return;
+        }
+
+        String cacheKey = KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+        Duration ttl = resolveKosBillDataTtl(inquiryMonth, billData);
+
+        try {
+            billTwoTierCache.put(cacheKey, billData, ttl);
+            indexBillDataKey(lineNumber, inquiryMonth, cacheKey, ttl);
+            availableMonthsIndex.markMonth(lineNumber, inquiryMonth);
+            if (staleEnabled) {
+                String staleKey = STALE_KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+                redisTemplate.opsForValue().set(staleKey, new StaleEntry(billData, System.currentTimeMillis()), staleTtl);
+                indexBillDataKey(lineNumber, inquiryMonth, staleKey, staleTtl);
+            }
+            log.info("KOS 요금 데이터 캐시 저장 완료 - 회선: {}, 조회월: {}, TTL: {}분",
+                    lineNumber, inquiryMonth, ttl.toMinutes());
+        } catch (Exception e) {
+            log.error("KOS 요금 데이터 캐시 저장 오류 - 회선: {}, 조회월: {}, 오류: {}",
+                    lineNumber, inquiryMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * stale 계층에서 마지막 정상 KOS 요금조회 응답 조회
+     *
+     * 정상 캐시가 만료된 뒤에도 stale TTL 동안 남아 있으며,
+     * 회선/월 무효화 시에는 정상 캐시와 함께 삭제됩니다.
+     *
+     * 캐시 키: bill:stale:kos:{lineNumber}:{inquiryMonth}
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @return 마지막 정상 응답과 원 조회 시각 (없으면 null)
+     */
+    public StaleValue<KosBillInquiryResponse> getStaleKosBillData(String lineNumber, String inquiryMonth) {
+        String staleKey = STALE_KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+        StaleEntry entry = getStaleEntry(staleKey);
+        if (entry == null) {
+            return null;
+        }
+        KosBillInquiryResponse response = objectMapper.convertValue(entry.getData(), KosBillInquiryResponse.class);
+        return new StaleValue<>(response, toLocalDateTime(entry.getStoredAt()));
+    }
+
+    /**
+     * stale 계층에서 마지막 정상 KOS 요금조회 응답 논블로킹 조회 (비동기 요금조회 경로)
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @return 마지막 정상 응답과 원 조회 시각 (없으면 빈 Mono)
+     */
+    public Mono<StaleValue<KosBillInquiryResponse>> getStaleKosBillDataReactive(String lineNumber, String inquiryMonth) {
+        if (!staleEnabled) {
+            return Mono.empty();
+        }
+        String staleKey = STALE_KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+        return reactiveRedisTemplate.opsForValue().get(staleKey)
+                .filter(cached -> cached instanceof StaleEntry entry && entry.getData() != null)
+                .map(cached -> {
+                    StaleEntry entry = (StaleEntry) cached;
+                    KosBillInquiryResponse response = objectMapper.convertValue(entry.getData(), KosBillInquiryResponse.class);
+                    return new StaleValue<>(response, toLocalDateTime(entry.getStoredAt()));
+                })
+                .onErrorResume(e -> {
+                    log.warn("stale 캐시 조회 오류 - 키: {}, 오류: {}", staleKey, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 데이터 보유 월 목록을 stale 계층에 저장 (KOS 정상 응답 시)
+     *
+     * @param lineNumber 회선번호
+     * @param availableMonths 데이터 보유 월 목록
+     */
+    public void cacheStaleAvailableMonths(String lineNumber, List<String> availableMonths) {
+        if (!staleEnabled || availableMonths == null || availableMonths.isEmpty()) {
+            return;
+        }
+
+        String staleKey = STALE_AVAILABLE_MONTHS_PREFIX + lineNumber;
+        try {
+            redisTemplate.opsForValue().set(staleKey,
+                    new StaleEntry(new ArrayList<>(availableMonths), System.currentTimeMillis()), staleTtl);
+        } catch (Exception e) {
+            log.warn("데이터 보유 월 stale 저장 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * stale 계층에서 마지막 정상 데이터 보유 월 목록 조회
+     *
+     * 캐시 키: bill:stale:months:{lineNumber}
+     *
+     * @param lineNumber 회선번호
+     * @return 마지막 정상 월 목록과 원 조회 시각 (없으면 null)
+     */
+    public StaleValue<List<String>> getStaleAvailableMonths(String lineNumber) {
+        StaleEntry entry = getStaleEntry(STALE_AVAILABLE_MONTHS_PREFIX + lineNumber);
+        if (entry == null) {
+            return null;
+        }
+        List<String> months = objectMapper.convertValue(entry.getData(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+        return new StaleValue<>(months, toLocalDateTime(entry.getStoredAt()));
+    }
+
     /**
      * 고객 정보 캐시 조회
-     * 
+     *
      * 캐시 키: bill:customer:{lineNumber}
      * TTL: 4시간
      * 
@@ -123,7 +377,7 @@ public class BillCacheService {
         String cacheKey = CUSTOMER_INFO_PREFIX + lineNumber;
         
         try {
-            Object cachedData = redisTemplate.opsForValue().get(cacheKey);
+            Object cachedData = billTwoTierCache.get(cacheKey, data -> data);
             
             if (cachedData != null) {
                 log.info("고객 정보 캐시 히트 - 회선: {}", lineNumber);
@@ -151,7 +405,7 @@ public class BillCacheService {
         String cacheKey = CUSTOMER_INFO_PREFIX + lineNumber;
         
         try {
-            redisTemplate.opsForValue().set(cacheKey, customerInfo, CUSTOMER_INFO_TTL);
+            billTwoTierCache.put(cacheKey, customerInfo, CUSTOMER_INFO_TTL);
             log.info("고객 정보 캐시 저장 완료 - 회선: {}, TTL: {}시간", 
                     lineNumber, CUSTOMER_INFO_TTL.toHours());
         } catch (Exception e) {
@@ -166,16 +420,19 @@ public class BillCacheService {
      * 
      * @param lineNumber 회선번호
      */
-    @CacheEvict(value = "billData", key = "#lineNumber + '*'")
     public void evictBillDataCache(String lineNumber) {
         log.info("요금 데이터 캐시 무효화 - 회선: {}", lineNumber);
 
         try {
-            // 패턴을 사용한 키 삭제
-            String pattern = BILL_DATA_PREFIX + lineNumber + ":*";
-            redisTemplate.delete(redisTemplate.keys(pattern));
+            // 회선 인덱스에 등록된 키만 삭제
+            long unlinked = RedisKeyScanner.unlinkIndexed(redisTemplate, LINE_INDEX_PREFIX + lineNumber);
+            billTwoTierCache.recordL2Evictions(unlinked);
+
+            // 전체 노드 L1 무효화
+            billTwoTierCache.evictL1ByPrefix(BILL_DATA_PREFIX + lineNumber + ":");
+            billTwoTierCache.evictL1ByPrefix(KOS_BILL_DATA_PREFIX + lineNumber + ":");
             
-            log.info("요금 데이터 캐시 무효화 완료 - 회선: {}", lineNumber);
+            log.info("요금 데이터 캐시 무효화 완료 - 회선: {}, 삭제: {}건", lineNumber, unlinked);
         } catch (Exception e) {
             log.error("요금 데이터 캐시 무효화 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
         }
@@ -192,11 +449,15 @@ public class BillCacheService {
         log.info("월별 요금 데이터 캐시 무효화 - 조회월: {}", inquiryMonth);
 
         try {
-            // 패턴을 사용한 키 삭제
-            String pattern = BILL_DATA_PREFIX + "*:" + inquiryMonth;
-            redisTemplate.delete(redisTemplate.keys(pattern));
+            // 월 인덱스에 등록된 키만 삭제
+            long unlinked = RedisKeyScanner.unlinkIndexed(redisTemplate, MONTH_INDEX_PREFIX + inquiryMonth);
+            billTwoTierCache.recordL2Evictions(unlinked);
+
+            // L1은 접두사 단위로만 무효화 가능하므로 요금 데이터 L1 전체 무효화
+            billTwoTierCache.evictL1ByPrefix(BILL_DATA_PREFIX);
+            billTwoTierCache.evictL1ByPrefix(KOS_BILL_DATA_PREFIX);
             
-            log.info("월별 요금 데이터 캐시 무효화 완료 - 조회월: {}", inquiryMonth);
+            log.info("월별 요금 데이터 캐시 무효화 완료 - 조회월: {}, 삭제: {}건", inquiryMonth, unlinked);
         } catch (Exception e) {
             log.error("월별 요금 데이터 캐시 무효화 오류 - 조회월: {}, 오류: {}", inquiryMonth, e.getMessage());
         }
@@ -207,16 +468,23 @@ public class BillCacheService {
      * 
      * 시스템 점검이나 긴급 상황에서 사용
      */
-    @CacheEvict(value = "billData", allEntries = true)
     public void evictAllBillDataCache() {
         log.warn("전체 요금 데이터 캐시 무효화 실행");
 
         try {
-            // 모든 요금 데이터 캐시 삭제
-            String pattern = BILL_DATA_PREFIX + "*";
-            redisTemplate.delete(redisTemplate.keys(pattern));
+            // 모든 요금 데이터 캐시 및 인덱스 삭제 (SCAN + UNLINK 배치)
+            long unlinked = RedisKeyScanner.unlinkByPattern(redisTemplate, BILL_DATA_PREFIX + "*")
+                    + RedisKeyScanner.unlinkByPattern(redisTemplate, KOS_BILL_DATA_PREFIX + "*")
+                    + RedisKeyScanner.unlinkByPattern(redisTemplate, STALE_KOS_BILL_DATA_PREFIX + "*")
+                    + RedisKeyScanner.unlinkByPattern(redisTemplate, LINE_INDEX_PREFIX + "*")
+                    + RedisKeyScanner.unlinkByPattern(redisTemplate, MONTH_INDEX_PREFIX + "*")
+                    + RedisKeyScanner.unlinkByPattern(redisTemplate, LEGACY_INDEX_PREFIX + "*");
+            billTwoTierCache.recordL2Evictions(unlinked);
+
+            billTwoTierCache.evictL1ByPrefix(BILL_DATA_PREFIX);
+            billTwoTierCache.evictL1ByPrefix(KOS_BILL_DATA_PREFIX);
             
-            log.warn("전체 요금 데이터 캐시 무효화 완료");
+            log.warn("전체 요금 데이터 캐시 무효화 완료 - 삭제: {}건", unlinked);
         } catch (Exception e) {
             log.error("전체 요금 데이터 캐시 무효화 오류: {}", e.getMessage());
         }
@@ -245,4 +513,123 @@ public class BillCacheService {
         String cacheKey = BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
         return redisTemplate.getExpire(cacheKey);
     }
-}
\ No newline at end of file
+
+    /**
+     * KOS 요금 데이터 캐시 남은 TTL 조회 (L2 기준)
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @return 남은 TTL (캐시가 없거나 만료 시간이 없으면 null)
+     */
+    public Duration getKosBillDataRemainingTtl(String lineNumber, String inquiryMonth) {
+        String cacheKey = KOS_BILL_DATA_PREFIX + lineNumber + ":" + inquiryMonth;
+        Long remainingMs = redisTemplate.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+        if (remainingMs == null || remainingMs < 0) {
+            return null;
+        }
+        return Duration.ofMillis(remainingMs);
+    }
+
+    /**
+     * 조회월과 청구 상태에 따른 KOS 요금 데이터 TTL 결정
+     *
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param billData KOS 요금조회 응답 (캐시 대상 응답)
+     * @return 캐시 저장 시 적용되는 TTL
+     */
+    public Duration resolveKosBillDataTtl(String inquiryMonth, KosBillInquiryResponse billData) {
+        try {
+            YearMonth billingMonth = YearMonth.parse(inquiryMonth, MONTH_FORMATTER);
+            if (!billingMonth.isBefore(YearMonth.now())) {
+                return CURRENT_MONTH_BILL_TTL;
+            }
+        } catch (DateTimeParseException e) {
+            log.warn("조회월 형식 오류로 당월 TTL 적용 - 조회월: {}", inquiryMonth);
+            return CURRENT_MONTH_BILL_TTL;
+        }
+
+        String billStatus = billData.getBillInfo().getBillStatus();
+        if ("PAID".equalsIgnoreCase(billStatus) || "CONFIRMED".equalsIgnoreCase(billStatus)) {
+            return SETTLED_BILL_TTL;
+        }
+        return BILL_DATA_TTL;
+    }
+
+    // === Private Helper Methods ===
+
+    /**
+     * 요금 데이터 캐시 키를 회선/월 인덱스에 등록
+     *
+     * 인덱스는 멤버별 만료 시각을 보관하고 등록 시 만료된 멤버를 정리하므로,
+     * 계속 쓰이는 월 인덱스도 살아 있는 캐시 키 수 이상으로 커지지 않습니다.
+     */
+    private void indexBillDataKey(String lineNumber, String inquiryMonth, String cacheKey, Duration ttl) {
+        // 인덱스 TTL: 가장 긴 요금 데이터(stale 포함) TTL 이상으로 유지
+        Duration indexTtl = staleEnabled && staleTtl.compareTo(SETTLED_BILL_TTL) > 0 ? staleTtl : SETTLED_BILL_TTL;
+
+        RedisKeyScanner.index(redisTemplate,
+                List.of(LINE_INDEX_PREFIX + lineNumber, MONTH_INDEX_PREFIX + inquiryMonth),
+                cacheKey, ttl, indexTtl);
+    }
+
+    /**
+     * stale 계층 항목 조회 (L1을 거치지 않음, fallback 경로 전용)
+     */
+    private StaleEntry getStaleEntry(String staleKey) {
+        if (!staleEnabled) {
+            return null;
+        }
+        try {
+            Object cached = redisTemplate.opsForValue().get(staleKey);
+            return cached instanceof StaleEntry entry && entry.getData() != null ? entry : null;
+        } catch (Exception e) {
+            log.warn("stale 캐시 조회 오류 - 키: {}, 오류: {}", staleKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * 캐시 가능한 KOS 응답인지 확인 (정상 처리 + 요금 정보 존재)
+     */
+    private boolean isCacheableKosResponse(KosBillInquiryResponse billData) {
+        return billData != null
+                && "SUCCESS".equals(billData.getProcStatus())
+                && "0000".equals(billData.getResultCode())
+                && billData.getBillInfo() != null
+                && !Boolean.TRUE.equals(billData.getStale());
+    }
+
+    /**
+     * stale 계층 조회 결과
+     *
+     * @param value 마지막 정상 값
+     * @param dataAsOf 원 조회(저장) 시각
+     */
+    public record StaleValue<T>(T value, LocalDateTime dataAsOf) {
+    }
+
+    /**
+     * stale 계층 저장 형식
+     *
+     * Redis 직렬화기의 타입 정보(NON_FINAL)가 기록되도록 record가 아닌 일반 클래스로 정의
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StaleEntry {
+
+        /**
+         * 마지막 정상 값
+         */
+        private Object data;
+
+        /**
+         * 저장 시각 (epoch ms)
+         */
+        private long storedAt;
+    }
+}
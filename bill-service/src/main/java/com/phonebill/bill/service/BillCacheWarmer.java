@@ -0,0 +1,447 @@
+package com.phonebill.bill.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.phonebill.bill.config.KosProperties;
+import com.phonebill.bill.repository.BillInquiryStatsRollupRepository;
+import com.phonebill.bill.repository.entity.BillInquiryStatsRollupEntity;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요금 캐시 선적재(warm-up) 및 만료 전 갱신(refresh-ahead)
+ *
+ * 청구 주기 시작 시점의 첫 조회가 모두 KOS 호출이 되지 않도록 캐시를 미리 채움
+ * - 선적재: 통계 롤업의 회선별 조회 건수 상위 회선에 대해 당월/직전 월 요금을 미리 조회
+ * - 만료 전 갱신: 캐시 히트 시 남은 TTL이 기준 비율 이하이면 현재 값을 그대로 응답하고
+ *   백그라운드에서 KOS 재조회 후 캐시 갱신
+ * - 만료 후 갱신(stale-while-revalidate): 캐시 미스여도 만료 후 허용 구간 이내의 stale 값이
+ *   있으면 stale 표시와 함께 응답하고 백그라운드에서 KOS 재조회
+ * - KOS 호출은 동시 실행 수와 초당 호출 예산(KOS 라우트별 커넥션 수 기반)으로 제한
+ * - 여러 노드 중 한 노드만 선적재하도록 Redis 락 사용
+ * - 선적재/갱신 건수, 예산 초과 건수, 선적재 항목 히트율을 메트릭으로 노출
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Component
+public class BillCacheWarmer {
+
+    private static final String METRIC_PREFIX = "bill.cache.warmup";
+    private static final String LOCK_KEY_PREFIX = "bill:lock:warmup:";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final BillCacheService billCacheService;
+    private final KosInquiryCoalescer kosInquiryCoalescer;
+    private final BillInquiryStatsRollupRepository statsRollupRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    private final boolean enabled;
+    private final int hotLineDays;
+    private final int hotLineLimit;
+    private final int warmMonths;
+    private final int maxConcurrency;
+    private final boolean refreshAheadEnabled;
+    private final double refreshAheadRatio;
+    private final Duration staleWhileRevalidate;
+    private final Duration lockTtl;
+
+    private final RateLimiter kosRateLimiter;
+    private final Semaphore refreshPermits;
+    private final Cache<String, Boolean> recentlyChecked;
+    private final Cache<String, Boolean> warmedKeys;
+
+    private final AtomicLong warmUpLoads = new AtomicLong();
+    private final AtomicLong refreshLoads = new AtomicLong();
+    private final AtomicLong revalidateLoads = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+    private final AtomicLong warmHits = new AtomicLong();
+    private final AtomicLong budgetSkips = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public BillCacheWarmer(
+            BillCacheService billCacheService,
+            KosInquiryCoalescer kosInquiryCoalescer,
+            BillInquiryStatsRollupRepository statsRollupRepository,
+            StringRedisTemplate stringRedisTemplate,
+            AsyncTaskExecutor applicationTaskExecutor,
+            KosProperties kosProperties,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${cache.warm-up.enabled:true}") boolean enabled,
+            @Value("${cache.warm-up.hot-line-days:30}") int hotLineDays,
+            @Value("${cache.warm-up.hot-line-limit:1000}") int hotLineLimit,
+            @Value("${cache.warm-up.warm-months:2}") int warmMonths,
+            @Value("${cache.warm-up.max-concurrency:4}") int maxConcurrency,
+            @Value("${cache.warm-up.kos-budget-ratio:0.1}") double kosBudgetRatio,
+            @Value("${cache.warm-up.kos-qps:0}") int kosQps,
+            @Value("${cache.warm-up.permit-timeout:5s}") Duration permitTimeout,
+            @Value("${cache.warm-up.refresh-ahead.enabled:true}") boolean refreshAheadEnabled,
+            @Value("${cache.warm-up.refresh-ahead.ratio:0.2}") double refreshAheadRatio,
+            @Value("${cache.warm-up.refresh-ahead.check-interval:30s}") Duration refreshCheckInterval,
+            @Value("${cache.stale.while-revalidate:5m}") Duration staleWhileRevalidate,
+            @Value("${cache.warm-up.lock-ttl:1h}") Duration lockTtl) {
+        this.billCacheService = billCacheService;
+        this.kosInquiryCoalescer = kosInquiryCoalescer;
+        this.statsRollupRepository = statsRollupRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.enabled = enabled;
+        this.hotLineDays = hotLineDays;
+        this.hotLineLimit = hotLineLimit;
+        this.warmMonths = warmMonths;
+        this.maxConcurrency = maxConcurrency;
+        this.refreshAheadEnabled = refreshAheadEnabled;
+        this.refreshAheadRatio = refreshAheadRatio;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.lockTtl = lockTtl;
+
+        // 초당 호출 예산: 명시값이 없으면 KOS 라우트별 커넥션 수의 일정 비율
+        int qps = kosQps > 0 ? kosQps
+                : Math.max(1, (int) (kosProperties.getHttpClient().getMaxConnPerRoute() * kosBudgetRatio));
+        this.kosRateLimiter = RateLimiter.of("kosCacheWarmUp", RateLimiterConfig.custom()
+                .limitForPeriod(qps)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(permitTimeout)
+                .build());
+        this.refreshPermits = new Semaphore(maxConcurrency);
+        this.recentlyChecked = Caffeine.newBuilder()
+                .expireAfterWrite(refreshCheckInterval)
+                .maximumSize(100_000)
+                .build();
+        this.warmedKeys = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofDays(hotLineDays))
+                .maximumSize((long) hotLineLimit * warmMonths)
+                .build();
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            registerMetrics(registry);
+        }
+        log.info("요금 캐시 선적재 구성 - 사용: {}, 상위 회선: {}건, 대상 월: {}개월, 동시 실행: {}, KOS 예산: {}건/초, 만료 전 갱신: {} (비율 {}), 만료 후 갱신 허용: {}",
+                enabled, hotLineLimit, warmMonths, maxConcurrency, qps, refreshAheadEnabled, refreshAheadRatio,
+                staleWhileRevalidate);
+    }
+
+    /**
+     * 상위 회선 요금 캐시 선적재 (청구 주기 시작 시)
+     */
+    @Scheduled(cron = "${cache.warm-up.cron:0 0 6 1 * *}")
+    public void warmUpHotLines() {
+        if (!enabled) {
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now();
+        if (!tryAcquireJobLock(currentMonth)) {
+            log.debug("다른 노드에서 요금 캐시 선적재 중 - 건너뜀");
+            return;
+        }
+
+        try {
+            List<String> hotLines = statsRollupRepository.findTopLineNumbers(
+                    BillInquiryStatsRollupEntity.Granularity.DAY,
+                    BillInquiryStatsRollupEntity.ALL_LINES,
+                    LocalDate.now().minusDays(hotLineDays).atStartOfDay(),
+                    PageRequest.of(0, hotLineLimit));
+
+            List<WarmTarget> targets = new ArrayList<>(hotLines.size() * warmMonths);
+            for (String lineNumber : hotLines) {
+                for (int i = 0; i < warmMonths; i++) {
+                    targets.add(new WarmTarget(lineNumber, currentMonth.minusMonths(i).format(MONTH_FORMATTER)));
+                }
+            }
+
+            // 스케줄러 스레드는 작업 배분까지만 하고 완료는 기다리지 않음
+            long started = System.currentTimeMillis();
+            warmUp(targets).thenAccept(loaded ->
+                    log.info("요금 캐시 선적재 완료 - 회선: {}건, 대상: {}건, 적재: {}건, 소요: {}ms",
+                            hotLines.size(), targets.size(), loaded, System.currentTimeMillis() - started));
+        } catch (Exception e) {
+            log.error("요금 캐시 선적재 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 캐시 히트 통지
+     *
+     * 선적재 항목 히트를 집계하고, 남은 TTL이 기준 이하이면 백그라운드 갱신을 예약합니다.
+     * 호출 스레드는 대기하지 않으며 캐시된 값을 그대로 응답합니다.
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param cached 캐시된 KOS 요금조회 응답
+     */
+    public void onCacheHit(String lineNumber, String inquiryMonth, KosBillInquiryResponse cached) {
+        String key = lineNumber + ":" + inquiryMonth;
+        if (warmedKeys.asMap().remove(key) != null) {
+            warmHits.incrementAndGet();
+        }
+
+        if (refreshAheadEnabled) {
+            scheduleBackground(key, () -> refreshIfExpiring(lineNumber, inquiryMonth, cached));
+        }
+    }
+
+    /**
+     * 캐시 미스 시 stale 값 응답 (stale-while-revalidate)
+     *
+     * 정상 캐시가 만료된 지 허용 구간 이내인 stale 값이 있으면 stale 표시를 붙여 반환하고
+     * 백그라운드에서 KOS 재조회를 예약합니다. 호출 스레드는 KOS를 기다리지 않습니다.
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @return stale 표시된 응답 (허용 구간을 벗어났거나 없으면 null)
+     */
+    public KosBillInquiryResponse serveStaleWhileRevalidate(String lineNumber, String inquiryMonth) {
+        if (staleWhileRevalidate.isZero() || staleWhileRevalidate.isNegative()) {
+            return null;
+        }
+
+        return serveStale(lineNumber, inquiryMonth, billCacheService.getStaleKosBillData(lineNumber, inquiryMonth));
+    }
+
+    /**
+     * 이미 조회한 stale 값으로 stale-while-revalidate 처리 (비동기 요금조회 경로용)
+     *
+     * stale 값을 논블로킹으로 조회한 호출자가 사용하며, 판단 기준과 갱신 예약은
+     * {@link #serveStaleWhileRevalidate}와 같습니다.
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param stale stale 계층에서 조회한 값 (없으면 null)
+     * @return stale 표시된 응답 (허용 구간을 벗어났거나 없으면 null)
+     */
+    public KosBillInquiryResponse serveStale(String lineNumber, String inquiryMonth,
+                                             BillCacheService.StaleValue<KosBillInquiryResponse> stale) {
+        if (stale == null || staleWhileRevalidate.isZero() || staleWhileRevalidate.isNegative()) {
+            return null;
+        }
+
+        // 허용 기한: 원 조회 시각 + 정상 캐시 TTL + 만료 후 허용 구간
+        Duration freshTtl = billCacheService.resolveKosBillDataTtl(inquiryMonth, stale.value());
+        if (LocalDateTime.now().isAfter(stale.dataAsOf().plus(freshTtl).plus(staleWhileRevalidate))) {
+            return null;
+        }
+
+        scheduleBackground(lineNumber + ":" + inquiryMonth,
+                () -> load(lineNumber, inquiryMonth, revalidateLoads));
+        staleServed.incrementAndGet();
+
+        KosBillInquiryResponse response = stale.value();
+        response.setStale(true);
+        response.setDataAsOf(stale.dataAsOf());
+        log.info("요금 캐시 stale 응답 후 갱신 - 회선: {}, 조회월: {}, 원 조회 시각: {}",
+                lineNumber, inquiryMonth, stale.dataAsOf());
+        return response;
+    }
+
+    /**
+     * 대상 목록 선적재 (동시 실행 수 제한, 호출 예산 적용)
+     *
+     * 작업자를 공용 실행기에 제출하고 바로 반환하며, 호출 스레드에서는 적재하지 않습니다.
+     * 실행기가 거부한 작업자는 건너뛰고 나머지 작업자가 남은 대상을 처리합니다.
+     *
+     * @return 모든 작업자가 끝나면 적재 건수로 완료되는 Future
+     */
+    CompletableFuture<Integer> warmUp(List<WarmTarget> targets) {
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger loaded = new AtomicInteger();
+        int workers = Math.min(maxConcurrency, targets.size());
+        AtomicInteger remaining = new AtomicInteger(workers);
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+
+        Runnable worker = () -> {
+            try {
+                int index;
+                while ((index = next.getAndIncrement()) < targets.size()) {
+                    WarmTarget target = targets.get(index);
+                    if (billCacheService.getCachedKosBillData(target.lineNumber(), target.inquiryMonth()) != null) {
+                        continue;
+                    }
+                    if (load(target.lineNumber(), target.inquiryMonth(), warmUpLoads)) {
+                        warmedKeys.put(target.lineNumber() + ":" + target.inquiryMonth(), Boolean.TRUE);
+                        loaded.incrementAndGet();
+                    }
+                }
+            } finally {
+                if (remaining.decrementAndGet() == 0) {
+                    result.complete(loaded.get());
+                }
+            }
+        };
+
+        int started = 0;
+        for (int i = 0; i < workers; i++) {
+            try {
+                applicationTaskExecutor.execute(worker);
+                started++;
+            } catch (RejectedExecutionException e) {
+                if (remaining.decrementAndGet() == 0) {
+                    result.complete(loaded.get());
+                }
+            }
+        }
+        if (started == 0) {
+            log.warn("요금 캐시 선적재 작업자를 시작하지 못함 (실행기 포화) - 대상: {}건", targets.size());
+        }
+        return result;
+    }
+
+    /**
+     * 백그라운드 갱신 예약
+     *
+     * 키별로 확인 주기 동안 한 번만 예약하며, 동시 실행 수를 넘거나 실행기가 거부하면 건너뜀
+     */
+    private void scheduleBackground(String key, Runnable task) {
+        if (recentlyChecked.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        if (!refreshPermits.tryAcquire()) {
+            recentlyChecked.invalidate(key);
+            return;
+        }
+
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    refreshPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshPermits.release();
+            recentlyChecked.invalidate(key);
+        }
+    }
+
+    /**
+     * 남은 TTL이 기준 비율 이하이면 KOS 재조회 후 캐시 갱신
+     */
+    private void refreshIfExpiring(String lineNumber, String inquiryMonth, KosBillInquiryResponse cached) {
+        try {
+            Duration remaining = billCacheService.getKosBillDataRemainingTtl(lineNumber, inquiryMonth);
+            if (remaining == null) {
+                return;
+            }
+            Duration ttl = billCacheService.resolveKosBillDataTtl(inquiryMonth, cached);
+            if (remaining.toMillis() > ttl.toMillis() * refreshAheadRatio) {
+                return;
+            }
+
+            log.debug("요금 캐시 만료 전 갱신 - 회선: {}, 조회월: {}, 남은 TTL: {}초",
+                    lineNumber, inquiryMonth, remaining.toSeconds());
+            load(lineNumber, inquiryMonth, refreshLoads);
+        } catch (Exception e) {
+            log.warn("요금 캐시 만료 전 갱신 오류 - 회선: {}, 조회월: {}, 오류: {}",
+                    lineNumber, inquiryMonth, e.getMessage());
+        }
+    }
+
+    /**
+     * 호출 예산 내에서 KOS 조회 (요청 병합기를 통해 캐시 저장)
+     *
+     * @return 정상 응답 적재 여부
+     */
+    private boolean load(String lineNumber, String inquiryMonth, AtomicLong loadCounter) {
+        if (!kosRateLimiter.acquirePermission()) {
+            budgetSkips.incrementAndGet();
+            return false;
+        }
+        try {
+            KosBillInquiryResponse response = kosInquiryCoalescer.inquire(lineNumber, inquiryMonth);
+            if (response != null && "SUCCESS".equals(response.getProcStatus())
+                    && !Boolean.TRUE.equals(response.getStale())) {
+                loadCounter.incrementAndGet();
+                return true;
+            }
+            failures.incrementAndGet();
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.debug("요금 캐시 적재 실패 - 회선: {}, 조회월: {}, 오류: {}", lineNumber, inquiryMonth, e.getMessage());
+        }
+        return false;
+    }
+
+    private boolean tryAcquireJobLock(YearMonth month) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LOCK_KEY_PREFIX + month.format(MONTH_FORMATTER), "1", lockTtl));
+        } catch (Exception e) {
+            log.warn("요금 캐시 선적재 락 획득 실패, 락 없이 진행 - 오류: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".loads", warmUpLoads, AtomicLong::get)
+                .tag("type", "warm-up")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".loads", refreshLoads, AtomicLong::get)
+                .tag("type", "refresh-ahead")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".loads", revalidateLoads, AtomicLong::get)
+                .tag("type", "stale-revalidate")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".stale-served", staleServed, AtomicLong::get)
+                .description("Cache misses answered from the stale tier while revalidating")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", warmHits, AtomicLong::get)
+                .description("First user hits on warmed entries")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".skipped", budgetSkips, AtomicLong::get)
+                .description("Loads skipped by the KOS call budget")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failures", failures, AtomicLong::get)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".hit-ratio", this, BillCacheWarmer::getWarmHitRatio)
+                .description("Warmed entries later hit by a user inquiry")
+                .register(registry);
+    }
+
+    /**
+     * 선적재 항목 히트율 (사용자 조회로 이어진 선적재 항목 비율)
+     */
+    public double getWarmHitRatio() {
+        long loads = warmUpLoads.get();
+        return loads == 0 ? 0.0 : (double) warmHits.get() / loads;
+    }
+
+    /**
+     * 선적재 대상
+     */
+    record WarmTarget(String lineNumber, String inquiryMonth) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.phonebill.bill.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 요금조회 이력 파티션 관리자
+ *
+ * bill_inquiry_history 월별 RANGE 파티션을 유지하고 보관 기간을 적용
+ * - 당월 ~ 선생성 개월 수만큼 파티션을 미리 생성
+ * - 보관 기간이 지난 월 파티션은 DETACH 후 DROP(또는 DETACH만) 하여 행 단위 DELETE 없이 제거
+ * - 여러 노드가 동시에 실행하지 않도록 트랜잭션 advisory lock 사용
+ * - 파티션 테이블로 전환되지 않은 경우 경고만 기록하고, 명시적으로 켠 경우에만 배치 단위 DELETE로 보관 기간 적용
+ *
+ * 파티션 전환: design/backend/database/bill-inquiry-history-partitioning.psql
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Component
+public class BillHistoryPartitionManager {
+
+    static final String PARENT_TABLE = "bill_inquiry_history";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_";
+
+    /**
+     * 파티션 관리 작업 advisory lock 키
+     */
+    private static final long MAINTENANCE_LOCK_KEY = 7_411_020_001L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final int premakeMonths;
+    private final RetentionMode retentionMode;
+    private final int purgeBatchSize;
+    private final boolean unpartitionedPurgeEnabled;
+
+    public BillHistoryPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${history.partition.enabled:true}") boolean enabled,
+            @Value("${history.partition.retention-months:24}") int retentionMonths,
+            @Value("${history.partition.premake-months:3}") int premakeMonths,
+            @Value("${history.partition.retention-mode:DROP}") RetentionMode retentionMode,
+            @Value("${history.partition.purge-batch-size:10000}") int purgeBatchSize,
+            @Value("${history.partition.unpartitioned-purge-enabled:false}") boolean unpartitionedPurgeEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+        this.premakeMonths = premakeMonths;
+        this.retentionMode = retentionMode;
+        this.purgeBatchSize = purgeBatchSize;
+        this.unpartitionedPurgeEnabled = unpartitionedPurgeEnabled;
+    }
+
+    /**
+     * 기동 시 1회 실행 (다음 달 파티션 누락 방지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    /**
+     * 파티션 생성 및 보관 기간 적용 (매일)
+     */
+    @Scheduled(cron = "${history.partition.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths - 1L);
+
+        try {
+            if (!isPartitioned()) {
+                if (!unpartitionedPurgeEnabled) {
+                    log.warn("{} 테이블이 파티션 테이블이 아님 - 보관 기간 미적용 " +
+                            "(배치 DELETE는 history.partition.unpartitioned-purge-enabled=true로 활성화)", PARENT_TABLE);
+                    return;
+                }
+                log.warn("{} 테이블이 파티션 테이블이 아님 - 배치 DELETE로 보관 기간 적용", PARENT_TABLE);
+                purgeInBatches(oldestRetained);
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!tryMaintenanceLock()) {
+                    log.debug("다른 노드에서 이력 파티션 관리 중 - 건너뜀");
+                    return;
+                }
+                createUpcomingPartitions(currentMonth);
+                retireExpiredPartitions(oldestRetained);
+            });
+        } catch (Exception e) {
+            log.error("요금조회 이력 파티션 관리 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 파티션 관리 advisory lock 획득 (현재 트랜잭션 종료 시 해제)
+     */
+    private boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY));
+    }
+
+    private boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.relname = ? AND pg_table_is_visible(c.oid)",
+                String.class, PARENT_TABLE);
+        return kinds.contains("p");
+    }
+
+    private void createUpcomingPartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partitionName(month), PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+        log.debug("요금조회 이력 파티션 확인 완료 - {} ~ {}", currentMonth, currentMonth.plusMonths(premakeMonths));
+    }
+
+    private void retireExpiredPartitions(YearMonth oldestRetained) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?",
+                String.class, PARENT_TABLE);
+
+        for (String partition : partitions) {
+            YearMonth month = parsePartitionMonth(partition);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            if (retentionMode == RetentionMode.DROP) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            log.info("보관 기간 경과 이력 파티션 정리 - 파티션: {}, 방식: {}", partition, retentionMode);
+        }
+    }
+
+    /**
+     * 파티션 미전환 테이블용 보관 기간 적용 (배치 단위 DELETE, 배치마다 커밋)
+     *
+     * 배치마다 파티션 관리와 같은 advisory lock을 잡고 실행하므로 파티션 전환/관리 작업이나
+     * 다른 노드의 삭제와 겹치지 않으며, 잠금을 얻지 못하면 그 노드는 삭제를 중단합니다.
+     */
+    private void purgeInBatches(YearMonth oldestRetained) {
+        Timestamp cutoff = Timestamp.valueOf(oldestRetained.atDay(1).atStartOfDay());
+        String sql = "DELETE FROM " + PARENT_TABLE + " WHERE id IN (" +
+                "SELECT id FROM " + PARENT_TABLE + " WHERE request_time < ? LIMIT ?)";
+
+        long total = 0;
+        Integer deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> tryMaintenanceLock()
+                    ? jdbcTemplate.update(sql, cutoff, purgeBatchSize)
+                    : null);
+            if (deleted == null) {
+                log.debug("다른 노드에서 이력 파티션 관리 중 - 삭제 중단");
+                break;
+            }
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (total > 0) {
+            log.info("보관 기간 경과 이력 삭제 - 기준: {}, {}건", cutoff, total);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * 파티션명에서 월 추출 (월별 파티션이 아니면 null, 예: default 파티션)
+     */
+    static YearMonth parsePartitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        String suffix = partition.substring(PARTITION_PREFIX.length());
+        if (!suffix.matches("\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(suffix, PARTITION_SUFFIX);
+    }
+
+    /**
+     * 보관 기간 경과 파티션 처리 방식
+     */
+    public enum RetentionMode {
+        /** 분리 후 삭제 */
+        DROP,
+        /** 분리만 수행 (아카이브 후 수동 삭제) */
+        DETACH
+    }
+}
@@ -3,28 +3,36 @@ package com.phonebill.bill.service;
 import com.phonebill.bill.dto.*;
 import com.phonebill.bill.exception.BillInquiryException;
 import com.phonebill.bill.repository.BillInquiryHistoryRepository;
+import com.phonebill.bill.repository.BillInquiryHistorySpecifications;
 import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * 요금조회 이력 관리 서비스
  * 
  * 요금조회 요청 및 처리 이력을 관리하는 서비스
- * - 비동기 이력 저장으로 응답 성능에 영향 없음
+ * - write-behind 큐를 통한 배치 이력 저장으로 응답 성능에 영향 없음
  * - 페이징 처리로 대용량 이력 데이터 효율적 조회
  * - 다양한 필터 조건 지원
  * - 사용자별 권한 기반 이력 접근 제어
@@ -40,18 +48,19 @@ import java.util.stream.Collectors;
 public class BillHistoryService {
 
     private final BillInquiryHistoryRepository historyRepository;
+    private final BillHistoryWriteBehindQueue historyWriteBehindQueue;
+    private final BillInquiryStatsRollupService statsRollupService;
 
     /**
      * 요금조회 이력 비동기 저장
      * 
-     * 응답 성능에 영향을 주지 않도록 비동기로 처리
+     * 응답 성능에 영향을 주지 않도록 write-behind 큐에 적재 후 배치 저장
      * 
      * @param requestId 요청 ID
      * @param request 요금조회 요청 데이터
      * @param response 요금조회 응답 데이터
      */
-    @Async
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveInquiryHistoryAsync(String requestId, BillInquiryRequest request, BillInquiryResponse response) {
         log.debug("요금조회 이력 비동기 저장 시작 - 요청ID: {}", requestId);
 
@@ -76,9 +85,42 @@ public class BillHistoryService {
                     .resultSummary(resultSummary)
                     .build();
 
-            historyRepository.save(historyEntity);
+            historyWriteBehindQueue.enqueue(historyEntity);
+
+            log.debug("요금조회 이력 적재 완료 - 요청ID: {}, 상태: {}", requestId, response.getStatus());
+
+        } catch (Exception e) {
+            log.error("요금조회 이력 저장 오류 - 요청ID: {}, 오류: {}", requestId, e.getMessage(), e);
+            // 이력 저장 실패는 전체 프로세스에 영향을 주지 않도록 예외를 던지지 않음
+        }
+    }
+
+    /**
+     * KOS 요금조회 결과 이력 비동기 저장
+     *
+     * 캐시 히트 여부와 KOS 응답 시간을 함께 기록하여 캐시 효율 및 외부 연동 지연 분석에 활용
+     * write-behind 큐에 적재 후 배치 저장
+     *
+     * @param requestId 요청 ID
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param response KOS 요금조회 응답
+     * @param cacheHit 캐시 히트 여부
+     * @param kosResponseTimeMs KOS 응답 시간(ms), 캐시 히트 시 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveInquiryHistoryAsync(String requestId, String lineNumber, String inquiryMonth,
+                                        KosBillInquiryResponse response, boolean cacheHit, Long kosResponseTimeMs) {
+        log.debug("요금조회 이력 비동기 저장 시작 - 요청ID: {}, 캐시히트: {}", requestId, cacheHit);
+
+        try {
+            BillInquiryHistoryEntity historyEntity = buildHistoryEntity(
+                    new InquiryRecord(requestId, lineNumber, inquiryMonth, response, cacheHit, kosResponseTimeMs));
+
+            historyWriteBehindQueue.enqueue(historyEntity);
 
-            log.info("요금조회 이력 저장 완료 - 요청ID: {}, 상태: {}", requestId, response.getStatus());
+            log.debug("요금조회 이력 적재 완료 - 요청ID: {}, 상태: {}, 캐시히트: {}, KOS응답시간: {}ms",
+                    requestId, historyEntity.getStatus(), cacheHit, kosResponseTimeMs);
 
         } catch (Exception e) {
             log.error("요금조회 이력 저장 오류 - 요청ID: {}, 오류: {}", requestId, e.getMessage(), e);
@@ -86,10 +128,40 @@ public class BillHistoryService {
         }
     }
 
+    /**
+     * KOS 요금조회 결과 이력 일괄 저장
+     *
+     * 다건 요금조회 결과를 한 번에 write-behind 큐에 적재
+     *
+     * @param records 요금조회 결과 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveInquiryHistoryBatchAsync(List<InquiryRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        log.debug("요금조회 이력 일괄 저장 시작 - {}건", records.size());
+
+        try {
+            List<BillInquiryHistoryEntity> historyEntities = records.stream()
+                    .map(this::buildHistoryEntity)
+                    .collect(Collectors.toList());
+
+            historyWriteBehindQueue.enqueueAll(historyEntities);
+
+            log.debug("요금조회 이력 일괄 적재 완료 - {}건", historyEntities.size());
+
+        } catch (Exception e) {
+            log.error("요금조회 이력 일괄 저장 오류 - {}건, 오류: {}", records.size(), e.getMessage(), e);
+            // 이력 저장 실패는 전체 프로세스에 영향을 주지 않도록 예외를 던지지 않음
+        }
+    }
+
     /**
      * 요금조회 상태 업데이트
      * 
      * 비동기 처리된 요청의 상태가 변경되었을 때 호출
+     * 상태가 바뀌면 커밋 후 통계 롤업의 상태별 건수도 보정
      * 
      * @param requestId 요청 ID
      * @param response 업데이트된 응답 데이터
@@ -99,10 +171,11 @@ public class BillHistoryService {
         log.debug("요금조회 상태 업데이트 - 요청ID: {}, 상태: {}", requestId, response.getStatus());
 
         try {
-            BillInquiryHistoryEntity historyEntity = historyRepository.findByRequestId(requestId)
+            BillInquiryHistoryEntity historyEntity = findHistoryByRequestId(requestId)
                     .orElseThrow(() -> BillInquiryException.billDataNotFound(requestId, "요청 ID"));
 
             // 상태 업데이트
+            String previousStatus = historyEntity.getStatus();
             historyEntity.updateStatus(response.getStatus().name());
             historyEntity.updateProcessTime(LocalDateTime.now());
 
@@ -111,6 +184,7 @@ public class BillHistoryService {
             historyEntity.updateResultSummary(resultSummary);
 
             historyRepository.save(historyEntity);
+            recordStatusChangeAfterCommit(historyEntity, previousStatus);
 
             log.info("요금조회 상태 업데이트 완료 - 요청ID: {}, 상태: {}", requestId, response.getStatus());
 
@@ -119,6 +193,22 @@ public class BillHistoryService {
         }
     }
 
+    /**
+     * 상태 변경 트랜잭션 커밋 후 통계 롤업 보정 (롤백되면 보정하지 않음)
+     */
+    private void recordStatusChangeAfterCommit(BillInquiryHistoryEntity historyEntity, String previousStatus) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            statsRollupService.recordStatusChange(historyEntity, previousStatus);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                statsRollupService.recordStatusChange(historyEntity, previousStatus);
+            }
+        });
+    }
+
     /**
      * 요금조회 결과 조회
      * 
@@ -129,7 +219,7 @@ public class BillHistoryService {
         log.debug("요금조회 결과 조회 - 요청ID: {}", requestId);
 
         try {
-            BillInquiryHistoryEntity historyEntity = historyRepository.findByRequestId(requestId)
+            BillInquiryHistoryEntity historyEntity = findHistoryByRequestId(requestId)
                     .orElse(null);
 
             if (historyEntity == null) {
@@ -162,6 +252,10 @@ public class BillHistoryService {
     /**
      * 요금조회 이력 목록 조회
      * 
+     * 키셋 페이징: cursor가 있거나 첫 페이지 조회 시 (requestTime, id) 기준으로
+     * 다음 행만 조회하므로 페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.
+     * page(2 이상)만 지정한 경우 기존 호환을 위해 OFFSET 페이징을 사용합니다.
+     * 
      * @param userLineNumbers 사용자 권한이 있는 회선번호 목록
      * @param lineNumber 특정 회선번호 필터 (선택)
      * @param startDate 조회 시작일 (선택)
@@ -169,19 +263,23 @@ public class BillHistoryService {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param status 상태 필터 (선택)
+     * @param cursor 이전 응답의 nextCursor (선택)
+     * @param includeTotal 전체 건수 포함 여부 (키셋 페이징 시 별도 COUNT 수행)
      * @return 이력 응답 데이터
      */
     public BillHistoryResponse getBillHistory(
             List<String> userLineNumbers, String lineNumber, String startDate, String endDate,
-            Integer page, Integer size, BillInquiryResponse.ProcessStatus status) {
+            Integer page, Integer size, BillInquiryResponse.ProcessStatus status,
+            String cursor, boolean includeTotal) {
 
-        log.debug("요금조회 이력 목록 조회 - 사용자 회선수: {}, 필터 회선: {}, 기간: {} ~ {}, 페이지: {}/{}", 
-                userLineNumbers.size(), lineNumber, startDate, endDate, page, size);
+        log.debug("요금조회 이력 목록 조회 - 사용자 회선수: {}, 필터 회선: {}, 기간: {} ~ {}, 페이지: {}/{}, 커서: {}", 
+                userLineNumbers.size(), lineNumber, startDate, endDate, page, size, cursor);
 
-        try {
-            // 페이징 설정 (최신순 정렬)
-            Pageable pageable = PageRequest.of(page - 1, size, Sort.by("requestTime").descending());
+        if (userLineNumbers.isEmpty()) {
+            return emptyHistory(size);
+        }
 
+        try {
             // 검색 조건 설정
             LocalDateTime startDateTime = null;
             LocalDateTime endDateTime = null;
@@ -194,37 +292,20 @@ public class BillHistoryService {
                 endDateTime = LocalDate.parse(endDate).atTime(23, 59, 59);
             }
 
-            // 조건에 따라 적절한 쿼리 선택
-            Page<BillInquiryHistoryEntity> historyPage = getBillHistoryByConditions(
-                    userLineNumbers, lineNumber, startDateTime, endDateTime, status, pageable
-            );
-
-            // 응답 데이터 변환
-            List<BillHistoryResponse.BillHistoryItem> historyItems = historyPage.getContent()
-                    .stream()
-                    .map(this::convertToHistoryItem)
-                    .collect(Collectors.toList());
-
-            // 페이징 정보 구성
-            BillHistoryResponse.PaginationInfo paginationInfo = BillHistoryResponse.PaginationInfo.builder()
-                    .currentPage(page)
-                    .totalPages(historyPage.getTotalPages())
-                    .totalItems(historyPage.getTotalElements())
-                    .pageSize(size)
-                    .hasNext(historyPage.hasNext())
-                    .hasPrevious(historyPage.hasPrevious())
-                    .build();
+            Specification<BillInquiryHistoryEntity> filter = buildHistoryFilter(
+                    userLineNumbers, lineNumber, startDateTime, endDateTime, status);
 
-            BillHistoryResponse response = BillHistoryResponse.builder()
-                    .items(historyItems)
-                    .pagination(paginationInfo)
-                    .build();
+            BillHistoryResponse response = (cursor == null && page != null && page > 1)
+                    ? getBillHistoryByOffset(filter, page, size)
+                    : getBillHistoryByKeyset(filter, cursor, size, includeTotal);
 
-            log.info("요금조회 이력 목록 조회 완료 - 총 {}건, 현재 페이지: {}/{}",
-                    historyPage.getTotalElements(), page, historyPage.getTotalPages());
+            log.info("요금조회 이력 목록 조회 완료 - 조회 {}건, 다음 페이지: {}",
+                    response.getItems().size(), response.getPagination().getHasNext());
 
             return response;
 
+        } catch (BillInquiryException e) {
+            throw e;
         } catch (Exception e) {
             log.error("요금조회 이력 목록 조회 오류 - 오류: {}", e.getMessage(), e);
             throw new BillInquiryException("이력 조회 중 오류가 발생했습니다", e);
@@ -232,61 +313,125 @@ public class BillHistoryService {
     }
 
     /**
-     * 조건에 따라 적절한 쿼리를 선택하여 이력 조회
+     * 필터 조건 조합 (값이 없는 조건은 제외)
+     */
+    private Specification<BillInquiryHistoryEntity> buildHistoryFilter(
+            List<String> userLineNumbers, String lineNumber,
+            LocalDateTime startDateTime, LocalDateTime endDateTime,
+            BillInquiryResponse.ProcessStatus status) {
+
+        return Specification.where(BillInquiryHistorySpecifications.lineNumberIn(userLineNumbers))
+                .and(BillInquiryHistorySpecifications.lineNumberEquals(lineNumber))
+                .and(BillInquiryHistorySpecifications.requestTimeBetween(startDateTime, endDateTime))
+                .and(BillInquiryHistorySpecifications.statusEquals(status != null ? status.name() : null));
+    }
+
+    /**
+     * 키셋 페이징 조회 (size + 1건 조회로 다음 페이지 여부 판단, COUNT는 요청 시에만)
+     */
+    private BillHistoryResponse getBillHistoryByKeyset(
+            Specification<BillInquiryHistoryEntity> filter, String cursor, int size, boolean includeTotal) {
+
+        HistoryCursor position = HistoryCursor.decode(cursor);
+        Specification<BillInquiryHistoryEntity> query = position != null
+                ? filter.and(BillInquiryHistorySpecifications.after(position.requestTime(), position.id()))
+                : filter;
+
+        List<BillInquiryHistoryEntity> rows = historyRepository.findBy(query, q -> q
+                .sortBy(BillInquiryHistorySpecifications.KEYSET_SORT)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<BillInquiryHistoryEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        Long totalItems = includeTotal ? historyRepository.count(filter) : null;
+
+        BillHistoryResponse.PaginationInfo paginationInfo = BillHistoryResponse.PaginationInfo.builder()
+                .currentPage(position == null ? 1 : null)
+                .totalItems(totalItems)
+                .totalPages(totalItems != null ? (int) ((totalItems + size - 1) / size) : null)
+                .pageSize(size)
+                .hasNext(hasNext)
+                .hasPrevious(position != null)
+                .nextCursor(hasNext ? HistoryCursor.of(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .build();
+
+        return BillHistoryResponse.builder()
+                .items(toHistoryItems(pageRows))
+                .pagination(paginationInfo)
+                .build();
+    }
+
+    /**
+     * OFFSET 페이징 조회 (기존 page 파라미터 호환용)
      */
-    private Page<BillInquiryHistoryEntity> getBillHistoryByConditions(
-            List<String> userLineNumbers, String lineNumber, 
-            LocalDateTime startDateTime, LocalDateTime endDateTime, 
-            BillInquiryResponse.ProcessStatus status, Pageable pageable) {
-        
-        boolean hasLineNumber = lineNumber != null && !lineNumber.trim().isEmpty();
-        boolean hasDateRange = startDateTime != null && endDateTime != null;
-        boolean hasStatus = status != null;
-        
-        String statusFilter = hasStatus ? status.name() : null;
-        
-        // 8가지 경우의 수에 따라 적절한 쿼리 선택
-        if (hasLineNumber && hasDateRange && hasStatus) {
-            // 모든 필터 적용
-            return historyRepository.findBillHistoryWithAllFilters(
-                    userLineNumbers, lineNumber, startDateTime, endDateTime, statusFilter, pageable
-            );
-        } else if (hasLineNumber && hasDateRange) {
-            // 회선번호 + 날짜 범위
-            return historyRepository.findBillHistoryByLineNumbersAndLineNumberAndDateRange(
-                    userLineNumbers, lineNumber, startDateTime, endDateTime, pageable
-            );
-        } else if (hasLineNumber && hasStatus) {
-            // 회선번호 + 상태
-            return historyRepository.findBillHistoryByLineNumbersAndLineNumberAndStatus(
-                    userLineNumbers, lineNumber, statusFilter, pageable
-            );
-        } else if (hasDateRange && hasStatus) {
-            // 날짜 범위 + 상태
-            return historyRepository.findBillHistoryByLineNumbersAndDateRangeAndStatus(
-                    userLineNumbers, startDateTime, endDateTime, statusFilter, pageable
-            );
-        } else if (hasLineNumber) {
-            // 회선번호만
-            return historyRepository.findBillHistoryByLineNumbersAndLineNumber(
-                    userLineNumbers, lineNumber, pageable
-            );
-        } else if (hasDateRange) {
-            // 날짜 범위만
-            return historyRepository.findBillHistoryByLineNumbersAndDateRange(
-                    userLineNumbers, startDateTime, endDateTime, pageable
-            );
-        } else if (hasStatus) {
-            // 상태만
-            return historyRepository.findBillHistoryByLineNumbersAndStatus(
-                    userLineNumbers, statusFilter, pageable
-            );
-        } else {
-            // 필터 없음 (기본)
-            return historyRepository.findBillHistoryByLineNumbers(
-                    userLineNumbers, pageable
-            );
+    private BillHistoryResponse getBillHistoryByOffset(
+            Specification<BillInquiryHistoryEntity> filter, int page, int size) {
+
+        Pageable pageable = PageRequest.of(page - 1, size, BillInquiryHistorySpecifications.KEYSET_SORT);
+        Page<BillInquiryHistoryEntity> historyPage = historyRepository.findAll(filter, pageable);
+        List<BillInquiryHistoryEntity> rows = historyPage.getContent();
+
+        BillHistoryResponse.PaginationInfo paginationInfo = BillHistoryResponse.PaginationInfo.builder()
+                .currentPage(page)
+                .totalPages(historyPage.getTotalPages())
+                .totalItems(historyPage.getTotalElements())
+                .pageSize(size)
+                .hasNext(historyPage.hasNext())
+                .hasPrevious(historyPage.hasPrevious())
+                .nextCursor(historyPage.hasNext() && !rows.isEmpty()
+                        ? HistoryCursor.of(rows.get(rows.size() - 1)).encode() : null)
+                .build();
+
+        return BillHistoryResponse.builder()
+                .items(toHistoryItems(rows))
+                .pagination(paginationInfo)
+                .build();
+    }
+
+    private BillHistoryResponse emptyHistory(int size) {
+        return BillHistoryResponse.builder()
+                .items(List.of())
+                .pagination(BillHistoryResponse.PaginationInfo.builder()
+                        .currentPage(1)
+                        .totalPages(0)
+                        .totalItems(0L)
+                        .pageSize(size)
+                        .hasNext(false)
+                        .hasPrevious(false)
+                        .build())
+                .build();
+    }
+
+    private List<BillHistoryResponse.BillHistoryItem> toHistoryItems(List<BillInquiryHistoryEntity> rows) {
+        return rows.stream()
+                .map(this::convertToHistoryItem)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 요청 ID로 이력 조회
+     * 
+     * 요청 ID(REQ_yyyyMMdd_XXXXXXXXXXXXXXXX)의 일자로 요청일시 범위를 지정하여
+     * 해당 월 파티션만 조회합니다. 형식이 다르면 전체 파티션을 조회합니다.
+     *
+     * 파티션 테이블은 request_id UNIQUE 제약을 둘 수 없으므로 고유성은 요청 ID 생성 규칙
+     * (일자 + 60비트 난수, 하루 1억 건에서도 충돌 확률 약 0.4%)으로 보장합니다.
+     * 그래도 중복 행이 생기면 단건 조회 예외 대신 가장 최근(id 최대) 행을 갱신 대상으로 사용합니다.
+     */
+    private Optional<BillInquiryHistoryEntity> findHistoryByRequestId(String requestId) {
+        String[] parts = requestId.split("_");
+        if (parts.length == 3 && parts[1].length() == 8) {
+            try {
+                LocalDate requestDate = LocalDate.parse(parts[1], DateTimeFormatter.BASIC_ISO_DATE);
+                return historyRepository.findFirstByRequestIdAndRequestTimeBetweenOrderByIdDesc(
+                        requestId, requestDate.atStartOfDay(), requestDate.plusDays(2).atStartOfDay());
+            } catch (DateTimeParseException e) {
+                log.debug("요청 ID 일자 형식 아님, 전체 조회 - 요청ID: {}", requestId);
+            }
         }
+        return historyRepository.findFirstByRequestIdOrderByIdDesc(requestId);
     }
 
     /**
@@ -332,4 +477,122 @@ public class BillHistoryService {
             return response.getStatus().name();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * KOS 요금조회 결과로 이력 엔티티 생성
+     */
+    private BillInquiryHistoryEntity buildHistoryEntity(InquiryRecord record) {
+        BillInquiryResponse.ProcessStatus status = toProcessStatus(record.response());
+        LocalDateTime now = LocalDateTime.now();
+
+        BillInquiryHistoryEntity.BillInquiryHistoryEntityBuilder builder = BillInquiryHistoryEntity.builder()
+                .requestId(record.requestId())
+                .lineNumber(record.lineNumber())
+                .inquiryMonth(normalizeInquiryMonth(record.inquiryMonth()))
+                .requestTime(now)
+                .processTime(now)
+                .status(status.name())
+                .resultSummary(generateResultSummary(status, record.response()))
+                .cacheHit(record.cacheHit())
+                .kosResponseTimeMs(record.kosResponseTimeMs());
+
+        if (status == BillInquiryResponse.ProcessStatus.FAILED && record.response() != null) {
+            builder.errorCode(record.response().getResultCode())
+                    .errorMessage(record.response().getResultMessage());
+        }
+        return builder.build();
+    }
+
+    /**
+     * KOS 처리 상태를 이력 처리 상태로 변환
+     */
+    private BillInquiryResponse.ProcessStatus toProcessStatus(KosBillInquiryResponse response) {
+        if (response == null || "FAILED".equals(response.getProcStatus())) {
+            return BillInquiryResponse.ProcessStatus.FAILED;
+        }
+        if ("SUCCESS".equals(response.getProcStatus())) {
+            return BillInquiryResponse.ProcessStatus.COMPLETED;
+        }
+        return BillInquiryResponse.ProcessStatus.PROCESSING;
+    }
+
+    /**
+     * 조회월을 이력 저장 형식(YYYY-MM)으로 변환
+     */
+    private String normalizeInquiryMonth(String inquiryMonth) {
+        if (inquiryMonth == null || inquiryMonth.trim().isEmpty()) {
+            return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        }
+        if (inquiryMonth.length() == 6) {
+            return inquiryMonth.substring(0, 4) + "-" + inquiryMonth.substring(4);
+        }
+        return inquiryMonth;
+    }
+
+    /**
+     * KOS 응답 데이터를 기반으로 결과 요약 생성
+     */
+    private String generateResultSummary(BillInquiryResponse.ProcessStatus status, KosBillInquiryResponse response) {
+        switch (status) {
+            case COMPLETED:
+                if (response.getBillInfo() != null && response.getBillInfo().getTotalFee() != null) {
+                    return String.format("%s, %,d원",
+                            response.getBillInfo().getProductName(),
+                            response.getBillInfo().getTotalFee().longValue());
+                }
+                return "조회 완료";
+            case PROCESSING:
+                return "처리 중";
+            default:
+                return "조회 실패";
+        }
+    }
+
+    /**
+     * KOS 요금조회 결과 이력 항목
+     *
+     * @param requestId 요청 ID
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월 (YYYYMM)
+     * @param response KOS 요금조회 응답
+     * @param cacheHit 캐시 히트 여부
+     * @param kosResponseTimeMs KOS 응답 시간(ms), 캐시 히트 시 null
+     */
+    public record InquiryRecord(String requestId, String lineNumber, String inquiryMonth,
+                                KosBillInquiryResponse response, boolean cacheHit, Long kosResponseTimeMs) {
+    }
+
+    /**
+     * 키셋 페이징 커서 (requestTime, id)
+     *
+     * 클라이언트에는 Base64URL 인코딩한 불투명 문자열로 전달합니다.
+     */
+    record HistoryCursor(LocalDateTime requestTime, Long id) {
+
+        private static final String DELIMITER = "|";
+
+        static HistoryCursor of(BillInquiryHistoryEntity entity) {
+            return new HistoryCursor(entity.getRequestTime(), entity.getId());
+        }
+
+        String encode() {
+            String raw = requestTime + DELIMITER + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int idx = raw.lastIndexOf(DELIMITER);
+                return new HistoryCursor(
+                        LocalDateTime.parse(raw.substring(0, idx)),
+                        Long.parseLong(raw.substring(idx + 1)));
+            } catch (RuntimeException e) {
+                throw new BillInquiryException("INVALID_CURSOR", "유효하지 않은 페이지 커서입니다", "cursor: " + cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.repository.BillInquiryHistoryRepository;
+import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요금조회 이력 write-behind 큐
+ *
+ * 요청 스레드는 이력 엔티티를 제한된 메모리 큐에 적재만 하고,
+ * 전용 기록 스레드가 건수 또는 시간 기준으로 묶어 JDBC 배치 INSERT로 저장
+ * - 큐가 가득 차면 최대 대기 시간만큼 대기(backpressure) 후 초과 정책 적용
+ *   (DROP: 버림, CALLER_RUNS: 호출 스레드에서 직접 저장)
+ * - 배치 저장 실패 시 건별 저장으로 재시도하여 한 건의 오류가 배치 전체에 영향을 주지 않음
+ * - 저장 완료된 이력은 통계 롤업에 증분 반영
+ * - 큐 깊이/적재/저장/버림/실패 건수 및 배치 저장 시간을 메트릭으로 노출
+ * - 종료 시 큐에 남은 이력을 최대 대기 시간까지 모두 저장
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Component
+public class BillHistoryWriteBehindQueue implements SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "bill.history.write-behind";
+    static final int SHUTDOWN_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final BillInquiryHistoryRepository historyRepository;
+    private final BillInquiryStatsRollupService statsRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<BillInquiryHistoryEntity> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long drainTimeoutMs;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Counter enqueued;
+    private final Counter persisted;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public BillHistoryWriteBehindQueue(
+            BillInquiryHistoryRepository historyRepository,
+            BillInquiryStatsRollupService statsRollupService,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${history.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${history.write-behind.batch-size:" + BillInquiryHistoryEntity.ID_ALLOCATION_SIZE + "}") int batchSize,
+            @Value("${history.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${history.write-behind.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${history.write-behind.drain-timeout-ms:10000}") long drainTimeoutMs,
+            @Value("${history.write-behind.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy) {
+        this.historyRepository = historyRepository;
+        this.statsRollupService = statsRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.overflowPolicy = overflowPolicy;
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                    .description("Pending history rows")
+                    .register(registry);
+            enqueued = registry.counter(METRIC_PREFIX + ".rows", "result", "enqueued");
+            persisted = registry.counter(METRIC_PREFIX + ".rows", "result", "persisted");
+            dropped = registry.counter(METRIC_PREFIX + ".rows", "result", "dropped");
+            failed = registry.counter(METRIC_PREFIX + ".rows", "result", "failed");
+            flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                    .description("Batch flush duration")
+                    .register(registry);
+        } else {
+            enqueued = null;
+            persisted = null;
+            dropped = null;
+            failed = null;
+            flushTimer = null;
+        }
+    }
+
+    /**
+     * 이력 적재
+     *
+     * 기록 스레드가 동작하지 않거나 큐가 가득 찬 경우 초과 정책을 적용합니다.
+     *
+     * @param entity 저장할 이력 엔티티
+     */
+    public void enqueue(BillInquiryHistoryEntity entity) {
+        if (offer(entity)) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            log.debug("이력 큐 초과, 호출 스레드에서 직접 저장 - 요청ID: {}", entity.getRequestId());
+            persistIndividually(List.of(entity));
+        } else {
+            increment(dropped, 1);
+            log.warn("이력 큐 초과로 이력 버림 - 요청ID: {}, 큐 깊이: {}", entity.getRequestId(), queue.size());
+        }
+    }
+
+    /**
+     * 이력 일괄 적재
+     *
+     * 큐에 적재하지 못한 이력은 한 번에 초과 정책을 적용합니다.
+     * (CALLER_RUNS: 호출 스레드에서 단일 배치로 저장)
+     *
+     * @param entities 저장할 이력 엔티티 목록
+     */
+    public void enqueueAll(List<BillInquiryHistoryEntity> entities) {
+        List<BillInquiryHistoryEntity> overflow = new ArrayList<>();
+        for (BillInquiryHistoryEntity entity : entities) {
+            if (!offer(entity)) {
+                overflow.add(entity);
+            }
+        }
+        if (overflow.isEmpty()) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            log.debug("이력 큐 초과, 호출 스레드에서 배치 저장 - {}건", overflow.size());
+            flush(overflow);
+        } else {
+            increment(dropped, overflow.size());
+            log.warn("이력 큐 초과로 이력 버림 - {}건, 큐 깊이: {}", overflow.size(), queue.size());
+        }
+    }
+
+    /**
+     * 대기 중인 이력 건수
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "bill-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("요금조회 이력 write-behind 시작 - 큐: {}건, 배치: {}건, 주기: {}ms, 초과 정책: {}",
+                queue.remainingCapacity(), batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(drainTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            log.warn("요금조회 이력 종료 저장 시간 초과 - 미저장: {}건", queue.size());
+        } else {
+            log.info("요금조회 이력 write-behind 종료 - 큐 저장 완료");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작, 나중에 종료
+     *
+     * 종료는 phase 역순이므로 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)과
+     * 웹 서버 중지(DEFAULT_PHASE - 2048)가 끝나 처리 중 요청의 이력이 모두 적재된 뒤에 큐를 비웁니다.
+     * DataSource는 Lifecycle 종료 이후 빈 소멸 단계에서 닫히므로 종료 저장 시점에도 사용할 수 있습니다.
+     */
+    @Override
+    public int getPhase() {
+        return SHUTDOWN_PHASE;
+    }
+
+    /**
+     * 기록 스레드: 배치 크기를 채우거나 주기가 지나면 저장, 종료 시 큐를 비울 때까지 계속
+     */
+    private void runWriter() {
+        List<BillInquiryHistoryEntity> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                BillInquiryHistoryEntity first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    BillInquiryHistoryEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } catch (Exception e) {
+                log.error("요금조회 이력 기록 스레드 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (단일 트랜잭션, JDBC 배치 INSERT)
+     */
+    private void flush(List<BillInquiryHistoryEntity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> historyRepository.saveAll(batch));
+            increment(persisted, batch.size());
+            log.debug("요금조회 이력 배치 저장 완료 - {}건", batch.size());
+            statsRollupService.record(batch);
+        } catch (Exception e) {
+            log.warn("요금조회 이력 배치 저장 실패, 건별 저장 재시도 - {}건, 오류: {}", batch.size(), e.getMessage());
+            persistIndividually(batch);
+        } finally {
+            if (flushTimer != null) {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void persistIndividually(List<BillInquiryHistoryEntity> entities) {
+        List<BillInquiryHistoryEntity> saved = new ArrayList<>(entities.size());
+        for (BillInquiryHistoryEntity entity : entities) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> historyRepository.save(entity));
+                increment(persisted, 1);
+                saved.add(entity);
+            } catch (Exception e) {
+                increment(failed, 1);
+                log.error("요금조회 이력 저장 오류 - 요청ID: {}, 오류: {}", entity.getRequestId(), e.getMessage());
+            }
+        }
+        statsRollupService.record(saved);
+    }
+
+    private boolean offer(BillInquiryHistoryEntity entity) {
+        try {
+            if (running && queue.offer(entity, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                increment(enqueued, 1);
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+
+    /**
+     * 큐 초과 시 처리 정책
+     */
+    public enum OverflowPolicy {
+        /** 이력을 버리고 버림 건수만 기록 */
+        DROP,
+        /** 호출 스레드에서 직접 저장 (응답 지연 감수) */
+        CALLER_RUNS
+    }
+}
@@ -51,7 +51,7 @@ public interface BillInquiryService {
      * UFR-BILL-040: 요금조회 결과 전송 및 이력 관리
      * - 사용자별 요금조회 이력 목록 조회
      * - 필터링: 회선번호, 기간, 상태
-     * - 페이징 처리
+     * - 키셋(커서) 페이징 처리
      * 
      * @param lineNumber 회선번호 (선택)
      * @param startDate 조회 시작일 (선택)
@@ -59,6 +59,8 @@ public interface BillInquiryService {
      * @param page 페이지 번호
      * @param size 페이지 크기
      * @param status 처리 상태 필터 (선택)
+     * @param cursor 다음 페이지 커서 (선택, 지정 시 page 무시)
+     * @param includeTotal 전체 건수 포함 여부
      * @return 요금조회 이력 응답 데이터
      */
     BillHistoryResponse getBillHistory(
@@ -67,6 +69,8 @@ public interface BillInquiryService {
         String endDate, 
         Integer page, 
         Integer size, 
-        BillInquiryResponse.ProcessStatus status
+        BillInquiryResponse.ProcessStatus status,
+        String cursor,
+        boolean includeTotal
     );
 }
\ No newline at end of file
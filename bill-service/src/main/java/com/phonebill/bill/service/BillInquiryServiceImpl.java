@@ -39,7 +39,10 @@ public class BillInquiryServiceImpl implements BillInquiryService {
 
     private final BillCacheService billCacheService;
     private final KosClientService kosClientService;
+    private final KosInquiryCoalescer kosInquiryCoalescer;
     private final BillHistoryService billHistoryService;
+    private final BillCacheWarmer billCacheWarmer;
+    private final AvailableMonthsIndex availableMonthsIndex;
 
     /**
      * 요금조회 메뉴 조회
@@ -60,14 +63,19 @@ public class BillInquiryServiceImpl implements BillInquiryService {
         // 현재 월
         String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
-        BillMenuResponse response = BillMenuResponse.builder()
+        BillMenuResponse.BillMenuResponseBuilder builder = BillMenuResponse.builder()
                 .customerInfo(BillMenuResponse.CustomerInfo.builder()
                         .customerId(customerId)
                         .lineNumber(lineNumber)
                         .build())
                 .availableMonths(availableMonths)
-                .currentMonth(currentMonth)
-                .build();
+                .currentMonth(currentMonth);
+
+        // KOS 장애로 마지막 정상 월 목록을 제공한 경우
+        if (availableMonths instanceof KosClientService.StaleAvailableMonths staleMonths) {
+            builder.stale(true).dataAsOf(staleMonths.getDataAsOf());
+        }
+        BillMenuResponse response = builder.build();
 
         log.info("요금조회 메뉴 조회 완료 - 고객: {}, 회선: {}", customerId, lineNumber);
         return response;
@@ -77,6 +85,14 @@ public class BillInquiryServiceImpl implements BillInquiryService {
      * 요금조회 요청 처리
      * 
      * UFR-BILL-020: 요금조회 신청
+     * 
+     * Read-Through 캐시 적용
+     * - 캐시 히트: KOS 호출 없이 캐시된 응답 반환
+     * - 캐시 미스: KOS 조회 후 비동기로 캐시 저장 (동일 회선/조회월 동시 요청은 한 번만 호출)
+     * - 캐시 히트 시 만료가 임박하면 백그라운드 갱신 (refresh-ahead)
+     * - 캐시 미스여도 만료 직후의 stale 값이 있으면 stale 표시와 함께 응답 후 백그라운드 갱신
+     *   (stale-while-revalidate), KOS 장애 시에는 fallback이 stale 값 제공 (stale-if-error)
+     * - 캐시 히트 여부 및 KOS 응답 시간은 이력에 비동기 기록
      */
     @Override
     @Transactional
@@ -86,6 +102,7 @@ public class BillInquiryServiceImpl implements BillInquiryService {
 
         // 요청 ID 생성
         String requestId = generateRequestId();
+        String lineNumber = request.getLineNumber();
 
         // 조회월 기본값 설정 (미입력시 당월)
         String inquiryMonth = request.getInquiryMonth();
@@ -93,27 +110,53 @@ public class BillInquiryServiceImpl implements BillInquiryService {
             inquiryMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
         }
 
+        // 캐시 우선 조회
+        KosBillInquiryResponse cachedResponse = billCacheService.getCachedKosBillData(lineNumber, inquiryMonth);
+        if (cachedResponse != null) {
+            log.info("요금조회 캐시 응답 반환 - 요청ID: {}, 회선: {}, 조회월: {}", 
+                    requestId, lineNumber, inquiryMonth);
+            billHistoryService.saveInquiryHistoryAsync(
+                    requestId, lineNumber, inquiryMonth, cachedResponse, true, null);
+            billCacheWarmer.onCacheHit(lineNumber, inquiryMonth, cachedResponse);
+            return cachedResponse;
+        }
+
+        // 만료 직후 stale 값 응답 (KOS 재조회는 백그라운드)
+        KosBillInquiryResponse staleResponse = billCacheWarmer.serveStaleWhileRevalidate(lineNumber, inquiryMonth);
+        if (staleResponse != null) {
+            billHistoryService.saveInquiryHistoryAsync(
+                    requestId, lineNumber, inquiryMonth, staleResponse, true, null);
+            return staleResponse;
+        }
+
+        long startTime = System.currentTimeMillis();
+
         try {
-            // KOS Mock 서비스 직접 호출
-            KosBillInquiryResponse response = kosClientService.inquireBillFromKosDirect(
-                request.getLineNumber(), inquiryMonth
-            );
+            // KOS Mock 서비스 호출 (동시 요청 병합 및 캐시 저장 포함)
+            KosBillInquiryResponse response = kosInquiryCoalescer.inquire(lineNumber, inquiryMonth);
+            long kosResponseTimeMs = System.currentTimeMillis() - startTime;
+
+            log.info("KOS Mock 요금조회 완료 - 요청ID: {}, 상태: {}, 응답시간: {}ms", 
+                    response.getRequestId(), response.getProcStatus(), kosResponseTimeMs);
 
-            log.info("KOS Mock 요금조회 완료 - 요청ID: {}, 상태: {}", 
-                    response.getRequestId(), response.getProcStatus());
+            billHistoryService.saveInquiryHistoryAsync(
+                    requestId, lineNumber, inquiryMonth, response, false, kosResponseTimeMs);
             return response;
 
         } catch (Exception e) {
             log.error("KOS Mock 요금조회 실패 - 회선: {}, 오류: {}", 
-                    request.getLineNumber(), e.getMessage(), e);
+                    lineNumber, e.getMessage(), e);
             
             // 실패 시 기본 응답 반환
-            return KosBillInquiryResponse.builder()
+            KosBillInquiryResponse failedResponse = KosBillInquiryResponse.builder()
                     .requestId(requestId)
                     .procStatus("FAILED")
                     .resultCode("9999")
                     .resultMessage("요금 조회 중 오류가 발생했습니다")
                     .build();
+            billHistoryService.saveInquiryHistoryAsync(requestId, lineNumber, inquiryMonth, failedResponse,
+                    false, System.currentTimeMillis() - startTime);
+            return failedResponse;
         }
     }
 
@@ -124,10 +167,11 @@ public class BillInquiryServiceImpl implements BillInquiryService {
     @Override
     public BillHistoryResponse getBillHistory(
             String lineNumber, String startDate, String endDate, 
-            Integer page, Integer size, BillInquiryResponse.ProcessStatus status) {
+            Integer page, Integer size, BillInquiryResponse.ProcessStatus status,
+            String cursor, boolean includeTotal) {
         
-        log.info("요금조회 이력 조회 - 회선: {}, 기간: {} ~ {}, 페이지: {}/{}, 상태: {}", 
-                lineNumber, startDate, endDate, page, size, status);
+        log.info("요금조회 이력 조회 - 회선: {}, 기간: {} ~ {}, 페이지: {}/{}, 상태: {}, 커서: {}", 
+                lineNumber, startDate, endDate, page, size, status, cursor);
 
         // 현재 사용자의 회선번호 목록 조회 (권한 확인)
         List<String> userLineNumbers = getCurrentUserLineNumbers();
@@ -140,11 +184,11 @@ public class BillInquiryServiceImpl implements BillInquiryService {
 
         // 이력 조회 (사용자 권한 기반)
         BillHistoryResponse historyResponse = billHistoryService.getBillHistory(
-            userLineNumbers, lineNumber, startDate, endDate, page, size, status
+            userLineNumbers, lineNumber, startDate, endDate, page, size, status, cursor, includeTotal
         );
 
-        log.info("요금조회 이력 조회 완료 - 총 {}건", 
-                historyResponse.getPagination().getTotalItems());
+        log.info("요금조회 이력 조회 완료 - 조회 {}건, 다음 페이지: {}", 
+                historyResponse.getItems().size(), historyResponse.getPagination().getHasNext());
         
         return historyResponse;
     }
@@ -221,8 +265,16 @@ public class BillInquiryServiceImpl implements BillInquiryService {
 
     /**
      * 실제 요금 데이터가 있는 월 목록 조회
+     *
+     * 회선별 데이터 보유 월 인덱스가 현재 청구 주기 기준으로 완전하면 KOS 호출 없이 응답
      */
     private List<String> getAvailableMonthsWithData(String lineNumber) {
+        List<String> indexedMonths = availableMonthsIndex.getAvailableMonths(lineNumber);
+        if (indexedMonths != null && !indexedMonths.isEmpty()) {
+            log.debug("데이터 보유 월 인덱스 응답 - 회선: {}, 월: {}", lineNumber, indexedMonths);
+            return indexedMonths;
+        }
+
         try {
             log.info("회선 {}의 실제 요금 데이터가 있는 월 목록 조회", lineNumber);
             
@@ -261,11 +313,11 @@ public class BillInquiryServiceImpl implements BillInquiryService {
     }
 
     /**
-     * 요청 ID 생성
+     * 요청 ID 생성 (REQ_yyyyMMdd_ + UUID 앞 16자리, 이력 테이블 request_id 고유성의 근거)
      */
-    private String generateRequestId() {
+    static String generateRequestId() {
         String currentDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
         return String.format("REQ_%s_%s", currentDate, uuid);
     }
 }
\ No newline at end of file
@@ -0,0 +1,493 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.repository.BillInquiryStatsRollupRepository;
+import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import com.phonebill.bill.repository.entity.BillInquiryStatsRollupEntity;
+import com.phonebill.bill.repository.entity.BillInquiryStatsRollupEntity.Granularity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 요금조회 통계 롤업 서비스
+ *
+ * 이력 저장 시점에 분/시/일 구간 통계를 증분 집계하고, 통계 조회를 롤업으로 처리
+ * - 전체 회선: 분/시/일 단위 상태별 건수, 캐시 히트, KOS 응답 시간 분포
+ * - 회선별: 일 단위 상태별 건수
+ * - 저장: 배치 단위로 메모리 집계 후 한 트랜잭션으로 UPSERT (노드 간 동시 증분 안전)
+ * - 상태 변경: 이전 상태 건수를 빼고 새 상태 건수를 더해 롤업 보정
+ * - 조회: 기간 길이와 보관 기간에 맞는 구간 단위를 선택하여 합산
+ *
+ * 롤업은 구간 단위로 집계되므로 조회 기간은 구간 경계로 확장됩니다.
+ * 이력 테이블을 GROUP BY로 스캔하는 통계 쿼리는 두지 않고 모든 통계를 롤업에서 조회합니다.
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BillInquiryStatsRollupService {
+
+    private static final String METRIC_PREFIX = "bill.history.stats.rollup";
+    static final int MAX_ATTEMPTS = 2;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO bill_inquiry_stats_rollup AS r (" +
+            "granularity, bucket_start, line_number, total_count, completed_count, processing_count, " +
+            "failed_count, cache_hit_count, latency_count, latency_sum_ms, latency_le_100, latency_le_300, " +
+            "latency_le_1000, latency_le_3000, latency_gt_3000) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (granularity, bucket_start, line_number) DO UPDATE SET " +
+            "total_count = r.total_count + EXCLUDED.total_count, " +
+            "completed_count = r.completed_count + EXCLUDED.completed_count, " +
+            "processing_count = r.processing_count + EXCLUDED.processing_count, " +
+            "failed_count = r.failed_count + EXCLUDED.failed_count, " +
+            "cache_hit_count = r.cache_hit_count + EXCLUDED.cache_hit_count, " +
+            "latency_count = r.latency_count + EXCLUDED.latency_count, " +
+            "latency_sum_ms = r.latency_sum_ms + EXCLUDED.latency_sum_ms, " +
+            "latency_le_100 = r.latency_le_100 + EXCLUDED.latency_le_100, " +
+            "latency_le_300 = r.latency_le_300 + EXCLUDED.latency_le_300, " +
+            "latency_le_1000 = r.latency_le_1000 + EXCLUDED.latency_le_1000, " +
+            "latency_le_3000 = r.latency_le_3000 + EXCLUDED.latency_le_3000, " +
+            "latency_gt_3000 = r.latency_gt_3000 + EXCLUDED.latency_gt_3000";
+
+    private final BillInquiryStatsRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter failedRows;
+    private final int minuteRetentionDays;
+    private final int hourRetentionDays;
+    private final int dayRetentionDays;
+
+    public BillInquiryStatsRollupService(
+            BillInquiryStatsRollupRepository rollupRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${history.stats.minute-retention-days:7}") int minuteRetentionDays,
+            @Value("${history.stats.hour-retention-days:90}") int hourRetentionDays,
+            @Value("${history.stats.day-retention-days:730}") int dayRetentionDays) {
+        this.rollupRepository = rollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minuteRetentionDays = minuteRetentionDays;
+        this.hourRetentionDays = hourRetentionDays;
+        this.dayRetentionDays = dayRetentionDays;
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        failedRows = registry != null
+                ? Counter.builder(METRIC_PREFIX + ".failures")
+                        .description("History rows not reflected in stats rollups")
+                        .register(registry)
+                : null;
+    }
+
+    // === 증분 집계 ===
+
+    /**
+     * 저장된 이력 배치를 롤업에 반영
+     *
+     * 롤업 반영 실패는 이력 저장에 영향을 주지 않도록 예외를 던지지 않습니다.
+     * 배치 전체를 한 트랜잭션으로 반영하므로 실패 시 재시도해도 중복 증분되지 않으며,
+     * 재시도까지 실패한 이력 건수는 실패 지표로 집계합니다.
+     *
+     * @param histories 저장 완료된 이력 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void record(List<BillInquiryHistoryEntity> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        // 교착 방지를 위해 키 순서대로 UPSERT
+        Map<RollupKey, Counts> rollups = new TreeMap<>();
+        for (BillInquiryHistoryEntity history : histories) {
+            forEachKey(history, key -> rollups.computeIfAbsent(key, k -> new Counts()).add(history));
+        }
+
+        if (upsert(rollups, histories.size())) {
+            log.debug("요금조회 통계 롤업 반영 - 이력 {}건, 롤업 {}행", histories.size(), rollups.size());
+        }
+    }
+
+    /**
+     * 저장된 이력의 상태 변경을 롤업에 반영
+     *
+     * 이전 상태 건수를 빼고 새 상태 건수를 더하며 전체 건수는 유지합니다.
+     * 상태 변경 트랜잭션이 커밋된 후 호출해야 합니다.
+     *
+     * @param history 상태가 변경된 이력 (변경 후 상태)
+     * @param previousStatus 변경 전 상태
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordStatusChange(BillInquiryHistoryEntity history, String previousStatus) {
+        if (previousStatus == null || Counts.statusIndex(previousStatus) == Counts.statusIndex(history.getStatus())) {
+            return;
+        }
+
+        Map<RollupKey, Counts> rollups = new TreeMap<>();
+        forEachKey(history, key -> rollups.computeIfAbsent(key, k -> new Counts())
+                .moveStatus(previousStatus, history.getStatus()));
+
+        if (upsert(rollups, 1)) {
+            log.debug("요금조회 통계 롤업 상태 보정 - 요청ID: {}, {} -> {}",
+                    history.getRequestId(), previousStatus, history.getStatus());
+        }
+    }
+
+    /**
+     * 롤업 증분 UPSERT (한 트랜잭션, 실패 시 재시도)
+     *
+     * @return 반영 성공 여부
+     */
+    private boolean upsert(Map<RollupKey, Counts> rollups, int historyCount) {
+        List<Object[]> args = new ArrayList<>(rollups.size());
+        rollups.forEach((key, counts) -> args.add(counts.toArgs(key)));
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, args));
+                return true;
+            } catch (Exception e) {
+                if (attempt < MAX_ATTEMPTS) {
+                    log.warn("요금조회 통계 롤업 반영 재시도 - 이력 {}건, 시도: {}/{}, 오류: {}",
+                            historyCount, attempt, MAX_ATTEMPTS, e.getMessage());
+                    continue;
+                }
+                if (failedRows != null) {
+                    failedRows.increment(historyCount);
+                }
+                log.error("요금조회 통계 롤업 반영 실패 - 이력 {}건, 롤업 {}행", historyCount, rollups.size(), e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 이력이 속한 롤업 행 키 (전체 회선 분/시/일, 회선별 일)
+     */
+    private static void forEachKey(BillInquiryHistoryEntity history, Consumer<RollupKey> action) {
+        LocalDateTime time = history.getRequestTime();
+        action.accept(new RollupKey(Granularity.MINUTE, time.truncatedTo(ChronoUnit.MINUTES),
+                BillInquiryStatsRollupEntity.ALL_LINES));
+        action.accept(new RollupKey(Granularity.HOUR, time.truncatedTo(ChronoUnit.HOURS),
+                BillInquiryStatsRollupEntity.ALL_LINES));
+        action.accept(new RollupKey(Granularity.DAY, time.truncatedTo(ChronoUnit.DAYS),
+                BillInquiryStatsRollupEntity.ALL_LINES));
+        action.accept(new RollupKey(Granularity.DAY, time.truncatedTo(ChronoUnit.DAYS),
+                history.getLineNumber()));
+    }
+
+    // === 통계 조회 ===
+
+    /**
+     * 회선 목록의 처리 상태별 건수 (일 단위 롤업)
+     *
+     * @param lineNumbers 회선번호 목록
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 상태별 건수 (건수가 있는 상태만)
+     */
+    public Map<String, Long> getStatusStatistics(List<String> lineNumbers, LocalDateTime startTime,
+                                                 LocalDateTime endTime) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (lineNumbers.isEmpty()) {
+            return result;
+        }
+
+        List<Object[]> rows = rollupRepository.sumStatusCounts(Granularity.DAY, lineNumbers,
+                floor(startTime, Granularity.DAY), ceil(endTime, Granularity.DAY));
+        if (rows.isEmpty()) {
+            return result;
+        }
+
+        Object[] sums = rows.get(0);
+        putIfPositive(result, "COMPLETED", sums[0]);
+        putIfPositive(result, "PROCESSING", sums[1]);
+        putIfPositive(result, "FAILED", sums[2]);
+        return result;
+    }
+
+    /**
+     * 전체 캐시 히트율 통계
+     *
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 전체 요청 수 / 캐시 히트 수
+     */
+    public CacheHitStats getCacheHitRateStatistics(LocalDateTime startTime, LocalDateTime endTime) {
+        long total = 0;
+        long hits = 0;
+        for (BillInquiryStatsRollupEntity rollup : findAllLineRollups(startTime, endTime)) {
+            total += rollup.getTotalCount();
+            hits += rollup.getCacheHitCount();
+        }
+        return new CacheHitStats(total, hits);
+    }
+
+    /**
+     * 전체 KOS 응답 시간 분포
+     *
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 응답 시간 건수/합계/구간별 분포
+     */
+    public LatencyStats getLatencyStatistics(LocalDateTime startTime, LocalDateTime endTime) {
+        long count = 0;
+        long sumMs = 0;
+        long[] buckets = new long[BillInquiryStatsRollupEntity.LATENCY_BOUNDS_MS.length + 1];
+        for (BillInquiryStatsRollupEntity rollup : findAllLineRollups(startTime, endTime)) {
+            count += rollup.getLatencyCount();
+            sumMs += rollup.getLatencySumMs();
+            long[] rollupBuckets = rollup.getLatencyBuckets();
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] += rollupBuckets[i];
+            }
+        }
+        return new LatencyStats(count, sumMs, buckets);
+    }
+
+    /**
+     * 느린 요청 건수 (응답 시간 분포 기반)
+     *
+     * 임계값은 분포 구간 경계(100/300/1000/3000ms)로 올림하여 계산합니다.
+     * 개별 요청 목록이 필요한 경우에만 이력 테이블(findSlowRequests)을 조회합니다.
+     *
+     * @param thresholdMs 임계값 (밀리초)
+     * @param startTime 조회 시작 시간
+     * @param endTime 조회 종료 시간
+     * @return 임계값 초과 요청 수
+     */
+    public long getSlowRequestCount(long thresholdMs, LocalDateTime startTime, LocalDateTime endTime) {
+        return getLatencyStatistics(startTime, endTime).countSlowerThan(thresholdMs);
+    }
+
+    /**
+     * 회선별 전체 이력 건수 (일 단위 롤업)
+     *
+     * @param lineNumbers 회선번호 목록
+     * @return 회선번호별 건수
+     */
+    public Map<String, Long> getHistoryCountByLineNumber(List<String> lineNumbers) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (lineNumbers.isEmpty()) {
+            return result;
+        }
+        for (Object[] row : rollupRepository.sumTotalCountByLineNumber(Granularity.DAY, lineNumbers)) {
+            result.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    /**
+     * 보관 기간이 지난 롤업 정리 (매일)
+     */
+    @Scheduled(cron = "${history.stats.purge-cron:0 40 3 * * *}")
+    @Transactional
+    public void purgeExpiredRollups() {
+        LocalDateTime now = LocalDateTime.now();
+        int minutes = rollupRepository.deleteExpired(Granularity.MINUTE, now.minusDays(minuteRetentionDays));
+        int hours = rollupRepository.deleteExpired(Granularity.HOUR, now.minusDays(hourRetentionDays));
+        int days = rollupRepository.deleteExpired(Granularity.DAY, now.minusDays(dayRetentionDays));
+        log.info("요금조회 통계 롤업 정리 - 분: {}행, 시: {}행, 일: {}행", minutes, hours, days);
+    }
+
+    /**
+     * 기간 길이와 보관 기간에 맞는 구간 단위로 전체 회선 롤업 조회
+     */
+    private List<BillInquiryStatsRollupEntity> findAllLineRollups(LocalDateTime startTime, LocalDateTime endTime) {
+        Granularity granularity = selectGranularity(startTime, endTime);
+        return rollupRepository.findByGranularityAndLineNumberAndBucketStartGreaterThanEqualAndBucketStartLessThan(
+                granularity, BillInquiryStatsRollupEntity.ALL_LINES,
+                floor(startTime, granularity), ceil(endTime, granularity));
+    }
+
+    private Granularity selectGranularity(LocalDateTime startTime, LocalDateTime endTime) {
+        Duration range = Duration.between(startTime, endTime);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (range.compareTo(Duration.ofHours(6)) <= 0 && startTime.isAfter(now.minusDays(minuteRetentionDays))) {
+            return Granularity.MINUTE;
+        }
+        if (range.compareTo(Duration.ofDays(14)) <= 0 && startTime.isAfter(now.minusDays(hourRetentionDays))) {
+            return Granularity.HOUR;
+        }
+        return Granularity.DAY;
+    }
+
+    private static LocalDateTime floor(LocalDateTime time, Granularity granularity) {
+        return time.truncatedTo(unit(granularity));
+    }
+
+    private static LocalDateTime ceil(LocalDateTime time, Granularity granularity) {
+        LocalDateTime floor = floor(time, granularity);
+        return floor.equals(time) ? time : floor.plus(1, unit(granularity));
+    }
+
+    private static ChronoUnit unit(Granularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> ChronoUnit.MINUTES;
+            case HOUR -> ChronoUnit.HOURS;
+            case DAY -> ChronoUnit.DAYS;
+        };
+    }
+
+    private static void putIfPositive(Map<String, Long> result, String status, Object value) {
+        long count = value != null ? ((Number) value).longValue() : 0;
+        if (count > 0) {
+            result.put(status, count);
+        }
+    }
+
+    /**
+     * 롤업 행 식별 키 (UPSERT 순서 정렬 가능)
+     */
+    private record RollupKey(Granularity granularity, LocalDateTime bucketStart, String lineNumber)
+            implements Comparable<RollupKey> {
+
+        private static final Comparator<RollupKey> ORDER = Comparator
+                .comparing(RollupKey::granularity)
+                .thenComparing(RollupKey::bucketStart)
+                .thenComparing(RollupKey::lineNumber);
+
+        @Override
+        public int compareTo(RollupKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * 롤업 행 증분 값
+     */
+    private static class Counts {
+        private long total;
+        private long completed;
+        private long processing;
+        private long failed;
+        private long cacheHits;
+        private long latencyCount;
+        private long latencySumMs;
+        private final long[] latencyBuckets = new long[BillInquiryStatsRollupEntity.LATENCY_BOUNDS_MS.length + 1];
+
+        void add(BillInquiryHistoryEntity history) {
+            total++;
+            addStatus(history.getStatus(), 1);
+            if (history.isCacheHit()) {
+                cacheHits++;
+            }
+            Long latency = history.getKosResponseTimeMs();
+            if (latency != null) {
+                latencyCount++;
+                latencySumMs += latency;
+                latencyBuckets[bucketIndex(latency)]++;
+            }
+        }
+
+        /**
+         * 전체 건수 변경 없이 상태별 건수만 이동
+         */
+        void moveStatus(String from, String to) {
+            addStatus(from, -1);
+            addStatus(to, 1);
+        }
+
+        private void addStatus(String status, long delta) {
+            switch (statusIndex(status)) {
+                case 0 -> completed += delta;
+                case 2 -> failed += delta;
+                default -> processing += delta;
+            }
+        }
+
+        /**
+         * 롤업 상태 컬럼 구분 (0: 완료, 1: 처리 중, 2: 실패)
+         */
+        static int statusIndex(String status) {
+            return switch (status) {
+                case "COMPLETED" -> 0;
+                case "FAILED" -> 2;
+                default -> 1;
+            };
+        }
+
+        Object[] toArgs(RollupKey key) {
+            return new Object[]{
+                    key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.lineNumber(),
+                    total, completed, processing, failed, cacheHits, latencyCount, latencySumMs,
+                    latencyBuckets[0], latencyBuckets[1], latencyBuckets[2], latencyBuckets[3], latencyBuckets[4]
+            };
+        }
+
+        private static int bucketIndex(long latencyMs) {
+            long[] bounds = BillInquiryStatsRollupEntity.LATENCY_BOUNDS_MS;
+            for (int i = 0; i < bounds.length; i++) {
+                if (latencyMs <= bounds[i]) {
+                    return i;
+                }
+            }
+            return bounds.length;
+        }
+    }
+
+    /**
+     * 캐시 히트율 통계
+     */
+    public record CacheHitStats(long totalCount, long cacheHitCount) {
+
+        public double getHitRate() {
+            return totalCount == 0 ? 0.0 : (double) cacheHitCount / totalCount;
+        }
+    }
+
+    /**
+     * KOS 응답 시간 통계 (구간별 분포 포함)
+     */
+    public record LatencyStats(long count, long sumMs, long[] buckets) {
+
+        public double getAverageMs() {
+            return count == 0 ? 0.0 : (double) sumMs / count;
+        }
+
+        /**
+         * 임계값을 구간 경계로 올림하여 그보다 느린 요청 수 계산
+         */
+        public long countSlowerThan(long thresholdMs) {
+            long[] bounds = BillInquiryStatsRollupEntity.LATENCY_BOUNDS_MS;
+            int from = bounds.length;
+            for (int i = 0; i < bounds.length; i++) {
+                if (thresholdMs <= bounds[i]) {
+                    from = i + 1;
+                    break;
+                }
+            }
+            long slow = 0;
+            for (int i = from; i < buckets.length; i++) {
+                slow += buckets[i];
+            }
+            return slow;
+        }
+    }
+}
@@ -6,27 +6,46 @@ import com.phonebill.bill.exception.CircuitBreakerException;
 import com.phonebill.bill.exception.KosConnectionException;
 import com.phonebill.bill.external.KosRequest;
 import com.phonebill.bill.external.KosResponse;
+import com.phonebill.common.resilience.AdaptiveConcurrencyLimit;
+import com.phonebill.common.resilience.HedgedRequest;
+import com.phonebill.common.traffic.KosTrafficLog;
+import com.phonebill.common.traffic.KosTrafficRecorder;
+import com.phonebill.kosmock.dto.KosAvailableMonthsResponse;
 import com.phonebill.kosmock.dto.KosCommonResponse;
 import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.util.Map;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
-
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -37,7 +56,12 @@ import java.util.concurrent.CompletableFuture;
  * - Circuit Breaker 패턴으로 외부 시스템 장애 격리
  * - Retry 패턴으로 일시적 네트워크 오류 극복
  * - Timeout 설정으로 응답 지연 방지
+ * - 비동기 조회는 WebClient 논블로킹 호출 (응답 대기 중 스레드 미점유)
+ * - 작업별 적응형 동시 호출 제한으로 KOS 지연 시 호출 누적 방지 (한도 초과 시 즉시 fallback)
  * - 데이터 변환 및 오류 처리
+ * - 사전 구성한 ObjectReader로 응답 스트림을 타입 객체로 직접 디코딩 (중간 Map 생성 없음)
+ * - 장애 시 fallback은 stale 계층의 마지막 정상 값을 stale 표시와 함께 제공 (stale-if-error)
+ * - 트래픽 기록 사용 시 WebClient 요금조회도 RestTemplate 인터셉터와 같은 형식으로 기록 (kos-mock 재생용)
  * 
  * @author 이개발(백엔더)
  * @version 1.0.0
@@ -48,8 +72,32 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class KosClientService {
 
+    private static final String BILL_INQUIRY_PATH = "/api/v1/kos/bill/inquiry";
+
     private final RestTemplate restTemplate;
     private final KosProperties kosProperties;
+    private final ObjectMapper objectMapper;
+    private final BillCacheService billCacheService;
+    private final WebClient kosWebClient;
+    private final AvailableMonthsIndex availableMonthsIndex;
+    private final ObjectProvider<KosTrafficRecorder> trafficRecorderProvider;
+
+    // 재사용 가능한 타입별 응답 리더 (스레드 안전)
+    private ObjectReader billInquiryReader;
+    private ObjectReader availableMonthsReader;
+
+    /**
+     * KOS 응답 타입별 ObjectReader 사전 구성
+     */
+    @PostConstruct
+    void initResponseReaders() {
+        ObjectReader baseReader = objectMapper.reader()
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        billInquiryReader = baseReader.forType(
+                new TypeReference<KosCommonResponse<KosBillInquiryResponse>>() {});
+        availableMonthsReader = baseReader.forType(
+                new TypeReference<KosCommonResponse<KosAvailableMonthsResponse>>() {});
+    }
 
     /**
      * KOS Mock 시스템에서 요금 정보 조회 (KosBillInquiryResponse 직접 반환)
@@ -60,6 +108,8 @@ public class KosClientService {
      */
     @CircuitBreaker(name = "kos-bill-inquiry-direct", fallbackMethod = "inquireBillDirectFallback")
     @Retry(name = "kos-bill-inquiry-direct")
+    @HedgedRequest("kos-bill-inquiry-direct")
+    @AdaptiveConcurrencyLimit("kos-bill-inquiry")
     public KosBillInquiryResponse inquireBillFromKosDirect(String lineNumber, String inquiryMonth) {
         log.info("KOS Mock 직접 호출 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
 
@@ -74,36 +124,24 @@ public class KosClientService {
                 "requestId", generateRequestId()
             );
             
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("X-Service-Name", "MVNO-BILL-INQUIRY");
-            headers.set("X-Request-ID", java.util.UUID.randomUUID().toString());
+            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(kosRequest, createKosHeaders());
 
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(kosRequest, headers);
-
-            // KOS Mock API 호출
+            // KOS Mock API 호출 (응답 스트림을 타입 객체로 직접 디코딩)
             String kosUrl = kosProperties.getBaseUrl() + "/api/v1/kos/bill/inquiry";
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                    kosUrl, HttpMethod.POST, requestEntity, Map.class
-            );
-
-            Map<String, Object> response = responseEntity.getBody();
+            KosCommonResponse<KosBillInquiryResponse> response = executeForKos(
+                    kosUrl, HttpMethod.POST, requestEntity, billInquiryReader);
             
             if (response == null) {
                 throw KosConnectionException.apiError("KOS-BILL-INQUIRY", 
-                        String.valueOf(responseEntity.getStatusCodeValue()), "응답 데이터가 없습니다");
+                        "NO_BODY", "응답 데이터가 없습니다");
             }
 
             // KosCommonResponse의 data 부분에서 KosBillInquiryResponse 추출
-            Map<String, Object> data = (Map<String, Object>) response.get("data");
-            if (data == null) {
+            KosBillInquiryResponse result = response.getData();
+            if (result == null) {
                 throw KosConnectionException.apiError("KOS-BILL-INQUIRY", 
                         "NO_DATA", "응답에서 data를 찾을 수 없습니다");
             }
-
-            // KosBillInquiryResponse 객체 구성
-            KosBillInquiryResponse result = convertMapToKosBillInquiryResponse(data);
             
             log.info("KOS Mock 직접 호출 성공 - 요청ID: {}", result.getRequestId());
             return result;
@@ -126,6 +164,7 @@ public class KosClientService {
      */
     @CircuitBreaker(name = "kos-bill-inquiry", fallbackMethod = "inquireBillSyncFallback")
     @Retry(name = "kos-bill-inquiry")
+    @AdaptiveConcurrencyLimit("kos-bill-inquiry")
     public BillInquiryResponse inquireBillFromKosSync(String lineNumber, String inquiryMonth) {
         log.info("KOS 요금조회 요청 (동기) - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
 
@@ -136,27 +175,18 @@ public class KosClientService {
             log.info("KOS Mock으로 전송하는 요청: lineNumber={}, inquiryMonth={}, requestId={}", 
                     kosRequest.getLineNumber(), kosRequest.getInquiryMonth(), kosRequest.getRequestId());
 
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("X-Service-Name", "MVNO-BILL-INQUIRY");
-            headers.set("X-Request-ID", java.util.UUID.randomUUID().toString());
+            HttpEntity<KosRequest> requestEntity = new HttpEntity<>(kosRequest, createKosHeaders());
 
-            HttpEntity<KosRequest> requestEntity = new HttpEntity<>(kosRequest, headers);
-
-            // KOS API 호출 (KOS Mock 응답 구조에 맞게 수정)
+            // KOS API 호출 (KOS Mock 응답 구조로 직접 디코딩)
             String kosUrl = kosProperties.getBaseUrl() + "/api/v1/kos/bill/inquiry";
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                    kosUrl, HttpMethod.POST, requestEntity, Map.class
-            );
-
-            Map<String, Object> kosCommonResponse = responseEntity.getBody();
+            KosCommonResponse<KosBillInquiryResponse> kosCommonResponse = executeForKos(
+                    kosUrl, HttpMethod.POST, requestEntity, billInquiryReader);
             
-            log.info("KOS Mock 응답 받음: {}", kosCommonResponse);
+            log.debug("KOS Mock 응답 받음: {}", kosCommonResponse);
             
             if (kosCommonResponse == null) {
                 throw KosConnectionException.apiError("KOS-BILL-INQUIRY", 
-                        String.valueOf(responseEntity.getStatusCodeValue()), "응답 데이터가 없습니다");
+                        "NO_BODY", "응답 데이터가 없습니다");
             }
 
             // KOS Mock 응답을 내부 모델로 변환
@@ -194,6 +224,8 @@ public class KosClientService {
      * KOS 시스템에서 요금 정보 조회 (비동기 처리)
      * 
      * Circuit Breaker, Retry, TimeLimiter 패턴 적용
+     * WebClient 논블로킹 호출 결과를 그대로 반환하므로 응답 대기 중 스레드를 점유하지 않음
+     * (TimeLimiter 시간 초과로 취소되면 진행 중인 HTTP 요청도 취소)
      * 
      * @param lineNumber 회선번호
      * @param inquiryMonth 조회월
@@ -202,65 +234,65 @@ public class KosClientService {
     @CircuitBreaker(name = "kos-bill-inquiry", fallbackMethod = "inquireBillFallback")
     @Retry(name = "kos-bill-inquiry")
     @TimeLimiter(name = "kos-bill-inquiry")
+    @AdaptiveConcurrencyLimit("kos-bill-inquiry")
     public CompletableFuture<BillInquiryResponse> inquireBillFromKos(String lineNumber, String inquiryMonth) {
-        return CompletableFuture.supplyAsync(() -> {
-            log.info("KOS 요금조회 요청 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
-
-            try {
-                // KOS 요청 데이터 구성
-                KosRequest kosRequest = KosRequest.createBillInquiryRequest(lineNumber, inquiryMonth, "system");
-
-                // HTTP 헤더 설정
-                HttpHeaders headers = new HttpHeaders();
-                headers.set("Content-Type", "application/json");
-                headers.set("X-Service-Name", "MVNO-BILL-INQUIRY");
-                headers.set("X-Request-ID", java.util.UUID.randomUUID().toString());
-
-                HttpEntity<KosRequest> requestEntity = new HttpEntity<>(kosRequest, headers);
-
-                // KOS API 호출
-                String kosUrl = kosProperties.getBaseUrl() + "/api/v1/kos/bill/inquiry";
-                ResponseEntity<KosResponse> responseEntity = restTemplate.exchange(
-                        kosUrl, HttpMethod.POST, requestEntity, KosResponse.class
-                );
-
-                KosResponse kosResponse = responseEntity.getBody();
-                
-                if (kosResponse == null) {
-                    throw KosConnectionException.apiError("KOS-BILL-INQUIRY", 
-                            String.valueOf(responseEntity.getStatusCodeValue()), "응답 데이터가 없습니다");
-                }
-
-                // KOS 응답을 내부 모델로 변환
-                BillInquiryResponse response = convertKosResponseToBillResponse(kosResponse);
-
-                log.info("KOS 요금조회 성공 - 회선: {}, 조회월: {}, 상태: {}", 
-                        lineNumber, inquiryMonth, response.getStatus());
-                
-                return response;
+        log.info("KOS 요금조회 요청 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
 
-            } catch (HttpClientErrorException e) {
-                log.error("KOS API 클라이언트 오류 - 회선: {}, 상태: {}, 응답: {}", 
-                        lineNumber, e.getStatusCode(), e.getResponseBodyAsString());
-                throw KosConnectionException.apiError("KOS-BILL-INQUIRY", 
-                        String.valueOf(e.getStatusCode().value()), e.getResponseBodyAsString());
+        return exchangeBillInquiry(lineNumber, inquiryMonth)
+                .map(this::convertKosMockResponseToBillResponse)
+                .doOnNext(response -> log.info("KOS 요금조회 성공 - 회선: {}, 조회월: {}, 상태: {}",
+                        lineNumber, inquiryMonth, response.getStatus()))
+                .toFuture();
+    }
 
-            } catch (HttpServerErrorException e) {
-                log.error("KOS API 서버 오류 - 회선: {}, 상태: {}, 응답: {}", 
-                        lineNumber, e.getStatusCode(), e.getResponseBodyAsString());
-                throw KosConnectionException.apiError("KOS-BILL-INQUIRY", 
-                        String.valueOf(e.getStatusCode().value()), e.getResponseBodyAsString());
+    /**
+     * KOS Mock 시스템에서 요금 정보 논블로킹 조회 (비동기 요금조회 경로)
+     *
+     * inquireBillFromKosDirect와 같은 Circuit Breaker/Retry 인스턴스를 사용하고,
+     * TimeLimiter는 Reactor timeout으로 적용되어 시간 초과 시 HTTP 요청을 취소합니다.
+     * 장애 시 fallback은 stale 계층의 마지막 정상 값을 논블로킹으로 조회하여 제공합니다.
+     * 동시 호출 수는 적응형 제한기 대신 WebClient 연결 풀 한도(kos.reactive.*)로 제한됩니다.
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월
+     * @return KOS 원본 응답 데이터
+     */
+    @CircuitBreaker(name = "kos-bill-inquiry-direct", fallbackMethod = "inquireBillReactiveFallback")
+    @Retry(name = "kos-bill-inquiry-direct")
+    @TimeLimiter(name = "kos-bill-inquiry")
+    public Mono<KosBillInquiryResponse> inquireBillFromKosReactive(String lineNumber, String inquiryMonth) {
+        log.info("KOS Mock 논블로킹 호출 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+
+        return exchangeBillInquiry(lineNumber, inquiryMonth)
+                .<KosBillInquiryResponse>handle((response, sink) -> {
+                    // KosCommonResponse의 data 부분에서 KosBillInquiryResponse 추출
+                    KosBillInquiryResponse result = response.getData();
+                    if (result == null) {
+                        sink.error(KosConnectionException.apiError("KOS-BILL-INQUIRY",
+                                "NO_DATA", "응답에서 data를 찾을 수 없습니다"));
+                        return;
+                    }
+                    log.info("KOS Mock 논블로킹 호출 성공 - 요청ID: {}", result.getRequestId());
+                    sink.next(result);
+                });
+    }
 
-            } catch (ResourceAccessException e) {
-                log.error("KOS 네트워크 연결 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
-                throw KosConnectionException.networkError("KOS-BILL-INQUIRY", e);
+    /**
+     * KOS Mock 논블로킹 호출 Circuit Breaker Fallback 메소드
+     */
+    public Mono<KosBillInquiryResponse> inquireBillReactiveFallback(String lineNumber, String inquiryMonth, Exception ex) {
+        log.warn("KOS Mock 논블로킹 호출 Circuit Breaker 작동 - 회선: {}, 조회월: {}, 오류: {}",
+                lineNumber, inquiryMonth, ex.getMessage());
 
-            } catch (Exception e) {
-                log.error("KOS 연동 중 예상치 못한 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage(), e);
-                throw new KosConnectionException("KOS-BILL-INQUIRY", 
-                        "KOS 시스템 연동 중 오류가 발생했습니다", e);
-            }
-        });
+        // 마지막 정상 값이 있으면 stale 표시와 함께 제공
+        return billCacheService.getStaleKosBillDataReactive(lineNumber, inquiryMonth)
+                .map(stale -> markStale(lineNumber, inquiryMonth, stale))
+                .switchIfEmpty(Mono.fromSupplier(() -> KosBillInquiryResponse.builder()
+                        .requestId(generateRequestId())
+                        .procStatus("FAILED")
+                        .resultCode("9999")
+                        .resultMessage("시스템 오류로 인한 조회 실패")
+                        .build()));
     }
 
     /**
@@ -270,6 +302,19 @@ public class KosClientService {
         log.warn("KOS 요금조회 동기 처리 Circuit Breaker 작동 - 회선: {}, 조회월: {}, 오류: {}", 
                 lineNumber, inquiryMonth, ex.getMessage());
 
+        // 마지막 정상 값이 있으면 stale 표시와 함께 제공
+        KosBillInquiryResponse stale = getStaleBillData(lineNumber, inquiryMonth);
+        if (stale != null) {
+            BillInquiryResponse converted = convertKosMockResponseToBillResponse(KosCommonResponse.success(stale));
+            return BillInquiryResponse.builder()
+                    .requestId(converted.getRequestId())
+                    .status(converted.getStatus())
+                    .billInfo(converted.getBillInfo())
+                    .stale(true)
+                    .dataAsOf(stale.getDataAsOf())
+                    .build();
+        }
+
         // Circuit Breaker가 Open 상태인 경우
         if (ex.getClass().getSimpleName().contains("CircuitBreakerOpenException")) {
             throw CircuitBreakerException.circuitBreakerOpen("KOS-BILL-INQUIRY");
@@ -366,24 +411,25 @@ public class KosClientService {
     /**
      * KOS Mock 응답을 내부 응답 모델로 변환
      */
-    private BillInquiryResponse convertKosMockResponseToBillResponse(Map<String, Object> kosCommonResponse) {
+    private BillInquiryResponse convertKosMockResponseToBillResponse(
+            KosCommonResponse<KosBillInquiryResponse> kosCommonResponse) {
         try {
             // KosCommonResponse에서 success와 data 추출
-            Boolean success = (Boolean) kosCommonResponse.get("success");
-            String resultCode = (String) kosCommonResponse.get("resultCode");
-            Map<String, Object> data = (Map<String, Object>) kosCommonResponse.get("data");
+            Boolean success = kosCommonResponse.getSuccess();
+            String resultCode = kosCommonResponse.getResultCode();
+            KosBillInquiryResponse data = kosCommonResponse.getData();
             
             if (!Boolean.TRUE.equals(success) || !"0000".equals(resultCode) || data == null) {
                 log.warn("KOS Mock 요금조회 실패 - success: {}, resultCode: {}", success, resultCode);
                 return BillInquiryResponse.builder()
-                        .requestId(data != null ? (String) data.get("requestId") : null)
+                        .requestId(data != null ? data.getRequestId() : null)
                         .status(BillInquiryResponse.ProcessStatus.FAILED)
                         .build();
             }
             
             // data에서 실제 요금 정보 추출
-            String procStatus = (String) data.get("procStatus");
-            Map<String, Object> billInfo = (Map<String, Object>) data.get("billInfo");
+            String procStatus = data.getProcStatus();
+            KosBillInquiryResponse.BillInfo billInfo = data.getBillInfo();
             
             // 상태 변환
             BillInquiryResponse.ProcessStatus status = BillInquiryResponse.ProcessStatus.COMPLETED;
@@ -399,37 +445,37 @@ public class KosClientService {
             if (billInfo != null && status == BillInquiryResponse.ProcessStatus.COMPLETED) {
                 // 할인 정보 처리
                 List<BillInquiryResponse.DiscountInfo> discounts = new ArrayList<>();
-                Object discountAmount = billInfo.get("discountAmount");
-                if (discountAmount != null && convertToInteger(discountAmount) > 0) {
+                BigDecimal discountAmount = billInfo.getDiscountAmount();
+                if (discountAmount != null && discountAmount.signum() > 0) {
                     discounts.add(BillInquiryResponse.DiscountInfo.builder()
                             .name("기본 할인")
-                            .amount(convertToInteger(discountAmount))
+                            .amount(discountAmount.intValue())
                             .build());
                 }
                 
                 convertedBillInfo = BillInquiryResponse.BillInfo.builder()
-                        .productName((String) billInfo.get("productName"))
-                        .contractInfo((String) billInfo.get("lineNumber"))
-                        .billingMonth((String) billInfo.get("billingMonth"))
-                        .totalAmount(convertToInteger(billInfo.get("totalFee")))
+                        .productName(billInfo.getProductName())
+                        .contractInfo(billInfo.getLineNumber())
+                        .billingMonth(billInfo.getBillingMonth())
+                        .totalAmount(billInfo.getTotalFee() != null ? billInfo.getTotalFee().intValue() : null)
                         .discountInfo(discounts)
                         .usage(BillInquiryResponse.UsageInfo.builder()
-                                .voice((String) billInfo.get("voiceUsage"))
-                                .sms((String) billInfo.get("smsUsage"))
-                                .data((String) billInfo.get("dataUsage"))
+                                .voice(billInfo.getVoiceUsage())
+                                .sms(billInfo.getSmsUsage())
+                                .data(billInfo.getDataUsage())
                                 .build())
                         .terminationFee(0) // KOS Mock에서 기본값
                         .deviceInstallment(0) // KOS Mock에서 기본값
                         .paymentInfo(BillInquiryResponse.PaymentInfo.builder()
-                                .billingDate((String) billInfo.get("dueDate"))
-                                .paymentStatus(getBillPaymentStatus((String) billInfo.get("billStatus")))
+                                .billingDate(billInfo.getDueDate())
+                                .paymentStatus(getBillPaymentStatus(billInfo.getBillStatus()))
                                 .paymentMethod("자동이체")
                                 .build())
                         .build();
             }
             
             return BillInquiryResponse.builder()
-                    .requestId((String) data.get("requestId"))
+                    .requestId(data.getRequestId())
                     .status(status)
                     .billInfo(convertedBillInfo)
                     .build();
@@ -440,21 +486,6 @@ public class KosClientService {
         }
     }
     
-    /**
-     * BigDecimal이나 다른 타입을 Integer로 변환
-     */
-    private Integer convertToInteger(Object value) {
-        if (value == null) return null;
-        if (value instanceof Integer) return (Integer) value;
-        if (value instanceof Number) return ((Number) value).intValue();
-        try {
-            return Integer.valueOf(value.toString().split("\\.")[0]); // 소수점 제거
-        } catch (NumberFormatException e) {
-            log.warn("숫자 변환 실패: {}", value);
-            return 0;
-        }
-    }
-    
     /**
      * KOS Mock의 billStatus를 PaymentStatus로 변환
      */
@@ -589,6 +620,12 @@ public class KosClientService {
         log.warn("KOS Mock 직접 호출 Circuit Breaker 작동 - 회선: {}, 조회월: {}, 오류: {}", 
                 lineNumber, inquiryMonth, ex.getMessage());
 
+        // 마지막 정상 값이 있으면 stale 표시와 함께 제공
+        KosBillInquiryResponse stale = getStaleBillData(lineNumber, inquiryMonth);
+        if (stale != null) {
+            return stale;
+        }
+
         // 기본 실패 응답 생성
         return KosBillInquiryResponse.builder()
                 .requestId(generateRequestId())
@@ -599,71 +636,128 @@ public class KosClientService {
     }
 
     /**
-     * Map을 KosBillInquiryResponse로 변환
+     * KOS 공통 요청 헤더 생성
      */
-    private KosBillInquiryResponse convertMapToKosBillInquiryResponse(Map<String, Object> data) {
-        try {
-            // billInfo 데이터 처리
-            KosBillInquiryResponse.BillInfo billInfo = null;
-            Map<String, Object> billInfoMap = (Map<String, Object>) data.get("billInfo");
-            if (billInfoMap != null) {
-                billInfo = KosBillInquiryResponse.BillInfo.builder()
-                        .lineNumber((String) billInfoMap.get("lineNumber"))
-                        .billingMonth((String) billInfoMap.get("billingMonth"))
-                        .productCode((String) billInfoMap.get("productCode"))
-                        .productName((String) billInfoMap.get("productName"))
-                        .monthlyFee(convertToBigDecimal(billInfoMap.get("monthlyFee")))
-                        .usageFee(convertToBigDecimal(billInfoMap.get("usageFee")))
-                        .discountAmount(convertToBigDecimal(billInfoMap.get("discountAmount")))
-                        .totalFee(convertToBigDecimal(billInfoMap.get("totalFee")))
-                        .dataUsage((String) billInfoMap.get("dataUsage"))
-                        .voiceUsage((String) billInfoMap.get("voiceUsage"))
-                        .smsUsage((String) billInfoMap.get("smsUsage"))
-                        .billStatus((String) billInfoMap.get("billStatus"))
-                        .dueDate((String) billInfoMap.get("dueDate"))
-                        .build();
-            }
-
-            // customerInfo 데이터 처리
-            KosBillInquiryResponse.CustomerInfo customerInfo = null;
-            Map<String, Object> customerInfoMap = (Map<String, Object>) data.get("customerInfo");
-            if (customerInfoMap != null) {
-                customerInfo = KosBillInquiryResponse.CustomerInfo.builder()
-                        .customerName((String) customerInfoMap.get("customerName"))
-                        .customerId((String) customerInfoMap.get("customerId"))
-                        .operatorCode((String) customerInfoMap.get("operatorCode"))
-                        .lineStatus((String) customerInfoMap.get("lineStatus"))
-                        .build();
-            }
+    private HttpHeaders createKosHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.set("X-Service-Name", "MVNO-BILL-INQUIRY");
+        headers.set("X-Request-ID", java.util.UUID.randomUUID().toString());
+        return headers;
+    }
 
-            return KosBillInquiryResponse.builder()
-                    .requestId((String) data.get("requestId"))
-                    .procStatus((String) data.get("procStatus"))
-                    .resultCode((String) data.get("resultCode"))
-                    .resultMessage((String) data.get("resultMessage"))
-                    .billInfo(billInfo)
-                    .customerInfo(customerInfo)
-                    .build();
+    /**
+     * KOS 요금조회 API 논블로킹 호출
+     *
+     * 응답 본문을 바이트 배열로 받아 사전 구성한 ObjectReader로 디코딩하며,
+     * 오류는 동기 호출과 같은 KosConnectionException으로 변환합니다.
+     */
+    private Mono<KosCommonResponse<KosBillInquiryResponse>> exchangeBillInquiry(String lineNumber, String inquiryMonth) {
+        // 회선번호 형식 변환 (010-1234-5678 → 01012345678)
+        Map<String, Object> kosRequest = Map.of(
+            "lineNumber", lineNumber.replaceAll("-", ""),
+            "billingMonth", inquiryMonth,
+            "requestId", generateRequestId()
+        );
+
+        Mono<ResponseEntity<byte[]>> exchange = kosWebClient.post()
+                .uri(BILL_INQUIRY_PATH)
+                .header("X-Request-ID", java.util.UUID.randomUUID().toString())
+                .bodyValue(kosRequest)
+                .retrieve()
+                .toEntity(byte[].class);
+
+        return recordTraffic(BILL_INQUIRY_PATH, kosRequest, exchange)
+                .mapNotNull(ResponseEntity::getBody)
+                .switchIfEmpty(Mono.error(() -> KosConnectionException.apiError("KOS-BILL-INQUIRY",
+                        "NO_BODY", "응답 데이터가 없습니다")))
+                .<KosCommonResponse<KosBillInquiryResponse>>handle((body, sink) -> {
+                    try {
+                        sink.next(billInquiryReader.readValue(body));
+                    } catch (IOException e) {
+                        sink.error(KosConnectionException.dataConversionError("KOS-BILL-INQUIRY",
+                                "KosCommonResponse", e));
+                    }
+                })
+                .onErrorMap(e -> !(e instanceof KosConnectionException), e -> toKosException(lineNumber, e));
+    }
 
-        } catch (Exception e) {
-            log.error("Map을 KosBillInquiryResponse로 변환 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("응답 데이터 변환 실패", e);
+    /**
+     * WebClient 호출 트래픽 기록 (기록 사용 시에만, 구독(재시도 시도)마다 1건)
+     *
+     * 조회 키는 요청 본문 Map에서 계산하므로 직렬화된 본문을 다시 읽지 않습니다.
+     * 응답 없이 실패하거나 시간 초과로 취소된 호출은 상태 0으로 기록합니다.
+     */
+    private Mono<ResponseEntity<byte[]>> recordTraffic(String path, Map<String, Object> kosRequest,
+                                                       Mono<ResponseEntity<byte[]>> exchange) {
+        KosTrafficRecorder recorder = trafficRecorderProvider.getIfAvailable();
+        String endpoint = KosTrafficLog.endpointOf(path);
+        if (recorder == null || endpoint == null) {
+            return exchange;
         }
+        String key = KosTrafficLog.keyOf(endpoint, path, objectMapper.valueToTree(kosRequest));
+
+        return Mono.defer(() -> {
+            long startTime = System.nanoTime();
+            return exchange
+                    .doOnSuccess(response -> {
+                        if (response != null) {
+                            recordTraffic(recorder, endpoint, key, startTime,
+                                    response.getStatusCode().value(), response.getBody());
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (e instanceof WebClientResponseException responseException) {
+                            recordTraffic(recorder, endpoint, key, startTime,
+                                    responseException.getStatusCode().value(),
+                                    responseException.getResponseBodyAsByteArray());
+                        } else {
+                            recordTraffic(recorder, endpoint, key, startTime, KosTrafficLog.NO_RESPONSE, null);
+                        }
+                    })
+                    .doOnCancel(() -> recordTraffic(recorder, endpoint, key, startTime,
+                            KosTrafficLog.NO_RESPONSE, null));
+        });
+    }
+
+    private static void recordTraffic(KosTrafficRecorder recorder, String endpoint, String key, long startTime,
+                                      int status, byte[] responseBody) {
+        int latencyMs = (int) ((System.nanoTime() - startTime) / 1_000_000);
+        recorder.record(new KosTrafficLog.Entry(System.currentTimeMillis(), latencyMs, status,
+                endpoint, key, responseBody));
     }
 
     /**
-     * Object를 BigDecimal로 변환
+     * WebClient 오류를 KOS 연동 예외로 변환
      */
-    private java.math.BigDecimal convertToBigDecimal(Object value) {
-        if (value == null) return null;
-        if (value instanceof java.math.BigDecimal) return (java.math.BigDecimal) value;
-        if (value instanceof Number) return java.math.BigDecimal.valueOf(((Number) value).doubleValue());
-        try {
-            return new java.math.BigDecimal(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("BigDecimal 변환 실패: {}", value);
-            return java.math.BigDecimal.ZERO;
+    private KosConnectionException toKosException(String lineNumber, Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("KOS API 오류 - 회선: {}, 상태: {}, 응답: {}",
+                    lineNumber, responseException.getStatusCode(), responseException.getResponseBodyAsString());
+            return KosConnectionException.apiError("KOS-BILL-INQUIRY",
+                    String.valueOf(responseException.getStatusCode().value()),
+                    responseException.getResponseBodyAsString());
+        }
+        if (e instanceof WebClientRequestException) {
+            log.error("KOS 네트워크 연결 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
+            return KosConnectionException.networkError("KOS-BILL-INQUIRY", e);
         }
+        log.error("KOS 연동 중 예상치 못한 오류 - 회선: {}, 오류: {}", lineNumber, e.getMessage(), e);
+        return new KosConnectionException("KOS-BILL-INQUIRY", "KOS 시스템 연동 중 오류가 발생했습니다", e);
+    }
+
+    /**
+     * KOS API 호출 후 응답 본문 스트림을 지정된 리더로 직접 디코딩
+     * 
+     * 메시지 컨버터/중간 Map을 거치지 않으므로 응답당 객체 생성이 1회로 줄어듦
+     */
+    private <T> T executeForKos(String url, HttpMethod method, HttpEntity<?> requestEntity, ObjectReader reader) {
+        return restTemplate.execute(url, method, restTemplate.httpEntityCallback(requestEntity), response -> {
+            try (InputStream body = response.getBody()) {
+                return reader.readValue(body);
+            }
+        });
     }
 
     /**
@@ -683,6 +777,8 @@ public class KosClientService {
      */
     @CircuitBreaker(name = "kos-available-months", fallbackMethod = "getAvailableMonthsFallback")
     @Retry(name = "kos-available-months")
+    @HedgedRequest("kos-available-months")
+    @AdaptiveConcurrencyLimit("kos-available-months")
     public List<String> getAvailableMonths(String lineNumber) {
         log.info("KOS에서 회선 {}의 데이터 보유 월 조회", lineNumber);
 
@@ -690,21 +786,12 @@ public class KosClientService {
             // 회선번호 형식 변환 (010-1234-5678 → 01012345678)
             String formattedLineNumber = lineNumber.replaceAll("-", "");
             
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("X-Service-Name", "MVNO-BILL-INQUIRY");
-            headers.set("X-Request-ID", java.util.UUID.randomUUID().toString());
-
-            HttpEntity<String> requestEntity = new HttpEntity<>(headers);
+            HttpEntity<String> requestEntity = new HttpEntity<>(createKosHeaders());
 
             // KOS Mock API 호출 - 월 목록 조회
             String kosUrl = kosProperties.getBaseUrl() + "/api/v1/kos/bill/available-months/" + formattedLineNumber;
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                    kosUrl, HttpMethod.GET, requestEntity, Map.class
-            );
-
-            Map<String, Object> response = responseEntity.getBody();
+            KosCommonResponse<KosAvailableMonthsResponse> response = executeForKos(
+                    kosUrl, HttpMethod.GET, requestEntity, availableMonthsReader);
             
             if (response == null) {
                 log.warn("KOS에서 월 목록 응답이 없음");
@@ -712,18 +799,20 @@ public class KosClientService {
             }
 
             // KosCommonResponse의 data 부분에서 월 목록 추출
-            Map<String, Object> data = (Map<String, Object>) response.get("data");
+            KosAvailableMonthsResponse data = response.getData();
             if (data == null) {
                 log.warn("KOS 응답에서 data를 찾을 수 없음");
                 return new ArrayList<>();
             }
 
-            List<String> availableMonths = (List<String>) data.get("availableMonths");
+            List<String> availableMonths = data.getAvailableMonths();
             if (availableMonths == null) {
                 availableMonths = new ArrayList<>();
             }
 
             log.info("KOS에서 조회된 데이터 보유 월: {} (총 {}개월)", availableMonths, availableMonths.size());
+            billCacheService.cacheStaleAvailableMonths(lineNumber, availableMonths);
+            availableMonthsIndex.replace(lineNumber, availableMonths);
             return availableMonths;
 
         } catch (Exception e) {
@@ -738,9 +827,54 @@ public class KosClientService {
      */
     public List<String> getAvailableMonthsFallback(String lineNumber, Exception ex) {
         log.warn("KOS 데이터 보유 월 조회 Circuit Breaker 작동 - 회선: {}, 오류: {}", lineNumber, ex.getMessage());
+
+        // 마지막 정상 월 목록이 있으면 stale 표시와 함께 제공
+        BillCacheService.StaleValue<List<String>> stale = billCacheService.getStaleAvailableMonths(lineNumber);
+        if (stale != null) {
+            log.info("KOS 데이터 보유 월 stale 응답 - 회선: {}, 원 조회 시각: {}", lineNumber, stale.dataAsOf());
+            return new StaleAvailableMonths(stale.value(), stale.dataAsOf());
+        }
         return new ArrayList<>(); // 빈 목록 반환
     }
 
+    /**
+     * stale 계층의 마지막 정상 요금조회 응답 (stale 표시 설정)
+     */
+    private KosBillInquiryResponse getStaleBillData(String lineNumber, String inquiryMonth) {
+        BillCacheService.StaleValue<KosBillInquiryResponse> stale =
+                billCacheService.getStaleKosBillData(lineNumber, inquiryMonth);
+        return stale != null ? markStale(lineNumber, inquiryMonth, stale) : null;
+    }
+
+    private KosBillInquiryResponse markStale(String lineNumber, String inquiryMonth,
+                                             BillCacheService.StaleValue<KosBillInquiryResponse> stale) {
+        KosBillInquiryResponse response = stale.value();
+        response.setStale(true);
+        response.setDataAsOf(stale.dataAsOf());
+        log.info("KOS 요금조회 stale 응답 - 회선: {}, 조회월: {}, 원 조회 시각: {}",
+                lineNumber, inquiryMonth, stale.dataAsOf());
+        return response;
+    }
+
+    /**
+     * stale 계층에서 제공된 데이터 보유 월 목록
+     *
+     * fallback 반환 타입(List)을 유지하면서 stale 여부와 원 조회 시각을 전달
+     */
+    public static final class StaleAvailableMonths extends ArrayList<String> {
+
+        private final LocalDateTime dataAsOf;
+
+        StaleAvailableMonths(Collection<String> months, LocalDateTime dataAsOf) {
+            super(months);
+            this.dataAsOf = dataAsOf;
+        }
+
+        public LocalDateTime getDataAsOf() {
+            return dataAsOf;
+        }
+    }
+
     /**
      * KOS 시스템 연결 상태 확인
      * 
@@ -0,0 +1,260 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.config.KosProperties;
+import com.phonebill.bill.exception.KosConnectionException;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KOS 요금조회 요청 병합기 (single-flight)
+ *
+ * 동일 회선/조회월에 대한 동시 캐시 미스를 하나의 KOS 호출로 병합
+ * - 선행 요청(leader)은 대기 없이 즉시 KOS를 호출하고 결과를 캐시에 저장
+ * - 후속 요청(follower)은 선행 요청 결과를 최대 대기 시간까지 공유
+ * - 대기 시간 초과 시 후속 요청은 직접 KOS 호출 (결과는 선행 요청과 같은 방식으로 캐시에 저장)
+ * - Circuit Breaker fallback 응답도 동일하게 공유
+ * - 선택적으로 Redis 락을 사용해 노드 간에도 병합
+ * - 비동기 요금조회 경로는 진행 중인 Mono를 공유하여 병합 (대기 중 스레드 미점유)
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KosInquiryCoalescer {
+
+    private static final String LOCK_KEY_PREFIX = "bill:lock:kos:";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final KosClientService kosClientService;
+    private final BillCacheService billCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final KosProperties kosProperties;
+
+    private final Map<String, CompletableFuture<KosBillInquiryResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Mono<KosBillInquiryResponse>> reactiveInFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 요금조회 (동일 회선/조회월 동시 요청 병합)
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월
+     * @return KOS 요금조회 응답
+     */
+    public KosBillInquiryResponse inquire(String lineNumber, String inquiryMonth) {
+        KosProperties.Coalescing coalescing = kosProperties.getCoalescing();
+        if (!Boolean.TRUE.equals(coalescing.getEnabled())) {
+            return callAndCache(lineNumber, inquiryMonth);
+        }
+
+        String key = lineNumber + ":" + inquiryMonth;
+        CompletableFuture<KosBillInquiryResponse> future = new CompletableFuture<>();
+        CompletableFuture<KosBillInquiryResponse> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return awaitLeader(existing, lineNumber, inquiryMonth, coalescing.getMaxWaitMs());
+        }
+
+        try {
+            KosBillInquiryResponse response = Boolean.TRUE.equals(coalescing.getDistributedLockEnabled())
+                    ? inquireWithLock(lineNumber, inquiryMonth, coalescing)
+                    : callAndCache(lineNumber, inquiryMonth);
+            future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 논블로킹 요금조회 (동일 회선/조회월 동시 요청 병합, 비동기 요금조회 경로)
+     *
+     * 선행 요청의 Mono를 공유하며, 후속 요청은 최대 대기 시간을 넘기면 직접 호출합니다.
+     * 구독자가 모두 취소해도 선행 호출은 끝까지 진행되어 결과를 캐시에 저장합니다.
+     * 노드 간 병합(Redis 락)은 폴링 대기가 필요하므로 이 경로에서는 적용하지 않습니다.
+     *
+     * @param lineNumber 회선번호
+     * @param inquiryMonth 조회월
+     * @return KOS 요금조회 응답
+     */
+    public Mono<KosBillInquiryResponse> inquireReactive(String lineNumber, String inquiryMonth) {
+        KosProperties.Coalescing coalescing = kosProperties.getCoalescing();
+        if (!Boolean.TRUE.equals(coalescing.getEnabled())) {
+            return callAndCacheReactive(lineNumber, inquiryMonth);
+        }
+
+        String key = lineNumber + ":" + inquiryMonth;
+        AtomicReference<Mono<KosBillInquiryResponse>> created = new AtomicReference<>();
+        Mono<KosBillInquiryResponse> shared = reactiveInFlight.computeIfAbsent(key, k -> {
+            AtomicReference<Mono<KosBillInquiryResponse>> self = new AtomicReference<>();
+            Mono<KosBillInquiryResponse> leader = callAndCacheReactive(lineNumber, inquiryMonth)
+                    .doFinally(signal -> reactiveInFlight.remove(k, self.get()))
+                    .cache();
+            self.set(leader);
+            created.set(leader);
+            return leader;
+        });
+
+        if (shared == created.get()) {
+            return shared;
+        }
+        log.debug("진행 중인 KOS 요금조회 결과 대기 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+        return shared.timeout(Duration.ofMillis(coalescing.getMaxWaitMs()),
+                Mono.defer(() -> {
+                    log.warn("KOS 요금조회 병합 대기 시간 초과, 직접 호출 - 회선: {}, 조회월: {}, 대기: {}ms",
+                            lineNumber, inquiryMonth, coalescing.getMaxWaitMs());
+                    return callAndCacheReactive(lineNumber, inquiryMonth);
+                }));
+    }
+
+    /**
+     * 진행 중인 요청 수 (모니터링용)
+     */
+    public int getInFlightCount() {
+        return inFlight.size() + reactiveInFlight.size();
+    }
+
+    /**
+     * 선행 요청 결과 대기
+     */
+    private KosBillInquiryResponse awaitLeader(CompletableFuture<KosBillInquiryResponse> leader,
+                                               String lineNumber, String inquiryMonth, long maxWaitMs) {
+        log.debug("진행 중인 KOS 요금조회 결과 대기 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+        try {
+            return leader.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("KOS 요금조회 병합 대기 시간 초과, 직접 호출 - 회선: {}, 조회월: {}, 대기: {}ms",
+                    lineNumber, inquiryMonth, maxWaitMs);
+            return callAndCache(lineNumber, inquiryMonth);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new KosConnectionException("KOS-BILL-INQUIRY-DIRECT",
+                    "KOS 요금조회 실패: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KosConnectionException("KOS-BILL-INQUIRY-DIRECT", "KOS 요금조회 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * Redis 락을 이용한 노드 간 병합
+     *
+     * 락 보유 노드만 KOS를 호출하고 캐시에 동기 저장합니다.
+     * 락을 얻지 못한 노드는 캐시를 주기적으로 확인하며, 락 해제 또는
+     * 최대 대기 시간 초과 시 직접 호출합니다.
+     * 락 TTL은 재시도를 포함한 최대 KOS 호출 시간 이상이므로 선행 요청이 호출 중일 때 만료되지 않습니다.
+     */
+    private KosBillInquiryResponse inquireWithLock(String lineNumber, String inquiryMonth,
+                                                   KosProperties.Coalescing coalescing) {
+        String lockKey = LOCK_KEY_PREFIX + lineNumber + ":" + inquiryMonth;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofMillis(kosProperties.getCoalescingLockTtlMs()));
+        } catch (Exception e) {
+            log.warn("KOS 요금조회 락 획득 실패, 락 없이 진행 - 키: {}, 오류: {}", lockKey, e.getMessage());
+            return callAndCache(lineNumber, inquiryMonth);
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                KosBillInquiryResponse response = kosClientService.inquireBillFromKosDirect(lineNumber, inquiryMonth);
+                billCacheService.cacheKosBillData(lineNumber, inquiryMonth, response);
+                return response;
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+
+        KosBillInquiryResponse cached = pollCache(lockKey, lineNumber, inquiryMonth, coalescing);
+        return cached != null ? cached : callAndCache(lineNumber, inquiryMonth);
+    }
+
+    /**
+     * 다른 노드의 결과를 캐시에서 대기
+     */
+    private KosBillInquiryResponse pollCache(String lockKey, String lineNumber, String inquiryMonth,
+                                             KosProperties.Coalescing coalescing) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalescing.getMaxWaitMs());
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(coalescing.getLockPollIntervalMs());
+
+                KosBillInquiryResponse cached = billCacheService.getCachedKosBillData(lineNumber, inquiryMonth);
+                if (cached != null) {
+                    log.debug("다른 노드 KOS 요금조회 결과 사용 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+                    return cached;
+                }
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey))) {
+                    // 락이 해제됐지만 캐시 대상이 아닌 응답(실패 등)인 경우
+                    return null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KosConnectionException("KOS-BILL-INQUIRY-DIRECT", "KOS 요금조회 대기 중 인터럽트", e);
+        } catch (Exception e) {
+            log.warn("KOS 요금조회 락 대기 중 Redis 오류, 직접 호출 - 회선: {}, 오류: {}", lineNumber, e.getMessage());
+            return null;
+        }
+
+        log.warn("KOS 요금조회 락 대기 시간 초과, 직접 호출 - 회선: {}, 조회월: {}", lineNumber, inquiryMonth);
+        return null;
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(lockKey), token);
+        } catch (Exception e) {
+            // 해제 실패 시 락은 TTL 만료로 정리됨
+            log.warn("KOS 요금조회 락 해제 실패 - 키: {}, 오류: {}", lockKey, e.getMessage());
+        }
+    }
+
+    /**
+     * KOS 논블로킹 호출 후 비동기 캐시 저장
+     */
+    private Mono<KosBillInquiryResponse> callAndCacheReactive(String lineNumber, String inquiryMonth) {
+        return kosClientService.inquireBillFromKosReactive(lineNumber, inquiryMonth)
+                .doOnNext(response -> billCacheService.cacheKosBillDataAsync(lineNumber, inquiryMonth, response));
+    }
+
+    /**
+     * KOS 호출 후 비동기 캐시 저장
+     */
+    private KosBillInquiryResponse callAndCache(String lineNumber, String inquiryMonth) {
+        KosBillInquiryResponse response = kosClientService.inquireBillFromKosDirect(lineNumber, inquiryMonth);
+        billCacheService.cacheKosBillDataAsync(lineNumber, inquiryMonth, response);
+        return response;
+    }
+}
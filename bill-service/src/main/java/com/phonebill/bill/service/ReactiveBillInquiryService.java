@@ -0,0 +1,124 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.config.KosProperties;
+import com.phonebill.bill.dto.BillInquiryRequest;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 비동기(논블로킹) 요금조회 서비스
+ *
+ * BillInquiryServiceImpl.inquireBill과 같은 조회 순서를 논블로킹으로 수행
+ * - 캐시 조회: L1 → 리액티브 Redis (refresh-ahead 예약 포함)
+ * - 캐시 미스: stale 값이 허용 구간 이내면 stale 표시와 함께 응답 후 백그라운드 갱신
+ * - KOS 조회: WebClient 호출을 요청 병합기로 공유 (Circuit Breaker/Retry/TimeLimiter 적용)
+ * - 이력 저장은 write-behind 큐 초과 시 호출 스레드 저장이 일어날 수 있으므로 별도 스케줄러에서 적재
+ *
+ * 응답 대기 중에는 어떤 스레드도 점유하지 않으므로 느린 KOS 조회 수천 건을
+ * 소수의 이벤트 루프 스레드로 동시에 처리할 수 있습니다.
+ * kos.reactive.enabled=false면 기존 동기 처리를 요청 스레드에서 그대로 실행합니다
+ * (서블릿/가상 스레드가 KOS 응답을 기다리는 기존 동작과 같음).
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-08
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveBillInquiryService {
+
+    private final BillCacheService billCacheService;
+    private final KosInquiryCoalescer kosInquiryCoalescer;
+    private final BillHistoryService billHistoryService;
+    private final BillCacheWarmer billCacheWarmer;
+    private final BillInquiryService billInquiryService;
+    private final KosProperties kosProperties;
+
+    /**
+     * 요금조회 요청 처리 (논블로킹)
+     *
+     * @param request 요금조회 요청 데이터
+     * @return 요금조회 응답 데이터
+     */
+    public Mono<KosBillInquiryResponse> inquireBill(BillInquiryRequest request) {
+        if (!Boolean.TRUE.equals(kosProperties.getReactive().getEnabled())) {
+            return Mono.fromCallable(() -> billInquiryService.inquireBill(request));
+        }
+
+        String requestId = BillInquiryServiceImpl.generateRequestId();
+        String lineNumber = request.getLineNumber();
+
+        // 조회월 기본값 설정 (미입력시 당월)
+        String inquiryMonth = request.getInquiryMonth();
+        if (inquiryMonth == null || inquiryMonth.trim().isEmpty()) {
+            inquiryMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
+        }
+        String month = inquiryMonth;
+
+        log.info("요금조회 요청 처리 시작 (논블로킹) - 회선: {}, 조회월: {}", lineNumber, month);
+
+        return billCacheService.getCachedKosBillDataReactive(lineNumber, month)
+                .doOnNext(cached -> {
+                    log.info("요금조회 캐시 응답 반환 - 요청ID: {}, 회선: {}, 조회월: {}", requestId, lineNumber, month);
+                    saveHistory(requestId, lineNumber, month, cached, true, null);
+                    billCacheWarmer.onCacheHit(lineNumber, month, cached);
+                })
+                .switchIfEmpty(Mono.defer(() -> serveStale(requestId, lineNumber, month)))
+                .switchIfEmpty(Mono.defer(() -> inquireKos(requestId, lineNumber, month)));
+    }
+
+    /**
+     * 만료 직후 stale 값 응답 (KOS 재조회는 백그라운드)
+     */
+    private Mono<KosBillInquiryResponse> serveStale(String requestId, String lineNumber, String inquiryMonth) {
+        return billCacheService.getStaleKosBillDataReactive(lineNumber, inquiryMonth)
+                .mapNotNull(stale -> billCacheWarmer.serveStale(lineNumber, inquiryMonth, stale))
+                .doOnNext(stale -> saveHistory(requestId, lineNumber, inquiryMonth, stale, true, null));
+    }
+
+    /**
+     * KOS 조회 (동시 요청 병합 및 캐시 저장 포함)
+     */
+    private Mono<KosBillInquiryResponse> inquireKos(String requestId, String lineNumber, String inquiryMonth) {
+        long startTime = System.currentTimeMillis();
+
+        return kosInquiryCoalescer.inquireReactive(lineNumber, inquiryMonth)
+                .doOnNext(response -> {
+                    long kosResponseTimeMs = System.currentTimeMillis() - startTime;
+                    log.info("KOS Mock 요금조회 완료 (논블로킹) - 요청ID: {}, 상태: {}, 응답시간: {}ms",
+                            response.getRequestId(), response.getProcStatus(), kosResponseTimeMs);
+                    saveHistory(requestId, lineNumber, inquiryMonth, response, false, kosResponseTimeMs);
+                })
+                .onErrorResume(e -> {
+                    log.error("KOS Mock 요금조회 실패 - 회선: {}, 오류: {}", lineNumber, e.getMessage(), e);
+
+                    // 실패 시 기본 응답 반환
+                    KosBillInquiryResponse failedResponse = KosBillInquiryResponse.builder()
+                            .requestId(requestId)
+                            .procStatus("FAILED")
+                            .resultCode("9999")
+                            .resultMessage("요금 조회 중 오류가 발생했습니다")
+                            .build();
+                    saveHistory(requestId, lineNumber, inquiryMonth, failedResponse, false,
+                            System.currentTimeMillis() - startTime);
+                    return Mono.just(failedResponse);
+                });
+    }
+
+    /**
+     * 이력 적재 (이벤트 루프 스레드에서 DB 저장이 일어나지 않도록 별도 스케줄러 사용)
+     */
+    private void saveHistory(String requestId, String lineNumber, String inquiryMonth,
+                             KosBillInquiryResponse response, boolean cacheHit, Long kosResponseTimeMs) {
+        Schedulers.boundedElastic().schedule(() -> billHistoryService.saveInquiryHistoryAsync(
+                requestId, lineNumber, inquiryMonth, response, cacheHit, kosResponseTimeMs));
+    }
+}
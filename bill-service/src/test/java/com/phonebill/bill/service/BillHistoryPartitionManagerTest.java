@@ -0,0 +1,142 @@
+package com.phonebill.bill.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요금조회 이력 파티션 관리자 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BillHistoryPartitionManagerTest {
+
+    private static final int RETENTION_MONTHS = 24;
+    private static final int PREMAKE_MONTHS = 3;
+    private static final int PURGE_BATCH_SIZE = 2;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("파티션명과 월을 상호 변환하고 월별 파티션이 아니면 null을 반환한다")
+    void partitionNameRoundTrip() {
+        YearMonth month = YearMonth.of(2025, 1);
+
+        assertThat(BillHistoryPartitionManager.partitionName(month)).isEqualTo("bill_inquiry_history_202501");
+        assertThat(BillHistoryPartitionManager.parsePartitionMonth("bill_inquiry_history_202501")).isEqualTo(month);
+        assertThat(BillHistoryPartitionManager.parsePartitionMonth("bill_inquiry_history_default")).isNull();
+        assertThat(BillHistoryPartitionManager.parsePartitionMonth("other_table_202501")).isNull();
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이면 잠금을 잡고 선생성 후 보관 기간이 지난 파티션만 분리/삭제한다")
+    void maintainsPartitionsUnderLock() {
+        YearMonth now = YearMonth.now();
+        String expired = BillHistoryPartitionManager.partitionName(now.minusMonths(RETENTION_MONTHS));
+        String retained = BillHistoryPartitionManager.partitionName(now.minusMonths(RETENTION_MONTHS - 1L));
+        givenPartitioned(true);
+        givenLock(true);
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any()))
+                .thenReturn(List.of(expired, retained, "bill_inquiry_history_default"));
+
+        manager(false).maintainPartitions();
+
+        verify(jdbcTemplate, times(PREMAKE_MONTHS + 1)).execute(startsWith("CREATE TABLE IF NOT EXISTS"));
+        verify(jdbcTemplate).execute("ALTER TABLE bill_inquiry_history DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+        verify(jdbcTemplate, never()).execute("DROP TABLE " + retained);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 가지고 있으면 파티션 관리를 건너뛴다")
+    void skipsMaintenanceWhenLocked() {
+        givenPartitioned(true);
+        givenLock(false);
+
+        manager(false).maintainPartitions();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("파티션 미전환 테이블은 기본적으로 경고만 남기고 삭제하지 않는다")
+    void unpartitionedPurgeIsOptIn() {
+        givenPartitioned(false);
+
+        manager(false).maintainPartitions();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(), any());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), any());
+    }
+
+    @Test
+    @DisplayName("미전환 테이블 삭제를 켜면 배치마다 잠금을 잡고 마지막 배치까지 삭제한다")
+    void unpartitionedPurgeRunsUnderLockPerBatch() {
+        givenPartitioned(false);
+        givenLock(true);
+        when(jdbcTemplate.update(startsWith("DELETE FROM bill_inquiry_history"), any(), any()))
+                .thenReturn(PURGE_BATCH_SIZE, 1);
+
+        manager(true).maintainPartitions();
+
+        verify(jdbcTemplate, times(2)).update(startsWith("DELETE FROM bill_inquiry_history"), any(), any());
+        verify(jdbcTemplate, times(2)).queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any());
+    }
+
+    @Test
+    @DisplayName("미전환 테이블 삭제 중 잠금을 얻지 못하면 삭제를 중단한다")
+    void unpartitionedPurgeStopsWithoutLock() {
+        givenPartitioned(false);
+        givenLock(false);
+
+        manager(true).maintainPartitions();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(), any());
+    }
+
+    private BillHistoryPartitionManager manager(boolean unpartitionedPurgeEnabled) {
+        return new BillHistoryPartitionManager(jdbcTemplate, transactionTemplate, true, RETENTION_MONTHS,
+                PREMAKE_MONTHS, BillHistoryPartitionManager.RetentionMode.DROP, PURGE_BATCH_SIZE,
+                unpartitionedPurgeEnabled);
+    }
+
+    private void givenPartitioned(boolean partitioned) {
+        when(jdbcTemplate.queryForList(contains("relkind"), eq(String.class), any()))
+                .thenReturn(partitioned ? List.of("p") : List.of("r"));
+    }
+
+    private void givenLock(boolean acquired) {
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .thenReturn(acquired);
+    }
+}
@@ -0,0 +1,127 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.repository.BillInquiryHistoryRepository;
+import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요금조회 이력 write-behind 큐 종료 처리 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BillHistoryWriteBehindQueueTest {
+
+    @Mock
+    private BillInquiryHistoryRepository historyRepository;
+
+    @Mock
+    private BillInquiryStatsRollupService statsRollupService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private BillHistoryWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new BillHistoryWriteBehindQueue(historyRepository, statsRollupService, transactionManager,
+                meterRegistryProvider, 1000, 50, 10L, 50L, 10_000L,
+                BillHistoryWriteBehindQueue.OverflowPolicy.CALLER_RUNS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 이력을 모두 저장한다")
+    void stopDrainsPendingHistory() throws Exception {
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        AtomicInteger saved = new AtomicInteger();
+        when(historyRepository.saveAll(any())).thenAnswer(invocation -> {
+            Collection<?> batch = invocation.getArgument(0);
+            if (firstFlushStarted.getCount() > 0) {
+                firstFlushStarted.countDown();
+                releaseFirstFlush.await();
+            }
+            // 저장 후 배치 리스트를 재사용하므로 호출 시점 건수를 누적
+            saved.addAndGet(batch.size());
+            return null;
+        });
+        queue.start();
+
+        queue.enqueue(history(0));
+        assertThat(firstFlushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        // 기록 스레드가 첫 배치 저장에 묶여 있는 동안 나머지 이력이 큐에 쌓임
+        for (int i = 1; i < 120; i++) {
+            queue.enqueue(history(i));
+        }
+        assertThat(queue.getQueueDepth()).isEqualTo(119);
+
+        Thread stopper = new Thread(queue::stop);
+        stopper.start();
+        releaseFirstFlush.countDown();
+        stopper.join(10_000);
+
+        assertThat(stopper.isAlive()).isFalse();
+        assertThat(queue.getQueueDepth()).isZero();
+        assertThat(saved.get()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("종료 후 적재 요청은 CALLER_RUNS 정책으로 호출 스레드에서 저장한다")
+    void enqueueAfterStopPersistsOnCaller() {
+        queue.start();
+        queue.stop();
+
+        BillInquiryHistoryEntity entity = history(0);
+        queue.enqueue(entity);
+
+        verify(historyRepository).save(entity);
+        assertThat(queue.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("웹 서버 graceful shutdown과 중지 이후에 종료된다")
+    void stopsAfterWebServer() {
+        // SmartLifecycle은 phase가 높은 순서로 종료 (웹 서버 graceful shutdown: DEFAULT_PHASE - 1024, 중지: DEFAULT_PHASE - 2048)
+        assertThat(queue.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    private static BillInquiryHistoryEntity history(int index) {
+        return BillInquiryHistoryEntity.builder()
+                .requestId("REQ" + index)
+                .lineNumber("01012345678")
+                .inquiryMonth("2025-01")
+                .requestTime(LocalDateTime.now())
+                .status("COMPLETED")
+                .build();
+    }
+}
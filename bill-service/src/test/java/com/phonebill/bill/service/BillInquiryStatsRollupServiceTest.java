@@ -0,0 +1,167 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.repository.BillInquiryStatsRollupRepository;
+import com.phonebill.bill.repository.entity.BillInquiryHistoryEntity;
+import com.phonebill.bill.repository.entity.BillInquiryStatsRollupEntity.Granularity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요금조회 통계 롤업 서비스 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BillInquiryStatsRollupServiceTest {
+
+    // 이력 1건당 롤업 행 수 (전체 회선 분/시/일 + 회선별 일)
+    private static final int ROWS_PER_HISTORY = 4;
+
+    @Mock
+    private BillInquiryStatsRollupRepository rollupRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BillInquiryStatsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        service = new BillInquiryStatsRollupService(rollupRepository, jdbcTemplate, transactionManager,
+                meterRegistryProvider, 7, 90, 730);
+    }
+
+    @Test
+    @DisplayName("UPSERT가 일시적으로 실패하면 한 번 더 시도하고 실패 지표는 올리지 않는다")
+    void retriesFailedUpsertOnce() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("연결 끊김"))
+                .thenReturn(new int[0]);
+
+        service.record(List.of(history("REQ1", "COMPLETED")));
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertThat(failures()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도까지 실패하면 예외를 던지지 않고 반영하지 못한 이력 건수를 지표로 집계한다")
+    void countsFailedHistoriesAfterRetries() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("연결 끊김"));
+
+        service.record(List.of(history("REQ1", "COMPLETED"), history("REQ2", "FAILED")));
+
+        verify(jdbcTemplate, times(BillInquiryStatsRollupService.MAX_ATTEMPTS)).batchUpdate(anyString(), anyList());
+        assertThat(failures()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("상태 변경은 전체 건수를 유지하고 이전 상태에서 새 상태로 건수를 옮긴다")
+    @SuppressWarnings("unchecked")
+    void statusChangeMovesCountBetweenStatuses() {
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        when(jdbcTemplate.batchUpdate(anyString(), args.capture())).thenReturn(new int[0]);
+
+        service.recordStatusChange(history("REQ1", "COMPLETED"), "PROCESSING");
+
+        assertThat(args.getValue()).hasSize(ROWS_PER_HISTORY);
+        for (Object[] row : args.getValue()) {
+            // [3] 전체, [4] 완료, [5] 처리 중, [6] 실패
+            assertThat(row[3]).isEqualTo(0L);
+            assertThat(row[4]).isEqualTo(1L);
+            assertThat(row[5]).isEqualTo(-1L);
+            assertThat(row[6]).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    @DisplayName("상태 구분이 같으면 롤업을 보정하지 않는다")
+    void sameStatusIsNotRecorded() {
+        service.recordStatusChange(history("REQ1", "COMPLETED"), "COMPLETED");
+        service.recordStatusChange(history("REQ2", "PROCESSING"), "PENDING");
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("상태별 통계는 일 단위 롤업 합계에서 건수가 있는 상태만 반환한다")
+    void statusStatisticsReadDayRollups() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 30);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 31, 18, 0);
+        List<String> lineNumbers = List.of("01012345678");
+        when(rollupRepository.sumStatusCounts(Granularity.DAY, lineNumbers,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0)))
+                .thenReturn(List.<Object[]>of(new Object[]{12L, 0L, 3L}));
+
+        Map<String, Long> statistics = service.getStatusStatistics(lineNumbers, start, end);
+
+        assertThat(statistics).containsExactly(Map.entry("COMPLETED", 12L), Map.entry("FAILED", 3L));
+    }
+
+    @Test
+    @DisplayName("회선별 건수는 이력 테이블이 아니라 일 단위 롤업 합계에서 읽는다")
+    void historyCountByLineNumberReadsDayRollups() {
+        List<String> lineNumbers = List.of("01011112222", "01033334444");
+        when(rollupRepository.sumTotalCountByLineNumber(Granularity.DAY, lineNumbers))
+                .thenReturn(List.<Object[]>of(new Object[]{"01011112222", 5L}));
+
+        assertThat(service.getHistoryCountByLineNumber(lineNumbers)).containsExactly(Map.entry("01011112222", 5L));
+        assertThat(service.getHistoryCountByLineNumber(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("느린 요청 수는 임계값을 분포 구간 경계로 올려 그보다 느린 구간만 합산한다")
+    void slowRequestCountRoundsUpToBucketBound() {
+        BillInquiryStatsRollupService.LatencyStats stats =
+                new BillInquiryStatsRollupService.LatencyStats(15, 9000, new long[]{5, 4, 3, 2, 1});
+
+        assertThat(stats.countSlowerThan(300)).isEqualTo(6);
+        assertThat(stats.countSlowerThan(500)).isEqualTo(3);
+        assertThat(stats.countSlowerThan(5000)).isEqualTo(1);
+    }
+
+    private double failures() {
+        return meterRegistry.get("bill.history.stats.rollup.failures").counter().count();
+    }
+
+    private static BillInquiryHistoryEntity history(String requestId, String status) {
+        return BillInquiryHistoryEntity.builder()
+                .requestId(requestId)
+                .lineNumber("01012345678")
+                .inquiryMonth("2025-01")
+                .requestTime(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.phonebill.bill.service;
+
+import com.phonebill.bill.config.KosProperties;
+import com.phonebill.kosmock.dto.KosBillInquiryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * KOS 요금조회 요청 병합기 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class KosInquiryCoalescerTest {
+
+    private static final String LINE = "01012345678";
+    private static final String MONTH = "202501";
+
+    @Mock
+    private KosClientService kosClientService;
+
+    @Mock
+    private BillCacheService billCacheService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private KosProperties kosProperties;
+    private KosInquiryCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        kosProperties = new KosProperties();
+        kosProperties.setBaseUrl("http://localhost:8084");
+        coalescer = new KosInquiryCoalescer(kosClientService, billCacheService, stringRedisTemplate, kosProperties);
+    }
+
+    @Test
+    @DisplayName("같은 회선/월 동시 요청은 KOS를 한 번만 호출하고 결과를 공유한다")
+    void concurrentRequestsShareSingleKosCall() throws Exception {
+        KosBillInquiryResponse response = response("leader");
+        CountDownLatch leaderCalling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(kosClientService.inquireBillFromKosDirect(LINE, MONTH)).thenAnswer(invocation -> {
+            leaderCalling.countDown();
+            release.await();
+            return response;
+        });
+
+        List<KosBillInquiryResponse> results = new CopyOnWriteArrayList<>();
+        Thread leader = new Thread(() -> results.add(coalescer.inquire(LINE, MONTH)));
+        leader.start();
+        assertThat(leaderCalling.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread follower = new Thread(() -> results.add(coalescer.inquire(LINE, MONTH)));
+            followers.add(follower);
+            follower.start();
+        }
+        // 후속 요청이 모두 선행 요청 결과를 기다리는 상태가 된 뒤 KOS 응답
+        await().atMost(Duration.ofSeconds(5)).until(() -> followers.stream()
+                .allMatch(thread -> thread.getState() == Thread.State.TIMED_WAITING));
+        release.countDown();
+
+        leader.join(5000);
+        for (Thread follower : followers) {
+            follower.join(5000);
+        }
+
+        assertThat(results).hasSize(5).allMatch(result -> result == response);
+        verify(kosClientService, times(1)).inquireBillFromKosDirect(LINE, MONTH);
+        verify(billCacheService, times(1)).cacheKosBillDataAsync(LINE, MONTH, response);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘긴 후속 요청의 직접 호출 결과도 캐시에 저장한다")
+    void timedOutFollowerCachesItsOwnResult() throws Exception {
+        kosProperties.getCoalescing().setMaxWaitMs(50L);
+        KosBillInquiryResponse leaderResponse = response("leader");
+        KosBillInquiryResponse followerResponse = response("follower");
+        CountDownLatch leaderCalling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(kosClientService.inquireBillFromKosDirect(LINE, MONTH)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                leaderCalling.countDown();
+                release.await();
+                return leaderResponse;
+            }
+            return followerResponse;
+        });
+
+        Thread leader = new Thread(() -> coalescer.inquire(LINE, MONTH));
+        leader.start();
+        assertThat(leaderCalling.await(5, TimeUnit.SECONDS)).isTrue();
+
+        KosBillInquiryResponse result = coalescer.inquire(LINE, MONTH);
+        release.countDown();
+        leader.join(5000);
+
+        assertThat(result).isSameAs(followerResponse);
+        verify(billCacheService).cacheKosBillDataAsync(LINE, MONTH, followerResponse);
+        verify(billCacheService).cacheKosBillDataAsync(LINE, MONTH, leaderResponse);
+    }
+
+    @Test
+    @DisplayName("분산 락 TTL은 기본적으로 재시도를 포함한 최대 KOS 호출 시간이다")
+    void lockTtlCoversWholeKosCallByDefault() {
+        kosProperties.getCoalescing().setDistributedLockEnabled(true);
+        KosBillInquiryResponse response = response("leader");
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), eq(Duration.ofMillis(107_000L)))).thenReturn(true);
+        when(kosClientService.inquireBillFromKosDirect(LINE, MONTH)).thenReturn(response);
+
+        KosBillInquiryResponse result = coalescer.inquire(LINE, MONTH);
+
+        // 3회 시도 × (연결 5초 + 읽기 30초) + 재시도 간격 2회 × 1초
+        assertThat(result).isSameAs(response);
+        verify(valueOperations).setIfAbsent(eq("bill:lock:kos:" + LINE + ":" + MONTH), anyString(),
+                eq(Duration.ofMillis(107_000L)));
+        verify(billCacheService).cacheKosBillData(LINE, MONTH, response);
+    }
+
+    @Test
+    @DisplayName("분산 락 TTL을 직접 지정하면 그 값을 사용한다")
+    void explicitLockTtlIsUsed() {
+        kosProperties.getCoalescing().setLockTtlMs(90_000L);
+
+        assertThat(kosProperties.getCoalescingLockTtlMs()).isEqualTo(90_000L);
+    }
+
+    private static KosBillInquiryResponse response(String requestId) {
+        return KosBillInquiryResponse.builder()
+                .requestId(requestId)
+                .procStatus("SUCCESS")
+                .resultCode("0000")
+                .build();
+    }
+}
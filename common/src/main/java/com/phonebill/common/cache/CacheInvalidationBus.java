@@ -0,0 +1,98 @@
+package com.phonebill.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 L1 무효화 버스
+ *
+ * Redis Pub/Sub 채널로 무효화 메시지를 발행하고, 수신 시 같은 이름의
+ * {@link TwoTierCache} L1만 무효화합니다. 자신이 발행한 메시지는 무시합니다.
+ *
+ * 메시지 형식: {nodeId}|{cacheName}|{KEY|PREFIX}|{target}
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String DEFAULT_CHANNEL = "cache:l1:invalidation";
+
+    private static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChannelTopic topic;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(RedisTemplate<String, Object> redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    public ChannelTopic getTopic() {
+        return topic;
+    }
+
+    /**
+     * 무효화 대상 캐시 등록
+     */
+    public void register(TwoTierCache cache) {
+        caches.put(cache.getName(), cache);
+        cache.setInvalidationBus(this);
+    }
+
+    /**
+     * 무효화 메시지 발행
+     */
+    void publish(String cacheName, Scope scope, String target) {
+        byte[] channel = topic.getTopic().getBytes(StandardCharsets.UTF_8);
+        byte[] body = String.join(DELIMITER, nodeId, cacheName, scope.name(), target)
+                .getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length != 4) {
+            log.warn("잘못된 L1 캐시 무효화 메시지: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            if (Scope.valueOf(parts[2]) == Scope.PREFIX) {
+                cache.evictLocalByPrefix(parts[3]);
+            } else {
+                cache.evictLocal(parts[3]);
+            }
+            log.debug("원격 L1 캐시 무효화 - 캐시: {}, 범위: {}, 대상: {}", parts[1], parts[2], parts[3]);
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 L1 캐시 무효화 범위: {}", parts[2]);
+        }
+    }
+
+    /**
+     * 무효화 범위
+     */
+    public enum Scope {
+        KEY,
+        PREFIX
+    }
+}
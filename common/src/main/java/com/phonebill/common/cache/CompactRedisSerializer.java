@@ -0,0 +1,219 @@
+package com.phonebill.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * 버전 헤더를 가진 Redis 값 직렬화기
+ *
+ * 기존 JSON 직렬화와 같은 ObjectMapper 설정(타입 정보 포함)을 사용하되,
+ * 바이너리 JSON(Smile)으로 인코딩하고 기준 크기 이상이면 LZ4/Zstd로 압축합니다.
+ * 필드명/클래스명 등 반복 문자열은 Smile 공유 참조로 한 번만 기록됩니다.
+ *
+ * 형식: [MAGIC][VERSION][CODEC]([원본 길이 4바이트] 압축 시)[본문]
+ *
+ * 읽기는 헤더가 없는 기존 JSON 값도 지원하므로, 쓰기 형식을 JSON으로 유지한 채
+ * 모든 노드를 배포한 뒤 COMPACT로 전환하면 캐시를 비우지 않고 이전할 수 있습니다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = 4;
+    private static final int ZSTD_LEVEL = 3;
+
+    /**
+     * 압축 해제 후 최대 크기 (손상되거나 조작된 길이 필드로 인한 과대 할당 방지)
+     */
+    static final int MAX_ORIGINAL_LENGTH = 64 * 1024 * 1024;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper binaryMapper;
+    private final Format format;
+    private final Compression compression;
+    private final int compressionThreshold;
+
+    /**
+     * @param mapperCustomizer JSON/바이너리 ObjectMapper 공통 설정 (타입 정보, 모듈 등)
+     * @param format 쓰기 형식
+     * @param compression 압축 방식 (COMPACT 형식에만 적용)
+     * @param compressionThreshold 압축 기준 크기 (바이트, 인코딩 결과가 이 값 이상일 때 압축)
+     */
+    public CompactRedisSerializer(Consumer<ObjectMapper> mapperCustomizer, Format format,
+                                  Compression compression, int compressionThreshold) {
+        this.jsonMapper = new ObjectMapper();
+        mapperCustomizer.accept(jsonMapper);
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.binaryMapper = new ObjectMapper(smileFactory);
+        mapperCustomizer.accept(binaryMapper);
+
+        this.format = format;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            if (format == Format.JSON) {
+                return jsonMapper.writeValueAsBytes(value);
+            }
+
+            byte[] body = binaryMapper.writeValueAsBytes(value);
+            if (compression == Compression.NONE || body.length < compressionThreshold) {
+                return frame(Compression.NONE, body, 0);
+            }
+            return frame(compression, compression.compress(body), body.length);
+        } catch (Exception e) {
+            throw new SerializationException("Redis 값 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            // 헤더가 없으면 기존 JSON 값
+            if (bytes[0] != MAGIC) {
+                return jsonMapper.readValue(bytes, Object.class);
+            }
+            if (bytes.length < HEADER_SIZE || bytes[1] > VERSION) {
+                throw new SerializationException("지원하지 않는 Redis 값 형식 버전: " + (bytes.length > 1 ? bytes[1] : -1));
+            }
+
+            Compression codec = Compression.of(bytes[2]);
+            if (codec == Compression.NONE) {
+                return binaryMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+            }
+
+            if (bytes.length < HEADER_SIZE + LENGTH_SIZE) {
+                throw new SerializationException("Redis 값 압축 헤더 누락: " + bytes.length + "바이트");
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+            int offset = HEADER_SIZE + LENGTH_SIZE;
+            byte[] body = codec.decompress(bytes, offset, bytes.length - offset, originalLength);
+            return binaryMapper.readValue(body, Object.class);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("Redis 값 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    private static byte[] frame(Compression codec, byte[] body, int originalLength) {
+        boolean compressed = codec != Compression.NONE;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (compressed ? LENGTH_SIZE : 0) + body.length);
+        buffer.put(MAGIC).put(VERSION).put(codec.id);
+        if (compressed) {
+            buffer.putInt(originalLength);
+        }
+        buffer.put(body);
+        return buffer.array();
+    }
+
+    /**
+     * 쓰기 형식
+     */
+    public enum Format {
+        /** 기존 JSON (헤더 없음) */
+        JSON,
+        /** 버전 헤더 + Smile 바이너리 (+ 선택적 압축) */
+        COMPACT
+    }
+
+    /**
+     * 압축 방식
+     */
+    public enum Compression {
+        NONE((byte) 0),
+        LZ4((byte) 1),
+        ZSTD((byte) 2);
+
+        private final byte id;
+
+        Compression(byte id) {
+            this.id = id;
+        }
+
+        static Compression of(byte id) {
+            for (Compression compression : values()) {
+                if (compression.id == id) {
+                    return compression;
+                }
+            }
+            throw new SerializationException("알 수 없는 Redis 값 압축 방식: " + id);
+        }
+
+        byte[] compress(byte[] source) {
+            return switch (this) {
+                case LZ4 -> Lz4Holder.FACTORY.fastCompressor().compress(source);
+                case ZSTD -> Zstd.compress(source, ZSTD_LEVEL);
+                case NONE -> source;
+            };
+        }
+
+        byte[] decompress(byte[] source, int offset, int length, int originalLength) {
+            if (originalLength < 0 || originalLength > MAX_ORIGINAL_LENGTH) {
+                throw new SerializationException("잘못된 Redis 값 원본 길이: " + originalLength);
+            }
+            byte[] target = new byte[originalLength];
+            switch (this) {
+                case LZ4 -> {
+                    // 헤더의 원본 길이를 신뢰하지 않도록 입력 길이 범위 안에서만 읽는 safe 해제 사용
+                    int size = Lz4Holder.FACTORY.safeDecompressor()
+                            .decompress(source, offset, length, target, 0, originalLength);
+                    if (size != originalLength) {
+                        throw new SerializationException("LZ4 압축 해제 길이가 원본 길이와 다름: " + size + "/" + originalLength);
+                    }
+                }
+                case ZSTD -> {
+                    long size = Zstd.decompressByteArray(target, 0, originalLength, source, offset, length);
+                    if (Zstd.isError(size)) {
+                        throw new SerializationException("Zstd 압축 해제 실패: " + Zstd.getErrorName(size));
+                    }
+                    if (size != originalLength) {
+                        throw new SerializationException("Zstd 압축 해제 길이가 원본 길이와 다름: " + size + "/" + originalLength);
+                    }
+                }
+                case NONE -> System.arraycopy(source, offset, target, 0, length);
+            }
+            return target;
+        }
+    }
+
+    /**
+     * LZ4 구현 지연 초기화 (JNI 사용 가능 시 네이티브, 아니면 순수 Java)
+     */
+    private static final class Lz4Holder {
+        static final LZ4Factory FACTORY = LZ4Factory.fastestInstance();
+    }
+}
@@ -0,0 +1,182 @@
+package com.phonebill.common.cache;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 키 탐색/삭제 유틸리티
+ *
+ * KEYS 명령은 키 공간 전체를 한 번에 순회하며 Redis를 블로킹하므로,
+ * 커서 기반 SCAN으로 나누어 탐색하고 UNLINK로 배치 삭제합니다.
+ *
+ * 무효화용 키 인덱스는 만료 시각을 score로 하는 Sorted Set이며, 등록할 때 만료된 멤버를 정리하므로
+ * 살아 있는 키 수 이상으로 커지지 않습니다. 인덱스 키와 멤버는 UTF-8 문자열(StringRedisSerializer 키 형식)입니다.
+ */
+public final class RedisKeyScanner {
+
+    /**
+     * SCAN 1회당 탐색 힌트 및 UNLINK 배치 크기
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private RedisKeyScanner() {
+    }
+
+    /**
+     * 패턴에 일치하는 키를 SCAN으로 찾아 배치 단위로 UNLINK
+     *
+     * @param redisTemplate Redis Template
+     * @param pattern 키 패턴 (glob)
+     * @return 삭제된 키 수
+     */
+    public static long unlinkByPattern(RedisTemplate<String, ?> redisTemplate, String pattern) {
+        long unlinked = 0;
+        List<String> batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions(pattern))) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= DEFAULT_BATCH_SIZE) {
+                    unlinked += unlinkBatch(redisTemplate, batch);
+                    batch.clear();
+                }
+            }
+        }
+        return unlinked + unlinkBatch(redisTemplate, batch);
+    }
+
+    /**
+     * 패턴에 일치하는 키 수를 SCAN으로 계산
+     *
+     * @param redisTemplate Redis Template
+     * @param pattern 키 패턴 (glob)
+     * @return 키 수
+     */
+    public static long countByPattern(RedisTemplate<String, ?> redisTemplate, String pattern) {
+        long count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions(pattern))) {
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 키 목록을 배치 단위로 UNLINK (비동기 메모리 해제)
+     *
+     * @param redisTemplate Redis Template
+     * @param keys 삭제할 키 목록
+     * @return 삭제된 키 수
+     */
+    public static long unlink(RedisTemplate<String, ?> redisTemplate, Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        long unlinked = 0;
+        List<String> batch = new ArrayList<>(Math.min(keys.size(), DEFAULT_BATCH_SIZE));
+        for (String key : keys) {
+            batch.add(key);
+            if (batch.size() >= DEFAULT_BATCH_SIZE) {
+                unlinked += unlinkBatch(redisTemplate, batch);
+                batch.clear();
+            }
+        }
+        return unlinked + unlinkBatch(redisTemplate, batch);
+    }
+
+    /**
+     * 키를 인덱스(Sorted Set)에 등록하고 인덱스에서 만료된 멤버 정리
+     *
+     * 멤버 score는 등록 키의 만료 시각(epoch ms)입니다. 등록, 정리, 인덱스 TTL 갱신을 한 번의 파이프라인으로 보냅니다.
+     *
+     * @param redisTemplate Redis Template
+     * @param indexKeys 등록할 인덱스 키 목록
+     * @param key 등록할 키
+     * @param keyTtl 등록 키의 TTL
+     * @param indexTtl 인덱스 TTL (등록 키 TTL 이상, 마지막 등록 후 이 시간 동안 유지)
+     */
+    public static void index(RedisTemplate<String, ?> redisTemplate, Collection<String> indexKeys,
+                             String key, Duration keyTtl, Duration indexTtl) {
+        long now = System.currentTimeMillis();
+        byte[] member = bytes(key);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String indexKey : indexKeys) {
+                byte[] rawIndexKey = bytes(indexKey);
+                connection.zSetCommands().zAdd(rawIndexKey, now + keyTtl.toMillis(), member);
+                connection.zSetCommands().zRemRangeByScore(rawIndexKey, 0, now);
+                connection.keyCommands().expire(rawIndexKey, indexTtl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 인덱스(Sorted Set)에 등록된 키를 ZSCAN으로 나누어 읽어 배치 단위로 UNLINK한 뒤 인덱스도 UNLINK
+     *
+     * 만료되어 이미 사라진 키가 남아 있어도 UNLINK는 무시하므로 안전합니다.
+     *
+     * @param redisTemplate Redis Template
+     * @param indexKey 인덱스 키
+     * @return 삭제된 키 수 (인덱스 제외)
+     */
+    public static long unlinkIndexed(RedisTemplate<String, ?> redisTemplate, String indexKey) {
+        byte[] rawIndexKey = bytes(indexKey);
+        Long unlinked = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long count = 0;
+            List<byte[]> batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+            ScanOptions options = ScanOptions.scanOptions().count(DEFAULT_BATCH_SIZE).build();
+            try (Cursor<Tuple> cursor = connection.zSetCommands().zScan(rawIndexKey, options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next().getValue());
+                    if (batch.size() >= DEFAULT_BATCH_SIZE) {
+                        count += unlinkBatch(connection, batch);
+                        batch.clear();
+                    }
+                }
+            }
+            count += unlinkBatch(connection, batch);
+            connection.keyCommands().unlink(rawIndexKey);
+            return count;
+        });
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private static long unlinkBatch(RedisTemplate<String, ?> redisTemplate, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private static long unlinkBatch(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = connection.keyCommands().unlink(keys.toArray(new byte[0][]));
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ScanOptions scanOptions(String pattern) {
+        return ScanOptions.scanOptions()
+                .match(pattern)
+                .count(DEFAULT_BATCH_SIZE)
+                .build();
+    }
+}
@@ -0,0 +1,327 @@
+package com.phonebill.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 (L1: 인프로세스 Caffeine, L2: Redis)
+ *
+ * 조회 시 L1 → L2 순으로 확인하고, L2 히트 시 디코딩된 값을 L1에 적재합니다.
+ * 저장/삭제 시 L2를 갱신한 뒤 L1을 무효화하고, 다른 노드의 L1은
+ * {@link CacheInvalidationBus}를 통해 Redis Pub/Sub으로 무효화합니다.
+ *
+ * L1은 최대 건수와 TTL로 제한되며, 항목별 TTL은 L2 TTL을 넘지 않습니다.
+ * L2 히트로 적재할 때도 GET과 함께 PTTL을 파이프라인으로 조회해 남은 L2 TTL 안에서만 L1에 둡니다.
+ *
+ * L1은 Redis 값 직렬화기로 인코딩한 바이트를 보관하고 조회할 때마다 새로 디코딩합니다.
+ * 호출자마다 별도 인스턴스를 받으므로 반환값을 수정해도 다른 호출자나 캐시 내용에 영향이 없습니다.
+ * 티어별 히트/미스/제거 건수를 Micrometer 메트릭으로 노출합니다.
+ */
+@Slf4j
+public class TwoTierCache {
+
+    static final String METRIC_GETS = "cache.tier.gets";
+    static final String METRIC_EVICTIONS = "cache.tier.evictions";
+    static final String METRIC_SIZE = "cache.tier.size";
+
+    private final String name;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisSerializer<String> keySerializer;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Duration l1Ttl;
+    private final Cache<String, L1Entry> l1;
+
+    private CacheInvalidationBus invalidationBus;
+
+    private Counter l1Hits;
+    private Counter l1Misses;
+    private Counter l2Hits;
+    private Counter l2Misses;
+    private Counter l1Evictions;
+    private Counter l2Evictions;
+
+    @SuppressWarnings("unchecked")
+    public TwoTierCache(String name, RedisTemplate<String, Object> redisTemplate,
+                        long l1MaxSize, Duration l1Ttl, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.redisTemplate = redisTemplate;
+        this.keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        this.valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        this.l1Ttl = l1Ttl;
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfter(new L1Expiry())
+                .removalListener((String key, L1Entry entry, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && l1Evictions != null) {
+                        l1Evictions.increment();
+                    }
+                })
+                .build();
+
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 노드 간 L1 무효화 버스 연결
+     */
+    public void setInvalidationBus(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * 캐시 조회 (L1 → L2)
+     *
+     * @param key 캐시 키 (Redis 키와 동일)
+     * @param decoder L2 원본 값을 도메인 타입으로 변환하는 함수
+     * @return 캐시된 값 (없으면 null, 호출마다 새 인스턴스)
+     */
+    public <T> T get(String key, Function<Object, T> decoder) {
+        L1Entry entry = l1.getIfPresent(key);
+        if (entry != null) {
+            increment(l1Hits);
+            return decoder.apply(valueSerializer.deserialize(entry.value()));
+        }
+        increment(l1Misses);
+
+        // 값과 남은 TTL을 한 번의 왕복으로 조회 (값은 바이트 그대로 받아 L1에 재사용)
+        byte[] rawKey = keySerializer.serialize(key);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            return null;
+        }, null);
+        byte[] bytes = (byte[]) results.get(0);
+        if (bytes == null) {
+            increment(l2Misses);
+            return null;
+        }
+        increment(l2Hits);
+
+        T value = decoder.apply(valueSerializer.deserialize(bytes));
+        if (value != null) {
+            putL1(key, bytes, (Long) results.get(1));
+        }
+        return value;
+    }
+
+    /**
+     * L1만 조회 (비동기 L2 조회 경로용)
+     *
+     * 미스이면 호출자가 L2 값과 PTTL을 비동기로 조회한 뒤 결과를 {@link #onL2Result}로 전달합니다.
+     *
+     * @param key 캐시 키
+     * @param decoder L2 원본 값을 도메인 타입으로 변환하는 함수
+     * @return L1에 적재된 값 (없으면 null, 호출마다 새 인스턴스)
+     */
+    public <T> T getL1(String key, Function<Object, T> decoder) {
+        L1Entry entry = l1.getIfPresent(key);
+        if (entry != null) {
+            increment(l1Hits);
+            return decoder.apply(valueSerializer.deserialize(entry.value()));
+        }
+        increment(l1Misses);
+        return null;
+    }
+
+    /**
+     * 비동기로 조회한 L2 결과 반영 (히트/미스 집계, 히트 시 L1 적재)
+     *
+     * @param key 캐시 키
+     * @param raw L2 원본 값 (없으면 null)
+     * @param remainingTtlMs L2 PTTL 결과 (밀리초, 만료 없음 -1, 키 없음 -2)
+     * @param decoder L2 원본 값을 도메인 타입으로 변환하는 함수
+     * @return 디코딩된 값 (없으면 null)
+     */
+    public <T> T onL2Result(String key, Object raw, long remainingTtlMs, Function<Object, T> decoder) {
+        if (raw == null) {
+            increment(l2Misses);
+            return null;
+        }
+        increment(l2Hits);
+
+        T value = decoder.apply(raw);
+        if (value != null) {
+            putL1(key, valueSerializer.serialize(raw), remainingTtlMs);
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 저장 (L2 저장 후 L1 적재, 다른 노드 L1 무효화)
+     *
+     * @param key 캐시 키
+     * @param value 저장할 값
+     * @param ttl L2 TTL (L1 TTL은 이 값을 넘지 않음)
+     */
+    public void put(String key, Object value, Duration ttl) {
+        // 한 번 인코딩한 바이트를 L2 저장과 L1 적재에 함께 사용
+        byte[] bytes = valueSerializer.serialize(value);
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(keySerializer.serialize(key), bytes, Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+        l1.put(key, new L1Entry(bytes, ttl.compareTo(l1Ttl) < 0 ? ttl : l1Ttl));
+        publish(CacheInvalidationBus.Scope.KEY, key);
+    }
+
+    /**
+     * 단건 캐시 삭제 (L1 + L2, 다른 노드 L1 무효화)
+     */
+    public void evict(String key) {
+        Boolean deleted = redisTemplate.delete(key);
+        if (Boolean.TRUE.equals(deleted)) {
+            increment(l2Evictions);
+        }
+        l1.invalidate(key);
+        publish(CacheInvalidationBus.Scope.KEY, key);
+    }
+
+    /**
+     * 접두사 기반 L1 무효화 (다른 노드 포함)
+     *
+     * L2 삭제는 키 탐색 방식이 캐시마다 다르므로 호출측에서 처리합니다.
+     *
+     * @param prefix 무효화할 키 접두사
+     */
+    public void evictL1ByPrefix(String prefix) {
+        evictLocalByPrefix(prefix);
+        publish(CacheInvalidationBus.Scope.PREFIX, prefix);
+    }
+
+    /**
+     * L2 삭제 건수 기록 (호출측에서 직접 삭제한 경우)
+     */
+    public void recordL2Evictions(long count) {
+        if (l2Evictions != null && count > 0) {
+            l2Evictions.increment(count);
+        }
+    }
+
+    /**
+     * 현재 노드의 L1에서만 단건 무효화
+     */
+    void evictLocal(String key) {
+        l1.invalidate(key);
+    }
+
+    /**
+     * 현재 노드의 L1에서만 접두사 기반 무효화
+     */
+    void evictLocalByPrefix(String prefix) {
+        l1.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * L1 적재 건수 (근사값)
+     */
+    public long getL1Size() {
+        return l1.estimatedSize();
+    }
+
+    /**
+     * L2 히트 값을 L1에 적재 (L1 TTL은 남은 L2 TTL을 넘지 않음)
+     *
+     * @param remainingTtlMs L2 PTTL 결과 (만료 없음 -1, 키 없음 -2)
+     */
+    private void putL1(String key, byte[] bytes, Long remainingTtlMs) {
+        Duration ttl = l1Ttl;
+        if (remainingTtlMs != null && remainingTtlMs != -1) {
+            if (remainingTtlMs <= 0) {
+                // GET 직후 L2에서 만료/삭제된 값은 L1에 두지 않음
+                return;
+            }
+            ttl = Duration.ofMillis(Math.min(remainingTtlMs, l1Ttl.toMillis()));
+        }
+        l1.put(key, new L1Entry(bytes, ttl));
+    }
+
+    private void publish(CacheInvalidationBus.Scope scope, String target) {
+        if (invalidationBus == null) {
+            return;
+        }
+        try {
+            invalidationBus.publish(name, scope, target);
+        } catch (Exception e) {
+            // 무효화 전파 실패 시 다른 노드 L1은 TTL 만료로 정리됨
+            log.warn("L1 캐시 무효화 전파 실패 - 캐시: {}, 대상: {}, 오류: {}", name, target, e.getMessage());
+        }
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        l1Hits = gets(registry, "l1", "hit");
+        l1Misses = gets(registry, "l1", "miss");
+        l2Hits = gets(registry, "l2", "hit");
+        l2Misses = gets(registry, "l2", "miss");
+        l1Evictions = Counter.builder(METRIC_EVICTIONS)
+                .tag("cache", name).tag("tier", "l1")
+                .description("L1 size/TTL based evictions")
+                .register(registry);
+        l2Evictions = Counter.builder(METRIC_EVICTIONS)
+                .tag("cache", name).tag("tier", "l2")
+                .description("L2 explicit deletions")
+                .register(registry);
+        Gauge.builder(METRIC_SIZE, l1, Cache::estimatedSize)
+                .tag("cache", name).tag("tier", "l1")
+                .register(registry);
+    }
+
+    private Counter gets(MeterRegistry registry, String tier, String result) {
+        return Counter.builder(METRIC_GETS)
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * L1 항목 (직렬화된 값 + 항목별 TTL)
+     */
+    private record L1Entry(byte[] value, Duration ttl) {
+    }
+
+    /**
+     * 항목별 TTL을 적용하는 L1 만료 정책
+     */
+    private static class L1Expiry implements Expiry<String, L1Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, L1Entry entry, long currentTime) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, L1Entry entry, long currentTime, long currentDuration) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, L1Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.phonebill.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+/**
+ * 공용 비동기 실행기 공통 설정
+ *
+ * 서비스별 설정 클래스(@Configuration)가 상속하고 스레드 이름 접두어만 제공합니다.
+ * - spring.threads.virtual.enabled=true: 작업당 가상 스레드 (동시 실행 수 제한)
+ * - 기본값: 플랫폼 스레드 풀
+ * - 호출 스레드의 SecurityContext를 작업 스레드로 전달
+ *
+ * 실제 실행기는 별도 빈으로 등록하여 종료 시 컨테이너가 대기 작업 완료 후 정리합니다.
+ */
+@Slf4j
+public abstract class AsyncExecutorConfigSupport {
+
+    public static final String DELEGATE_EXECUTOR_BEAN_NAME = "applicationTaskExecutorDelegate";
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${async.executor.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${async.executor.max-pool-size:32}")
+    private int maxPoolSize;
+
+    @Value("${async.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${async.executor.virtual-concurrency-limit:1000}")
+    private int virtualConcurrencyLimit;
+
+    @Value("${async.executor.await-termination-seconds:10}")
+    private int awaitTerminationSeconds;
+
+    /**
+     * 스레드 이름 접두어 (예: bill → bill-async-, bill-vt-)
+     */
+    protected abstract String threadNamePrefix();
+
+    /**
+     * 실제 작업을 실행하는 실행기
+     *
+     * 컨테이너가 종료 시 destroy/close를 호출하도록 빈으로 등록하고,
+     * 공용 실행기 주입과 충돌하지 않도록 자동 주입 대상에서 제외합니다.
+     */
+    @Bean(name = DELEGATE_EXECUTOR_BEAN_NAME, autowireCandidate = false)
+    public AsyncTaskExecutor applicationTaskExecutorDelegate() {
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix() + "-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+            log.info("비동기 실행기 구성 - 가상 스레드, 동시 실행 제한: {}", virtualConcurrencyLimit);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix() + "-async-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        log.info("비동기 실행기 구성 - 플랫폼 스레드 풀, core: {}, max: {}, queue: {}",
+                corePoolSize, maxPoolSize, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 공용 비동기 실행기 (SecurityContext 전달)
+     *
+     * 스케줄러 등 다른 TaskExecutor 빈이 있어도 {@code @Async}가 선택하도록
+     * taskExecutor 이름을 함께 등록합니다.
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new DelegatingSecurityContextAsyncTaskExecutor(applicationTaskExecutorDelegate());
+    }
+}
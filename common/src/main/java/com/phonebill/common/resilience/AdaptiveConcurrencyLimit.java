@@ -0,0 +1,25 @@
+package com.phonebill.common.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 적응형 동시 호출 제한 대상 메소드 표시
+ *
+ * 동시 호출 수가 현재 한도에 도달하면 대기 없이 {@link ConcurrencyLimitExceededException}을 던집니다.
+ * Resilience4j Circuit Breaker보다 안쪽에서 실행되므로 거부된 호출은 해당 fallback으로 처리됩니다.
+ * CompletionStage를 반환하는 메소드는 완료 시점까지 호출 중으로 집계합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveConcurrencyLimit {
+
+    /**
+     * 제한기 이름 (같은 이름은 한도를 공유)
+     */
+    String value();
+}
@@ -0,0 +1,55 @@
+package com.phonebill.common.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link AdaptiveConcurrencyLimit} 처리 AOP
+ *
+ * Resilience4j 어노테이션(Retry → CircuitBreaker → ... → Bulkhead)보다 안쪽에서 실행되도록
+ * 가장 낮은 우선순위를 사용합니다. 따라서 재시도 시도마다 한도를 다시 확인하고,
+ * 거부 예외는 Circuit Breaker fallback으로 전달됩니다.
+ * 재시도 예산 적립은 재시도 바깥에서 호출당 한 번만 하도록 {@link RetryBudgetAspect}가 담당합니다.
+ */
+@Aspect
+public class AdaptiveConcurrencyLimitAspect implements Ordered {
+
+    private final ConcurrencyLimiterRegistry registry;
+
+    public AdaptiveConcurrencyLimitAspect(ConcurrencyLimiterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@annotation(concurrencyLimit)")
+    public Object limit(ProceedingJoinPoint joinPoint, AdaptiveConcurrencyLimit concurrencyLimit) throws Throwable {
+        AdaptiveConcurrencyLimiter limiter = registry.limiter(concurrencyLimit.value());
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(limiter.getName(), limiter.getLimit());
+        }
+
+        long started = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            limiter.release(System.nanoTime() - started, true);
+            throw t;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> limiter.release(System.nanoTime() - started, error != null));
+        } else {
+            limiter.release(System.nanoTime() - started, false);
+        }
+        return result;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,141 @@
+package com.phonebill.common.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 기울기 기반 적응형 동시 호출 제한기
+ *
+ * 장기 평균 응답 시간과 최근 응답 시간의 비율(기울기)로 한도를 조정합니다.
+ * - 응답 시간이 평소 수준이면 한도 + sqrt(한도)까지 증가 (대기열 여유분)
+ * - 응답 시간이 늘어나면 비율만큼 감소 (최대 절반)
+ * - 실패(타임아웃/연결 오류 등)는 즉시 배수 감소
+ * - 호출 중 건수가 한도의 절반 미만이면 한도를 늘리지 않음 (부하가 없을 때 무한 증가 방지)
+ *
+ * 한도 도달 시 대기하지 않고 바로 거부하며, 획득/해제는 잠금 없이 처리하고
+ * 한도 계산만 동기화합니다 (외부 호출 대비 무시할 수 있는 비용).
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 장기 평균 응답 시간 지수 이동 평균 계수 (약 600건 창)
+    private static final double LONG_RTT_FACTOR = 2.0 / 601;
+    // 장기 평균이 최근 값보다 이 배수 이상 크면 빠르게 낮춤 (부하 해소 후 회복)
+    private static final double LONG_RTT_DRIFT_RATIO = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF_RATIO = 0.9;
+
+    private final String name;
+    private final Config config;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejections = new LongAdder();
+
+    private volatile double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, Config config) {
+        this.name = name;
+        this.config = config;
+        this.estimatedLimit = config.initialLimit();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 호출 허가 획득 (한도 도달 시 대기 없이 false)
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                rejections.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 호출 허가 반환 및 응답 시간 반영
+     *
+     * @param rttNanos 호출 소요 시간 (나노초)
+     * @param dropped 실패 여부 (true면 한도 배수 감소)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtRelease, dropped);
+    }
+
+    /**
+     * 현재 한도
+     */
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    /**
+     * 현재 호출 중 건수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 누적 거부 건수
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtRelease, boolean dropped) {
+        double limit = estimatedLimit;
+        double newLimit;
+
+        if (dropped) {
+            newLimit = limit * DROP_BACKOFF_RATIO;
+        } else {
+            if (longRttNanos == 0) {
+                longRttNanos = rttNanos;
+            } else {
+                longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_FACTOR;
+                if (longRttNanos / rttNanos > LONG_RTT_DRIFT_RATIO) {
+                    longRttNanos *= LONG_RTT_DECAY;
+                }
+            }
+
+            // 부하가 한도에 못 미치면 한도 유지
+            if (inFlightAtRelease < limit / 2) {
+                return;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT,
+                    Math.min(1.0, config.rttTolerance() * longRttNanos / Math.max(1, rttNanos)));
+            newLimit = limit * gradient + Math.sqrt(limit);
+        }
+
+        newLimit = Math.max(config.minLimit(), Math.min(config.maxLimit(), newLimit));
+        estimatedLimit = limit * (1 - config.smoothing()) + newLimit * config.smoothing();
+    }
+
+    /**
+     * 제한기 설정
+     *
+     * @param initialLimit 초기 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도
+     * @param rttTolerance 장기 평균 대비 허용 응답 시간 배수 (1.5면 50% 증가까지 한도 유지)
+     * @param smoothing 한도 변경 반영 비율 (0~1, 작을수록 완만)
+     */
+    public record Config(int initialLimit, int minLimit, int maxLimit, double rttTolerance, double smoothing) {
+
+        public Config {
+            if (minLimit < 1 || maxLimit < minLimit) {
+                throw new IllegalArgumentException("동시 호출 한도 범위 오류: " + minLimit + " ~ " + maxLimit);
+            }
+            initialLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.phonebill.common.resilience;
+
+/**
+ * 적응형 동시 호출 한도 초과 예외
+ *
+ * 대상 시스템 장애가 아니라 호출 측 부하 차단이므로
+ * Circuit Breaker 실패 집계와 재시도 대상에서 제외해야 합니다.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String limiterName;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String limiterName, int limit) {
+        super("동시 호출 한도 초과 - 제한기: " + limiterName + ", 한도: " + limit);
+        this.limiterName = limiterName;
+        this.limit = limit;
+    }
+
+    public String getLimiterName() {
+        return limiterName;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,64 @@
+package com.phonebill.common.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 적응형 동시 호출 제한기 레지스트리
+ *
+ * 이름별 제한기를 생성 시점에 한 번 만들고 한도/호출 중/거부 건수를 메트릭으로 노출합니다.
+ * - concurrency.limiter.limit: 현재 한도
+ * - concurrency.limiter.inflight: 호출 중 건수
+ * - concurrency.limiter.rejections: 누적 거부 건수
+ */
+@Slf4j
+public class ConcurrencyLimiterRegistry {
+
+    static final String METRIC_PREFIX = "concurrency.limiter";
+
+    private final AdaptiveConcurrencyLimiter.Config config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(AdaptiveConcurrencyLimiter.Config config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 이름별 제한기 조회 (없으면 생성)
+     */
+    public AdaptiveConcurrencyLimiter limiter(String name) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(name);
+        return limiter != null ? limiter : limiters.computeIfAbsent(name, this::create);
+    }
+
+    public Collection<AdaptiveConcurrencyLimiter> getLimiters() {
+        return Collections.unmodifiableCollection(limiters.values());
+    }
+
+    private AdaptiveConcurrencyLimiter create(String name) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(name, config);
+        if (meterRegistry != null) {
+            Gauge.builder(METRIC_PREFIX + ".limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder(METRIC_PREFIX + ".rejections", limiter, AdaptiveConcurrencyLimiter::getRejections)
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+        log.info("적응형 동시 호출 제한기 생성 - 이름: {}, 초기 한도: {}, 범위: {} ~ {}",
+                name, config.initialLimit(), config.minLimit(), config.maxLimit());
+        return limiter;
+    }
+}
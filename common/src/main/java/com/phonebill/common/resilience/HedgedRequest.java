@@ -0,0 +1,27 @@
+package com.phonebill.common.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 헤지 요청 대상 메소드 표시
+ *
+ * 첫 시도가 최근 응답 시간 백분위 지연 안에 끝나지 않으면 같은 호출을 한 번 더 보내고
+ * 먼저 성공한 결과를 사용합니다. 두 번 실행될 수 있으므로 멱등 조회에만 사용해야 합니다.
+ * Resilience4j Retry/Circuit Breaker보다 안쪽, 적응형 동시 호출 제한보다 바깥에서 실행되므로
+ * 두 시도를 합쳐 한 번의 호출로 집계되고, 각 시도는 동시 호출 한도를 따로 사용합니다.
+ * CompletionStage를 반환하는 메소드는 헤지하지 않습니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HedgedRequest {
+
+    /**
+     * 헤지 정책 이름 (같은 이름은 응답 시간 통계와 예산을 공유)
+     */
+    String value();
+}
@@ -0,0 +1,134 @@
+package com.phonebill.common.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link HedgedRequest} 처리 AOP
+ *
+ * 첫 시도를 헤지 실행기에서 시작하고 헤지 지연만큼 기다린 뒤, 끝나지 않았고 예산이 있으면
+ * 같은 호출을 한 번 더 시작하여 먼저 성공한 결과를 반환합니다. 둘 다 실패하면 첫 시도의 예외를 던집니다.
+ * 지연 안에 실패한 첫 시도는 헤지하지 않고 그대로 던집니다 (실패 재시도는 Retry 담당).
+ * 실행기가 포화되어 첫 시도를 맡길 수 없으면 호출 스레드에서 헤지 없이 실행합니다.
+ *
+ * 적응형 동시 호출 제한 AOP 바로 바깥에서 실행되도록 그보다 한 단계 높은 우선순위를 사용합니다.
+ */
+@Aspect
+public class HedgedRequestAspect implements Ordered {
+
+    private final RequestHedgerRegistry registry;
+    private final Executor executor;
+
+    public HedgedRequestAspect(RequestHedgerRegistry registry, Executor executor) {
+        this.registry = registry;
+        this.executor = executor;
+    }
+
+    @Around("@annotation(hedgedRequest)")
+    public Object hedge(ProceedingJoinPoint joinPoint, HedgedRequest hedgedRequest) throws Throwable {
+        Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+        if (CompletionStage.class.isAssignableFrom(returnType)) {
+            return joinPoint.proceed();
+        }
+
+        RequestHedger hedger = registry.hedger(hedgedRequest.value());
+        hedger.recordRequest();
+
+        CompletableFuture<Object> primary;
+        try {
+            primary = submit(joinPoint, hedger);
+        } catch (RejectedExecutionException e) {
+            return joinPoint.proceed();
+        }
+
+        try {
+            return primary.get(hedger.getHedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 지연 초과: 헤지 여부 판단
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+
+        if (!hedger.tryAcquireHedge()) {
+            return await(primary);
+        }
+        CompletableFuture<Object> hedge;
+        try {
+            hedge = submit(joinPoint, hedger);
+        } catch (RejectedExecutionException e) {
+            return await(primary);
+        }
+
+        CompletableFuture<Object> first = new CompletableFuture<>();
+        AtomicReference<Throwable> primaryFailure = new AtomicReference<>();
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                first.complete(value);
+            } else {
+                primaryFailure.set(error);
+                if (hedge.isCompletedExceptionally()) {
+                    first.completeExceptionally(error);
+                }
+            }
+        });
+        hedge.whenComplete((value, error) -> {
+            if (error == null) {
+                if (first.complete(value)) {
+                    hedger.recordWon();
+                }
+            } else {
+                Throwable primaryError = primaryFailure.get();
+                if (primaryError != null) {
+                    first.completeExceptionally(primaryError);
+                }
+            }
+        });
+        return await(first);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    private CompletableFuture<Object> submit(ProceedingJoinPoint joinPoint, RequestHedger hedger) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            long started = System.nanoTime();
+            try {
+                Object result = joinPoint.proceed();
+                hedger.recordLatency(System.nanoTime() - started);
+                future.complete(result);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.phonebill.common.resilience;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * KOS 연동 Circuit Breaker/Retry/Time Limiter 공통 설정
+ *
+ * 서비스별 설정 클래스(@Configuration)가 상속하고 각자의 KOS 설정값만 제공합니다.
+ * - 실패율/느린 호출 기반 Circuit Breaker (동시 호출 한도 초과 거부는 장애로 집계하지 않음)
+ * - 고정 간격 재시도 (공유 재시도 예산 내에서만 재시도)
+ * - 응답 시간 기반 Time Limiter
+ *
+ * 재시도 예산 토큰은 재시도 조건 평가가 아니라 실제 재시도 이벤트에서 사용하므로,
+ * 어노테이션으로 이름별로 생성되는 Retry 인스턴스 모두에 재시도 이벤트 구독을 연결합니다.
+ */
+@Slf4j
+public abstract class KosCircuitBreakerConfigSupport {
+
+    public static final String KOS_INSTANCE_NAME = "kos-system";
+
+    private final RetryBudget kosRetryBudget;
+
+    protected KosCircuitBreakerConfigSupport(RetryBudget kosRetryBudget) {
+        this.kosRetryBudget = kosRetryBudget;
+    }
+
+    /**
+     * 서비스별 KOS 연동 장애 격리 설정
+     */
+    protected abstract Settings kosResilienceSettings();
+
+    /**
+     * KOS 시스템 연동용 Circuit Breaker 구성
+     *
+     * @return Circuit Breaker 레지스트리
+     */
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        log.info("Circuit Breaker 레지스트리 구성 시작");
+        Settings settings = kosResilienceSettings();
+
+        io.github.resilience4j.circuitbreaker.CircuitBreakerConfig kosCircuitBreakerConfig =
+            io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.custom()
+                // 실패율 임계값 (50%)
+                .failureRateThreshold(settings.failureRateThreshold() * 100)
+                // 느린 호출 임계값 (10초)
+                .slowCallDurationThreshold(Duration.ofMillis(settings.slowCallDurationThresholdMs()))
+                // 느린 호출 비율 임계값 (50%)
+                .slowCallRateThreshold(settings.slowCallRateThreshold() * 100)
+                // 슬라이딩 윈도우 크기 (10회)
+                .slidingWindowSize(settings.slidingWindowSize())
+                // 슬라이딩 윈도우 타입 (횟수 기반)
+                .slidingWindowType(SlidingWindowType.COUNT_BASED)
+                // 최소 호출 수 (5회)
+                .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+                // Half-Open 상태에서 허용되는 호출 수 (3회)
+                .permittedNumberOfCallsInHalfOpenState(settings.permittedNumberOfCallsInHalfOpenState())
+                // Open 상태 유지 시간 (60초)
+                .waitDurationInOpenState(Duration.ofMillis(settings.waitDurationInOpenStateMs()))
+                .recordExceptions(Exception.class)
+                // 동시 호출 한도 초과는 호출 측 부하 차단이므로 실패율에서 제외 (fallback은 그대로 적용)
+                .ignoreExceptions(ConcurrencyLimitExceededException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(kosCircuitBreakerConfig);
+
+        // KOS Circuit Breaker 등록
+        CircuitBreaker kosCircuitBreaker = registry.circuitBreaker(KOS_INSTANCE_NAME, kosCircuitBreakerConfig);
+
+        // 이벤트 리스너 등록
+        kosCircuitBreaker.getEventPublisher()
+            .onStateTransition(event -> {
+                log.warn("Circuit Breaker 상태 변경 - From: {}, To: {}",
+                    event.getStateTransition().getFromState(),
+                    event.getStateTransition().getToState());
+            })
+            .onCallNotPermitted(event -> {
+                log.error("Circuit Breaker OPEN 상태 - 호출 차단됨: {}", event.getCircuitBreakerName());
+            })
+            .onFailureRateExceeded(event -> {
+                log.error("Circuit Breaker 실패율 초과");
+            });
+
+        log.info("Circuit Breaker 레지스트리 구성 완료 - KOS Circuit Breaker 등록됨");
+        return registry;
+    }
+
+    /**
+     * 재시도 정책 레지스트리 구성
+     *
+     * @return 재시도 레지스트리
+     */
+    @Bean
+    public RetryRegistry retryRegistry() {
+        log.info("Retry 레지스트리 구성 시작");
+        Settings settings = kosResilienceSettings();
+
+        // KOS 시스템용 재시도 설정
+        io.github.resilience4j.retry.RetryConfig kosRetryConfig =
+            io.github.resilience4j.retry.RetryConfig.custom()
+                // 최대 시도 횟수
+                .maxAttempts(settings.maxAttempts())
+                // 재시도 간격 (고정 간격)
+                .waitDuration(Duration.ofMillis(settings.retryDelayMs()))
+                // 재시도 대상 예외 (제외 예외가 아니고 공유 예산 잔액이 있을 때만)
+                .retryOnException(kosRetryBudget.retryOn(KosCircuitBreakerConfigSupport::isRetryable))
+                .build();
+
+        RetryRegistry registry = RetryRegistry.of(kosRetryConfig);
+
+        // 이후 생성되는 모든 Retry(어노테이션 이름별 포함)에 예산 사용/로그 연결
+        registry.getEventPublisher().onEntryAdded(event -> bindRetryEvents(event.getAddedEntry()));
+
+        // KOS Retry 등록
+        registry.retry(KOS_INSTANCE_NAME, kosRetryConfig);
+
+        log.info("Retry 레지스트리 구성 완료 - 최대 시도: {}회, 간격: {}ms",
+            settings.maxAttempts(), settings.retryDelayMs());
+        return registry;
+    }
+
+    /**
+     * Time Limiter 레지스트리 구성
+     *
+     * @return Time Limiter 레지스트리
+     */
+    @Bean
+    public TimeLimiterRegistry timeLimiterRegistry() {
+        log.info("Time Limiter 레지스트리 구성 시작");
+        Settings settings = kosResilienceSettings();
+
+        // KOS 시스템용 타임아웃 설정
+        io.github.resilience4j.timelimiter.TimeLimiterConfig kosTimeLimiterConfig =
+            io.github.resilience4j.timelimiter.TimeLimiterConfig.custom()
+                // 타임아웃 (연결 타임아웃 + 읽기 타임아웃)
+                .timeoutDuration(Duration.ofMillis(settings.timeoutMs()))
+                // 타임아웃 시 작업 취소 여부
+                .cancelRunningFuture(true)
+                .build();
+
+        TimeLimiterRegistry registry = TimeLimiterRegistry.of(kosTimeLimiterConfig);
+
+        // KOS Time Limiter 등록
+        TimeLimiter kosTimeLimiter = registry.timeLimiter(KOS_INSTANCE_NAME, kosTimeLimiterConfig);
+
+        // 타임아웃 이벤트 리스너
+        kosTimeLimiter.getEventPublisher()
+            .onTimeout(event -> {
+                log.error("Time Limiter 타임아웃 발생 - 설정 시간: {}ms",
+                    kosTimeLimiterConfig.getTimeoutDuration().toMillis());
+            });
+
+        log.info("Time Limiter 레지스트리 구성 완료 - 타임아웃: {}ms", settings.timeoutMs());
+        return registry;
+    }
+
+    /**
+     * KOS Circuit Breaker 조회
+     *
+     * @param circuitBreakerRegistry Circuit Breaker 레지스트리
+     * @return KOS Circuit Breaker
+     */
+    @Bean
+    public CircuitBreaker kosCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker(KOS_INSTANCE_NAME);
+    }
+
+    /**
+     * KOS Retry 조회
+     *
+     * @param retryRegistry Retry 레지스트리
+     * @return KOS Retry
+     */
+    @Bean
+    public Retry kosRetry(RetryRegistry retryRegistry) {
+        return retryRegistry.retry(KOS_INSTANCE_NAME);
+    }
+
+    /**
+     * KOS Time Limiter 조회
+     *
+     * @param timeLimiterRegistry Time Limiter 레지스트리
+     * @return KOS Time Limiter
+     */
+    @Bean
+    public TimeLimiter kosTimeLimiter(TimeLimiterRegistry timeLimiterRegistry) {
+        return timeLimiterRegistry.timeLimiter(KOS_INSTANCE_NAME);
+    }
+
+    /**
+     * 재시도 이벤트 연결 (실제 재시도 시 예산 사용, 재시도/최종 실패 로그)
+     */
+    private void bindRetryEvents(Retry retry) {
+        int maxAttempts = retry.getRetryConfig().getMaxAttempts();
+        retry.getEventPublisher()
+            .onRetry(event -> {
+                kosRetryBudget.onRetry();
+                log.warn("재시도 실행 - 작업: {}, 시도 횟수: {}/{}, 마지막 오류: {}",
+                    event.getName(),
+                    event.getNumberOfRetryAttempts(),
+                    maxAttempts,
+                    event.getLastThrowable().getMessage());
+            })
+            .onError(event -> {
+                log.error("재시도 최종 실패 - 작업: {}, 총 시도 횟수: {}, 최종 오류: {}",
+                    event.getName(),
+                    event.getNumberOfRetryAttempts(),
+                    event.getLastThrowable().getMessage());
+            });
+    }
+
+    /**
+     * 재시도 대상 예외 여부 (입력 오류, 보안 오류, 동시 호출 한도 초과 제외)
+     */
+    static boolean isRetryable(Throwable throwable) {
+        return !(throwable instanceof IllegalArgumentException
+                || throwable instanceof SecurityException
+                || throwable instanceof ConcurrencyLimitExceededException);
+    }
+
+    /**
+     * KOS 연동 장애 격리 설정값
+     *
+     * @param failureRateThreshold 실패율 임계값 (0~1)
+     * @param slowCallDurationThresholdMs 느린 호출 기준 시간 (밀리초)
+     * @param slowCallRateThreshold 느린 호출 비율 임계값 (0~1)
+     * @param slidingWindowSize 슬라이딩 윈도우 크기
+     * @param minimumNumberOfCalls 최소 호출 수
+     * @param permittedNumberOfCallsInHalfOpenState Half-Open 상태 허용 호출 수
+     * @param waitDurationInOpenStateMs Open 상태 유지 시간 (밀리초)
+     * @param maxAttempts 최대 시도 횟수 (첫 호출 포함)
+     * @param retryDelayMs 재시도 간격 (밀리초)
+     * @param timeoutMs 호출 타임아웃 (밀리초)
+     */
+    public record Settings(float failureRateThreshold, long slowCallDurationThresholdMs,
+                           float slowCallRateThreshold, int slidingWindowSize, int minimumNumberOfCalls,
+                           int permittedNumberOfCallsInHalfOpenState, long waitDurationInOpenStateMs,
+                           int maxAttempts, long retryDelayMs, long timeoutMs) {
+    }
+}
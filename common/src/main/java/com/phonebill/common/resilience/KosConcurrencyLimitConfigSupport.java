@@ -0,0 +1,76 @@
+package com.phonebill.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * KOS 호출 부하 제어 공통 설정
+ *
+ * 서비스별 설정 클래스(@Configuration)가 상속하고 각자의 KOS 설정값만 제공합니다.
+ * - KOS 작업별 적응형 동시 호출 제한 (kos.concurrency-limit.enabled=false면 미적용)
+ * - 공유 재시도 예산과 호출당 1회 적립
+ */
+@Slf4j
+public abstract class KosConcurrencyLimitConfigSupport {
+
+    public static final String RETRY_BUDGET_NAME = "kos";
+
+    /**
+     * 재시도 예산 설정
+     */
+    protected abstract RetryBudget.Config retryBudgetConfig();
+
+    /**
+     * 적응형 동시 호출 제한 설정
+     */
+    protected abstract AdaptiveConcurrencyLimiter.Config concurrencyLimiterConfig();
+
+    /**
+     * KOS 공유 재시도 예산
+     */
+    @Bean
+    public RetryBudget kosRetryBudget(ObjectProvider<MeterRegistry> meterRegistry) {
+        RetryBudget.Config settings = retryBudgetConfig();
+        RetryBudget retryBudget = new RetryBudget(settings);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            retryBudget.bindTo(registry, RETRY_BUDGET_NAME);
+        }
+        log.info("KOS 재시도 예산 구성 - 비율: {}, 초당 최소: {}건, 최대 적립: {}건",
+                settings.ratio(), settings.minRetriesPerSecond(), settings.maxRetries());
+        return retryBudget;
+    }
+
+    /**
+     * 재시도 예산 적립 AOP (동시 호출 제한 사용 여부와 무관하게 적용)
+     */
+    @Bean
+    public RetryBudgetAspect retryBudgetAspect(RetryBudget kosRetryBudget) {
+        return new RetryBudgetAspect(kosRetryBudget);
+    }
+
+    /**
+     * KOS 작업별 적응형 동시 호출 제한기 레지스트리
+     */
+    @Bean
+    public ConcurrencyLimiterRegistry kosConcurrencyLimiterRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConcurrencyLimiterRegistry(concurrencyLimiterConfig(), meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 적응형 동시 호출 제한 AOP (kos.concurrency-limit.enabled=false면 미적용)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kos.concurrency-limit", name = "enabled", matchIfMissing = true)
+    public AdaptiveConcurrencyLimitAspect adaptiveConcurrencyLimitAspect(
+            ConcurrencyLimiterRegistry kosConcurrencyLimiterRegistry) {
+        AdaptiveConcurrencyLimiter.Config settings = concurrencyLimiterConfig();
+        log.info("KOS 적응형 동시 호출 제한 구성 - 초기 한도: {}, 범위: {} ~ {}, 허용 배수: {}",
+                settings.initialLimit(), settings.minLimit(), settings.maxLimit(), settings.rttTolerance());
+        return new AdaptiveConcurrencyLimitAspect(kosConcurrencyLimiterRegistry);
+    }
+}
@@ -0,0 +1,169 @@
+package com.phonebill.common.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 헤지 요청 정책
+ *
+ * - 헤지 지연: 최근 성공 응답 시간(고정 크기 순환 버퍼)의 백분위 값을 최소/최대 지연 범위로 제한하여 사용
+ *   표본이 부족한 동안에는 초기 지연을 사용하며, 백분위는 일정 표본마다 한 스레드만 다시 계산
+ * - 헤지 예산: 호출마다 비율만큼 토큰을 적립하고 헤지마다 1개를 사용 (헤지 수 ≤ 호출 수 × 비율)
+ */
+public class RequestHedger {
+
+    private static final long SCALE = 1000;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final String name;
+    private final Config config;
+    private final long depositPerRequest;
+    private final long maxBalance;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicBoolean recomputing = new AtomicBoolean();
+    private volatile long hedgeDelayNanos;
+
+    private final AtomicLong balance = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder won = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    public RequestHedger(String name, Config config) {
+        this.name = name;
+        this.config = config;
+        this.depositPerRequest = Math.round(config.budgetRatio() * SCALE);
+        this.maxBalance = Math.max(1, config.maxBurst()) * SCALE;
+        this.samples = new AtomicLongArray(config.windowSize());
+        this.hedgeDelayNanos = clamp(TimeUnit.MILLISECONDS.toNanos(config.initialDelayMs()));
+    }
+
+    /**
+     * 호출 1건 적립
+     */
+    public void recordRequest() {
+        requests.increment();
+        if (depositPerRequest > 0) {
+            balance.accumulateAndGet(depositPerRequest, (current, delta) -> Math.min(maxBalance, current + delta));
+        }
+    }
+
+    /**
+     * 성공 시도의 응답 시간 기록
+     */
+    public void recordLatency(long nanos) {
+        long count = sampleCount.getAndIncrement();
+        samples.set((int) (count % samples.length()), nanos);
+        if ((count + 1) % RECOMPUTE_INTERVAL == 0 && count + 1 >= config.minSamples()) {
+            recomputeDelay(count + 1);
+        }
+    }
+
+    /**
+     * 헤지 1건 사용 (예산 부족 시 false)
+     */
+    public boolean tryAcquireHedge() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                budgetExhausted.increment();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        fired.increment();
+        return true;
+    }
+
+    /**
+     * 헤지 시도가 먼저 성공한 경우 기록
+     */
+    public void recordWon() {
+        won.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    public double getHedgeDelayMillis() {
+        return hedgeDelayNanos / 1_000_000.0;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFired() {
+        return fired.sum();
+    }
+
+    public long getWon() {
+        return won.sum();
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    private void recomputeDelay(long count) {
+        if (!recomputing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int size = (int) Math.min(count, samples.length());
+            long[] snapshot = new long[size];
+            for (int i = 0; i < size; i++) {
+                snapshot[i] = samples.get(i);
+            }
+            Arrays.sort(snapshot);
+            int index = (int) Math.min(size - 1, Math.ceil(config.percentile() * size) - 1);
+            hedgeDelayNanos = clamp(snapshot[Math.max(0, index)]);
+        } finally {
+            recomputing.set(false);
+        }
+    }
+
+    private long clamp(long nanos) {
+        long min = TimeUnit.MILLISECONDS.toNanos(config.minDelayMs());
+        long max = TimeUnit.MILLISECONDS.toNanos(config.maxDelayMs());
+        return Math.max(min, Math.min(max, nanos));
+    }
+
+    /**
+     * 헤지 정책 설정
+     *
+     * @param percentile 헤지 지연으로 사용할 응답 시간 백분위 (0.95면 p95)
+     * @param minDelayMs 최소 헤지 지연 (밀리초)
+     * @param maxDelayMs 최대 헤지 지연 (밀리초)
+     * @param initialDelayMs 표본이 부족할 때의 헤지 지연 (밀리초)
+     * @param windowSize 응답 시간 표본 수 (최근 N건)
+     * @param minSamples 백분위 계산에 필요한 최소 표본 수
+     * @param budgetRatio 호출 대비 허용 헤지 비율 (0.05면 호출 100건당 헤지 5건)
+     * @param maxBurst 적립 가능한 최대 헤지 수
+     */
+    public record Config(double percentile, long minDelayMs, long maxDelayMs, long initialDelayMs,
+                         int windowSize, int minSamples, double budgetRatio, int maxBurst) {
+
+        public Config {
+            if (percentile <= 0 || percentile > 1) {
+                throw new IllegalArgumentException("헤지 백분위 범위 오류: " + percentile);
+            }
+            if (minDelayMs < 0 || maxDelayMs < minDelayMs) {
+                throw new IllegalArgumentException("헤지 지연 범위 오류: " + minDelayMs + " ~ " + maxDelayMs);
+            }
+            windowSize = Math.max(RECOMPUTE_INTERVAL, windowSize);
+            minSamples = Math.max(1, Math.min(windowSize, minSamples));
+        }
+    }
+}
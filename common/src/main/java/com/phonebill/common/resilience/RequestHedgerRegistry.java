@@ -0,0 +1,73 @@
+package com.phonebill.common.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 헤지 요청 정책 레지스트리
+ *
+ * 이름별 정책을 생성 시점에 한 번 만들고 헤지 현황을 메트릭으로 노출합니다.
+ * - hedge.requests: 헤지 대상 호출 수
+ * - hedge.fired: 헤지 시도 수
+ * - hedge.won: 헤지 시도가 먼저 성공한 수
+ * - hedge.budget.exhausted: 지연을 넘겼지만 예산 부족으로 헤지하지 않은 수
+ * - hedge.delay: 현재 헤지 지연 (밀리초)
+ */
+@Slf4j
+public class RequestHedgerRegistry {
+
+    static final String METRIC_PREFIX = "hedge";
+
+    private final RequestHedger.Config config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RequestHedger> hedgers = new ConcurrentHashMap<>();
+
+    public RequestHedgerRegistry(RequestHedger.Config config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 이름별 정책 조회 (없으면 생성)
+     */
+    public RequestHedger hedger(String name) {
+        RequestHedger hedger = hedgers.get(name);
+        return hedger != null ? hedger : hedgers.computeIfAbsent(name, this::create);
+    }
+
+    public Collection<RequestHedger> getHedgers() {
+        return Collections.unmodifiableCollection(hedgers.values());
+    }
+
+    private RequestHedger create(String name) {
+        RequestHedger hedger = new RequestHedger(name, config);
+        if (meterRegistry != null) {
+            FunctionCounter.builder(METRIC_PREFIX + ".requests", hedger, RequestHedger::getRequests)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder(METRIC_PREFIX + ".fired", hedger, RequestHedger::getFired)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder(METRIC_PREFIX + ".won", hedger, RequestHedger::getWon)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder(METRIC_PREFIX + ".budget.exhausted", hedger, RequestHedger::getBudgetExhausted)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".delay", hedger, RequestHedger::getHedgeDelayMillis)
+                    .tag("name", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+        log.info("헤지 요청 정책 생성 - 이름: {}, 백분위: {}, 지연 범위: {} ~ {}ms, 예산 비율: {}",
+                name, config.percentile(), config.minDelayMs(), config.maxDelayMs(), config.budgetRatio());
+        return hedger;
+    }
+}
@@ -0,0 +1,146 @@
+package com.phonebill.common.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 공유 재시도 예산 (토큰 버킷)
+ *
+ * 호출마다 일정 비율의 토큰을 적립하고 재시도마다 1개를 사용하므로,
+ * 대상 시스템 장애 시에도 재시도는 전체 호출 수의 비율 이내로 제한됩니다.
+ * 재시도 여부 판단({@link #retryOn})은 잔액만 확인하고, 토큰은 실제 재시도가 일어날 때
+ * ({@link #onRetry}, Retry onRetry 이벤트) 사용하므로 마지막 시도의 실패는 예산을 쓰지 않습니다.
+ * 적립은 재시도를 제외한 최초 호출 기준입니다 ({@link RetryBudgetAspect}).
+ * 호출이 적을 때를 위해 초당 최소 재시도 수만큼은 시간에 따라 보충합니다.
+ *
+ * 여러 작업이 하나의 예산을 공유하므로 한 작업의 재시도 폭주가 다른 작업의 재시도까지 막습니다.
+ */
+public class RetryBudget {
+
+    static final String METRIC_PREFIX = "retry.budget";
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final long reserveIntervalNanos;
+
+    private final AtomicLong balance = new AtomicLong();
+    private final AtomicLong lastReserveNanos = new AtomicLong(System.nanoTime());
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * @param ratio 호출 대비 허용 재시도 비율 (0.1이면 호출 10건당 재시도 1건)
+     * @param minRetriesPerSecond 호출량과 무관하게 허용하는 초당 최소 재시도 수
+     * @param maxRetries 적립 가능한 최대 재시도 수 (순간 폭주 상한)
+     */
+    public RetryBudget(double ratio, int minRetriesPerSecond, int maxRetries) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = Math.max(1, maxRetries) * SCALE;
+        this.reserveIntervalNanos = minRetriesPerSecond > 0 ? 1_000_000_000L / minRetriesPerSecond : 0;
+    }
+
+    public RetryBudget(Config config) {
+        this(config.ratio(), config.minRetriesPerSecond(), config.maxRetries());
+    }
+
+    /**
+     * 호출 1건 적립
+     */
+    public void recordRequest() {
+        if (depositPerRequest > 0) {
+            add(depositPerRequest);
+        }
+    }
+
+    /**
+     * 재시도 가능 여부 (토큰 1개 이상 잔액, 사용하지는 않음)
+     */
+    public boolean canRetry() {
+        refillReserve();
+        if (balance.get() < SCALE) {
+            exhausted.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 재시도 1건 사용 (실제 재시도 직전 호출)
+     *
+     * 확인과 사용 사이에 다른 재시도가 잔액을 먼저 쓴 경우에도 잔액은 0 아래로 내려가지 않습니다.
+     */
+    public void onRetry() {
+        balance.accumulateAndGet(SCALE, (current, delta) -> Math.max(0, current - delta));
+        permitted.increment();
+    }
+
+    /**
+     * 재시도 대상 예외 조건에 예산 확인을 결합한 조건
+     *
+     * 대상 예외일 때만 잔액을 확인합니다 (Resilience4j retryOnException 용도).
+     * 마지막 시도 실패에도 평가되므로 여기서는 토큰을 쓰지 않고, 재시도 이벤트에서 {@link #onRetry}로 사용합니다.
+     */
+    public Predicate<Throwable> retryOn(Predicate<Throwable> retryable) {
+        return throwable -> retryable.test(throwable) && canRetry();
+    }
+
+    /**
+     * 현재 사용 가능한 재시도 수
+     */
+    public double getAvailableRetries() {
+        return (double) balance.get() / SCALE;
+    }
+
+    /**
+     * 메트릭 등록
+     *
+     * @param registry 메트릭 레지스트리
+     * @param name 예산 이름 (태그)
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        Gauge.builder(METRIC_PREFIX + ".available", this, RetryBudget::getAvailableRetries)
+                .tag("name", name)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".retries", permitted, LongAdder::sum)
+                .tag("name", name)
+                .tag("result", "permitted")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".retries", exhausted, LongAdder::sum)
+                .tag("name", name)
+                .tag("result", "exhausted")
+                .register(registry);
+    }
+
+    private void refillReserve() {
+        if (reserveIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = lastReserveNanos.get();
+        long intervals = (now - last) / reserveIntervalNanos;
+        if (intervals > 0 && lastReserveNanos.compareAndSet(last, last + intervals * reserveIntervalNanos)) {
+            add(intervals * SCALE);
+        }
+    }
+
+    private void add(long amount) {
+        balance.accumulateAndGet(amount, (current, delta) -> Math.min(maxBalance, current + delta));
+    }
+
+    /**
+     * 재시도 예산 설정
+     *
+     * @param ratio 호출 대비 허용 재시도 비율
+     * @param minRetriesPerSecond 초당 최소 재시도 수
+     * @param maxRetries 최대 적립 재시도 수
+     */
+    public record Config(double ratio, int minRetriesPerSecond, int maxRetries) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.phonebill.common.resilience;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+
+/**
+ * 공유 재시도 예산 적립 AOP
+ *
+ * {@link AdaptiveConcurrencyLimit} 대상 호출마다 예산을 적립합니다.
+ * Resilience4j Retry보다 바깥(가장 높은 우선순위)에서 실행되므로 재시도 시도는 적립하지 않고
+ * 호출 1건당 한 번만 적립합니다.
+ */
+@Aspect
+public class RetryBudgetAspect implements Ordered {
+
+    private final RetryBudget retryBudget;
+
+    public RetryBudgetAspect(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    @Before("@annotation(com.phonebill.common.resilience.AdaptiveConcurrencyLimit)")
+    public void recordRequest() {
+        retryBudget.recordRequest();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
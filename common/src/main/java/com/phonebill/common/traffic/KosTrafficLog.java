@@ -0,0 +1,211 @@
+package com.phonebill.common.traffic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * KOS 트래픽 기록 파일 형식
+ *
+ * bill-service가 기록하고 kos-mock이 재생하는 추가 전용(append-only) 바이너리 파일 형식과
+ * 양쪽이 같은 규칙으로 계산해야 하는 엔드포인트 이름/조회 키를 정의합니다.
+ *
+ * 파일: [magic:int][version:short] 다음에 레코드 반복
+ * 레코드: [length:int] [recordedAt:long] [latencyMs:int] [status:short]
+ *        [endpointLength:byte][endpoint] [keyLength:short][key] [bodyLength:int][body]
+ * length는 length 필드 자신을 제외한 레코드 바이트 수, status 0은 응답 없이 실패(타임아웃/연결 오류)
+ */
+public final class KosTrafficLog {
+
+    public static final int MAGIC = 0x4B4F5354; // "KOST"
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    /**
+     * 응답 없이 실패한 호출의 상태 코드
+     */
+    public static final int NO_RESPONSE = 0;
+
+    public static final String BILL_INQUIRY = "bill-inquiry";
+    public static final String PRODUCT_CHANGE = "product-change";
+    public static final String PRODUCT_LIST = "product-list";
+    public static final String PRODUCT_INQUIRY = "product-inquiry";
+    public static final String AVAILABLE_MONTHS = "available-months";
+
+    private static final String API_PREFIX = "/api/v1/kos";
+    private static final String AVAILABLE_MONTHS_PATH = API_PREFIX + "/bill/available-months/";
+
+    private KosTrafficLog() {
+    }
+
+    /**
+     * 기록 레코드
+     *
+     * @param recordedAt 기록 시각 (epoch 밀리초)
+     * @param latencyMs 응답 소요 시간 (밀리초)
+     * @param status HTTP 상태 코드 (응답 없이 실패 시 0)
+     * @param endpoint 엔드포인트 이름
+     * @param key 조회 키 (엔드포인트 안에서 요청을 구분)
+     * @param body 응답 본문
+     */
+    public record Entry(long recordedAt, int latencyMs, int status, String endpoint, String key, byte[] body) {
+
+        public boolean isFailure() {
+            return status == NO_RESPONSE || status >= 500;
+        }
+    }
+
+    /**
+     * 요청 경로로 엔드포인트 이름 결정 (KOS API가 아니면 null)
+     */
+    public static String endpointOf(String path) {
+        if (path == null || !path.startsWith(API_PREFIX)) {
+            return null;
+        }
+        if (path.startsWith(AVAILABLE_MONTHS_PATH)) {
+            return AVAILABLE_MONTHS;
+        }
+        return switch (path.substring(API_PREFIX.length())) {
+            case "/bill/inquiry" -> BILL_INQUIRY;
+            case "/product/change" -> PRODUCT_CHANGE;
+            case "/product/list" -> PRODUCT_LIST;
+            case "/product/inquiry" -> PRODUCT_INQUIRY;
+            default -> null;
+        };
+    }
+
+    /**
+     * 조회 키 결정 (경로와 요청 본문의 회선번호/청구월/상품코드 조합)
+     *
+     * @param endpoint 엔드포인트 이름
+     * @param path 요청 경로
+     * @param requestBody 요청 본문 JSON (GET 요청은 null)
+     */
+    public static String keyOf(String endpoint, String path, JsonNode requestBody) {
+        return switch (endpoint) {
+            case AVAILABLE_MONTHS -> path.substring(AVAILABLE_MONTHS_PATH.length());
+            case BILL_INQUIRY -> text(requestBody, "lineNumber") + ":" + text(requestBody, "billingMonth");
+            case PRODUCT_CHANGE -> text(requestBody, "lineNumber") + ":" + text(requestBody, "targetProductCode");
+            case PRODUCT_INQUIRY -> text(requestBody, "lineNumber");
+            default -> "";
+        };
+    }
+
+    /**
+     * 레코드 인코딩 (length 필드 포함, 읽기 위치 0)
+     */
+    public static ByteBuffer encode(Entry entry) {
+        byte[] endpoint = entry.endpoint().getBytes(StandardCharsets.UTF_8);
+        byte[] key = entry.key().getBytes(StandardCharsets.UTF_8);
+        byte[] body = entry.body() != null ? entry.body() : new byte[0];
+        if (endpoint.length > Byte.MAX_VALUE || key.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("엔드포인트 또는 조회 키가 너무 깁니다");
+        }
+
+        int length = Long.BYTES + Integer.BYTES + Short.BYTES
+                + Byte.BYTES + endpoint.length
+                + Short.BYTES + key.length
+                + Integer.BYTES + body.length;
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + length);
+        buffer.putInt(length)
+                .putLong(entry.recordedAt())
+                .putInt(entry.latencyMs())
+                .putShort((short) entry.status())
+                .put((byte) endpoint.length).put(endpoint)
+                .putShort((short) key.length).put(key)
+                .putInt(body.length).put(body);
+        return buffer.flip();
+    }
+
+    /**
+     * 파일 헤더 인코딩
+     */
+    public static ByteBuffer header() {
+        return ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).flip();
+    }
+
+    /**
+     * 파일 헤더 검증 (버퍼 위치와 무관하게 절대 위치로 읽음)
+     */
+    public static boolean hasValidHeader(ByteBuffer buffer) {
+        return buffer.limit() >= HEADER_SIZE
+                && buffer.getInt(0) == MAGIC
+                && buffer.getShort(Integer.BYTES) == VERSION;
+    }
+
+    /**
+     * 레코드 전체 크기 (length 필드 포함), 잘린 레코드면 -1
+     */
+    public static int recordSize(ByteBuffer buffer, int offset) {
+        if (offset + Integer.BYTES > buffer.limit()) {
+            return -1;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || offset + Integer.BYTES + (long) length > buffer.limit()) {
+            return -1;
+        }
+        return Integer.BYTES + length;
+    }
+
+    /**
+     * 레코드의 엔드포인트 이름만 읽기 (색인용)
+     */
+    public static String readEndpoint(ByteBuffer buffer, int offset) {
+        int position = offset + Integer.BYTES + Long.BYTES + Integer.BYTES + Short.BYTES;
+        return readString(buffer, position + Byte.BYTES, buffer.get(position));
+    }
+
+    /**
+     * 레코드의 조회 키만 읽기 (색인용)
+     */
+    public static String readKey(ByteBuffer buffer, int offset) {
+        int position = offset + Integer.BYTES + Long.BYTES + Integer.BYTES + Short.BYTES;
+        position += Byte.BYTES + buffer.get(position);
+        return readString(buffer, position + Short.BYTES, buffer.getShort(position));
+    }
+
+    /**
+     * 레코드 디코딩 (절대 위치로 읽으므로 공유 버퍼에서도 안전)
+     */
+    public static Entry decode(ByteBuffer buffer, int offset) {
+        int position = offset + Integer.BYTES;
+        long recordedAt = buffer.getLong(position);
+        position += Long.BYTES;
+        int latencyMs = buffer.getInt(position);
+        position += Integer.BYTES;
+        int status = Short.toUnsignedInt(buffer.getShort(position));
+        position += Short.BYTES;
+
+        int endpointLength = buffer.get(position);
+        position += Byte.BYTES;
+        String endpoint = readString(buffer, position, endpointLength);
+        position += endpointLength;
+
+        int keyLength = buffer.getShort(position);
+        position += Short.BYTES;
+        String key = readString(buffer, position, keyLength);
+        position += keyLength;
+
+        int bodyLength = buffer.getInt(position);
+        position += Integer.BYTES;
+        byte[] body = new byte[bodyLength];
+        buffer.get(position, body);
+
+        return new Entry(recordedAt, latencyMs, status, endpoint, key, body);
+    }
+
+    private static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String text(JsonNode node, String field) {
+        if (node == null) {
+            return "";
+        }
+        JsonNode value = node.get(field);
+        return value != null && !value.isNull() ? value.asText() : "";
+    }
+}
@@ -0,0 +1,91 @@
+package com.phonebill.common.traffic;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * KOS 트래픽 기록기
+ *
+ * 요청/응답 쌍을 KosTrafficLog 형식으로 파일 끝에 추가합니다.
+ * 여러 호출 스레드에서 동시에 기록할 수 있으며, 최대 크기에 도달하면 기록을 멈춥니다.
+ * 기록 실패는 호출에 영향을 주지 않도록 로그만 남깁니다.
+ */
+@Slf4j
+public class KosTrafficRecorder implements Closeable {
+
+    private final Path path;
+    private final long maxBytes;
+    private final FileChannel channel;
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicBoolean full = new AtomicBoolean();
+
+    /**
+     * @param path 기록 파일 경로 (없으면 생성, 있으면 이어서 기록)
+     * @param maxBytes 최대 파일 크기 (바이트)
+     */
+    public KosTrafficRecorder(Path path, long maxBytes) throws IOException {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            channel.write(KosTrafficLog.header());
+        }
+        log.info("KOS 트래픽 기록 시작 - 파일: {}, 현재 크기: {}bytes, 최대: {}bytes", path, channel.size(), maxBytes);
+    }
+
+    /**
+     * 레코드 추가
+     */
+    public void record(KosTrafficLog.Entry entry) {
+        if (full.get()) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = KosTrafficLog.encode(entry);
+            synchronized (channel) {
+                if (channel.size() + buffer.remaining() > maxBytes) {
+                    if (full.compareAndSet(false, true)) {
+                        log.warn("KOS 트래픽 기록 파일이 최대 크기에 도달하여 기록을 중단합니다 - 파일: {}, 기록: {}건",
+                                path, recorded.get());
+                    }
+                    return;
+                }
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            recorded.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("KOS 트래픽 기록 실패 - Endpoint: {}, Error: {}", entry.endpoint(), e.getMessage());
+        }
+    }
+
+    /**
+     * 기록한 레코드 수
+     */
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (channel) {
+            channel.force(false);
+            channel.close();
+        }
+        log.info("KOS 트래픽 기록 종료 - 파일: {}, 기록: {}건", path, recorded.get());
+    }
+}
@@ -0,0 +1,146 @@
+package com.phonebill.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 버전 헤더 Redis 값 직렬화기 테스트
+ */
+class CompactRedisSerializerTest {
+
+    private static final int THRESHOLD = 256;
+
+    @Test
+    @DisplayName("JSON 형식은 헤더 없이 기존 JSON으로 기록하고 COMPACT 직렬화기도 읽을 수 있다")
+    void legacyJsonIsReadableByCompactSerializer() {
+        Map<String, Object> value = payload(10);
+
+        byte[] json = serializer(CompactRedisSerializer.Format.JSON, CompactRedisSerializer.Compression.LZ4)
+                .serialize(value);
+
+        assertThat(json[0]).isNotEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(serializer(CompactRedisSerializer.Format.COMPACT, CompactRedisSerializer.Compression.LZ4)
+                .deserialize(json)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("기준 크기 미만이면 압축하지 않고 헤더만 붙인다")
+    void smallValueIsFramedWithoutCompression() {
+        CompactRedisSerializer serializer =
+                serializer(CompactRedisSerializer.Format.COMPACT, CompactRedisSerializer.Compression.LZ4);
+        Map<String, Object> value = payload(1);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(bytes[1]).isEqualTo(CompactRedisSerializer.VERSION);
+        assertThat(bytes[2]).isZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("LZ4/Zstd 압축 값은 원본 길이와 함께 기록되고 원래 값으로 복원된다")
+    void compressedValuesRoundTrip() {
+        Map<String, Object> value = payload(200);
+        byte[] json = serializer(CompactRedisSerializer.Format.JSON, CompactRedisSerializer.Compression.NONE)
+                .serialize(value);
+
+        for (CompactRedisSerializer.Compression compression :
+                new CompactRedisSerializer.Compression[]{CompactRedisSerializer.Compression.LZ4,
+                        CompactRedisSerializer.Compression.ZSTD}) {
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.Format.COMPACT, compression);
+
+            byte[] bytes = serializer.serialize(value);
+
+            assertThat(bytes[2]).isEqualTo((byte) compression.ordinal());
+            assertThat(bytes.length).isLessThan(json.length);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("원본 길이 필드가 음수이거나 상한을 넘으면 할당 없이 역직렬화 예외를 던진다")
+    void rejectsCorruptOriginalLength() {
+        CompactRedisSerializer serializer =
+                serializer(CompactRedisSerializer.Format.COMPACT, CompactRedisSerializer.Compression.LZ4);
+        byte[] bytes = serializer.serialize(payload(200));
+
+        for (int corrupt : new int[]{-1, CompactRedisSerializer.MAX_ORIGINAL_LENGTH + 1, Integer.MAX_VALUE}) {
+            byte[] tampered = bytes.clone();
+            ByteBuffer.wrap(tampered, 3, 4).putInt(corrupt);
+
+            assertThatThrownBy(() -> serializer.deserialize(tampered))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("원본 길이");
+        }
+    }
+
+    @Test
+    @DisplayName("원본 길이 필드가 실제 해제 길이와 다르거나 압축 본문이 잘리면 역직렬화 예외를 던진다")
+    void rejectsMismatchedOriginalLengthAndTruncatedBody() {
+        for (CompactRedisSerializer.Compression compression :
+                new CompactRedisSerializer.Compression[]{CompactRedisSerializer.Compression.LZ4,
+                        CompactRedisSerializer.Compression.ZSTD}) {
+            CompactRedisSerializer serializer = serializer(CompactRedisSerializer.Format.COMPACT, compression);
+            byte[] bytes = serializer.serialize(payload(200));
+            int originalLength = ByteBuffer.wrap(bytes, 3, 4).getInt();
+
+            for (int corrupt : new int[]{originalLength - 1, originalLength + 16}) {
+                byte[] tampered = bytes.clone();
+                ByteBuffer.wrap(tampered, 3, 4).putInt(corrupt);
+
+                assertThatThrownBy(() -> serializer.deserialize(tampered))
+                        .isInstanceOf(SerializationException.class);
+            }
+
+            byte[] truncated = Arrays.copyOf(bytes, bytes.length - 8);
+            assertThatThrownBy(() -> serializer.deserialize(truncated))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("압축 헤더가 잘린 값과 지원하지 않는 버전은 역직렬화 예외를 던진다")
+    void rejectsTruncatedHeaderAndUnknownVersion() {
+        CompactRedisSerializer serializer =
+                serializer(CompactRedisSerializer.Format.COMPACT, CompactRedisSerializer.Compression.LZ4);
+
+        byte[] truncated = {CompactRedisSerializer.MAGIC, CompactRedisSerializer.VERSION, 1, 0, 0};
+        byte[] futureVersion = {CompactRedisSerializer.MAGIC, (byte) (CompactRedisSerializer.VERSION + 1), 0};
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.deserialize(futureVersion)).isInstanceOf(SerializationException.class);
+    }
+
+    private static CompactRedisSerializer serializer(CompactRedisSerializer.Format format,
+                                                     CompactRedisSerializer.Compression compression) {
+        return new CompactRedisSerializer(CompactRedisSerializerTest::configure, format, compression, THRESHOLD);
+    }
+
+    private static void configure(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+    }
+
+    private static Map<String, Object> payload(int entries) {
+        Map<String, Object> value = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            value.put("item" + i, "요금 항목 " + i);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+package com.phonebill.common.resilience;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 공유 재시도 예산 테스트
+ */
+class RetryBudgetTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Test
+    @DisplayName("재시도 조건 평가는 잔액만 확인하고 실제 재시도에서만 토큰을 쓴다")
+    void predicateDoesNotSpendTokens() {
+        RetryBudget budget = budgetWith(2);
+
+        assertThat(budget.retryOn(t -> true).test(new IllegalStateException())).isTrue();
+        assertThat(budget.getAvailableRetries()).isEqualTo(2.0);
+
+        budget.onRetry();
+        assertThat(budget.getAvailableRetries()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("잔액이 없거나 재시도 대상 예외가 아니면 재시도하지 않고 잔액은 0 아래로 내려가지 않는다")
+    void deniesWhenExhaustedOrNotRetryable() {
+        RetryBudget budget = budgetWith(1);
+
+        assertThat(budget.retryOn(t -> false).test(new IllegalStateException())).isFalse();
+        budget.onRetry();
+        budget.onRetry();
+
+        assertThat(budget.getAvailableRetries()).isZero();
+        assertThat(budget.retryOn(t -> true).test(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 시도가 실패해도 마지막 시도의 실패는 예산을 쓰지 않는다")
+    void finalFailedAttemptDoesNotSpendToken() {
+        RetryBudget budget = budgetWith(5);
+        Retry retry = retryRegistry(budget).retry("kos-bill-inquiry");
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> alwaysFails = Retry.decorateSupplier(retry, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("KOS 오류");
+        });
+
+        assertThatThrownBy(alwaysFails::get).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts.get()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(budget.getAvailableRetries()).isEqualTo(5.0 - (MAX_ATTEMPTS - 1));
+    }
+
+    @Test
+    @DisplayName("예산이 바닥나면 첫 시도 실패 후 재시도하지 않는다")
+    void exhaustedBudgetStopsRetries() {
+        RetryBudget budget = budgetWith(0);
+        Retry retry = retryRegistry(budget).retry("kos-bill-inquiry");
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> alwaysFails = Retry.decorateSupplier(retry, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("KOS 오류");
+        });
+
+        assertThatThrownBy(alwaysFails::get).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입력 오류와 동시 호출 한도 초과는 재시도 대상이 아니다")
+    void excludedExceptionsAreNotRetryable() {
+        assertThat(KosCircuitBreakerConfigSupport.isRetryable(new IllegalArgumentException())).isFalse();
+        assertThat(KosCircuitBreakerConfigSupport.isRetryable(new ConcurrencyLimitExceededException("kos", 10))).isFalse();
+        assertThat(KosCircuitBreakerConfigSupport.isRetryable(new IllegalStateException())).isTrue();
+    }
+
+    /**
+     * 호출 적립으로 지정한 재시도 수만큼 잔액을 채운 예산 (시간 보충 없음)
+     */
+    private static RetryBudget budgetWith(int retries) {
+        RetryBudget budget = new RetryBudget(1.0, 0, 100);
+        for (int i = 0; i < retries; i++) {
+            budget.recordRequest();
+        }
+        return budget;
+    }
+
+    private static RetryRegistry retryRegistry(RetryBudget budget) {
+        KosCircuitBreakerConfigSupport config = new KosCircuitBreakerConfigSupport(budget) {
+            @Override
+            protected Settings kosResilienceSettings() {
+                return new Settings(0.5f, 10_000L, 0.5f, 10, 5, 3, 60_000L, MAX_ATTEMPTS, 1L, 1_000L);
+            }
+        };
+        return config.retryRegistry();
+    }
+}
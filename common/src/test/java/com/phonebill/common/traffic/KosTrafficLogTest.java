@@ -0,0 +1,129 @@
+package com.phonebill.common.traffic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KOS 트래픽 기록 파일 형식 테스트
+ */
+class KosTrafficLogTest {
+
+    @Test
+    @DisplayName("인코딩한 레코드를 같은 값으로 디코딩하고 색인용 필드만 따로 읽을 수 있다")
+    void encodeDecodeRoundTrip() {
+        KosTrafficLog.Entry entry = new KosTrafficLog.Entry(1_700_000_000_000L, 1234, 200,
+                KosTrafficLog.BILL_INQUIRY, "01012345678:202501",
+                "{\"resultCode\":\"0000\",\"상품명\":\"기본 요금제\"}".getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer buffer = KosTrafficLog.encode(entry);
+
+        assertThat(KosTrafficLog.recordSize(buffer, 0)).isEqualTo(buffer.limit());
+        assertThat(KosTrafficLog.readEndpoint(buffer, 0)).isEqualTo(KosTrafficLog.BILL_INQUIRY);
+        assertThat(KosTrafficLog.readKey(buffer, 0)).isEqualTo("01012345678:202501");
+        assertSameEntry(KosTrafficLog.decode(buffer, 0), entry);
+    }
+
+    @Test
+    @DisplayName("응답 없는 실패와 5xx 상태는 실패로 복원되고 본문이 없으면 빈 본문으로 기록된다")
+    void failureStatusesRoundTrip() {
+        KosTrafficLog.Entry noResponse = new KosTrafficLog.Entry(1L, 30_000, KosTrafficLog.NO_RESPONSE,
+                KosTrafficLog.PRODUCT_CHANGE, "01012345678:PLAN_B", null);
+        KosTrafficLog.Entry serverError = new KosTrafficLog.Entry(2L, 15, 503,
+                KosTrafficLog.PRODUCT_LIST, "", new byte[0]);
+
+        KosTrafficLog.Entry decodedNoResponse = KosTrafficLog.decode(KosTrafficLog.encode(noResponse), 0);
+        KosTrafficLog.Entry decodedServerError = KosTrafficLog.decode(KosTrafficLog.encode(serverError), 0);
+
+        assertThat(decodedNoResponse.status()).isEqualTo(KosTrafficLog.NO_RESPONSE);
+        assertThat(decodedNoResponse.body()).isEmpty();
+        assertThat(decodedNoResponse.isFailure()).isTrue();
+        assertThat(decodedServerError.status()).isEqualTo(503);
+        assertThat(decodedServerError.isFailure()).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘린 레코드는 크기 -1로 판별한다")
+    void truncatedRecordIsDetected() {
+        ByteBuffer full = KosTrafficLog.encode(new KosTrafficLog.Entry(1L, 10, 200,
+                KosTrafficLog.PRODUCT_INQUIRY, "01012345678", new byte[64]));
+        ByteBuffer truncated = ByteBuffer.allocate(full.limit() - 1).put(full.slice(0, full.limit() - 1)).flip();
+
+        assertThat(KosTrafficLog.recordSize(truncated, 0)).isEqualTo(-1);
+        assertThat(KosTrafficLog.recordSize(truncated, truncated.limit() - 2)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("기록기가 쓴 파일은 헤더 검증 후 레코드 순서대로 모두 읽힌다")
+    void recorderFileIsReadableInOrder(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("traffic/kos-traffic.bin");
+        List<KosTrafficLog.Entry> entries = List.of(
+                new KosTrafficLog.Entry(1L, 100, 200, KosTrafficLog.BILL_INQUIRY, "01011112222:202501",
+                        "{}".getBytes(StandardCharsets.UTF_8)),
+                new KosTrafficLog.Entry(2L, 3000, KosTrafficLog.NO_RESPONSE, KosTrafficLog.BILL_INQUIRY,
+                        "01011112222:202502", null),
+                new KosTrafficLog.Entry(3L, 50, 200, KosTrafficLog.AVAILABLE_MONTHS, "01011112222",
+                        "[]".getBytes(StandardCharsets.UTF_8)));
+
+        try (KosTrafficRecorder recorder = new KosTrafficRecorder(file, 1024 * 1024)) {
+            entries.forEach(recorder::record);
+            assertThat(recorder.getRecordedCount()).isEqualTo(entries.size());
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertThat(KosTrafficLog.hasValidHeader(buffer)).isTrue();
+
+        List<KosTrafficLog.Entry> decoded = new ArrayList<>();
+        int offset = KosTrafficLog.HEADER_SIZE;
+        int size;
+        while ((size = KosTrafficLog.recordSize(buffer, offset)) > 0) {
+            decoded.add(KosTrafficLog.decode(buffer, offset));
+            offset += size;
+        }
+        assertThat(offset).isEqualTo(buffer.limit());
+        assertThat(decoded).hasSize(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertSameEntry(decoded.get(i), entries.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("기록 측과 재생 측은 같은 경로/본문에서 같은 엔드포인트와 조회 키를 계산한다")
+    void endpointAndKeyRules() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(KosTrafficLog.endpointOf("/api/v1/kos/bill/inquiry")).isEqualTo(KosTrafficLog.BILL_INQUIRY);
+        assertThat(KosTrafficLog.endpointOf("/api/v1/kos/bill/available-months/01012345678"))
+                .isEqualTo(KosTrafficLog.AVAILABLE_MONTHS);
+        assertThat(KosTrafficLog.endpointOf("/api/v1/kos/mock-datas")).isNull();
+        assertThat(KosTrafficLog.endpointOf("/actuator/health")).isNull();
+
+        assertThat(KosTrafficLog.keyOf(KosTrafficLog.BILL_INQUIRY, "/api/v1/kos/bill/inquiry",
+                objectMapper.valueToTree(Map.of("lineNumber", "01012345678", "billingMonth", "202501",
+                        "requestId", "REQ-1"))))
+                .isEqualTo("01012345678:202501");
+        assertThat(KosTrafficLog.keyOf(KosTrafficLog.AVAILABLE_MONTHS,
+                "/api/v1/kos/bill/available-months/01012345678", null))
+                .isEqualTo("01012345678");
+    }
+
+    private static void assertSameEntry(KosTrafficLog.Entry actual, KosTrafficLog.Entry expected) {
+        assertThat(actual.recordedAt()).isEqualTo(expected.recordedAt());
+        assertThat(actual.latencyMs()).isEqualTo(expected.latencyMs());
+        assertThat(actual.status()).isEqualTo(expected.status());
+        assertThat(actual.endpoint()).isEqualTo(expected.endpoint());
+        assertThat(actual.key()).isEqualTo(expected.key());
+        assertThat(actual.body()).isEqualTo(expected.body() != null ? expected.body() : new byte[0]);
+    }
+}
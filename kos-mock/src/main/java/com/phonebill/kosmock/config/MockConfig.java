@@ -4,6 +4,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * KOS Mock 설정
  */
@@ -11,29 +16,321 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "kos.mock")
 @Data
 public class MockConfig {
-    
+
     /**
      * Mock 응답 지연 시간 (밀리초)
+     * 엔드포인트 지연 프로파일이 없을 때의 고정 지연
      */
     private long responseDelay = 500;
-    
+
     /**
      * Mock 실패율 (0.0 ~ 1.0)
+     * 엔드포인트 지연 프로파일에 실패율이 없을 때 적용
      */
     private double failureRate = 0.0;
-    
+
     /**
      * 최대 재시도 횟수
      */
     private int maxRetryCount = 3;
-    
+
     /**
      * 타임아웃 시간 (밀리초)
      */
     private long timeoutMs = 30000;
-    
+
     /**
      * 디버그 모드 활성화 여부
      */
     private boolean debugMode = false;
-}
\ No newline at end of file
+
+    /**
+     * 응답 지연 주입 설정
+     */
+    private Latency latency = new Latency();
+
+    /**
+     * 요청 처리 이력 저장소 설정
+     */
+    private ProcessingResults processingResults = new ProcessingResults();
+
+    /**
+     * 대량 Mock 데이터 생성 설정
+     */
+    private Generator generator = new Generator();
+
+    /**
+     * 데이터 저장소 설정
+     */
+    private Store store = new Store();
+
+    /**
+     * 기록 트래픽 재생 설정
+     */
+    private Replay replay = new Replay();
+
+    /**
+     * 엔드포인트 지연 프로파일 조회 (없으면 null)
+     *
+     * @param endpoint 엔드포인트 이름 (bill-inquiry, product-change, product-list, product-inquiry, available-months)
+     */
+    public LatencyProfile getLatencyProfile(String endpoint) {
+        LatencyProfile profile = latency.getEndpoints().get(endpoint);
+        return profile != null ? profile : latency.getDefaultProfile();
+    }
+
+    /**
+     * 엔드포인트 실패율 (프로파일 실패율 → 전역 실패율)
+     */
+    public double getFailureRate(String endpoint) {
+        LatencyProfile profile = getLatencyProfile(endpoint);
+        return profile != null && profile.getFailureRate() != null ? profile.getFailureRate() : failureRate;
+    }
+
+    /**
+     * 지연 주입 방식
+     */
+    public enum LatencyMode {
+        /**
+         * 요청 스레드를 반환하고 스케줄러로 지연 후 응답 (비동기 서블릿)
+         */
+        ASYNC,
+        /**
+         * 요청 스레드에서 sleep (기존 방식)
+         */
+        BLOCKING
+    }
+
+    /**
+     * 데이터 조회 방식
+     */
+    public enum StoreMode {
+        /**
+         * 요청마다 JPA로 H2 조회 (기존 방식)
+         */
+        JPA,
+        /**
+         * 시작 시 전체 데이터를 메모리 인덱스로 적재하고 쓰기는 H2에 비동기 반영
+         */
+        MEMORY
+    }
+
+    /**
+     * 지연 분포
+     */
+    public enum Distribution {
+        /**
+         * 고정 지연 (fixedMs, 미설정 시 response-delay)
+         */
+        FIXED,
+        /**
+         * 균등 분포 (minMs ~ maxMs)
+         */
+        UNIFORM,
+        /**
+         * 로그정규 분포 (중앙값 medianMs, 형상 sigma)
+         */
+        LOG_NORMAL,
+        /**
+         * 기록된 히스토그램 (구간 상한 밀리초 → 건수)
+         */
+        HISTOGRAM
+    }
+
+    /**
+     * 응답 지연 주입 설정 내부 클래스
+     */
+    @Data
+    public static class Latency {
+
+        /**
+         * 지연 주입 방식
+         */
+        private LatencyMode mode = LatencyMode.ASYNC;
+
+        /**
+         * 지연 타이머 스레드 수 (지연 중인 요청은 스레드를 점유하지 않음)
+         */
+        private int schedulerThreads = 2;
+
+        /**
+         * 엔드포인트 프로파일이 없을 때의 기본 프로파일 (없으면 response-delay 고정 지연)
+         */
+        private LatencyProfile defaultProfile;
+
+        /**
+         * 엔드포인트별 지연 프로파일
+         */
+        private Map<String, LatencyProfile> endpoints = new HashMap<>();
+    }
+
+    /**
+     * 요청 처리 이력 저장소 설정 내부 클래스
+     */
+    @Data
+    public static class ProcessingResults {
+
+        /**
+         * 메모리 보관 최대 건수 (초과 시 오래 쓰이지 않은 이력부터 제거)
+         */
+        private long maxSize = 100_000;
+
+        /**
+         * 이력 보관 기간 (저장 시점 기준)
+         */
+        private Duration ttl = Duration.ofHours(1);
+
+        /**
+         * 용량 초과로 제거된 이력을 H2에 보관할지 여부 (보관 기간 동안 조회 가능)
+         */
+        private boolean spillEnabled = false;
+
+        /**
+         * H2 보관 이력 중 만료분 정리 주기
+         */
+        private Duration spillCleanupInterval = Duration.ofMinutes(5);
+    }
+
+    /**
+     * 데이터 저장소 설정 내부 클래스
+     */
+    @Data
+    public static class Store {
+
+        /**
+         * 데이터 조회 방식
+         */
+        private StoreMode mode = StoreMode.JPA;
+
+        /**
+         * 적재 시 JDBC fetch 크기
+         */
+        private int loadFetchSize = 10_000;
+    }
+
+    /**
+     * 기록 트래픽 재생 설정 내부 클래스
+     * bill-service가 기록한 KOS 요청/응답(kos.traffic.record-*)을 원래 지연/오류 비율로 재생
+     */
+    @Data
+    public static class Replay {
+
+        /**
+         * 재생 모드 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 기록 파일 경로
+         */
+        private String path = "./data/kos-traffic.bin";
+
+        /**
+         * 같은 조회 키의 기록이 있으면 기록된 응답을 그대로 반환할지 여부
+         * (false면 엔드포인트별 기록에서 지연/오류만 추출하고 응답은 Mock 데이터로 생성)
+         * 조회 키의 가장 최근 기록이 실패면 그 키는 재생 내내 실패로 응답합니다.
+         */
+        private boolean exactMatch = true;
+    }
+
+    /**
+     * 대량 Mock 데이터 생성 설정 내부 클래스
+     * 관리 API 요청에서 지정하지 않은 값의 기본값으로도 사용
+     */
+    @Data
+    public static class Generator {
+
+        /**
+         * 애플리케이션 시작 시 생성 여부
+         */
+        private boolean startupEnabled = false;
+
+        /**
+         * 생성할 회선 수
+         */
+        private long lines = 0;
+
+        /**
+         * 시작 회선 인덱스 (회선번호 = 010 + 8자리 인덱스)
+         */
+        private long lineStart = 0;
+
+        /**
+         * 회선별 요금 이력 개월 수
+         */
+        private int months = 6;
+
+        /**
+         * 기준 청구월 (yyyyMM, 미설정 시 당월)
+         */
+        private String baseMonth;
+
+        /**
+         * 난수 시드 (같은 시드/회선은 항상 같은 데이터)
+         */
+        private long seed = 20250101L;
+
+        /**
+         * 병렬 생성 파티션 수 (커넥션 풀 크기 이하 권장)
+         */
+        private int partitions = 4;
+
+        /**
+         * 배치 insert 크기 (회선 수 기준)
+         */
+        private int batchSize = 1000;
+
+        /**
+         * 상품 구성비 (상품코드 → 가중치, 비어 있으면 판매중 상품 균등)
+         */
+        private Map<String, Integer> productMix = new LinkedHashMap<>();
+    }
+
+    /**
+     * 지연 프로파일 내부 클래스
+     */
+    @Data
+    public static class LatencyProfile {
+
+        /**
+         * 지연 분포
+         */
+        private Distribution distribution = Distribution.FIXED;
+
+        /**
+         * 고정 지연 (밀리초, FIXED, 미설정 시 response-delay)
+         */
+        private Long fixedMs;
+
+        /**
+         * 최소 지연 (밀리초, UNIFORM)
+         */
+        private long minMs = 0;
+
+        /**
+         * 최대 지연 (밀리초, UNIFORM 상한 / LOG_NORMAL 절단, 0이면 절단 없음)
+         */
+        private long maxMs = 0;
+
+        /**
+         * 중앙값 (밀리초, LOG_NORMAL)
+         */
+        private double medianMs = 500;
+
+        /**
+         * 형상 모수 (LOG_NORMAL, 클수록 꼬리가 김)
+         */
+        private double sigma = 0.5;
+
+        /**
+         * 기록된 지연 히스토그램 (HISTOGRAM, 구간 상한 밀리초 → 건수)
+         * 구간 안에서는 균등하게 선택
+         */
+        private Map<Long, Long> histogram = new LinkedHashMap<>();
+
+        /**
+         * 실패율 (0.0 ~ 1.0, 미설정 시 failure-rate)
+         */
+        private Double failureRate;
+    }
+}
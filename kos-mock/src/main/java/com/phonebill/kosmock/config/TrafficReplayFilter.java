@@ -0,0 +1,168 @@
+package com.phonebill.kosmock.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phonebill.common.traffic.KosTrafficLog;
+import com.phonebill.kosmock.service.LatencyInjector;
+import com.phonebill.kosmock.service.TrafficReplayService;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 기록 트래픽 재생 필터 (kos.mock.replay.enabled)
+ *
+ * /api/v1/kos/** 요청을 기록된 트래픽으로 재생합니다.
+ * - 기록된 응답을 그대로 반환할 요청(같은 조회 키 또는 실패 기록)은 컨트롤러 없이 기록된 지연 후 응답
+ * - 그 밖의 요청은 기록된 지연만 요청 속성으로 넘기고 기존 Mock 처리로 응답
+ * 지연은 LatencyInjector로 주입하므로 ASYNC 모드에서는 대기 중 요청 스레드를 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrafficReplayFilter extends OncePerRequestFilter {
+
+    private final TrafficReplayService trafficReplayService;
+    private final LatencyInjector latencyInjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !trafficReplayService.isEnabled() || KosTrafficLog.endpointOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        String endpoint = KosTrafficLog.endpointOf(path);
+
+        // 조회 키 계산을 위해 본문을 먼저 읽고, 컨트롤러가 다시 읽을 수 있도록 보관
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = KosTrafficLog.keyOf(endpoint, path, readJson(cachedRequest.body));
+
+        TrafficReplayService.Replay replay = trafficReplayService.select(endpoint, key);
+        if (replay == null) {
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        KosTrafficLog.Entry entry = replay.entry();
+        if (!replay.respondWithRecording()) {
+            request.setAttribute(TrafficReplayService.REPLAY_DELAY_ATTRIBUTE, (long) entry.latencyMs());
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        log.debug("기록 응답 재생 - Endpoint: {}, Key: {}, Status: {}, Latency: {}ms, Exact: {}",
+                endpoint, key, entry.status(), entry.latencyMs(), replay.exact());
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(entry.latencyMs() + 30_000L);
+        latencyInjector.afterDelay(entry.latencyMs(), () -> {
+            writeRecording((HttpServletResponse) asyncContext.getResponse(), entry);
+            return null;
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.warn("기록 응답 재생 실패 - Endpoint: {}, Error: {}", endpoint, error.getMessage());
+            }
+            asyncContext.complete();
+        });
+    }
+
+    /**
+     * 기록된 상태/본문 쓰기 (응답 없이 실패한 기록은 504)
+     */
+    private static void writeRecording(HttpServletResponse response, KosTrafficLog.Entry entry) {
+        try {
+            if (entry.status() == KosTrafficLog.NO_RESPONSE) {
+                response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+                return;
+            }
+            response.setStatus(entry.status());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(entry.body().length);
+            response.getOutputStream().write(entry.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("기록 응답 쓰기 실패", e);
+        }
+    }
+
+    private JsonNode readJson(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 본문을 미리 읽어 보관하는 요청 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new IllegalStateException("재생 필터가 미리 읽은 본문은 비동기 읽기(ReadListener)를 지원하지 않습니다");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
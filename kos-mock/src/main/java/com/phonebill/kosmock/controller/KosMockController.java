@@ -2,6 +2,7 @@ package com.phonebill.kosmock.controller;
 
 import com.phonebill.kosmock.dto.*;
 import com.phonebill.kosmock.service.KosMockService;
+import com.phonebill.kosmock.service.LatencyInjector;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,9 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * KOS Mock API 컨트롤러
  * KT 통신사 시스템(KOS-Order)의 API를 모방합니다.
+ * 응답 지연은 LatencyInjector가 주입하며, 지연 중에는 요청 스레드를 점유하지 않습니다 (비동기 응답).
  */
 @RestController
 @RequestMapping("/api/v1/kos")
@@ -27,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class KosMockController {
 
     private final KosMockService kosMockService;
+    private final LatencyInjector latencyInjector;
 
     /**
      * 요금 조회 API
@@ -39,26 +44,21 @@ public class KosMockController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<KosCommonResponse<KosBillInquiryResponse>> inquireBill(
+    public CompletableFuture<ResponseEntity<KosCommonResponse<KosBillInquiryResponse>>> inquireBill(
             @Valid @RequestBody KosBillInquiryRequest request) {
         
         log.info("요금 조회 요청 수신 - RequestId: {}, LineNumber: {}", 
                 request.getRequestId(), request.getLineNumber());
         
-        try {
-            KosBillInquiryResponse response = kosMockService.processBillInquiry(request);
-            
-            if ("0000".equals(response.getResultCode())) {
-                return ResponseEntity.ok(KosCommonResponse.success(response, "요금 조회가 완료되었습니다"));
-            } else {
-                return ResponseEntity.ok(KosCommonResponse.failure(
-                        response.getResultCode(), response.getResultMessage()));
-            }
-            
-        } catch (Exception e) {
-            log.error("요금 조회 처리 중 오류 발생 - RequestId: {}", request.getRequestId(), e);
-            return ResponseEntity.ok(KosCommonResponse.systemError());
-        }
+        return latencyInjector.afterDelay(LatencyInjector.BILL_INQUIRY, () -> {
+                    KosBillInquiryResponse response = kosMockService.processBillInquiry(request);
+                    return toResponseEntity(response, response.getResultCode(), response.getResultMessage(),
+                            "요금 조회가 완료되었습니다");
+                })
+                .exceptionally(e -> {
+                    log.error("요금 조회 처리 중 오류 발생 - RequestId: {}", request.getRequestId(), e);
+                    return ResponseEntity.ok(KosCommonResponse.systemError());
+                });
     }
 
     /**
@@ -72,26 +72,21 @@ public class KosMockController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<KosCommonResponse<KosProductChangeResponse>> changeProduct(
+    public CompletableFuture<ResponseEntity<KosCommonResponse<KosProductChangeResponse>>> changeProduct(
             @Valid @RequestBody KosProductChangeRequest request) {
         
         log.info("상품 변경 요청 수신 - RequestId: {}, LineNumber: {}, Target: {}", 
                 request.getRequestId(), request.getLineNumber(), request.getTargetProductCode());
         
-        try {
-            KosProductChangeResponse response = kosMockService.processProductChange(request);
-            
-            if ("0000".equals(response.getResultCode())) {
-                return ResponseEntity.ok(KosCommonResponse.success(response, "상품 변경이 완료되었습니다"));
-            } else {
-                return ResponseEntity.ok(KosCommonResponse.failure(
-                        response.getResultCode(), response.getResultMessage()));
-            }
-            
-        } catch (Exception e) {
-            log.error("상품 변경 처리 중 오류 발생 - RequestId: {}", request.getRequestId(), e);
-            return ResponseEntity.ok(KosCommonResponse.systemError());
-        }
+        return latencyInjector.afterDelay(LatencyInjector.PRODUCT_CHANGE, () -> {
+                    KosProductChangeResponse response = kosMockService.processProductChange(request);
+                    return toResponseEntity(response, response.getResultCode(), response.getResultMessage(),
+                            "상품 변경이 완료되었습니다");
+                })
+                .exceptionally(e -> {
+                    log.error("상품 변경 처리 중 오류 발생 - RequestId: {}", request.getRequestId(), e);
+                    return ResponseEntity.ok(KosCommonResponse.systemError());
+                });
     }
 
     /**
@@ -105,24 +100,19 @@ public class KosMockController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<KosCommonResponse<KosProductListResponse>> getProductList() {
+    public CompletableFuture<ResponseEntity<KosCommonResponse<KosProductListResponse>>> getProductList() {
         
         log.info("상품 목록 조회 요청 수신");
         
-        try {
-            KosProductListResponse response = kosMockService.getProductList();
-            
-            if ("0000".equals(response.getResultCode())) {
-                return ResponseEntity.ok(KosCommonResponse.success(response, "상품 목록 조회가 완료되었습니다"));
-            } else {
-                return ResponseEntity.ok(KosCommonResponse.failure(
-                        response.getResultCode(), response.getResultMessage()));
-            }
-            
-        } catch (Exception e) {
-            log.error("상품 목록 조회 처리 중 오류 발생", e);
-            return ResponseEntity.ok(KosCommonResponse.systemError());
-        }
+        return latencyInjector.afterDelay(LatencyInjector.PRODUCT_LIST, () -> {
+                    KosProductListResponse response = kosMockService.getProductList();
+                    return toResponseEntity(response, response.getResultCode(), response.getResultMessage(),
+                            "상품 목록 조회가 완료되었습니다");
+                })
+                .exceptionally(e -> {
+                    log.error("상품 목록 조회 처리 중 오류 발생", e);
+                    return ResponseEntity.ok(KosCommonResponse.systemError());
+                });
     }
 
     /**
@@ -136,27 +126,22 @@ public class KosMockController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<KosCommonResponse<KosAvailableMonthsResponse>> getAvailableMonths(
+    public CompletableFuture<ResponseEntity<KosCommonResponse<KosAvailableMonthsResponse>>> getAvailableMonths(
             @Parameter(description = "회선번호 (하이픈 제거된 형태)", example = "01012345678")
             @PathVariable String lineNumber) {
         
         log.info("데이터 보유 월 목록 조회 요청 수신 - LineNumber: {}", lineNumber);
         
-        try {
-            // 하이픈 없는 형태 그대로 사용 (MockDataService와 일치)
-            KosAvailableMonthsResponse response = kosMockService.getAvailableMonths(lineNumber);
-            
-            if ("0000".equals(response.getResultCode())) {
-                return ResponseEntity.ok(KosCommonResponse.success(response, "데이터 보유 월 목록 조회가 완료되었습니다"));
-            } else {
-                return ResponseEntity.ok(KosCommonResponse.failure(
-                        response.getResultCode(), response.getResultMessage()));
-            }
-            
-        } catch (Exception e) {
-            log.error("데이터 보유 월 목록 조회 처리 중 오류 발생 - LineNumber: {}", lineNumber, e);
-            return ResponseEntity.ok(KosCommonResponse.systemError());
-        }
+        // 하이픈 없는 형태 그대로 사용 (MockDataService와 일치)
+        return latencyInjector.afterDelay(LatencyInjector.AVAILABLE_MONTHS, () -> {
+                    KosAvailableMonthsResponse response = kosMockService.getAvailableMonths(lineNumber);
+                    return toResponseEntity(response, response.getResultCode(), response.getResultMessage(),
+                            "데이터 보유 월 목록 조회가 완료되었습니다");
+                })
+                .exceptionally(e -> {
+                    log.error("데이터 보유 월 목록 조회 처리 중 오류 발생 - LineNumber: {}", lineNumber, e);
+                    return ResponseEntity.ok(KosCommonResponse.systemError());
+                });
     }
     
     /**
@@ -170,26 +155,32 @@ public class KosMockController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<KosCommonResponse<KosProductInquiryResponse>> inquireProduct(
+    public CompletableFuture<ResponseEntity<KosCommonResponse<KosProductInquiryResponse>>> inquireProduct(
             @Valid @RequestBody KosProductInquiryRequest request) {
         
         log.info("가입상품 조회 요청 수신 - RequestId: {}, LineNumber: {}", 
                 request.getRequestId(), request.getLineNumber());
         
-        try {
-            KosProductInquiryResponse response = kosMockService.processProductInquiry(request);
-            
-            if ("0000".equals(response.getResultCode())) {
-                return ResponseEntity.ok(KosCommonResponse.success(response, "가입상품 조회가 완료되었습니다"));
-            } else {
-                return ResponseEntity.ok(KosCommonResponse.failure(
-                        response.getResultCode(), response.getResultMessage()));
-            }
-            
-        } catch (Exception e) {
-            log.error("가입상품 조회 처리 중 오류 발생 - RequestId: {}", request.getRequestId(), e);
-            return ResponseEntity.ok(KosCommonResponse.systemError());
+        return latencyInjector.afterDelay(LatencyInjector.PRODUCT_INQUIRY, () -> {
+                    KosProductInquiryResponse response = kosMockService.processProductInquiry(request);
+                    return toResponseEntity(response, response.getResultCode(), response.getResultMessage(),
+                            "가입상품 조회가 완료되었습니다");
+                })
+                .exceptionally(e -> {
+                    log.error("가입상품 조회 처리 중 오류 발생 - RequestId: {}", request.getRequestId(), e);
+                    return ResponseEntity.ok(KosCommonResponse.systemError());
+                });
+    }
+
+    /**
+     * KOS 처리 결과를 공통 응답으로 변환 (결과코드 0000만 성공)
+     */
+    private static <T> ResponseEntity<KosCommonResponse<T>> toResponseEntity(
+            T response, String resultCode, String resultMessage, String successMessage) {
+        if ("0000".equals(resultCode)) {
+            return ResponseEntity.ok(KosCommonResponse.success(response, successMessage));
         }
+        return ResponseEntity.ok(KosCommonResponse.failure(resultCode, resultMessage));
     }
 
     /**
@@ -1,7 +1,10 @@
 package com.phonebill.kosmock.controller;
 
+import com.phonebill.kosmock.dto.BulkDataGenerateRequest;
+import com.phonebill.kosmock.dto.BulkDataGenerateResponse;
 import com.phonebill.kosmock.dto.MockDataCreateRequest;
 import com.phonebill.kosmock.dto.MockDataCreateResponse;
+import com.phonebill.kosmock.service.BulkDataGenerator;
 import com.phonebill.kosmock.service.MockDataCreateService;
 import com.phonebill.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +31,7 @@ public class MockDataController {
     
     private static final Logger log = LoggerFactory.getLogger(MockDataController.class);
     private final MockDataCreateService mockDataCreateService;
+    private final BulkDataGenerator bulkDataGenerator;
     
     @PostMapping
     @Operation(summary = "Mock 데이터 생성", description = "고객 정보와 요금 정보 Mock 데이터를 생성합니다")
@@ -59,6 +63,40 @@ public class MockDataController {
         }
     }
     
+    /**
+     * 대량 Mock 데이터 생성 API (성능 테스트용)
+     */
+    @PostMapping("/bulk")
+    @Operation(summary = "대량 Mock 데이터 생성",
+               description = "시드 기반으로 회선 범위의 고객/요금 Mock 데이터를 병렬 배치 생성합니다. 대상 범위의 기존 데이터는 교체됩니다.")
+    public ResponseEntity<ApiResponse<BulkDataGenerateResponse>> generateBulkMockData(
+            @Valid @RequestBody BulkDataGenerateRequest request) {
+        
+        log.info("대량 Mock 데이터 생성 요청 - Lines: {}, LineStart: {}, Months: {}, Seed: {}", 
+            request.getLines(), request.getLineStart(), request.getMonths(), request.getSeed());
+        
+        try {
+            BulkDataGenerateResponse response = bulkDataGenerator.generate(request);
+            
+            return ResponseEntity.ok(ApiResponse.success("대량 Mock 데이터가 성공적으로 생성되었습니다", response));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("대량 Mock 데이터 생성 실패 - 잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error(e.getMessage(), "4000"));
+                
+        } catch (IllegalStateException e) {
+            log.error("대량 Mock 데이터 생성 실패 - 시스템 상태 오류: {}", e.getMessage());
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error(e.getMessage(), "5000"));
+                
+        } catch (Exception e) {
+            log.error("대량 Mock 데이터 생성 실패 - 예기치 못한 오류", e);
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.error("대량 Mock 데이터 생성 중 오류가 발생했습니다", "5000"));
+        }
+    }
+    
     /**
      * 가입상품정보 조회 API
      */
@@ -0,0 +1,573 @@
+package com.phonebill.kosmock.data;
+
+import com.phonebill.kosmock.config.MockConfig;
+import com.phonebill.kosmock.entity.BillEntity;
+import com.phonebill.kosmock.entity.CustomerEntity;
+import com.phonebill.kosmock.entity.ProductEntity;
+import com.phonebill.kosmock.repository.BillRepository;
+import com.phonebill.kosmock.repository.CustomerRepository;
+import com.phonebill.kosmock.repository.ProductRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 메모리 인덱스 데이터 저장소 (kos.mock.store.mode=MEMORY)
+ *
+ * 시작 시 고객/상품/요금 데이터를 메모리 인덱스로 적재해 요청마다 발생하던 JPA 조회와 엔티티 변환을 없앱니다.
+ * - 인덱스: 회선번호 → 고객, 상품코드 → 상품, 회선번호 → 청구월(int) 내림차순 요금 배열 ((회선, 청구월) 조회)
+ * - 레코드는 금액을 long(소수 2자리 고정), 일시를 epoch 초로 보관하고 반복되는 문자열은 공유
+ * - 쓰기(상품 변경, 요금 생성)는 메모리에 즉시 반영하고 H2에는 단일 쓰기 스레드로 비동기 반영
+ * - 재적재 중 쓰기는 기존 인덱스에 반영하면서 기록해 두었다가 교체 직전 새 인덱스에 다시 적용
+ * - 적재 완료 전에는 isActive()가 false이므로 호출측은 JPA 조회를 사용
+ */
+@Slf4j
+@Component
+@Order(3)
+public class InMemoryDataStore implements ApplicationRunner {
+
+    private static final int FEE_SCALE = 2;
+
+    private static final String SELECT_CUSTOMERS_SQL =
+            "SELECT line_number, customer_id, operator_code, current_product_code, line_status, contract_date, updated_at "
+                    + "FROM customers";
+    private static final String SELECT_BILLS_SQL =
+            "SELECT line_number, billing_month, product_code, product_name, monthly_fee, usage_fee, total_fee, "
+                    + "data_usage, voice_usage, sms_usage, bill_status, due_date FROM bills";
+
+    private final MockConfig.Store config;
+    private final JdbcTemplate loadJdbcTemplate;
+    private final ProductRepository productRepository;
+    private final CustomerRepository customerRepository;
+    private final BillRepository billRepository;
+    private final ExecutorService writer;
+
+    // 반복되는 짧은 문자열(상품명, 상태, 사용량 등) 공유
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    private volatile Indexes indexes = new Indexes(
+            new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new AtomicLong());
+    private volatile boolean active;
+
+    // 쓰기는 읽기 잠금(쓰기끼리 동시 실행), 인덱스 교체는 쓰기 잠금
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 재적재 중 쓰기 기록 (재적재 중이 아니면 null, 변경은 쓰기 잠금 안에서만)
+    private volatile List<Consumer<Indexes>> reloadJournal;
+
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private final AtomicLong failedWrites = new AtomicLong();
+
+    public InMemoryDataStore(MockConfig mockConfig,
+                             DataSource dataSource,
+                             ProductRepository productRepository,
+                             CustomerRepository customerRepository,
+                             BillRepository billRepository,
+                             ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.config = mockConfig.getStore();
+        this.loadJdbcTemplate = new JdbcTemplate(dataSource);
+        this.loadJdbcTemplate.setFetchSize(config.getLoadFetchSize());
+        this.productRepository = productRepository;
+        this.customerRepository = customerRepository;
+        this.billRepository = billRepository;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kos-store-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("kos.mock.store.customers", this, store -> store.indexes.customers().size())
+                    .description("Customers held in the in-memory store")
+                    .register(registry);
+            Gauge.builder("kos.mock.store.bills", this, store -> store.indexes.billCount().get())
+                    .description("Bills held in the in-memory store")
+                    .register(registry);
+            Gauge.builder("kos.mock.store.writes.pending", pendingWrites, AtomicInteger::get)
+                    .description("Write-through operations waiting to be applied to H2")
+                    .register(registry);
+            FunctionCounter.builder("kos.mock.store.writes.failed", failedWrites, AtomicLong::get)
+                    .description("Write-through operations that failed to apply to H2")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 메모리 모드면 시작 시 적재 (상품 초기화, 대량 데이터 생성 이후)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (config.getMode() == MockConfig.StoreMode.MEMORY) {
+            reload();
+        }
+    }
+
+    /**
+     * 메모리 조회 사용 가능 여부
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 전체 데이터 재적재 (새 인덱스를 만든 뒤 교체, 적재 중에는 기존 인덱스로 응답)
+     *
+     * 적재 중 들어온 쓰기는 H2 반영 시점과 무관하게 교체 직전 새 인덱스에 다시 적용하므로 유실되지 않습니다.
+     */
+    public synchronized void reload() {
+        long startedAt = System.currentTimeMillis();
+        setReloadJournal(new ArrayList<>());
+        try {
+            Indexes loaded = load();
+            int replayed;
+            swapLock.writeLock().lock();
+            try {
+                replayed = reloadJournal.size();
+                reloadJournal.forEach(write -> write.accept(loaded));
+                reloadJournal = null;
+                this.indexes = loaded;
+                this.active = true;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("메모리 데이터 저장소 적재 완료 - 상품: {}, 고객: {}, 요금: {}, 적재 중 쓰기: {}, 소요: {}ms",
+                    loaded.products().size(), loaded.customers().size(), loaded.billCount().get(), replayed,
+                    System.currentTimeMillis() - startedAt);
+        } finally {
+            setReloadJournal(null);
+        }
+    }
+
+    private void setReloadJournal(List<Consumer<Indexes>> journal) {
+        swapLock.writeLock().lock();
+        try {
+            reloadJournal = journal;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * H2에서 새 인덱스 적재
+     */
+    private Indexes load() {
+        Map<String, MockProductData> loadedProducts = new ConcurrentHashMap<>();
+        for (ProductEntity product : productRepository.findAll()) {
+            loadedProducts.put(product.getProductCode(), toMockProductData(product));
+        }
+
+        Map<String, CustomerRecord> loadedCustomers = new ConcurrentHashMap<>();
+        loadJdbcTemplate.query(SELECT_CUSTOMERS_SQL, rs -> {
+            CustomerRecord customer = new CustomerRecord(
+                    rs.getString(1),
+                    rs.getString(2),
+                    share(rs.getString(3)),
+                    share(rs.getString(4)),
+                    share(rs.getString(5)),
+                    toEpochSecond(rs.getTimestamp(6)),
+                    toEpochSecond(rs.getTimestamp(7)));
+            loadedCustomers.put(customer.lineNumber(), customer);
+        });
+
+        Map<String, List<BillRecord>> billsByLine = new HashMap<>();
+        loadJdbcTemplate.query(SELECT_BILLS_SQL, rs -> {
+            Integer billingMonth = parseBillingMonth(rs.getString(2));
+            if (billingMonth == null) {
+                return;
+            }
+            BillRecord bill = new BillRecord(
+                    billingMonth,
+                    share(rs.getString(3)),
+                    share(rs.getString(4)),
+                    toScaledLong(rs.getBigDecimal(5)),
+                    toScaledLong(rs.getBigDecimal(6)),
+                    toScaledLong(rs.getBigDecimal(7)),
+                    share(rs.getString(8)),
+                    share(rs.getString(9)),
+                    share(rs.getString(10)),
+                    share(rs.getString(11)),
+                    share(rs.getString(12)));
+            billsByLine.computeIfAbsent(rs.getString(1), line -> new ArrayList<>(6)).add(bill);
+        });
+
+        Map<String, LineBills> loadedBills = new ConcurrentHashMap<>(Math.max(16, billsByLine.size() * 4 / 3));
+        long loadedBillCount = 0;
+        for (Map.Entry<String, List<BillRecord>> entry : billsByLine.entrySet()) {
+            LineBills lineBills = LineBills.of(entry.getValue());
+            loadedBills.put(entry.getKey(), lineBills);
+            loadedBillCount += lineBills.bills().length;
+        }
+
+        return new Indexes(loadedCustomers, loadedProducts, loadedBills, new AtomicLong(loadedBillCount));
+    }
+
+    public MockCustomerData getCustomer(String lineNumber) {
+        CustomerRecord customer = indexes.customers().get(lineNumber);
+        return customer != null ? customer.toMockCustomerData() : null;
+    }
+
+    public MockProductData getProduct(String productCode) {
+        return productCode != null ? indexes.products().get(productCode) : null;
+    }
+
+    public List<MockProductData> getAllProducts() {
+        return List.copyOf(indexes.products().values());
+    }
+
+    /**
+     * 판매중 상품 목록 (월 요금 내림차순)
+     */
+    public List<MockProductData> getActiveProducts() {
+        return indexes.products().values().stream()
+                .filter(product -> "ACTIVE".equals(product.getStatus()))
+                .sorted(Comparator.comparing(MockProductData::getMonthlyFee).reversed())
+                .toList();
+    }
+
+    /**
+     * (회선번호, 청구월) 요금 조회
+     */
+    public MockBillData getBill(String lineNumber, String billingMonth) {
+        LineBills lineBills = indexes.bills().get(lineNumber);
+        Integer month = parseBillingMonth(billingMonth);
+        if (lineBills == null || month == null) {
+            return null;
+        }
+        BillRecord bill = lineBills.find(month);
+        return bill != null ? bill.toMockBillData(lineNumber) : null;
+    }
+
+    /**
+     * 회선 요금 이력 (최신순)
+     */
+    public List<MockBillData> getBills(String lineNumber) {
+        LineBills lineBills = indexes.bills().get(lineNumber);
+        if (lineBills == null) {
+            return List.of();
+        }
+        return Arrays.stream(lineBills.bills())
+                .map(bill -> bill.toMockBillData(lineNumber))
+                .toList();
+    }
+
+    /**
+     * 고객 상품 변경 (메모리 즉시 반영, H2 비동기 반영)
+     *
+     * @return 고객 존재 여부
+     */
+    public boolean updateCustomerProduct(String lineNumber, String newProductCode) {
+        LocalDateTime now = LocalDateTime.now();
+        String productCode = share(newProductCode);
+        boolean updated = write(target -> target.customers().computeIfPresent(lineNumber,
+                (line, customer) -> customer.withProduct(productCode, toEpochSecond(now))) != null);
+        if (!updated) {
+            return false;
+        }
+
+        writeBehind("고객 상품 변경 - LineNumber: " + lineNumber, () ->
+                customerRepository.findByLineNumber(lineNumber).ifPresent(customer -> {
+                    customer.setCurrentProductCode(newProductCode);
+                    customer.setUpdatedAt(now);
+                    customerRepository.save(customer);
+                }));
+        return true;
+    }
+
+    /**
+     * 요금 추가 (메모리 즉시 반영, H2 비동기 반영)
+     *
+     * 동시 요청이 같은 (회선, 청구월) 요금을 먼저 추가했으면 그 요금은 H2에 다시 저장하지 않습니다.
+     */
+    public void addBills(List<BillEntity> newBills) {
+        List<BillEntity> added = index(null, newBills);
+        if (added.isEmpty()) {
+            return;
+        }
+        writeBehind("요금 " + added.size() + "건 저장", () -> billRepository.saveAll(added));
+    }
+
+    /**
+     * 이미 H2에 저장된 고객/요금을 인덱스에 반영 (Mock 데이터 생성 API 등)
+     *
+     * @return 인덱스에 새로 추가된 요금 (이미 있는 (회선, 청구월)과 청구월 형식 오류 제외)
+     */
+    public List<BillEntity> index(CustomerEntity customer, List<BillEntity> newBills) {
+        if (!active && reloadJournal == null) {
+            return List.of();
+        }
+        if (customer != null) {
+            CustomerRecord record = new CustomerRecord(
+                    customer.getLineNumber(),
+                    customer.getCustomerId(),
+                    share(customer.getOperatorCode()),
+                    share(customer.getCurrentProductCode()),
+                    share(customer.getLineStatus()),
+                    toEpochSecond(customer.getContractDate()),
+                    toEpochSecond(customer.getUpdatedAt() != null ? customer.getUpdatedAt() : LocalDateTime.now()));
+            write(target -> target.customers().put(record.lineNumber(), record));
+        }
+        if (newBills == null) {
+            return List.of();
+        }
+        List<BillEntity> added = new ArrayList<>(newBills.size());
+        for (BillEntity bill : newBills) {
+            Integer billingMonth = parseBillingMonth(bill.getBillingMonth());
+            if (billingMonth == null) {
+                continue;
+            }
+            BillRecord record = new BillRecord(
+                    billingMonth,
+                    share(bill.getProductCode()),
+                    share(bill.getProductName()),
+                    toScaledLong(bill.getMonthlyFee()),
+                    toScaledLong(bill.getUsageFee()),
+                    toScaledLong(bill.getTotalFee()),
+                    share(bill.getDataUsage()),
+                    share(bill.getVoiceUsage()),
+                    share(bill.getSmsUsage()),
+                    share(bill.getBillStatus()),
+                    share(bill.getDueDate()));
+            if (write(target -> target.addBill(bill.getLineNumber(), record))) {
+                added.add(bill);
+            }
+        }
+        return added;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 쓰기는 마저 반영
+        writer.shutdown();
+    }
+
+    /**
+     * 현재 인덱스에 쓰기 적용 (재적재 중이면 새 인덱스에 다시 적용하도록 기록)
+     *
+     * 같은 키에 대한 쓰기 순서가 기록 순서와 같도록 재적재 중에는 기록과 함께 직렬화합니다.
+     */
+    private <T> T write(Function<Indexes, T> operation) {
+        swapLock.readLock().lock();
+        try {
+            List<Consumer<Indexes>> journal = reloadJournal;
+            if (journal == null) {
+                return operation.apply(indexes);
+            }
+            synchronized (journal) {
+                T result = operation.apply(indexes);
+                journal.add(operation::apply);
+                return result;
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void writeBehind(String description, Runnable write) {
+        pendingWrites.incrementAndGet();
+        writer.execute(() -> {
+            try {
+                write.run();
+            } catch (Exception e) {
+                failedWrites.incrementAndGet();
+                log.warn("메모리 저장소 H2 반영 실패 - {}, Error: {}", description, e.getMessage());
+            } finally {
+                pendingWrites.decrementAndGet();
+            }
+        });
+    }
+
+    private String share(String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = strings.putIfAbsent(value, value);
+        return shared != null ? shared : value;
+    }
+
+    private static Integer parseBillingMonth(String billingMonth) {
+        if (billingMonth == null || billingMonth.length() != 6) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(billingMonth);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long toScaledLong(BigDecimal amount) {
+        return amount != null ? amount.setScale(FEE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValue() : 0L;
+    }
+
+    private static BigDecimal fromScaledLong(long amount) {
+        return BigDecimal.valueOf(amount, FEE_SCALE);
+    }
+
+    private static long toEpochSecond(Timestamp timestamp) {
+        return timestamp != null ? toEpochSecond(timestamp.toLocalDateTime()) : 0L;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : 0L;
+    }
+
+    private static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static MockProductData toMockProductData(ProductEntity entity) {
+        return MockProductData.builder()
+                .productCode(entity.getProductCode())
+                .productName(entity.getProductName())
+                .monthlyFee(entity.getMonthlyFee())
+                .dataAllowance(entity.getDataAllowance())
+                .voiceAllowance(entity.getVoiceAllowance())
+                .smsAllowance(entity.getSmsAllowance())
+                .operatorCode(entity.getOperatorCode())
+                .networkType(entity.getNetworkType())
+                .status(entity.getStatus())
+                .description(entity.getDescription())
+                .build();
+    }
+
+    /**
+     * 조회 인덱스 묶음 (재적재 시 통째로 교체)
+     */
+    private record Indexes(Map<String, CustomerRecord> customers, Map<String, MockProductData> products,
+                           Map<String, LineBills> bills, AtomicLong billCount) {
+
+        /**
+         * 요금 추가
+         *
+         * @return 추가 여부 (같은 청구월 요금이 이미 있으면 false)
+         */
+        boolean addBill(String lineNumber, BillRecord record) {
+            boolean[] added = new boolean[1];
+            bills.compute(lineNumber, (line, existing) -> {
+                if (existing != null && existing.find(record.billingMonth()) != null) {
+                    return existing;
+                }
+                added[0] = true;
+                return existing != null ? existing.with(record) : LineBills.of(List.of(record));
+            });
+            if (added[0]) {
+                billCount.incrementAndGet();
+            }
+            return added[0];
+        }
+    }
+
+    /**
+     * 고객 레코드 (일시는 epoch 초)
+     */
+    private record CustomerRecord(String lineNumber, String customerId, String operatorCode, String productCode,
+                                  String lineStatus, long contractDate, long updatedAt) {
+
+        CustomerRecord withProduct(String newProductCode, long newUpdatedAt) {
+            return new CustomerRecord(lineNumber, customerId, operatorCode, newProductCode, lineStatus,
+                    contractDate, newUpdatedAt);
+        }
+
+        MockCustomerData toMockCustomerData() {
+            return MockCustomerData.builder()
+                    .lineNumber(lineNumber)
+                    .customerName("Mock_Customer") // 고객명은 저장하지 않음
+                    .customerId(customerId)
+                    .operatorCode(operatorCode)
+                    .currentProductCode(productCode)
+                    .lineStatus(lineStatus)
+                    .contractDate(fromEpochSecond(contractDate))
+                    .lastModified(fromEpochSecond(updatedAt))
+                    .build();
+        }
+    }
+
+    /**
+     * 요금 레코드 (청구월은 yyyyMM 정수, 금액은 소수 2자리 고정 long)
+     */
+    private record BillRecord(int billingMonth, String productCode, String productName,
+                              long monthlyFee, long usageFee, long totalFee,
+                              String dataUsage, String voiceUsage, String smsUsage,
+                              String billStatus, String dueDate) {
+
+        MockBillData toMockBillData(String lineNumber) {
+            return MockBillData.builder()
+                    .lineNumber(lineNumber)
+                    .billingMonth(Integer.toString(billingMonth))
+                    .productCode(productCode)
+                    .productName(productName)
+                    .monthlyFee(fromScaledLong(monthlyFee))
+                    .usageFee(fromScaledLong(usageFee))
+                    .totalFee(fromScaledLong(totalFee))
+                    .dataUsage(dataUsage)
+                    .voiceUsage(voiceUsage)
+                    .smsUsage(smsUsage)
+                    .billStatus(billStatus)
+                    .dueDate(dueDate)
+                    .discountAmount(BigDecimal.ZERO)
+                    .build();
+        }
+    }
+
+    /**
+     * 회선별 요금 (청구월 내림차순, 변경 시 새 배열로 교체)
+     */
+    private record LineBills(BillRecord[] bills) {
+
+        static LineBills of(List<BillRecord> records) {
+            BillRecord[] sorted = records.stream()
+                    .sorted(Comparator.comparingInt(BillRecord::billingMonth).reversed())
+                    .toArray(BillRecord[]::new);
+            return new LineBills(sorted);
+        }
+
+        BillRecord find(int billingMonth) {
+            for (BillRecord bill : bills) {
+                if (bill.billingMonth() == billingMonth) {
+                    return bill;
+                }
+                if (bill.billingMonth() < billingMonth) {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        LineBills with(BillRecord bill) {
+            List<BillRecord> records = new ArrayList<>(bills.length + 1);
+            records.addAll(Arrays.asList(bills));
+            records.add(bill);
+            return of(records);
+        }
+    }
+}
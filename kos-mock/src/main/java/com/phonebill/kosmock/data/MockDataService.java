@@ -20,6 +20,7 @@ import java.util.Arrays;
 /**
  * KOS Mock 데이터 서비스 (H2 데이터베이스 기반)
  * 통신요금 조회 및 상품변경에 필요한 Mock 데이터를 제공합니다.
+ * 메모리 저장소(kos.mock.store.mode=MEMORY)가 적재되면 조회/변경을 메모리 인덱스로 처리합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,8 +31,11 @@ public class MockDataService {
     private final ProductRepository productRepository;
     private final BillRepository billRepository;
 
-    // 요청 처리 이력 (메모리 기반 유지)
-    private final Map<String, MockProcessingResult> processingResults = new HashMap<>();
+    // 요청 처리 이력 (크기/기간 제한 메모리 저장소, 선택적으로 H2 spill)
+    private final ProcessingResultStore processingResultStore;
+
+    // 메모리 인덱스 저장소 (MEMORY 모드에서 적재 후 사용)
+    private final InMemoryDataStore inMemoryDataStore;
 
     /**
      * 초기 Mock 데이터 생성 (user-service 기반)
@@ -51,6 +55,10 @@ public class MockDataService {
     
     // 기존 메소드들 - H2 데이터베이스 기반으로 재구현
     public MockCustomerData getCustomerData(String lineNumber) {
+        if (inMemoryDataStore.isActive()) {
+            return inMemoryDataStore.getCustomer(lineNumber);
+        }
+        
         log.info("MockDataService: 고객 데이터 조회 - LineNumber: {}", lineNumber);
         Optional<CustomerEntity> customerOpt = customerRepository.findByLineNumber(lineNumber);
         
@@ -67,16 +75,25 @@ public class MockDataService {
     }
     
     public MockProductData getProductData(String productCode) {
+        if (inMemoryDataStore.isActive()) {
+            return inMemoryDataStore.getProduct(productCode);
+        }
         Optional<ProductEntity> productOpt = productRepository.findById(productCode);
         return productOpt.map(this::convertToMockProductData).orElse(null);
     }
     
     public MockBillData getBillData(String lineNumber, String billingMonth) {
+        if (inMemoryDataStore.isActive()) {
+            return inMemoryDataStore.getBill(lineNumber, billingMonth);
+        }
         Optional<BillEntity> billOpt = billRepository.findByLineNumberAndBillingMonth(lineNumber, billingMonth);
         return billOpt.map(this::convertToMockBillData).orElse(null);
     }
     
     public List<MockProductData> getAllAvailableProducts() {
+        if (inMemoryDataStore.isActive()) {
+            return inMemoryDataStore.getActiveProducts();
+        }
         List<ProductEntity> products = productRepository.findByStatusOrderByMonthlyFeeDesc("ACTIVE");
         return products.stream()
             .map(this::convertToMockProductData)
@@ -84,6 +101,9 @@ public class MockDataService {
     }
     
     public List<MockProductData> getAllProducts() {
+        if (inMemoryDataStore.isActive()) {
+            return inMemoryDataStore.getAllProducts();
+        }
         List<ProductEntity> products = productRepository.findAll();
         return products.stream()
             .map(this::convertToMockProductData)
@@ -91,14 +111,17 @@ public class MockDataService {
     }
     
     public void saveProcessingResult(String requestId, MockProcessingResult result) {
-        processingResults.put(requestId, result);
+        processingResultStore.put(requestId, result);
     }
     
     public MockProcessingResult getProcessingResult(String requestId) {
-        return processingResults.get(requestId);
+        return processingResultStore.get(requestId);
     }
     
     public List<MockBillData> getBillHistory(String lineNumber) {
+        if (inMemoryDataStore.isActive()) {
+            return inMemoryDataStore.getBills(lineNumber);
+        }
         List<BillEntity> bills = billRepository.findByLineNumberOrderByBillingMonthDesc(lineNumber);
         return bills.stream()
             .map(this::convertToMockBillData)
@@ -111,6 +134,19 @@ public class MockDataService {
     public List<String> getAvailableMonths(String lineNumber) {
         log.info("회선 {}의 실제 데이터 보유 월 조회", lineNumber);
         
+        if (inMemoryDataStore.isActive()) {
+            List<MockBillData> bills = inMemoryDataStore.getBills(lineNumber);
+            if (bills.isEmpty()) {
+                createMockBillDataForRecentMonthsInMemory(lineNumber);
+                bills = inMemoryDataStore.getBills(lineNumber);
+            }
+            // 최신순 정렬 상태로 보관되므로 변환만 수행
+            return bills.stream()
+                .map(bill -> toDisplayMonth(bill.getBillingMonth()))
+                .distinct()
+                .toList();
+        }
+        
         // 데이터베이스에서 실제 청구 데이터가 있는 월 목록 조회
         List<BillEntity> bills = billRepository.findByLineNumberOrderByBillingMonthDesc(lineNumber);
         
@@ -124,14 +160,7 @@ public class MockDataService {
         
         // 청구월을 yyyy-MM 형식으로 변환하여 반환
         List<String> availableMonths = bills.stream()
-            .map(bill -> {
-                String billingMonth = bill.getBillingMonth();
-                // yyyyMM 형식을 yyyy-MM 형식으로 변환
-                if (billingMonth.length() == 6) {
-                    return billingMonth.substring(0, 4) + "-" + billingMonth.substring(4, 6);
-                }
-                return billingMonth;
-            })
+            .map(bill -> toDisplayMonth(bill.getBillingMonth()))
             .distinct()
             .sorted(java.util.Collections.reverseOrder()) // 최신 월부터
             .toList();
@@ -140,6 +169,44 @@ public class MockDataService {
         return availableMonths;
     }
     
+    /**
+     * 청구월 yyyyMM 형식을 yyyy-MM 형식으로 변환
+     */
+    private String toDisplayMonth(String billingMonth) {
+        if (billingMonth.length() == 6) {
+            return billingMonth.substring(0, 4) + "-" + billingMonth.substring(4, 6);
+        }
+        return billingMonth;
+    }
+    
+    /**
+     * 최근 3개월 Mock 청구 데이터 생성 (메모리 저장소, H2는 비동기 반영)
+     */
+    private void createMockBillDataForRecentMonthsInMemory(String lineNumber) {
+        MockCustomerData customer = inMemoryDataStore.getCustomer(lineNumber);
+        if (customer == null) {
+            log.warn("회선번호 {}에 대한 고객 정보가 없어 청구 데이터를 생성할 수 없습니다", lineNumber);
+            return;
+        }
+        
+        MockProductData product = inMemoryDataStore.getProduct(customer.getCurrentProductCode());
+        if (product == null) {
+            log.warn("상품 코드 {}를 찾을 수 없어 청구 데이터를 생성할 수 없습니다", customer.getCurrentProductCode());
+            return;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<BillEntity> mockBills = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            LocalDateTime monthDate = now.minusMonths(i);
+            mockBills.add(newMockBill(lineNumber, monthDate, i == 0,
+                product.getProductCode(), product.getProductName(), product.getMonthlyFee()));
+        }
+        
+        inMemoryDataStore.addBills(mockBills);
+        log.info("회선 {}의 Mock 청구 데이터 {}개 생성 완료 (메모리)", lineNumber, mockBills.size());
+    }
+    
     /**
      * 최근 3개월 Mock 청구 데이터 생성
      */
@@ -179,23 +246,8 @@ public class MockDataService {
             }
             
             // Mock 청구 데이터 생성
-            BigDecimal usageFee = generateRandomUsageFee();
-            BillEntity billEntity = BillEntity.builder()
-                .lineNumber(lineNumber)
-                .billingMonth(billingMonth)
-                .productCode(product.getProductCode())
-                .productName(product.getProductName())
-                .monthlyFee(product.getMonthlyFee())
-                .usageFee(usageFee)
-                .totalFee(product.getMonthlyFee().add(usageFee))
-                .dataUsage(generateRandomDataUsage())
-                .voiceUsage(generateRandomVoiceUsage())
-                .smsUsage(generateRandomSmsUsage())
-                .billStatus(i == 0 ? "UNPAID" : "PAID") // 당월만 미납
-                .dueDate(monthDate.plusDays(25).format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-                .build();
-            
-            mockBills.add(billEntity);
+            mockBills.add(newMockBill(lineNumber, monthDate, i == 0,
+                product.getProductCode(), product.getProductName(), product.getMonthlyFee()));
         }
         
         if (!mockBills.isEmpty()) {
@@ -204,6 +256,28 @@ public class MockDataService {
         }
     }
     
+    /**
+     * Mock 청구 데이터 한 건 생성 (당월만 미납)
+     */
+    private BillEntity newMockBill(String lineNumber, LocalDateTime monthDate, boolean currentMonth,
+                                   String productCode, String productName, BigDecimal monthlyFee) {
+        BigDecimal usageFee = generateRandomUsageFee();
+        return BillEntity.builder()
+            .lineNumber(lineNumber)
+            .billingMonth(monthDate.format(DateTimeFormatter.ofPattern("yyyyMM")))
+            .productCode(productCode)
+            .productName(productName)
+            .monthlyFee(monthlyFee)
+            .usageFee(usageFee)
+            .totalFee(monthlyFee.add(usageFee))
+            .dataUsage(generateRandomDataUsage())
+            .voiceUsage(generateRandomVoiceUsage())
+            .smsUsage(generateRandomSmsUsage())
+            .billStatus(currentMonth ? "UNPAID" : "PAID")
+            .dueDate(monthDate.plusDays(25).format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+            .build();
+    }
+    
     // Mock 데이터 생성을 위한 헬퍼 메소드들
     private BigDecimal generateRandomUsageFee() {
         Random random = new Random();
@@ -367,6 +441,14 @@ public class MockDataService {
     public boolean updateCustomerProduct(String lineNumber, String newProductCode) {
         log.info("고객 상품 코드 업데이트 - LineNumber: {}, NewProductCode: {}", lineNumber, newProductCode);
         
+        if (inMemoryDataStore.isActive()) {
+            boolean updated = inMemoryDataStore.updateCustomerProduct(lineNumber, newProductCode);
+            if (!updated) {
+                log.warn("존재하지 않는 회선번호 - LineNumber: {}", lineNumber);
+            }
+            return updated;
+        }
+        
         // 고객 정보 조회
         Optional<CustomerEntity> customerOpt = customerRepository.findByLineNumber(lineNumber);
         if (customerOpt.isEmpty()) {
@@ -0,0 +1,199 @@
+package com.phonebill.kosmock.data;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.phonebill.kosmock.config.MockConfig;
+import com.phonebill.kosmock.entity.ProcessingResultEntity;
+import com.phonebill.kosmock.repository.ProcessingResultRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 처리 이력 저장소
+ *
+ * 동시 요청 스레드에서 안전하게 쓰고 읽을 수 있는 크기/기간 제한 저장소
+ * - requestId 기준 O(1) 조회 (Caffeine, 동시성 해시 기반)
+ * - 최대 건수 초과 시 오래 쓰이지 않은 이력부터 제거, 보관 기간이 지나면 만료
+ * - spill 활성화 시 용량 초과로 제거된 이력을 H2(processing_results)에 보관하고 메모리 조회 실패 시 조회
+ * - 메트릭: kos.mock.processing.results (크기, 제거, 조회 적중), kos.mock.processing.results.spill.*
+ */
+@Slf4j
+@Component
+public class ProcessingResultStore {
+
+    private static final String CACHE_NAME = "kos.mock.processing.results";
+
+    private final ProcessingResultRepository processingResultRepository;
+    private final MockConfig.ProcessingResults config;
+    private final Cache<String, MockProcessingResult> results;
+    private final ScheduledExecutorService spillCleaner;
+
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong spillFailures = new AtomicLong();
+    private final AtomicLong spillHits = new AtomicLong();
+
+    public ProcessingResultStore(ProcessingResultRepository processingResultRepository,
+                                 MockConfig mockConfig,
+                                 ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.processingResultRepository = processingResultRepository;
+        this.config = mockConfig.getProcessingResults();
+
+        this.results = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener(this::onRemoval)
+                .recordStats()
+                .build();
+
+        if (config.isSpillEnabled()) {
+            this.spillCleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "kos-processing-results-cleaner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMs = Math.max(1000, config.getSpillCleanupInterval().toMillis());
+            this.spillCleaner.scheduleWithFixedDelay(this::deleteExpiredSpill, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.spillCleaner = null;
+        }
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, results, CACHE_NAME);
+            FunctionCounter.builder(CACHE_NAME + ".spill.writes", spilled, AtomicLong::get)
+                    .description("Processing results spilled to H2 after size eviction")
+                    .register(registry);
+            FunctionCounter.builder(CACHE_NAME + ".spill.failures", spillFailures, AtomicLong::get)
+                    .description("Processing results that could not be spilled to H2")
+                    .register(registry);
+            FunctionCounter.builder(CACHE_NAME + ".spill.hits", spillHits, AtomicLong::get)
+                    .description("Processing result lookups answered from H2 spill")
+                    .register(registry);
+        }
+        log.info("요청 처리 이력 저장소 구성 - 최대 건수: {}, 보관 기간: {}, H2 spill: {}",
+                config.getMaxSize(), config.getTtl(), config.isSpillEnabled());
+    }
+
+    /**
+     * 처리 이력 저장
+     */
+    public void put(String requestId, MockProcessingResult result) {
+        if (requestId == null || result == null) {
+            return;
+        }
+        results.put(requestId, result);
+    }
+
+    /**
+     * 처리 이력 조회 (메모리 → H2 spill)
+     *
+     * @return 처리 이력 (없거나 만료되면 null)
+     */
+    public MockProcessingResult get(String requestId) {
+        if (requestId == null) {
+            return null;
+        }
+        MockProcessingResult result = results.getIfPresent(requestId);
+        if (result != null || !config.isSpillEnabled()) {
+            return result;
+        }
+
+        return processingResultRepository.findById(requestId)
+                .filter(entity -> entity.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(entity -> {
+                    spillHits.incrementAndGet();
+                    return toMockProcessingResult(entity);
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 메모리 보관 건수 (근사값)
+     */
+    public long size() {
+        return results.estimatedSize();
+    }
+
+    /**
+     * 용량 초과로 제거된 이력은 남은 보관 기간 동안 H2에 보관 (만료/교체는 버림)
+     */
+    private void onRemoval(String requestId, MockProcessingResult result, RemovalCause cause) {
+        if (cause != RemovalCause.SIZE || !config.isSpillEnabled() || requestId == null || result == null) {
+            return;
+        }
+        try {
+            processingResultRepository.save(toEntity(requestId, result));
+            spilled.incrementAndGet();
+        } catch (Exception e) {
+            spillFailures.incrementAndGet();
+            log.warn("처리 이력 H2 보관 실패 - RequestId: {}, Error: {}", requestId, e.getMessage());
+        }
+    }
+
+    private void deleteExpiredSpill() {
+        try {
+            int deleted = processingResultRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.debug("만료된 처리 이력 H2 정리 - {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("만료된 처리 이력 H2 정리 실패 - Error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (spillCleaner != null) {
+            spillCleaner.shutdownNow();
+        }
+    }
+
+    private ProcessingResultEntity toEntity(String requestId, MockProcessingResult result) {
+        // 저장 시각을 알 수 없으므로 요청 일시 기준으로 만료 (없으면 지금부터 보관 기간)
+        LocalDateTime storedAt = result.getRequestedAt() != null ? result.getRequestedAt() : LocalDateTime.now();
+        return ProcessingResultEntity.builder()
+                .requestId(requestId)
+                .processingType(result.getProcessingType())
+                .status(result.getStatus())
+                .message(result.getMessage())
+                .resultData(result.getResultData())
+                .requestedAt(result.getRequestedAt())
+                .completedAt(result.getCompletedAt())
+                .errorCode(result.getErrorCode())
+                .errorDetails(result.getErrorDetails())
+                .retryCount(result.getRetryCount())
+                .processingTimeMs(result.getProcessingTimeMs())
+                .expiresAt(storedAt.plus(config.getTtl()))
+                .build();
+    }
+
+    private MockProcessingResult toMockProcessingResult(ProcessingResultEntity entity) {
+        return MockProcessingResult.builder()
+                .requestId(entity.getRequestId())
+                .processingType(entity.getProcessingType())
+                .status(entity.getStatus())
+                .message(entity.getMessage())
+                .resultData(entity.getResultData())
+                .requestedAt(entity.getRequestedAt())
+                .completedAt(entity.getCompletedAt())
+                .errorCode(entity.getErrorCode())
+                .errorDetails(entity.getErrorDetails())
+                .retryCount(entity.getRetryCount() != null ? entity.getRetryCount() : 0)
+                .processingTimeMs(entity.getProcessingTimeMs())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.phonebill.kosmock.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * 대량 Mock 데이터 생성 요청 DTO
+ * 지정하지 않은 항목은 kos.mock.generator 설정값을 사용합니다.
+ */
+@Data
+@Schema(description = "대량 Mock 데이터 생성 요청")
+public class BulkDataGenerateRequest {
+
+    @Schema(description = "생성할 회선 수", example = "1000000", required = true)
+    @NotNull(message = "회선 수는 필수입니다")
+    @Min(value = 1, message = "회선 수는 1 이상이어야 합니다")
+    @Max(value = 100_000_000, message = "회선 수는 1억 이하여야 합니다")
+    private Long lines;
+
+    @Schema(description = "시작 회선 인덱스 (회선번호 = 010 + 8자리 인덱스)", example = "0")
+    @Min(value = 0, message = "시작 회선 인덱스는 0 이상이어야 합니다")
+    private Long lineStart;
+
+    @Schema(description = "회선별 요금 이력 개월 수", example = "6")
+    @Min(value = 1, message = "요금 이력은 1개월 이상이어야 합니다")
+    @Max(value = 60, message = "요금 이력은 60개월 이하여야 합니다")
+    private Integer months;
+
+    @Schema(description = "기준 청구월 (yyyyMM, 미지정 시 당월)", example = "202501")
+    @Pattern(regexp = "^\\d{4}(0[1-9]|1[0-2])$", message = "기준 청구월 형식이 올바르지 않습니다 (예: 202501)")
+    private String baseMonth;
+
+    @Schema(description = "난수 시드", example = "20250101")
+    private Long seed;
+
+    @Schema(description = "병렬 생성 파티션 수", example = "4")
+    @Min(value = 1, message = "파티션 수는 1 이상이어야 합니다")
+    @Max(value = 64, message = "파티션 수는 64 이하여야 합니다")
+    private Integer partitions;
+
+    @Schema(description = "상품 구성비 (상품코드 → 가중치)")
+    private Map<String, Integer> productMix;
+}
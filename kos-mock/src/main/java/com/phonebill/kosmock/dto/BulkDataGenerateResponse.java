@@ -0,0 +1,38 @@
+package com.phonebill.kosmock.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 대량 Mock 데이터 생성 응답 DTO
+ */
+@Data
+@Builder
+@Schema(description = "대량 Mock 데이터 생성 결과")
+public class BulkDataGenerateResponse {
+
+    @Schema(description = "첫 회선번호", example = "01000000000")
+    private String firstLineNumber;
+
+    @Schema(description = "마지막 회선번호", example = "01000999999")
+    private String lastLineNumber;
+
+    @Schema(description = "생성된 고객(회선) 수", example = "1000000")
+    private long customersCreated;
+
+    @Schema(description = "생성된 요금 정보 수", example = "6000000")
+    private long billsCreated;
+
+    @Schema(description = "사용한 난수 시드", example = "20250101")
+    private long seed;
+
+    @Schema(description = "파티션 수", example = "4")
+    private int partitions;
+
+    @Schema(description = "소요 시간 (밀리초)", example = "95000")
+    private long elapsedMs;
+
+    @Schema(description = "초당 생성 회선 수", example = "10526")
+    private long linesPerSecond;
+}
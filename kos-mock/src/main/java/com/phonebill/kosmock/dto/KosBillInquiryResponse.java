@@ -1,16 +1,22 @@
 package com.phonebill.kosmock.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * KOS 요금 조회 응답 DTO
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Schema(description = "KOS 요금 조회 응답")
 public class KosBillInquiryResponse {
     
@@ -32,8 +38,19 @@ public class KosBillInquiryResponse {
     @Schema(description = "고객 정보")
     private CustomerInfo customerInfo;
     
+
+    @Schema(description = "마지막 정상 조회 결과 제공 여부 (요금조회 서비스에서 KOS 장애/갱신 중 설정)", example = "true")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stale;
+
+    @Schema(description = "제공된 조회 결과의 원 조회 시각 (stale 응답에만 포함)", example = "2025-01-08T14:30:00")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime dataAsOf;
+    
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     @Schema(description = "요금 정보")
     public static class BillInfo {
         
@@ -79,6 +96,8 @@ public class KosBillInquiryResponse {
     
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     @Schema(description = "고객 정보")
     public static class CustomerInfo {
         
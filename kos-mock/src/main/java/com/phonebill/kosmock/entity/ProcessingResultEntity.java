@@ -0,0 +1,61 @@
+package com.phonebill.kosmock.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 처리 이력 엔티티 (메모리 저장소에서 용량 초과로 밀려난 이력 보관)
+ */
+@Entity
+@Table(name = "processing_results", indexes = {
+    @Index(name = "idx_processing_results_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessingResultEntity {
+
+    @Id
+    @Column(name = "request_id", nullable = false, length = 100)
+    private String requestId;
+
+    @Column(name = "processing_type", length = 30)
+    private String processingType;
+
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @Lob
+    @Column(name = "result_data")
+    private String resultData;
+
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "error_code", length = 20)
+    private String errorCode;
+
+    @Column(name = "error_details", length = 1000)
+    private String errorDetails;
+
+    @Column(name = "retry_count")
+    private Integer retryCount;
+
+    @Column(name = "processing_time_ms")
+    private Long processingTimeMs;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,26 @@
+package com.phonebill.kosmock.repository;
+
+import com.phonebill.kosmock.entity.ProcessingResultEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 처리 이력 Repository (메모리 저장소 spill 영역)
+ */
+@Repository
+public interface ProcessingResultRepository extends JpaRepository<ProcessingResultEntity, String> {
+
+    /**
+     * 만료된 처리 이력 일괄 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProcessingResultEntity p WHERE p.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,336 @@
+package com.phonebill.kosmock.service;
+
+import com.phonebill.kosmock.config.MockConfig;
+import com.phonebill.kosmock.data.InMemoryDataStore;
+import com.phonebill.kosmock.dto.BulkDataGenerateRequest;
+import com.phonebill.kosmock.dto.BulkDataGenerateResponse;
+import com.phonebill.kosmock.entity.ProductEntity;
+import com.phonebill.kosmock.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 Mock 데이터 생성기
+ *
+ * 성능 테스트용 고객/요금 데이터를 수백만 회선 규모로 생성합니다.
+ * - 회선 범위를 파티션으로 나누어 병렬 생성, 파티션마다 배치 insert (JDBC batch, H2/PostgreSQL 공통)
+ * - 회선별 난수는 시드와 회선 인덱스로만 결정되므로 파티션 수와 관계없이 같은 데이터 재생성
+ * - 상품 구성비(가중치)와 요금 이력 개월 수 설정
+ * - 대상 회선 범위의 기존 데이터는 삭제 후 생성
+ * - 시작 모드(kos.mock.generator.startup-enabled)와 관리 API로 실행
+ * - 메모리 저장소 사용 중이면 생성 후 재적재
+ */
+@Slf4j
+@Service
+@Order(2)
+public class BulkDataGenerator implements ApplicationRunner {
+
+    private static final String LINE_PREFIX = "010";
+    private static final long MAX_LINE_INDEX = 100_000_000L;
+    private static final DateTimeFormatter BILLING_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String INSERT_CUSTOMER_SQL =
+            "INSERT INTO customers (line_number, customer_id, operator_code, current_product_code, line_status, "
+                    + "contract_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BILL_SQL =
+            "INSERT INTO bills (line_number, billing_month, product_code, product_name, monthly_fee, usage_fee, "
+                    + "total_fee, data_usage, voice_usage, sms_usage, bill_status, due_date, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final InMemoryDataStore inMemoryDataStore;
+    private final MockConfig.Generator defaults;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BulkDataGenerator(JdbcTemplate jdbcTemplate, ProductRepository productRepository,
+                             InMemoryDataStore inMemoryDataStore, MockConfig mockConfig) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.inMemoryDataStore = inMemoryDataStore;
+        this.defaults = mockConfig.getGenerator();
+    }
+
+    /**
+     * 시작 모드: 상품 초기화(DataInitializationService) 이후 설정값으로 생성
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!defaults.isStartupEnabled() || defaults.getLines() <= 0) {
+            return;
+        }
+        BulkDataGenerateRequest request = new BulkDataGenerateRequest();
+        request.setLines(defaults.getLines());
+        generate(request);
+    }
+
+    /**
+     * 대량 Mock 데이터 생성 (동시에 하나만 실행)
+     *
+     * @param request 생성 요청 (미지정 항목은 설정 기본값)
+     * @return 생성 결과
+     */
+    public BulkDataGenerateResponse generate(BulkDataGenerateRequest request) {
+        Plan plan = toPlan(request);
+
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("대량 Mock 데이터 생성이 이미 진행 중입니다");
+        }
+        try {
+            return execute(plan);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private BulkDataGenerateResponse execute(Plan plan) {
+        String firstLine = lineNumber(plan.lineStart());
+        String lastLine = lineNumber(plan.lineStart() + plan.lines() - 1);
+        log.info("대량 Mock 데이터 생성 시작 - 회선: {} ~ {} ({}건), 이력: {}개월, 기준월: {}, 시드: {}, 파티션: {}",
+                firstLine, lastLine, plan.lines(), plan.months(), plan.baseMonth(), plan.seed(), plan.partitions());
+
+        long startedAt = System.nanoTime();
+        deleteRange(firstLine, lastLine);
+
+        AtomicLong customers = new AtomicLong();
+        AtomicLong bills = new AtomicLong();
+        long perPartition = (plan.lines() + plan.partitions() - 1) / plan.partitions();
+        long progressStep = Math.max(plan.lines() / 20, plan.batchSize());
+        AtomicLong nextProgress = new AtomicLong(progressStep);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(plan.partitions(),
+                runnable -> new Thread(runnable, "kos-bulk-generator-" + threadIndex.incrementAndGet()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < plan.partitions(); p++) {
+                long from = plan.lineStart() + p * perPartition;
+                long to = Math.min(from + perPartition, plan.lineStart() + plan.lines());
+                if (from >= to) {
+                    break;
+                }
+                futures.add(executor.submit(() -> generatePartition(plan, from, to, customers, bills, nextProgress, progressStep)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 Mock 데이터 생성이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 Mock 데이터 생성 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("대량 Mock 데이터 생성 완료 - 고객: {}, 요금: {}, 소요: {}ms",
+                customers.get(), bills.get(), elapsedMs);
+
+        if (inMemoryDataStore.isActive()) {
+            inMemoryDataStore.reload();
+        }
+
+        return BulkDataGenerateResponse.builder()
+                .firstLineNumber(firstLine)
+                .lastLineNumber(lastLine)
+                .customersCreated(customers.get())
+                .billsCreated(bills.get())
+                .seed(plan.seed())
+                .partitions(plan.partitions())
+                .elapsedMs(elapsedMs)
+                .linesPerSecond(customers.get() * 1000 / elapsedMs)
+                .build();
+    }
+
+    /**
+     * 파티션 [from, to) 회선 생성 (배치 단위 insert)
+     */
+    private void generatePartition(Plan plan, long from, long to, AtomicLong customers, AtomicLong bills,
+                                   AtomicLong nextProgress, long progressStep) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> customerRows = new ArrayList<>(plan.batchSize());
+        List<Object[]> billRows = new ArrayList<>(plan.batchSize() * plan.months());
+
+        for (long index = from; index < to; index++) {
+            addLine(plan, index, now, customerRows, billRows);
+
+            if (customerRows.size() >= plan.batchSize() || index == to - 1) {
+                jdbcTemplate.batchUpdate(INSERT_CUSTOMER_SQL, customerRows);
+                jdbcTemplate.batchUpdate(INSERT_BILL_SQL, billRows);
+                long done = customers.addAndGet(customerRows.size());
+                bills.addAndGet(billRows.size());
+                customerRows.clear();
+                billRows.clear();
+
+                long threshold = nextProgress.get();
+                if (done >= threshold && nextProgress.compareAndSet(threshold, threshold + progressStep)) {
+                    log.info("대량 Mock 데이터 생성 진행 - {}/{} 회선", done, plan.lines());
+                }
+            }
+        }
+    }
+
+    /**
+     * 회선 하나의 고객/요금 행 생성 (회선 인덱스별 독립 난수)
+     */
+    private void addLine(Plan plan, long index, LocalDateTime now, List<Object[]> customerRows, List<Object[]> billRows) {
+        SplittableRandom random = new SplittableRandom(plan.seed() ^ (index * 0x9E3779B97F4A7C15L));
+        String lineNumber = lineNumber(index);
+        ProductEntity product = plan.products().pick(random);
+        LocalDateTime contractDate = plan.baseMonth().minusMonths(plan.months() + random.nextInt(24))
+                .atDay(1 + random.nextInt(28)).atStartOfDay();
+
+        customerRows.add(new Object[]{
+                lineNumber, "BULK" + lineNumber, "KT", product.getProductCode(), "ACTIVE",
+                contractDate, now, now
+        });
+
+        int dataCap = allowanceOrDefault(product.getDataAllowance(), "GB", 200);
+        int voiceCap = allowanceOrDefault(product.getVoiceAllowance(), "분", 500);
+        for (int month = 0; month < plan.months(); month++) {
+            YearMonth billingMonth = plan.baseMonth().minusMonths(month);
+            BigDecimal usageFee = BigDecimal.valueOf(random.nextInt(30000));
+            billRows.add(new Object[]{
+                    lineNumber,
+                    billingMonth.format(BILLING_MONTH_FORMAT),
+                    product.getProductCode(),
+                    product.getProductName(),
+                    product.getMonthlyFee(),
+                    usageFee,
+                    product.getMonthlyFee().add(usageFee),
+                    random.nextInt(dataCap) + "GB",
+                    random.nextInt(voiceCap) + "분",
+                    random.nextInt(100) + "건",
+                    "CONFIRMED",
+                    billingMonth.atDay(25).format(DUE_DATE_FORMAT),
+                    now
+            });
+        }
+    }
+
+    /**
+     * 대상 회선 범위의 기존 요금/고객 데이터 삭제 (재실행 시 같은 데이터로 교체)
+     */
+    private void deleteRange(String firstLine, String lastLine) {
+        int deletedBills = jdbcTemplate.update("DELETE FROM bills WHERE line_number BETWEEN ? AND ?", firstLine, lastLine);
+        int deletedCustomers = jdbcTemplate.update("DELETE FROM customers WHERE line_number BETWEEN ? AND ?", firstLine, lastLine);
+        if (deletedBills > 0 || deletedCustomers > 0) {
+            log.info("기존 Mock 데이터 삭제 - 고객: {}, 요금: {}", deletedCustomers, deletedBills);
+        }
+    }
+
+    private Plan toPlan(BulkDataGenerateRequest request) {
+        long lines = request.getLines() != null ? request.getLines() : defaults.getLines();
+        long lineStart = request.getLineStart() != null ? request.getLineStart() : defaults.getLineStart();
+        if (lines <= 0) {
+            throw new IllegalArgumentException("생성할 회선 수는 1 이상이어야 합니다");
+        }
+        if (lineStart < 0 || lineStart + lines > MAX_LINE_INDEX) {
+            throw new IllegalArgumentException("회선 인덱스 범위는 0 ~ " + (MAX_LINE_INDEX - 1) + " 이어야 합니다");
+        }
+
+        int months = request.getMonths() != null ? request.getMonths() : defaults.getMonths();
+        String baseMonth = request.getBaseMonth() != null ? request.getBaseMonth() : defaults.getBaseMonth();
+        long seed = request.getSeed() != null ? request.getSeed() : defaults.getSeed();
+        int partitions = request.getPartitions() != null ? request.getPartitions() : defaults.getPartitions();
+        Map<String, Integer> productMix = request.getProductMix() != null ? request.getProductMix() : defaults.getProductMix();
+
+        return new Plan(
+                lines,
+                lineStart,
+                Math.max(1, months),
+                baseMonth != null ? YearMonth.parse(baseMonth, BILLING_MONTH_FORMAT) : YearMonth.now(),
+                seed,
+                (int) Math.max(1, Math.min(partitions, lines)),
+                Math.max(1, defaults.getBatchSize()),
+                WeightedProducts.of(productRepository.findByStatusOrderByMonthlyFeeDesc("ACTIVE"), productMix));
+    }
+
+    private static String lineNumber(long index) {
+        return LINE_PREFIX + String.format("%08d", index);
+    }
+
+    /**
+     * 제공량 문자열에서 사용량 상한 추출 ("50GB" → 50, 무제한/형식 불일치 → 기본값)
+     */
+    private static int allowanceOrDefault(String allowance, String unit, int defaultValue) {
+        if (allowance == null || !allowance.endsWith(unit)) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(allowance.substring(0, allowance.length() - unit.length())));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 확정된 생성 계획
+     */
+    private record Plan(long lines, long lineStart, int months, YearMonth baseMonth, long seed,
+                        int partitions, int batchSize, WeightedProducts products) {
+    }
+
+    /**
+     * 가중치 기반 상품 선택 (누적 가중치 배열)
+     */
+    private record WeightedProducts(ProductEntity[] products, int[] cumulativeWeights) {
+
+        static WeightedProducts of(List<ProductEntity> activeProducts, Map<String, Integer> productMix) {
+            List<ProductEntity> selected = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+            for (ProductEntity product : activeProducts) {
+                int weight = productMix == null || productMix.isEmpty()
+                        ? 1
+                        : productMix.getOrDefault(product.getProductCode(), 0);
+                if (weight > 0) {
+                    selected.add(product);
+                    weights.add(weight);
+                }
+            }
+            if (selected.isEmpty()) {
+                throw new IllegalStateException("상품 구성비에 해당하는 판매중 상품이 없습니다");
+            }
+
+            int[] cumulative = new int[weights.size()];
+            int total = 0;
+            for (int i = 0; i < weights.size(); i++) {
+                total += weights.get(i);
+                cumulative[i] = total;
+            }
+            return new WeightedProducts(selected.toArray(new ProductEntity[0]), cumulative);
+        }
+
+        ProductEntity pick(SplittableRandom random) {
+            int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (target < cumulativeWeights[i]) {
+                    return products[i];
+                }
+            }
+            return products[products.length - 1];
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,7 @@ import java.util.List;
  * 애플리케이션 시작 시 초기 데이터 생성 서비스
  */
 @Service
+@Order(1)
 @RequiredArgsConstructor
 public class DataInitializationService implements ApplicationRunner {
     
@@ -16,6 +16,7 @@ import java.util.UUID;
 /**
  * KOS Mock 서비스
  * 실제 KOS 시스템의 동작을 모방합니다.
+ * 응답 지연은 호출측에서 LatencyInjector로 주입합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,11 +34,8 @@ public class KosMockService {
         log.info("KOS Mock 요금 조회 요청 처리 시작 - RequestId: {}, LineNumber: {}", 
                 request.getRequestId(), request.getLineNumber());
         
-        // Mock 응답 지연 시뮬레이션
-        simulateProcessingDelay();
-        
         // Mock 실패 시뮬레이션
-        if (shouldSimulateFailure()) {
+        if (shouldSimulateFailure(LatencyInjector.BILL_INQUIRY)) {
             log.warn("KOS Mock 요금 조회 실패 시뮬레이션 - RequestId: {}", request.getRequestId());
             throw new RuntimeException("KOS 시스템 일시적 오류");
         }
@@ -110,11 +108,8 @@ public class KosMockService {
         log.info("KOS Mock 상품 변경 요청 처리 시작 - RequestId: {}, LineNumber: {}, Target: {}", 
                 request.getRequestId(), request.getLineNumber(), request.getTargetProductCode());
         
-        // Mock 응답 지연 시뮬레이션
-        simulateProcessingDelay();
-        
         // Mock 실패 시뮬레이션
-        if (shouldSimulateFailure()) {
+        if (shouldSimulateFailure(LatencyInjector.PRODUCT_CHANGE)) {
             log.warn("KOS Mock 상품 변경 실패 시뮬레이션 - RequestId: {}", request.getRequestId());
             throw new RuntimeException("KOS 시스템 일시적 오류");
         }
@@ -215,11 +210,8 @@ public class KosMockService {
     public KosProductListResponse getProductList() {
         log.info("KOS Mock 상품 목록 조회 요청 처리 시작");
         
-        // Mock 응답 지연 시뮬레이션
-        simulateProcessingDelay();
-        
         // Mock 실패 시뮬레이션
-        if (shouldSimulateFailure()) {
+        if (shouldSimulateFailure(LatencyInjector.PRODUCT_LIST)) {
             log.warn("KOS Mock 상품 목록 조회 실패 시뮬레이션");
             throw new RuntimeException("KOS 시스템 일시적 오류");
         }
@@ -260,11 +252,8 @@ public class KosMockService {
         log.info("KOS Mock 가입상품 조회 요청 처리 시작 - RequestId: {}, LineNumber: {}", 
                 request.getRequestId(), request.getLineNumber());
         
-        // Mock 응답 지연 시뮬레이션
-        simulateProcessingDelay();
-        
         // Mock 실패 시뮬레이션
-        if (shouldSimulateFailure()) {
+        if (shouldSimulateFailure(LatencyInjector.PRODUCT_INQUIRY)) {
             log.warn("KOS Mock 가입상품 조회 실패 시뮬레이션 - RequestId: {}", request.getRequestId());
             throw new RuntimeException("KOS 시스템 일시적 오류");
         }
@@ -325,9 +314,6 @@ public class KosMockService {
     public KosAvailableMonthsResponse getAvailableMonths(String lineNumber) {
         log.info("KOS Mock 데이터 보유 월 목록 조회 - LineNumber: {}", lineNumber);
         
-        // Mock 응답 지연 시뮬레이션
-        simulateProcessingDelay();
-        
         // 고객 데이터 조회
         MockCustomerData customerData = mockDataService.getCustomerData(lineNumber);
         if (customerData == null) {
@@ -365,22 +351,10 @@ public class KosMockService {
     }
     
     /**
-     * 처리 지연 시뮬레이션
-     */
-    private void simulateProcessingDelay() {
-        try {
-            Thread.sleep(mockConfig.getResponseDelay());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("처리 지연 시뮬레이션 중단", e);
-        }
-    }
-    
-    /**
-     * 실패 시뮬레이션 여부 결정
+     * 실패 시뮬레이션 여부 결정 (엔드포인트 프로파일 실패율 → 전역 실패율)
      */
-    private boolean shouldSimulateFailure() {
-        return random.nextDouble() < mockConfig.getFailureRate();
+    private boolean shouldSimulateFailure(String endpoint) {
+        return random.nextDouble() < mockConfig.getFailureRate(endpoint);
     }
     
     /**
@@ -0,0 +1,207 @@
+package com.phonebill.kosmock.service;
+
+import com.phonebill.common.traffic.KosTrafficLog;
+import com.phonebill.kosmock.config.MockConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * KOS 응답 지연 주입기
+ *
+ * 엔드포인트별 지연 프로파일(MockConfig)에 따라 응답 지연을 주입합니다.
+ * - ASYNC: 요청 스레드를 바로 반환하고(비동기 서블릿) 타이머 스케줄러가 지연 후 처리를 재개,
+ *   지연 중인 요청은 스레드를 점유하지 않으므로 느린 요청 수만 건을 동시에 유지 가능
+ * - BLOCKING: 요청 스레드에서 sleep (기존 방식, 비교용)
+ * - 지연 분포: 고정, 균등, 로그정규, 기록된 히스토그램
+ * - 지연 후 처리는 가상 스레드에서 실행 (H2 조회 등 블로킹 작업 포함)
+ * - 재생 모드에서 기록된 지연이 지정된 요청은 프로파일 대신 기록된 지연 사용
+ * - 지연 중인 요청 수를 메트릭(kos.mock.latency.pending)으로 노출
+ */
+@Slf4j
+@Component
+public class LatencyInjector {
+
+    public static final String BILL_INQUIRY = KosTrafficLog.BILL_INQUIRY;
+    public static final String PRODUCT_CHANGE = KosTrafficLog.PRODUCT_CHANGE;
+    public static final String PRODUCT_LIST = KosTrafficLog.PRODUCT_LIST;
+    public static final String PRODUCT_INQUIRY = KosTrafficLog.PRODUCT_INQUIRY;
+    public static final String AVAILABLE_MONTHS = KosTrafficLog.AVAILABLE_MONTHS;
+
+    private final MockConfig mockConfig;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ExecutorService worker;
+    private final Map<MockConfig.LatencyProfile, TreeMap<Long, Long>> cumulativeHistograms = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public LatencyInjector(MockConfig mockConfig, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.mockConfig = mockConfig;
+        MockConfig.Latency latency = mockConfig.getLatency();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(Math.max(1, latency.getSchedulerThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "kos-latency-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.worker = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kos-latency-worker-", 0).factory());
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("kos.mock.latency.pending", pending, AtomicInteger::get)
+                    .description("Requests currently parked by latency injection")
+                    .register(registry);
+        }
+        log.info("KOS Mock 지연 주입 구성 - 방식: {}, 기본 지연: {}ms, 엔드포인트 프로파일: {}",
+                latency.getMode(), mockConfig.getResponseDelay(), latency.getEndpoints().keySet());
+    }
+
+    /**
+     * 지연 후 처리 실행
+     *
+     * @param endpoint 엔드포인트 이름
+     * @param action 지연 후 실행할 처리
+     * @return 처리 결과 (ASYNC 모드는 지연 후 완료)
+     */
+    public <T> CompletableFuture<T> afterDelay(String endpoint, Supplier<T> action) {
+        Long replayDelayMs = replayDelayMs();
+        return afterDelay(replayDelayMs != null ? replayDelayMs : sampleDelayMs(endpoint), action);
+    }
+
+    /**
+     * 지정한 지연 후 처리 실행
+     *
+     * @param delayMs 지연 시간 (밀리초)
+     * @param action 지연 후 실행할 처리
+     * @return 처리 결과 (ASYNC 모드는 지연 후 완료)
+     */
+    public <T> CompletableFuture<T> afterDelay(long delayMs, Supplier<T> action) {
+        if (mockConfig.getLatency().getMode() == MockConfig.LatencyMode.BLOCKING) {
+            sleep(delayMs);
+            return run(action);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pending.incrementAndGet();
+        scheduler.schedule(() -> {
+            pending.decrementAndGet();
+            worker.execute(() -> run(action).whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            }));
+        }, delayMs, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    /**
+     * 엔드포인트 프로파일에 따른 지연 시간 추출 (밀리초)
+     */
+    long sampleDelayMs(String endpoint) {
+        MockConfig.LatencyProfile profile = mockConfig.getLatencyProfile(endpoint);
+        if (profile == null) {
+            return mockConfig.getResponseDelay();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = switch (profile.getDistribution()) {
+            case FIXED -> profile.getFixedMs() != null ? profile.getFixedMs() : mockConfig.getResponseDelay();
+            case UNIFORM -> profile.getMaxMs() > profile.getMinMs()
+                    ? random.nextLong(profile.getMinMs(), profile.getMaxMs() + 1)
+                    : profile.getMinMs();
+            case LOG_NORMAL -> {
+                double sampled = profile.getMedianMs() * Math.exp(profile.getSigma() * random.nextGaussian());
+                yield profile.getMaxMs() > 0 ? Math.min((long) sampled, profile.getMaxMs()) : (long) sampled;
+            }
+            case HISTOGRAM -> sampleHistogram(profile, random);
+        };
+        return Math.max(0, delayMs);
+    }
+
+    /**
+     * 재생 모드가 현재 요청에 지정한 기록 지연 (없으면 null)
+     */
+    private static Long replayDelayMs() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object delayMs = attributes != null
+                ? attributes.getAttribute(TrafficReplayService.REPLAY_DELAY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        return delayMs instanceof Long value ? value : null;
+    }
+
+    /**
+     * 히스토그램 구간을 건수 비율로 선택한 뒤 구간 안에서 균등 선택
+     */
+    private long sampleHistogram(MockConfig.LatencyProfile profile, ThreadLocalRandom random) {
+        TreeMap<Long, Long> cumulative = cumulativeHistograms.computeIfAbsent(profile, LatencyInjector::toCumulative);
+        if (cumulative.isEmpty()) {
+            return mockConfig.getResponseDelay();
+        }
+
+        long total = cumulative.lastKey();
+        Map.Entry<Long, Long> bucket = cumulative.higherEntry(random.nextLong(total));
+        Map.Entry<Long, Long> previous = cumulative.lowerEntry(bucket.getKey());
+        long lower = previous != null ? previous.getValue() + 1 : 0;
+        long upper = bucket.getValue();
+        return upper > lower ? random.nextLong(lower, upper + 1) : upper;
+    }
+
+    /**
+     * 누적 건수 → 구간 상한 맵 생성
+     */
+    private static TreeMap<Long, Long> toCumulative(MockConfig.LatencyProfile profile) {
+        TreeMap<Long, Long> cumulative = new TreeMap<>();
+        long count = 0;
+        for (Map.Entry<Long, Long> bucket : new TreeMap<>(profile.getHistogram()).entrySet()) {
+            if (bucket.getValue() == null || bucket.getValue() <= 0) {
+                continue;
+            }
+            count += bucket.getValue();
+            cumulative.put(count, bucket.getKey());
+        }
+        return cumulative;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        worker.shutdown();
+    }
+
+    private static <T> CompletableFuture<T> run(Supplier<T> action) {
+        try {
+            return CompletableFuture.completedFuture(action.get());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void sleep(long delayMs) {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("처리 지연 시뮬레이션 중단", e);
+        }
+    }
+}
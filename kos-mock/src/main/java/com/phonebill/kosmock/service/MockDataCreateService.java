@@ -34,6 +34,7 @@ public class MockDataCreateService {
     private final ProductRepository productRepository;
     private final BillRepository billRepository;
     private final com.phonebill.kosmock.data.MockDataService mockDataService;
+    private final com.phonebill.kosmock.data.InMemoryDataStore inMemoryDataStore;
     
     /**
      * Mock 데이터 생성 (고객 정보 + 요금 정보)
@@ -64,6 +65,9 @@ public class MockDataCreateService {
         List<BillEntity> bills = createBills(customer, selectedProduct);
         billRepository.saveAll(bills);
         
+        // 메모리 저장소 사용 중이면 인덱스에도 반영
+        inMemoryDataStore.index(customer, bills);
+        
         log.info("Mock 데이터 생성 완료 - CustomerId: {}, LineNumber: {}, Product: {}, Bills: {}", 
             request.getCustomerId(), request.getLineNumber(), selectedProduct.getProductCode(), bills.size());
         
@@ -0,0 +1,174 @@
+package com.phonebill.kosmock.service;
+
+import com.phonebill.common.traffic.KosTrafficLog;
+import com.phonebill.kosmock.config.MockConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기록 트래픽 재생 서비스 (kos.mock.replay.enabled)
+ *
+ * bill-service가 기록한 KOS 트래픽 파일을 메모리 매핑하고 한 번 훑어 색인합니다.
+ * - 조회 키 색인: (엔드포인트, 조회 키) → 가장 최근 레코드 위치, 같은 요청이면 기록된 응답을 그대로 재생
+ * - 엔드포인트 색인: 엔드포인트 → 레코드 위치 목록, 기록이 없는 요청은 무작위 레코드로 지연/오류를 재현
+ * 레코드는 요청 시 매핑 버퍼에서 절대 위치로 읽으므로 힙에는 위치 색인만 유지합니다.
+ *
+ * 조회 키 재생은 가장 최근 레코드를 성공/실패와 무관하게 그대로 반환하므로, 마지막 기록이 실패(5xx/응답 없음)인
+ * 키는 재생 중 항상 실패합니다. 일시적 장애 구간을 포함해 기록한 파일을 회귀 테스트에 쓸 때는
+ * exact-match를 끄거나 해당 구간을 다시 기록해야 합니다.
+ */
+@Slf4j
+@Service
+public class TrafficReplayService {
+
+    /**
+     * 기록에서 뽑은 지연을 LatencyInjector에 전달하는 요청 속성 (Long, 밀리초)
+     */
+    public static final String REPLAY_DELAY_ATTRIBUTE = TrafficReplayService.class.getName() + ".delayMs";
+
+    private final MockConfig.Replay config;
+    private final MeterRegistry meterRegistry;
+
+    private MappedByteBuffer records;
+    private final Map<String, Integer> offsetsByKey = new HashMap<>();
+    private final Map<String, int[]> offsetsByEndpoint = new HashMap<>();
+
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+
+    public TrafficReplayService(MockConfig mockConfig, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.config = mockConfig.getReplay();
+        this.meterRegistry = meterRegistryProvider.getIfAvailable();
+    }
+
+    /**
+     * 재생 모드면 기록 파일을 매핑하고 색인
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        Path path = Path.of(config.getPath());
+        if (!Files.exists(path)) {
+            throw new IllegalStateException("재생할 KOS 트래픽 기록 파일이 없습니다: " + path.toAbsolutePath());
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("KOS 트래픽 기록 파일이 너무 큽니다 (최대 2GB): " + size + "bytes");
+            }
+            records = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (!KosTrafficLog.hasValidHeader(records)) {
+            throw new IllegalStateException("KOS 트래픽 기록 파일 형식이 올바르지 않습니다: " + path.toAbsolutePath());
+        }
+
+        Map<String, List<Integer>> endpointOffsets = new HashMap<>();
+        int offset = KosTrafficLog.HEADER_SIZE;
+        int count = 0;
+        while (offset < records.limit()) {
+            int size = KosTrafficLog.recordSize(records, offset);
+            if (size < 0) {
+                log.warn("KOS 트래픽 기록 끝부분이 잘려 있어 무시합니다 - 위치: {}", offset);
+                break;
+            }
+            String endpoint = KosTrafficLog.readEndpoint(records, offset);
+            offsetsByKey.put(indexKey(endpoint, KosTrafficLog.readKey(records, offset)), offset);
+            endpointOffsets.computeIfAbsent(endpoint, e -> new ArrayList<>()).add(offset);
+            offset += size;
+            count++;
+        }
+        endpointOffsets.forEach((endpoint, offsets) ->
+                offsetsByEndpoint.put(endpoint, offsets.stream().mapToInt(Integer::intValue).toArray()));
+
+        if (meterRegistry != null) {
+            FunctionCounter.builder("kos.mock.replay.requests", exactHits, AtomicLong::get)
+                    .tag("match", "exact")
+                    .description("Requests answered with a recorded response")
+                    .register(meterRegistry);
+            FunctionCounter.builder("kos.mock.replay.requests", sampled, AtomicLong::get)
+                    .tag("match", "sampled")
+                    .description("Requests given latency/outcome sampled from recordings")
+                    .register(meterRegistry);
+        }
+
+        Map<String, Integer> countsByEndpoint = new HashMap<>();
+        offsetsByEndpoint.forEach((endpoint, offsets) -> countsByEndpoint.put(endpoint, offsets.length));
+        log.info("KOS 트래픽 재생 준비 완료 - 파일: {}, 레코드: {}건, 조회 키: {}개, 엔드포인트별: {}",
+                path, count, offsetsByKey.size(), countsByEndpoint);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled() && records != null;
+    }
+
+    /**
+     * 요청에 재생할 레코드 선택
+     * 같은 조회 키의 기록이 있으면 그 레코드(가장 최근 기록, 실패 기록이면 매번 실패), 없으면 같은 엔드포인트의 무작위 레코드
+     *
+     * @param endpoint 엔드포인트 이름
+     * @param key 조회 키
+     * @return 재생 레코드 (엔드포인트 기록이 없으면 null)
+     */
+    public Replay select(String endpoint, String key) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        if (config.isExactMatch()) {
+            Integer offset = offsetsByKey.get(indexKey(endpoint, key));
+            if (offset != null) {
+                exactHits.incrementAndGet();
+                return new Replay(KosTrafficLog.decode(records, offset), true);
+            }
+        }
+
+        int[] offsets = offsetsByEndpoint.get(endpoint);
+        if (offsets == null || offsets.length == 0) {
+            return null;
+        }
+        sampled.incrementAndGet();
+        int offset = offsets[ThreadLocalRandom.current().nextInt(offsets.length)];
+        return new Replay(KosTrafficLog.decode(records, offset), false);
+    }
+
+    private static String indexKey(String endpoint, String key) {
+        return endpoint + '\n' + key;
+    }
+
+    /**
+     * 재생 레코드
+     *
+     * @param entry 기록 레코드
+     * @param exact 같은 조회 키의 기록 여부 (아니면 지연/오류만 재현)
+     */
+    public record Replay(KosTrafficLog.Entry entry, boolean exact) {
+
+        /**
+         * 기록된 응답을 그대로 반환해야 하는지 여부 (같은 요청이거나 실패 기록)
+         */
+        public boolean respondWithRecording() {
+            return exact || entry.isFailure();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.phonebill.kosmock.data;
+
+import com.phonebill.kosmock.config.MockConfig;
+import com.phonebill.kosmock.entity.BillEntity;
+import com.phonebill.kosmock.repository.BillRepository;
+import com.phonebill.kosmock.repository.CustomerRepository;
+import com.phonebill.kosmock.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 인덱스 데이터 저장소 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryDataStoreTest {
+
+    private static final String LINE_NUMBER = "01012345678";
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private BillRepository billRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private EmbeddedDatabase database;
+    private InMemoryDataStore store;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE customers (line_number VARCHAR(20), customer_id VARCHAR(50), "
+                + "operator_code VARCHAR(10), current_product_code VARCHAR(50), line_status VARCHAR(20), "
+                + "contract_date TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE bills (line_number VARCHAR(20), billing_month VARCHAR(6), "
+                + "product_code VARCHAR(50), product_name VARCHAR(100), monthly_fee DECIMAL(10, 2), "
+                + "usage_fee DECIMAL(10, 2), total_fee DECIMAL(10, 2), data_usage VARCHAR(20), "
+                + "voice_usage VARCHAR(20), sms_usage VARCHAR(20), bill_status VARCHAR(20), due_date VARCHAR(8))");
+        jdbcTemplate.update("INSERT INTO customers VALUES (?, 'CUST001', 'KT', 'PLAN_A', 'ACTIVE', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", LINE_NUMBER);
+        jdbcTemplate.update("INSERT INTO bills VALUES (?, '202501', 'PLAN_A', '기본 요금제', 45000, 5000, 50000, "
+                + "'10GB', '300분', '100건', 'CONFIRMED', '20250225')", LINE_NUMBER);
+
+        MockConfig mockConfig = new MockConfig();
+        mockConfig.getStore().setMode(MockConfig.StoreMode.MEMORY);
+        store = new InMemoryDataStore(mockConfig, database, productRepository, customerRepository, billRepository,
+                meterRegistryProvider);
+        store.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("재적재 중 상품 변경은 H2 반영 전이어도 교체된 인덱스에 남는다")
+    void productChangeDuringReloadSurvivesSwap() {
+        when(productRepository.findAll()).thenAnswer(invocation -> {
+            assertThat(store.updateCustomerProduct(LINE_NUMBER, "PLAN_B")).isTrue();
+            return List.of();
+        });
+
+        store.reload();
+
+        assertThat(store.getCustomer(LINE_NUMBER).getCurrentProductCode()).isEqualTo("PLAN_B");
+    }
+
+    @Test
+    @DisplayName("재적재 중 추가된 요금은 H2 반영 전이어도 교체된 인덱스에 남는다")
+    void billAddedDuringReloadSurvivesSwap() {
+        when(productRepository.findAll()).thenAnswer(invocation -> {
+            store.addBills(List.of(bill("202502")));
+            return List.of();
+        });
+
+        store.reload();
+
+        assertThat(store.getBill(LINE_NUMBER, "202502")).isNotNull();
+        assertThat(store.getBills(LINE_NUMBER))
+                .extracting(MockBillData::getBillingMonth)
+                .containsExactly("202502", "202501");
+    }
+
+    @Test
+    @DisplayName("이미 인덱스에 있는 (회선, 청구월) 요금은 H2에 다시 저장하지 않는다")
+    @SuppressWarnings("unchecked")
+    void onlyNewlyIndexedBillsAreWrittenToH2() {
+        ArgumentCaptor<Iterable<BillEntity>> saved = ArgumentCaptor.forClass(Iterable.class);
+
+        store.addBills(List.of(bill("202501")));
+        store.addBills(List.of(bill("202502")));
+        store.addBills(List.of(bill("202502"), bill("202503")));
+
+        verify(billRepository, timeout(5000).times(2)).saveAll(saved.capture());
+        assertThat(saved.getAllValues().get(0)).extracting(BillEntity::getBillingMonth).containsExactly("202502");
+        assertThat(saved.getAllValues().get(1)).extracting(BillEntity::getBillingMonth).containsExactly("202503");
+    }
+
+    private static BillEntity bill(String billingMonth) {
+        return BillEntity.builder()
+                .lineNumber(LINE_NUMBER)
+                .billingMonth(billingMonth)
+                .productCode("PLAN_A")
+                .productName("기본 요금제")
+                .monthlyFee(new BigDecimal("45000"))
+                .usageFee(new BigDecimal("5000"))
+                .totalFee(new BigDecimal("50000"))
+                .billStatus("CONFIRMED")
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.phonebill.kosmock.data;
+
+import com.phonebill.kosmock.config.MockConfig;
+import com.phonebill.kosmock.entity.ProcessingResultEntity;
+import com.phonebill.kosmock.repository.ProcessingResultRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청 처리 이력 저장소 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessingResultStoreTest {
+
+    @Mock
+    private ProcessingResultRepository processingResultRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private ProcessingResultStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 저장한 이력을 모두 requestId로 조회할 수 있다")
+    void concurrentPutsAreAllReadable() throws Exception {
+        store = store(10_000, false);
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        String requestId = "REQ-" + thread + "-" + i;
+                        store.put(requestId, result(requestId));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                String requestId = "REQ-" + t + "-" + i;
+                assertThat(store.get(requestId)).extracting(MockProcessingResult::getRequestId).isEqualTo(requestId);
+            }
+        }
+        assertThat(store.get(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 제거되고 spill을 끄면 H2에 보관하지 않는다")
+    void evictsBeyondMaxSizeWithoutSpill() {
+        store = store(10, false);
+
+        for (int i = 0; i < 100; i++) {
+            store.put("REQ-" + i, result("REQ-" + i));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.size() <= 10);
+        long retained = IntStream.range(0, 100)
+                .filter(i -> store.get("REQ-" + i) != null)
+                .count();
+        assertThat(retained).isLessThanOrEqualTo(10);
+        verify(processingResultRepository, never()).save(any());
+        verify(processingResultRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("spill을 켜면 용량 초과로 제거된 이력을 H2에 보관하고 메모리 조회 실패 시 H2에서 찾는다")
+    void spillsSizeEvictionsAndReadsThemBack() {
+        store = store(1, true);
+        ArgumentCaptor<ProcessingResultEntity> spilled = ArgumentCaptor.forClass(ProcessingResultEntity.class);
+
+        store.put("REQ-1", result("REQ-1"));
+        store.put("REQ-2", result("REQ-2"));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> verify(processingResultRepository, atLeastOnce()).save(spilled.capture()));
+        ProcessingResultEntity entity = spilled.getValue();
+        assertThat(entity.getExpiresAt()).isAfter(LocalDateTime.now());
+
+        String evictedId = entity.getRequestId();
+        when(processingResultRepository.findById(evictedId)).thenReturn(Optional.of(entity));
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.size() <= 1);
+
+        assertThat(store.get(evictedId)).extracting(MockProcessingResult::getStatus).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    @DisplayName("H2에 보관된 이력도 보관 기간이 지나면 조회되지 않는다")
+    void expiredSpillIsIgnored() {
+        store = store(10, true);
+        ProcessingResultEntity expired = ProcessingResultEntity.builder()
+                .requestId("REQ-OLD")
+                .status("SUCCESS")
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        when(processingResultRepository.findById("REQ-OLD")).thenReturn(Optional.of(expired));
+
+        assertThat(store.get("REQ-OLD")).isNull();
+    }
+
+    private ProcessingResultStore store(long maxSize, boolean spillEnabled) {
+        MockConfig mockConfig = new MockConfig();
+        mockConfig.getProcessingResults().setMaxSize(maxSize);
+        mockConfig.getProcessingResults().setSpillEnabled(spillEnabled);
+        return new ProcessingResultStore(processingResultRepository, mockConfig, meterRegistryProvider);
+    }
+
+    private static MockProcessingResult result(String requestId) {
+        return MockProcessingResult.builder()
+                .requestId(requestId)
+                .processingType("PRODUCT_CHANGE")
+                .status("SUCCESS")
+                .requestedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.unicorn.phonebill.product.config;
+
+import com.phonebill.common.config.AsyncExecutorConfigSupport;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 실행기 설정
+ *
+ * {@code @Async} 작업이 사용하는 공용 실행기 구성
+ * (실행기 구성은 {@link AsyncExecutorConfigSupport} 참고)
+ *
+ * 가상 스레드 모드에서는 Tomcat 요청 처리도 가상 스레드에서 수행되므로,
+ * KOS 응답 지연 시 요청 스레드 풀 고갈 없이 대기합니다.
+ * HikariCP 5.x는 synchronized 대신 j.u.c 락을 사용하고, Lettuce는 공유 커넥션의
+ * 비동기 응답을 Future로 대기하므로 캐리어 스레드가 고정(pinning)되지 않습니다.
+ * DB 동시 사용량은 커넥션 풀 크기로 제한됩니다.
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-09
+ */
+@Configuration
+public class AsyncConfig extends AsyncExecutorConfigSupport {
+
+    @Override
+    protected String threadNamePrefix() {
+        return "product";
+    }
+}
@@ -0,0 +1,81 @@
+package com.unicorn.phonebill.product.config;
+
+import com.phonebill.common.resilience.HedgedRequestAspect;
+import com.phonebill.common.resilience.RequestHedger;
+import com.phonebill.common.resilience.RequestHedgerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+/**
+ * KOS 헤지 요청 설정 (kos.hedging.enabled=true일 때만 적용)
+ *
+ * 멱등 조회 작업의 꼬리 지연 완화
+ * - 첫 시도가 최근 응답 시간 백분위 지연 안에 끝나지 않으면 두 번째 시도를 보내고 먼저 성공한 결과 사용
+ * - 헤지 수는 호출량 대비 비율 예산 내로 제한
+ * - 시도는 전용 실행기에서 처리하며, 실행기 포화 시 호출 스레드에서 헤지 없이 실행
+ *
+ * @author 이개발(백엔더)
+ * @version 1.0.0
+ * @since 2025-09-09
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kos.hedging", name = "enabled", havingValue = "true")
+public class HedgingConfig {
+
+    private final KosProperties kosProperties;
+
+    /**
+     * KOS 작업별 헤지 정책 레지스트리
+     */
+    @Bean
+    public RequestHedgerRegistry kosRequestHedgerRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        KosProperties.Hedging settings = kosProperties.getHedging();
+        RequestHedger.Config config = new RequestHedger.Config(
+                settings.getPercentile(), settings.getMinDelayMs(), settings.getMaxDelayMs(),
+                settings.getInitialDelayMs(), settings.getWindowSize(), settings.getMinSamples(),
+                settings.getBudgetRatio(), settings.getMaxBurst());
+        return new RequestHedgerRegistry(config, meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 헤지 시도 전용 실행기
+     *
+     * 대기열 없이 최대 스레드 수까지만 실행하여 대기열 지연이 헤지 효과를 상쇄하지 않도록 합니다.
+     * 공용 실행기(applicationTaskExecutor) 주입과 충돌하지 않도록 자동 주입 대상에서 제외합니다.
+     */
+    @Bean(autowireCandidate = false)
+    public ThreadPoolTaskExecutor kosHedgingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("kos-hedge-");
+        executor.setCorePoolSize(0);
+        executor.setMaxPoolSize(kosProperties.getHedging().getMaxThreads());
+        executor.setQueueCapacity(0);
+        executor.setKeepAliveSeconds(60);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 헤지 요청 AOP
+     */
+    @Bean
+    public HedgedRequestAspect hedgedRequestAspect(RequestHedgerRegistry kosRequestHedgerRegistry) {
+        KosProperties.Hedging settings = kosProperties.getHedging();
+        AsyncTaskExecutor executor = new DelegatingSecurityContextAsyncTaskExecutor(kosHedgingExecutor());
+        log.info("KOS 헤지 요청 구성 - 백분위: {}, 지연 범위: {} ~ {}ms, 예산 비율: {}, 최대 스레드: {}",
+                settings.getPercentile(), settings.getMinDelayMs(), settings.getMaxDelayMs(),
+                settings.getBudgetRatio(), settings.getMaxThreads());
+        return new HedgedRequestAspect(kosRequestHedgerRegistry, executor);
+    }
+}
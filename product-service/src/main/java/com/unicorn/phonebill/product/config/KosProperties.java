@@ -17,6 +17,7 @@ import jakarta.validation.constraints.Positive;
  * - 연결 정보 (URL, 타임아웃 등)
  * - 재시도 정책
  * - Circuit Breaker 설정
+ * - 작업별 적응형 동시 호출 제한 및 공유 재시도 예산 설정
  * - 인증 관련 설정
  * 
  * @author 이개발(백엔더)
@@ -69,6 +70,21 @@ public class KosProperties {
      */
     private CircuitBreaker circuitBreaker = new CircuitBreaker();
 
+    /**
+     * 적응형 동시 호출 제한 설정
+     */
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    /**
+     * 재시도 예산 설정
+     */
+    private RetryBudget retryBudget = new RetryBudget();
+
+    /**
+     * 헤지 요청 설정
+     */
+    private Hedging hedging = new Hedging();
+
     /**
      * 인증 설정
      */
@@ -122,6 +138,125 @@ public class KosProperties {
         private Long waitDurationInOpenState = 60000L;
     }
 
+    /**
+     * 적응형 동시 호출 제한 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+
+        /**
+         * 사용 여부
+         */
+        private Boolean enabled = true;
+
+        /**
+         * 작업별 초기 한도
+         */
+        private Integer initialLimit = 20;
+
+        /**
+         * 작업별 최소 한도
+         */
+        private Integer minLimit = 2;
+
+        /**
+         * 작업별 최대 한도
+         */
+        private Integer maxLimit = 200;
+
+        /**
+         * 평소 응답 시간 대비 허용 배수 (이 배수를 넘으면 한도 감소)
+         */
+        private Double rttTolerance = 1.5;
+
+        /**
+         * 한도 변경 반영 비율 (0~1)
+         */
+        private Double smoothing = 0.2;
+    }
+
+    /**
+     * 재시도 예산 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class RetryBudget {
+
+        /**
+         * 호출 대비 허용 재시도 비율
+         */
+        private Double ratio = 0.1;
+
+        /**
+         * 초당 최소 허용 재시도 수
+         */
+        private Integer minRetriesPerSecond = 5;
+
+        /**
+         * 적립 가능한 최대 재시도 수
+         */
+        private Integer maxRetries = 100;
+    }
+
+    /**
+     * 헤지 요청 설정 내부 클래스
+     */
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        /**
+         * 사용 여부 (기본 미사용)
+         */
+        private Boolean enabled = false;
+
+        /**
+         * 헤지 지연으로 사용할 응답 시간 백분위
+         */
+        private Double percentile = 0.95;
+
+        /**
+         * 최소 헤지 지연 (밀리초)
+         */
+        private Long minDelayMs = 50L;
+
+        /**
+         * 최대 헤지 지연 (밀리초)
+         */
+        private Long maxDelayMs = 3000L;
+
+        /**
+         * 응답 시간 표본이 부족할 때의 헤지 지연 (밀리초)
+         */
+        private Long initialDelayMs = 1000L;
+
+        /**
+         * 응답 시간 표본 수 (최근 N건)
+         */
+        private Integer windowSize = 512;
+
+        /**
+         * 백분위 계산에 필요한 최소 표본 수
+         */
+        private Integer minSamples = 64;
+
+        /**
+         * 호출 대비 허용 헤지 비율
+         */
+        private Double budgetRatio = 0.05;
+
+        /**
+         * 적립 가능한 최대 헤지 수
+         */
+        private Integer maxBurst = 10;
+
+        /**
+         * 헤지 실행기 최대 스레드 수 (초과 시 호출 스레드에서 헤지 없이 실행)
+         */
+        private Integer maxThreads = 64;
+    }
+
     /**
      * 인증 설정 내부 클래스
      */
@@ -6,6 +6,8 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.phonebill.common.cache.CompactRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -16,8 +18,6 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -30,12 +30,31 @@ import java.util.Map;
  * 주요 기능:
  * - Redis 연결 설정
  * - 캐시 매니저 설정
- * - 직렬화/역직렬화 설정
+ * - 직렬화/역직렬화 설정 (버전 헤더 + 바이너리 인코딩, 선택적 압축)
  * - 캐시별 TTL 설정
  */
 @Configuration
 public class RedisConfig {
 
+    @Value("${cache.serializer.format:JSON}")
+    private CompactRedisSerializer.Format serializerFormat;
+
+    @Value("${cache.serializer.compression:LZ4}")
+    private CompactRedisSerializer.Compression serializerCompression;
+
+    @Value("${cache.serializer.compression-threshold:512}")
+    private int compressionThreshold;
+
+    /**
+     * Redis 값 직렬화기
+     * 기존 JSON 값도 읽을 수 있으므로 형식 전환 시 캐시를 비울 필요 없음
+     */
+    @Bean
+    public CompactRedisSerializer redisValueSerializer() {
+        return new CompactRedisSerializer(
+                RedisConfig::configureRedisObjectMapper, serializerFormat, serializerCompression, compressionThreshold);
+    }
+
     /**
      * RedisTemplate 설정
      * String-Object 형태의 데이터 처리
@@ -43,22 +62,11 @@ public class RedisConfig {
      */
     @Bean
     @Primary
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       CompactRedisSerializer redisValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
-        // ObjectMapper 설정
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, 
-                                          ObjectMapper.DefaultTyping.NON_FINAL, 
-                                          JsonTypeInfo.As.WRAPPER_ARRAY);
-        objectMapper.registerModule(new JavaTimeModule());
-        
-        // JSON 직렬화 설정
-        GenericJackson2JsonRedisSerializer jackson2JsonRedisSerializer = 
-            new GenericJackson2JsonRedisSerializer(objectMapper);
-        
         // String 직렬화 설정
         StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
         
@@ -66,12 +74,12 @@ public class RedisConfig {
         template.setKeySerializer(stringRedisSerializer);
         template.setHashKeySerializer(stringRedisSerializer);
         
-        // Value 직렬화: JSON
-        template.setValueSerializer(jackson2JsonRedisSerializer);
-        template.setHashValueSerializer(jackson2JsonRedisSerializer);
+        // Value 직렬화: 버전 헤더 + 바이너리 인코딩
+        template.setValueSerializer(redisValueSerializer);
+        template.setHashValueSerializer(redisValueSerializer);
         
         // 기본 직렬화 설정
-        template.setDefaultSerializer(jackson2JsonRedisSerializer);
+        template.setDefaultSerializer(redisValueSerializer);
         template.afterPropertiesSet();
         
         return template;
@@ -83,7 +91,8 @@ public class RedisConfig {
      */
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CompactRedisSerializer redisValueSerializer) {
         // 기본 캐시 설정
         RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1)) // 기본 TTL: 1시간
@@ -91,10 +100,10 @@ public class RedisConfig {
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(createJsonRedisSerializer()));
+                        .fromSerializer(redisValueSerializer));
 
         // 캐시별 개별 TTL 설정
-        Map<String, RedisCacheConfiguration> cacheConfigurations = createCacheConfigurations();
+        Map<String, RedisCacheConfiguration> cacheConfigurations = createCacheConfigurations(redisValueSerializer);
         
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig)
@@ -106,29 +115,29 @@ public class RedisConfig {
      * 캐시별 개별 설정
      * 데이터 특성에 맞는 TTL 적용
      */
-    private Map<String, RedisCacheConfiguration> createCacheConfigurations() {
+    private Map<String, RedisCacheConfiguration> createCacheConfigurations(CompactRedisSerializer serializer) {
         Map<String, RedisCacheConfiguration> configMap = new HashMap<>();
         
         // 고객상품정보: 4시간 (자주 변경되지 않음)
-        configMap.put("customerProductInfo", createCacheConfig(Duration.ofHours(4)));
+        configMap.put("customerProductInfo", createCacheConfig(serializer, Duration.ofHours(4)));
         
         // 현재상품정보: 2시간 (변경 가능성 있음)
-        configMap.put("currentProductInfo", createCacheConfig(Duration.ofHours(2)));
+        configMap.put("currentProductInfo", createCacheConfig(serializer, Duration.ofHours(2)));
         
         // 가용상품목록: 24시간 (상품 정보는 하루 단위로 변경)
-        configMap.put("availableProducts", createCacheConfig(Duration.ofHours(24)));
+        configMap.put("availableProducts", createCacheConfig(serializer, Duration.ofHours(24)));
         
         // 상품상태: 1시간 (자주 확인 필요)
-        configMap.put("productStatus", createCacheConfig(Duration.ofHours(1)));
+        configMap.put("productStatus", createCacheConfig(serializer, Duration.ofHours(1)));
         
         // 회선상태: 30분 (실시간 확인 필요)
-        configMap.put("lineStatus", createCacheConfig(Duration.ofMinutes(30)));
+        configMap.put("lineStatus", createCacheConfig(serializer, Duration.ofMinutes(30)));
         
         // 메뉴정보: 6시간 (메뉴는 자주 변경되지 않음)
-        configMap.put("menuInfo", createCacheConfig(Duration.ofHours(6)));
+        configMap.put("menuInfo", createCacheConfig(serializer, Duration.ofHours(6)));
         
         // 상품변경결과: 1시간 (결과 조회용)
-        configMap.put("productChangeResult", createCacheConfig(Duration.ofHours(1)));
+        configMap.put("productChangeResult", createCacheConfig(serializer, Duration.ofHours(1)));
         
         return configMap;
     }
@@ -136,32 +145,25 @@ public class RedisConfig {
     /**
      * 특정 TTL을 가진 캐시 설정 생성
      */
-    private RedisCacheConfiguration createCacheConfig(Duration ttl) {
+    private RedisCacheConfiguration createCacheConfig(CompactRedisSerializer serializer, Duration ttl) {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(ttl)
                 .disableCachingNullValues()
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(createJsonRedisSerializer()));
+                        .fromSerializer(serializer));
     }
 
     /**
-     * JSON 직렬화기 생성
+     * Redis 전용 ObjectMapper 설정 (JSON/바이너리 공통)
      */
-    private Jackson2JsonRedisSerializer<Object> createJsonRedisSerializer() {
-        Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = 
-            new Jackson2JsonRedisSerializer<>(Object.class);
-        
-        ObjectMapper objectMapper = new ObjectMapper();
+    private static void configureRedisObjectMapper(ObjectMapper objectMapper) {
         objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
         objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
                                           ObjectMapper.DefaultTyping.NON_FINAL,
                                           JsonTypeInfo.As.WRAPPER_ARRAY);
         objectMapper.registerModule(new JavaTimeModule());
-        
-        // setObjectMapper는 deprecated되었으므로 생성자 사용
-        return new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
     }
 
     /**
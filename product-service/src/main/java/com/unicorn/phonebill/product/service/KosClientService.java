@@ -8,6 +8,8 @@ import com.unicorn.phonebill.product.dto.kos.KosProductInfo;
 import com.unicorn.phonebill.product.dto.kos.KosProductListResponse;
 import com.unicorn.phonebill.product.dto.kos.KosProductInquiryRequest;
 import com.unicorn.phonebill.product.dto.kos.KosProductInquiryResponse;
+import com.phonebill.common.resilience.AdaptiveConcurrencyLimit;
+import com.phonebill.common.resilience.HedgedRequest;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,7 @@ import java.util.concurrent.CompletableFuture;
  * - Circuit Breaker 패턴으로 외부 시스템 장애 격리
  * - Retry 패턴으로 일시적 네트워크 오류 극복
  * - Timeout 설정으로 응답 지연 방지
+ * - 작업별 적응형 동시 호출 제한으로 KOS 지연 시 호출 누적 방지 (한도 초과 시 즉시 fallback)
  * - 데이터 변환 및 오류 처리
  * 
  * @author 이개발(백엔더)
@@ -57,6 +60,8 @@ public class KosClientService {
      */
     @CircuitBreaker(name = "kos-product-list", fallbackMethod = "getProductListFallback")
     @Retry(name = "kos-product-list")
+    @HedgedRequest("kos-product-list")
+    @AdaptiveConcurrencyLimit("kos-product-list")
     public List<KosProductInfo> getProductListFromKos() {
         log.info("KOS 상품 목록 조회 요청");
 
@@ -130,6 +135,7 @@ public class KosClientService {
      */
     @CircuitBreaker(name = "kos-product-change", fallbackMethod = "changeProductFallback")
     @Retry(name = "kos-product-change")
+    @AdaptiveConcurrencyLimit("kos-product-change")
     public Map<String, Object> changeProductInKos(String lineNumber, String currentProductCode, String targetProductCode) {
         log.info("KOS 상품 변경 요청 - 회선: {}, 현재상품: {}, 변경상품: {}", 
                 lineNumber, currentProductCode, targetProductCode);
@@ -221,6 +227,8 @@ public class KosClientService {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @CircuitBreaker(name = "kosClient", fallbackMethod = "getProductInquiryFallback")
     @Retry(name = "kosClient")
+    @HedgedRequest("kos-product-inquiry")
+    @AdaptiveConcurrencyLimit("kos-product-inquiry")
     public KosCommonResponse<KosProductInquiryResponse> getProductInquiry(String lineNumber) {
         log.info("KOS 가입상품 조회 요청: lineNumber={}", lineNumber);
         
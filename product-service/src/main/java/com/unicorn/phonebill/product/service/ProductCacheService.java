@@ -1,25 +1,25 @@
 package com.unicorn.phonebill.product.service;
 
+import com.phonebill.common.cache.RedisKeyScanner;
+import com.phonebill.common.cache.TwoTierCache;
 import com.unicorn.phonebill.product.dto.CustomerInfoResponse;
 import com.unicorn.phonebill.product.dto.ProductInfoDto;
 import com.unicorn.phonebill.product.dto.ProductChangeResultResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 상품 서비스 캐시 관리 서비스
  * 
  * 주요 기능:
  * - Redis를 활용한 성능 최적화
+ * - 인프로세스 L1 캐시(TwoTierCache)로 Redis 왕복 최소화
  * - 데이터 특성에 맞는 TTL 적용
  * - 캐시 무효화 처리
  * - 캐시 키 관리
@@ -30,6 +30,7 @@ public class ProductCacheService {
     private static final Logger logger = LoggerFactory.getLogger(ProductCacheService.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TwoTierCache productTwoTierCache;
 
     // 캐시 키 접두사
     private static final String CUSTOMER_PRODUCT_PREFIX = "customerProduct:";
@@ -39,8 +40,9 @@ public class ProductCacheService {
     private static final String LINE_STATUS_PREFIX = "lineStatus:";
     private static final String PRODUCT_CHANGE_RESULT_PREFIX = "productChangeResult:";
 
-    public ProductCacheService(RedisTemplate<String, Object> redisTemplate) {
+    public ProductCacheService(RedisTemplate<String, Object> redisTemplate, TwoTierCache productTwoTierCache) {
         this.redisTemplate = redisTemplate;
+        this.productTwoTierCache = productTwoTierCache;
     }
 
     // ========== 고객상품정보 캐시 (TTL: 4시간) ==========
@@ -48,10 +50,10 @@ public class ProductCacheService {
     /**
      * 고객상품정보 캐시 조회
      */
-    @Cacheable(value = "customerProductInfo", key = "#lineNumber", unless = "#result == null")
     public CustomerInfoResponse.CustomerInfo getCustomerProductInfo(String lineNumber) {
         logger.debug("고객상품정보 캐시 조회: {}", lineNumber);
-        return null; // 캐시 미스 시 null 반환, 실제 조회는 호출측에서 처리
+        // 캐시 미스 시 null 반환, 실제 조회는 호출측에서 처리
+        return getCached(CUSTOMER_PRODUCT_PREFIX + lineNumber);
     }
 
     /**
@@ -60,7 +62,7 @@ public class ProductCacheService {
     public void cacheCustomerProductInfo(String lineNumber, CustomerInfoResponse.CustomerInfo customerInfo) {
         if (StringUtils.hasText(lineNumber) && customerInfo != null) {
             String key = CUSTOMER_PRODUCT_PREFIX + lineNumber;
-            redisTemplate.opsForValue().set(key, customerInfo, Duration.ofHours(4));
+            productTwoTierCache.put(key, customerInfo, Duration.ofHours(4));
             logger.debug("고객상품정보 캐시 저장: {}", lineNumber);
         }
     }
@@ -70,10 +72,9 @@ public class ProductCacheService {
     /**
      * 현재상품정보 캐시 조회
      */
-    @Cacheable(value = "currentProductInfo", key = "#productCode", unless = "#result == null")
     public ProductInfoDto getCurrentProductInfo(String productCode) {
         logger.debug("현재상품정보 캐시 조회: {}", productCode);
-        return null;
+        return getCached(CURRENT_PRODUCT_PREFIX + productCode);
     }
 
     /**
@@ -82,7 +83,7 @@ public class ProductCacheService {
     public void cacheCurrentProductInfo(String productCode, ProductInfoDto productInfo) {
         if (StringUtils.hasText(productCode) && productInfo != null) {
             String key = CURRENT_PRODUCT_PREFIX + productCode;
-            redisTemplate.opsForValue().set(key, productInfo, Duration.ofHours(2));
+            productTwoTierCache.put(key, productInfo, Duration.ofHours(2));
             logger.debug("현재상품정보 캐시 저장: {}", productCode);
         }
     }
@@ -92,11 +93,9 @@ public class ProductCacheService {
     /**
      * 가용상품목록 캐시 조회
      */
-    @Cacheable(value = "availableProducts", key = "#operatorCode ?: 'all'", unless = "#result == null")
-    @SuppressWarnings("unchecked")
     public List<ProductInfoDto> getAvailableProducts(String operatorCode) {
         logger.debug("가용상품목록 캐시 조회: {}", operatorCode);
-        return null;
+        return getCached(AVAILABLE_PRODUCTS_PREFIX + (operatorCode != null ? operatorCode : "all"));
     }
 
     /**
@@ -105,7 +104,7 @@ public class ProductCacheService {
     public void cacheAvailableProducts(String operatorCode, List<ProductInfoDto> products) {
         if (products != null) {
             String key = AVAILABLE_PRODUCTS_PREFIX + (operatorCode != null ? operatorCode : "all");
-            redisTemplate.opsForValue().set(key, products, Duration.ofHours(24));
+            productTwoTierCache.put(key, products, Duration.ofHours(24));
             logger.debug("가용상품목록 캐시 저장: {} ({}개)", operatorCode, products.size());
         }
     }
@@ -115,10 +114,9 @@ public class ProductCacheService {
     /**
      * 상품상태 캐시 조회
      */
-    @Cacheable(value = "productStatus", key = "#productCode", unless = "#result == null")
     public String getProductStatus(String productCode) {
         logger.debug("상품상태 캐시 조회: {}", productCode);
-        return null;
+        return getCached(PRODUCT_STATUS_PREFIX + productCode);
     }
 
     /**
@@ -127,7 +125,7 @@ public class ProductCacheService {
     public void cacheProductStatus(String productCode, String status) {
         if (StringUtils.hasText(productCode) && StringUtils.hasText(status)) {
             String key = PRODUCT_STATUS_PREFIX + productCode;
-            redisTemplate.opsForValue().set(key, status, Duration.ofHours(1));
+            productTwoTierCache.put(key, status, Duration.ofHours(1));
             logger.debug("상품상태 캐시 저장: {} = {}", productCode, status);
         }
     }
@@ -137,10 +135,9 @@ public class ProductCacheService {
     /**
      * 회선상태 캐시 조회
      */
-    @Cacheable(value = "lineStatus", key = "#lineNumber", unless = "#result == null")
     public String getLineStatus(String lineNumber) {
         logger.debug("회선상태 캐시 조회: {}", lineNumber);
-        return null;
+        return getCached(LINE_STATUS_PREFIX + lineNumber);
     }
 
     /**
@@ -149,7 +146,7 @@ public class ProductCacheService {
     public void cacheLineStatus(String lineNumber, String status) {
         if (StringUtils.hasText(lineNumber) && StringUtils.hasText(status)) {
             String key = LINE_STATUS_PREFIX + lineNumber;
-            redisTemplate.opsForValue().set(key, status, Duration.ofMinutes(30));
+            productTwoTierCache.put(key, status, Duration.ofMinutes(30));
             logger.debug("회선상태 캐시 저장: {} = {}", lineNumber, status);
         }
     }
@@ -160,10 +157,9 @@ public class ProductCacheService {
     /**
      * 상품변경결과 캐시 조회
      */
-    @Cacheable(value = "productChangeResult", key = "#requestId", unless = "#result == null")
     public ProductChangeResultResponse.ProductChangeResult getProductChangeResult(String requestId) {
         logger.debug("상품변경결과 캐시 조회: {}", requestId);
-        return null;
+        return getCached(PRODUCT_CHANGE_RESULT_PREFIX + requestId);
     }
 
     /**
@@ -172,7 +168,7 @@ public class ProductCacheService {
     public void cacheProductChangeResult(String requestId, ProductChangeResultResponse.ProductChangeResult result) {
         if (StringUtils.hasText(requestId) && result != null) {
             String key = PRODUCT_CHANGE_RESULT_PREFIX + requestId;
-            redisTemplate.opsForValue().set(key, result, Duration.ofHours(1));
+            productTwoTierCache.put(key, result, Duration.ofHours(1));
             logger.debug("상품변경결과 캐시 저장: {}", requestId);
         }
     }
@@ -221,56 +217,86 @@ public class ProductCacheService {
 
     // ========== 개별 캐시 무효화 메서드들 ==========
 
-    @CacheEvict(value = "customerProductInfo", key = "#lineNumber")
     public void evictCustomerProductInfo(String lineNumber) {
+        evict(CUSTOMER_PRODUCT_PREFIX + lineNumber);
         logger.debug("고객상품정보 캐시 무효화: {}", lineNumber);
     }
 
-    @CacheEvict(value = "currentProductInfo", key = "#productCode")
     public void evictCurrentProductInfo(String productCode) {
+        evict(CURRENT_PRODUCT_PREFIX + productCode);
         logger.debug("현재상품정보 캐시 무효화: {}", productCode);
     }
 
-    @CacheEvict(value = "availableProducts", key = "#operatorCode ?: 'all'")
     public void evictAvailableProducts(String operatorCode) {
+        evict(AVAILABLE_PRODUCTS_PREFIX + (operatorCode != null ? operatorCode : "all"));
         logger.debug("가용상품목록 캐시 무효화: {}", operatorCode);
     }
 
-    @CacheEvict(value = "productStatus", key = "#productCode")
     public void evictProductStatus(String productCode) {
+        evict(PRODUCT_STATUS_PREFIX + productCode);
         logger.debug("상품상태 캐시 무효화: {}", productCode);
     }
 
-    @CacheEvict(value = "lineStatus", key = "#lineNumber")
     public void evictLineStatus(String lineNumber) {
+        evict(LINE_STATUS_PREFIX + lineNumber);
         logger.debug("회선상태 캐시 무효화: {}", lineNumber);
     }
 
 
-    @CacheEvict(value = "productChangeResult", key = "#requestId")
     public void evictProductChangeResult(String requestId) {
+        evict(PRODUCT_CHANGE_RESULT_PREFIX + requestId);
         logger.debug("상품변경결과 캐시 무효화: {}", requestId);
     }
 
     // ========== 캐시 통계 및 모니터링 ==========
 
     /**
-     * 캐시 히트율 통계 (모니터링용)
+     * 캐시 통계 (모니터링용)
+     *
+     * 티어별 히트/미스/제거 건수는 Actuator 메트릭(cache.tier.*)으로 노출됨
      */
     public void logCacheStatistics() {
-        logger.info("Redis 캐시 통계 정보 로깅 (구현 필요)");
-        // 실제 구현 시 Redis INFO 명령어 또는 Micrometer 메트릭 활용
+        logger.info("L1 캐시 통계 - 캐시: {}, 적재 건수: {}",
+                   productTwoTierCache.getName(), productTwoTierCache.getL1Size());
     }
 
     /**
      * 특정 패턴의 캐시 키 개수 조회
+     *
+     * KEYS 대신 커서 기반 SCAN으로 나누어 탐색하여 Redis 블로킹 방지
      */
     public long getCacheKeyCount(String pattern) {
         try {
-            return redisTemplate.keys(pattern).size();
+            return RedisKeyScanner.countByPattern(redisTemplate, pattern);
         } catch (Exception e) {
             logger.warn("캐시 키 개수 조회 실패: {}", pattern, e);
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    // ========== 내부 헬퍼 ==========
+
+    /**
+     * L1 → L2 순으로 캐시 조회 (Redis 장애 시 캐시 미스로 처리)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T getCached(String key) {
+        try {
+            return productTwoTierCache.get(key, cached -> (T) cached);
+        } catch (Exception e) {
+            logger.warn("캐시 조회 실패: {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * L1/L2 캐시 삭제 및 다른 노드 L1 무효화
+     */
+    private void evict(String key) {
+        try {
+            productTwoTierCache.evict(key);
+        } catch (Exception e) {
+            logger.warn("캐시 무효화 실패: {}", key, e);
+        }
+    }
+}
@@ -3,15 +3,26 @@ package com.phonebill.user.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 블랙리스트 서비스
  * Redis를 사용해서 무효화된 토큰을 관리
+ * 통계용으로 만료시각을 점수로 갖는 Sorted Set 인덱스를 함께 관리하여 KEYS 없이 집계
+ * 인덱스에는 토큰 원문 대신 SHA-256 해시를 저장하고, 추가할 때마다 만료 항목을 정리하며
+ * 키 자체도 가장 늦은 만료시각에 만료되도록 하여 무한히 커지지 않게 함
  */
 @Slf4j
 @Service
@@ -22,6 +33,7 @@ public class TokenBlacklistService {
     private final JwtService jwtService;
     
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String BLACKLIST_INDEX_KEY = "blacklist-index";
     
     /**
      * 토큰을 블랙리스트에 추가
@@ -45,6 +57,7 @@ public class TokenBlacklistService {
             if (ttlSeconds > 0) {
                 String key = BLACKLIST_PREFIX + token;
                 redisTemplate.opsForValue().set(key, reason, ttlSeconds, TimeUnit.SECONDS);
+                indexToken(token, expiresAt.atZone(ZoneId.systemDefault()).toEpochSecond());
                 log.info("토큰이 블랙리스트에 추가됨: reason={}, ttl={}초", reason, ttlSeconds);
             } else {
                 log.info("이미 만료된 토큰이므로 블랙리스트에 추가하지 않음");
@@ -95,6 +108,7 @@ public class TokenBlacklistService {
         try {
             String key = BLACKLIST_PREFIX + token;
             redisTemplate.delete(key);
+            redisTemplate.opsForZSet().remove(BLACKLIST_INDEX_KEY, indexMember(token));
             log.info("토큰이 블랙리스트에서 제거됨");
         } catch (Exception e) {
             log.error("블랙리스트 제거 실패: {}", e.getMessage(), e);
@@ -103,14 +117,61 @@ public class TokenBlacklistService {
     
     /**
      * 블랙리스트 통계 조회
+     * 만료된 인덱스 항목을 정리한 뒤 ZCARD로 집계
      * @return 블랙리스트 토큰 수
      */
     public long getBlacklistCount() {
         try {
-            return redisTemplate.keys(BLACKLIST_PREFIX + "*").size();
+            pruneExpiredIndexEntries();
+            Long count = redisTemplate.opsForZSet().zCard(BLACKLIST_INDEX_KEY);
+            return count != null ? count : 0;
         } catch (Exception e) {
             log.error("블랙리스트 통계 조회 실패: {}", e.getMessage(), e);
             return 0;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 블랙리스트 인덱스에 토큰 해시를 만료시각 점수로 추가
+     * 만료된 항목을 먼저 정리하고, 인덱스 키는 남은 항목 중 가장 늦은 만료시각에 만료되도록 설정
+     * @param token JWT 토큰
+     * @param expiresAtEpochSecond 토큰 만료시각 (epoch 초)
+     */
+    private void indexToken(String token, long expiresAtEpochSecond) {
+        pruneExpiredIndexEntries();
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, indexMember(token), expiresAtEpochSecond);
+        
+        Set<ZSetOperations.TypedTuple<String>> latest =
+                redisTemplate.opsForZSet().reverseRangeWithScores(BLACKLIST_INDEX_KEY, 0, 0);
+        long latestExpiry = expiresAtEpochSecond;
+        if (latest != null && !latest.isEmpty()) {
+            Double score = latest.iterator().next().getScore();
+            if (score != null) {
+                latestExpiry = Math.max(latestExpiry, score.longValue());
+            }
+        }
+        redisTemplate.expireAt(BLACKLIST_INDEX_KEY, Date.from(Instant.ofEpochSecond(latestExpiry)));
+    }
+    
+    /**
+     * 만료시각이 지난 인덱스 항목 정리
+     */
+    private void pruneExpiredIndexEntries() {
+        long now = LocalDateTime.now().atZone(ZoneId.systemDefault()).toEpochSecond();
+        redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+    }
+    
+    /**
+     * 인덱스에 저장할 토큰 식별값 (토큰 원문의 SHA-256 해시)
+     * @param token JWT 토큰
+     * @return 16진수 해시 문자열
+     */
+    private static String indexMember(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없음", e);
+        }
+    }
+}